@@ -29,6 +29,8 @@ public final class HttpHeaders {
     // ==================== 标准HTTP头 ====================
     public static final String CONTENT_TYPE = "Content-Type";
     public static final String ACCEPT = "Accept";
+    public static final String ACCEPT_ENCODING = "Accept-Encoding";
+    public static final String ACCEPT_LANGUAGE = "Accept-Language";
     public static final String AUTHORIZATION = "Authorization";
     public static final String CACHE_CONTROL = "Cache-Control";
     public static final String CONTENT_LENGTH = "Content-Length";
@@ -0,0 +1,406 @@
+/*
+ * Copyright 2024-2026 EasyWing Platform Team.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.easywing.platform.core.util;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * CIDR前缀树
+ * <p>
+ * 以二叉前缀树存储IPv4/IPv6网段，查询复杂度为O(前缀长度)：
+ * <ul>
+ *     <li>直接在 {@link CharSequence} 的区间上解析地址，查询过程不分配对象和数组</li>
+ *     <li>支持 {@code [::1]}、{@code 1.2.3.4:8080} 和带 {@code %zone} 的地址写法</li>
+ *     <li>IPv4网段同时登记为 {@code ::ffff:0:0/96} 映射地址，IPv4映射的IPv6地址可直接命中</li>
+ * </ul>
+ * 实例在构造完成后不可变，可安全地被多线程共享。
+ *
+ * @author EasyWing Team
+ * @since 1.0.0
+ */
+public final class CidrTrie {
+
+    private static final int IPV4_ROOT = 0;
+    private static final int IPV6_ROOT = 1;
+    private static final int MATCH = -2;
+    private static final int MISS = -1;
+
+    private int[] children = new int[64];
+    private boolean[] terminal = new boolean[32];
+    private int nodeCount = 2;
+    private boolean empty = true;
+
+    private CidrTrie() {
+    }
+
+    /**
+     * 以网段列表构建前缀树，单个地址视为全长前缀
+     *
+     * @throws IllegalArgumentException 网段格式非法
+     */
+    public static CidrTrie of(Collection<String> cidrs) {
+        CidrTrie trie = new CidrTrie();
+        if (cidrs != null) {
+            for (String cidr : cidrs) {
+                trie.add(cidr);
+            }
+        }
+        return trie;
+    }
+
+    public boolean isEmpty() {
+        return empty;
+    }
+
+    public boolean contains(CharSequence ip) {
+        return ip != null && contains(ip, 0, ip.length());
+    }
+
+    /**
+     * 判断区间内的地址是否落在任一网段内
+     */
+    public boolean contains(CharSequence s, int start, int end) {
+        if (empty) {
+            return false;
+        }
+        long range = normalize(s, start, end);
+        start = (int) (range >>> 32);
+        end = (int) range;
+        if (start >= end) {
+            return false;
+        }
+        if (indexOf(s, start, end, ':') < 0) {
+            long value = parseIpv4(s, start, end);
+            return value >= 0 && isMatch(walk(IPV4_ROOT, value, 32));
+        }
+        return matchIpv6(s, start, end);
+    }
+
+    /**
+     * 判断区间内是否为合法的IPv4/IPv6地址
+     */
+    public static boolean isValidIp(CharSequence s, int start, int end) {
+        long range = normalize(s, start, end);
+        start = (int) (range >>> 32);
+        end = (int) range;
+        if (start >= end) {
+            return false;
+        }
+        if (indexOf(s, start, end, ':') < 0) {
+            return parseIpv4(s, start, end) >= 0;
+        }
+        int dc = indexOfDoubleColon(s, start, end);
+        int groups = countIpv6Groups(s, start, end, dc);
+        return groups >= 0 && (dc < 0 ? groups == 8 : groups <= 7);
+    }
+
+    /**
+     * 去除首尾空白、方括号、IPv4端口与IPv6 zone，结果以 {@code start << 32 | end} 返回
+     */
+    static long normalize(CharSequence s, int start, int end) {
+        while (start < end && s.charAt(start) <= ' ') {
+            start++;
+        }
+        while (end > start && s.charAt(end - 1) <= ' ') {
+            end--;
+        }
+        if (start < end && s.charAt(start) == '[') {
+            int close = indexOf(s, start, end, ']');
+            if (close < 0) {
+                return ((long) start << 32) | start;
+            }
+            start++;
+            end = close;
+        } else {
+            int colon = indexOf(s, start, end, ':');
+            if (colon >= 0 && indexOf(s, colon + 1, end, ':') < 0 && indexOf(s, start, colon, '.') >= 0) {
+                end = colon;
+            }
+        }
+        int zone = indexOf(s, start, end, '%');
+        if (zone >= 0) {
+            end = zone;
+        }
+        return ((long) start << 32) | end;
+    }
+
+    private void add(String cidr) {
+        if (cidr == null || cidr.isBlank()) {
+            throw new IllegalArgumentException("Invalid CIDR: " + cidr);
+        }
+        String text = cidr.trim();
+        int slash = text.indexOf('/');
+        int end = slash < 0 ? text.length() : slash;
+        boolean ipv6 = indexOf(text, 0, end, ':') >= 0;
+        int maxBits = ipv6 ? 128 : 32;
+        int prefix;
+        try {
+            prefix = slash < 0 ? maxBits : Integer.parseInt(text.substring(slash + 1));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid CIDR: " + cidr, e);
+        }
+        if (prefix < 0 || prefix > maxBits || !isValidIp(text, 0, end)) {
+            throw new IllegalArgumentException("Invalid CIDR: " + cidr);
+        }
+
+        if (!ipv6) {
+            long value = parseIpv4(text, 0, end);
+            insert(IPV4_ROOT, 0L, value, 32, prefix);
+            // IPv4映射地址 ::ffff:a.b.c.d
+            insert(IPV6_ROOT, 0L, 0xFFFF00000000L | value, 128, 96 + prefix);
+        } else {
+            insert(IPV6_ROOT, ipv6Half(text, 0, end, true), ipv6Half(text, 0, end, false), 128, prefix);
+        }
+        empty = false;
+    }
+
+    private void insert(int root, long high, long low, int totalBits, int prefix) {
+        int node = root;
+        for (int i = 0; i < prefix; i++) {
+            if (terminal[node]) {
+                return;
+            }
+            int bit = bitAt(high, low, totalBits, i);
+            int slot = node * 2 + bit;
+            if (children[slot] == 0) {
+                // 先分配节点再写入，扩容会替换children数组
+                int child = newNode();
+                children[slot] = child;
+            }
+            node = children[slot];
+        }
+        terminal[node] = true;
+    }
+
+    private static int bitAt(long high, long low, int totalBits, int index) {
+        if (totalBits == 32) {
+            return (int) (low >>> (31 - index)) & 1;
+        }
+        return index < 64
+                ? (int) (high >>> (63 - index)) & 1
+                : (int) (low >>> (127 - index)) & 1;
+    }
+
+    private int newNode() {
+        if (nodeCount == terminal.length) {
+            terminal = Arrays.copyOf(terminal, terminal.length * 2);
+            children = Arrays.copyOf(children, children.length * 2);
+        }
+        return nodeCount++;
+    }
+
+    private int walk(int node, long value, int bits) {
+        for (int b = bits - 1; b >= 0; b--) {
+            if (terminal[node]) {
+                return MATCH;
+            }
+            int child = children[node * 2 + (int) ((value >>> b) & 1)];
+            if (child == 0) {
+                return MISS;
+            }
+            node = child;
+        }
+        return node;
+    }
+
+    private boolean isMatch(int node) {
+        return node == MATCH || (node >= 0 && terminal[node]);
+    }
+
+    private boolean matchIpv6(CharSequence s, int start, int end) {
+        int dc = indexOfDoubleColon(s, start, end);
+        int groups = countIpv6Groups(s, start, end, dc);
+        if (groups < 0 || (dc < 0 ? groups != 8 : groups > 7)) {
+            return false;
+        }
+        int zeros = dc < 0 ? 0 : 8 - groups;
+        int node = IPV6_ROOT;
+        int emitted = 0;
+        int i = start;
+        while (emitted < 8) {
+            if (i == dc) {
+                for (int z = 0; z < zeros; z++) {
+                    node = walk(node, 0L, 16);
+                    if (node < 0) {
+                        return node == MATCH;
+                    }
+                }
+                emitted += zeros;
+                i = dc + 2;
+                continue;
+            }
+            int groupEnd = i;
+            while (groupEnd < end && s.charAt(groupEnd) != ':') {
+                groupEnd++;
+            }
+            if (indexOf(s, i, groupEnd, '.') >= 0) {
+                node = walk(node, parseIpv4(s, i, groupEnd), 32);
+                emitted += 2;
+            } else {
+                node = walk(node, parseHexGroup(s, i, groupEnd), 16);
+                emitted++;
+            }
+            if (node < 0) {
+                return node == MATCH;
+            }
+            i = groupEnd;
+            if (i < end && i != dc) {
+                i++;
+            }
+        }
+        return isMatch(node);
+    }
+
+    private static long ipv6Half(CharSequence s, int start, int end, boolean high) {
+        int dc = indexOfDoubleColon(s, start, end);
+        int zeros = dc < 0 ? 0 : 8 - countIpv6Groups(s, start, end, dc);
+        long value = 0;
+        int emitted = 0;
+        int i = start;
+        while (emitted < 8) {
+            if (i == dc) {
+                for (int z = 0; z < zeros; z++) {
+                    value = accumulate(value, emitted++, 0, high);
+                }
+                i = dc + 2;
+                continue;
+            }
+            int groupEnd = i;
+            while (groupEnd < end && s.charAt(groupEnd) != ':') {
+                groupEnd++;
+            }
+            if (indexOf(s, i, groupEnd, '.') >= 0) {
+                long v4 = parseIpv4(s, i, groupEnd);
+                value = accumulate(value, emitted++, (int) (v4 >>> 16), high);
+                value = accumulate(value, emitted++, (int) (v4 & 0xFFFF), high);
+            } else {
+                value = accumulate(value, emitted++, parseHexGroup(s, i, groupEnd), high);
+            }
+            i = groupEnd;
+            if (i < end && i != dc) {
+                i++;
+            }
+        }
+        return value;
+    }
+
+    private static long accumulate(long value, int groupIndex, int group, boolean high) {
+        boolean inHigh = groupIndex < 4;
+        return inHigh == high ? (value << 16) | group : value;
+    }
+
+    /**
+     * 统计IPv6显式分组数量（IPv4尾部计为2组），格式非法返回-1
+     */
+    private static int countIpv6Groups(CharSequence s, int start, int end, int dc) {
+        int count = 0;
+        int i = start;
+        while (i < end) {
+            if (i == dc) {
+                i += 2;
+                continue;
+            }
+            int groupEnd = i;
+            while (groupEnd < end && s.charAt(groupEnd) != ':') {
+                groupEnd++;
+            }
+            if (groupEnd == i) {
+                return -1;
+            }
+            if (indexOf(s, i, groupEnd, '.') >= 0) {
+                if (groupEnd != end || parseIpv4(s, i, groupEnd) < 0) {
+                    return -1;
+                }
+                count += 2;
+            } else {
+                if (parseHexGroup(s, i, groupEnd) < 0) {
+                    return -1;
+                }
+                count++;
+            }
+            i = groupEnd;
+            if (i < end && i != dc) {
+                i++;
+                if (i == end) {
+                    return -1;
+                }
+            }
+        }
+        return count > 8 ? -1 : count;
+    }
+
+    private static int indexOfDoubleColon(CharSequence s, int start, int end) {
+        for (int i = start; i + 1 < end; i++) {
+            if (s.charAt(i) == ':' && s.charAt(i + 1) == ':') {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static int parseHexGroup(CharSequence s, int start, int end) {
+        int length = end - start;
+        if (length < 1 || length > 4) {
+            return -1;
+        }
+        int value = 0;
+        for (int i = start; i < end; i++) {
+            int digit = Character.digit(s.charAt(i), 16);
+            if (digit < 0) {
+                return -1;
+            }
+            value = (value << 4) | digit;
+        }
+        return value;
+    }
+
+    /**
+     * 解析点分十进制IPv4地址，非法返回-1
+     */
+    static long parseIpv4(CharSequence s, int start, int end) {
+        long value = 0;
+        int octets = 0;
+        int i = start;
+        while (i <= end) {
+            int octet = 0;
+            int digits = 0;
+            while (i < end && s.charAt(i) != '.') {
+                char c = s.charAt(i);
+                if (c < '0' || c > '9' || ++digits > 3) {
+                    return -1;
+                }
+                octet = octet * 10 + (c - '0');
+                i++;
+            }
+            if (digits == 0 || octet > 255 || ++octets > 4) {
+                return -1;
+            }
+            value = (value << 8) | octet;
+            i++;
+        }
+        return octets == 4 ? value : -1;
+    }
+
+    private static int indexOf(CharSequence s, int start, int end, char c) {
+        for (int i = start; i < end; i++) {
+            if (s.charAt(i) == c) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
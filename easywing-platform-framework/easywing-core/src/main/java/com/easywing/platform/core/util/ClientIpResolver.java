@@ -0,0 +1,108 @@
+/*
+ * Copyright 2024-2026 EasyWing Platform Team.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.easywing.platform.core.util;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 客户端IP解析器
+ * <p>
+ * 统一网关与服务端的客户端IP解析逻辑：
+ * <ul>
+ *     <li>直连地址不是受信代理时，忽略所有转发头，防止伪造</li>
+ *     <li>X-Forwarded-For 从右向左遍历，跳过受信代理，返回第一个非受信地址</li>
+ *     <li>遇到非法地址即停止，返回最后一个合法地址；全部受信时返回最左侧地址</li>
+ *     <li>遍历过程基于下标完成，不调用 {@code split} 分配数组</li>
+ * </ul>
+ *
+ * @author EasyWing Team
+ * @since 1.0.0
+ */
+public final class ClientIpResolver {
+
+    public static final String UNKNOWN = "unknown";
+
+    /**
+     * 默认受信代理：回环、私有网络与链路本地地址
+     */
+    public static final List<String> DEFAULT_TRUSTED_PROXIES = List.of(
+            "127.0.0.0/8", "10.0.0.0/8", "172.16.0.0/12", "192.168.0.0/16", "169.254.0.0/16",
+            "::1/128", "fc00::/7", "fe80::/10");
+
+    private static final ClientIpResolver DEFAULT = new ClientIpResolver(CidrTrie.of(DEFAULT_TRUSTED_PROXIES));
+
+    private final CidrTrie trustedProxies;
+
+    public ClientIpResolver(CidrTrie trustedProxies) {
+        this.trustedProxies = trustedProxies;
+    }
+
+    public static ClientIpResolver defaults() {
+        return DEFAULT;
+    }
+
+    public static ClientIpResolver of(Collection<String> trustedProxies) {
+        return new ClientIpResolver(CidrTrie.of(trustedProxies));
+    }
+
+    public boolean isTrustedProxy(String ip) {
+        return trustedProxies.contains(ip);
+    }
+
+    /**
+     * 解析客户端IP
+     *
+     * @param forwardedFor X-Forwarded-For 请求头
+     * @param realIp       X-Real-IP 请求头
+     * @param remoteAddr   直连地址
+     * @return 客户端IP，无法解析时返回 {@link #UNKNOWN}
+     */
+    public String resolve(String forwardedFor, String realIp, String remoteAddr) {
+        boolean hasRemote = remoteAddr != null && !remoteAddr.isEmpty();
+        if (hasRemote && !trustedProxies.contains(remoteAddr)) {
+            return remoteAddr;
+        }
+
+        if (forwardedFor != null && !forwardedFor.isEmpty()) {
+            long candidate = -1;
+            int end = forwardedFor.length();
+            while (end >= 0) {
+                int comma = forwardedFor.lastIndexOf(',', end - 1);
+                long range = CidrTrie.normalize(forwardedFor, comma + 1, end);
+                int start = (int) (range >>> 32);
+                int stop = (int) range;
+                if (!CidrTrie.isValidIp(forwardedFor, start, stop)) {
+                    break;
+                }
+                if (!trustedProxies.contains(forwardedFor, start, stop)) {
+                    return forwardedFor.substring(start, stop);
+                }
+                candidate = range;
+                end = comma;
+            }
+            if (candidate >= 0) {
+                return forwardedFor.substring((int) (candidate >>> 32), (int) candidate);
+            }
+        }
+
+        if (realIp != null && CidrTrie.isValidIp(realIp, 0, realIp.length())) {
+            long range = CidrTrie.normalize(realIp, 0, realIp.length());
+            return realIp.substring((int) (range >>> 32), (int) range);
+        }
+        return hasRemote ? remoteAddr : UNKNOWN;
+    }
+}
@@ -0,0 +1,195 @@
+/*
+ * Copyright 2024-2026 EasyWing Platform Team.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.easywing.platform.core.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * CIDR前缀树单元测试
+ *
+ * @author EasyWing Team
+ * @since 1.0.0
+ */
+class CidrTrieTest {
+
+    @Test
+    @DisplayName("IPv4网段应该按前缀匹配")
+    void testIpv4Prefix() {
+        CidrTrie trie = CidrTrie.of(List.of("10.0.0.0/8", "172.16.0.0/12"));
+
+        assertTrue(trie.contains("10.0.0.0"));
+        assertTrue(trie.contains("10.255.255.255"));
+        assertFalse(trie.contains("11.0.0.0"));
+        assertTrue(trie.contains("172.31.255.255"));
+        assertFalse(trie.contains("172.32.0.0"));
+    }
+
+    @Test
+    @DisplayName("/32与不带前缀的地址应该只匹配自身")
+    void testIpv4HostPrefix() {
+        CidrTrie trie = CidrTrie.of(List.of("192.168.1.1/32", "192.168.1.3"));
+
+        assertTrue(trie.contains("192.168.1.1"));
+        assertTrue(trie.contains("192.168.1.3"));
+        assertFalse(trie.contains("192.168.1.2"));
+        assertFalse(trie.contains("192.168.1.0"));
+    }
+
+    @Test
+    @DisplayName("/0应该匹配同一地址族的全部地址")
+    void testZeroPrefix() {
+        CidrTrie ipv4 = CidrTrie.of(List.of("0.0.0.0/0"));
+        assertTrue(ipv4.contains("0.0.0.0"));
+        assertTrue(ipv4.contains("255.255.255.255"));
+        assertTrue(ipv4.contains("::ffff:8.8.8.8"));
+        assertFalse(ipv4.contains("2001:db8::1"));
+
+        CidrTrie ipv6 = CidrTrie.of(List.of("::/0"));
+        assertTrue(ipv6.contains("::"));
+        assertTrue(ipv6.contains("2001:db8::1"));
+        assertTrue(ipv6.contains("ffff:ffff:ffff:ffff:ffff:ffff:ffff:ffff"));
+        assertFalse(ipv6.contains("8.8.8.8"));
+    }
+
+    @Test
+    @DisplayName("IPv6网段应该按前缀匹配，支持压缩写法与完整写法")
+    void testIpv6Prefix() {
+        CidrTrie trie = CidrTrie.of(List.of("2001:db8::/32", "fe80::/10"));
+
+        assertTrue(trie.contains("2001:db8::1"));
+        assertTrue(trie.contains("2001:0db8:ffff:ffff:ffff:ffff:ffff:ffff"));
+        assertTrue(trie.contains("2001:DB8:0:0:0:0:0:1"));
+        assertFalse(trie.contains("2001:db9::1"));
+        assertTrue(trie.contains("febf::1"));
+        assertFalse(trie.contains("fec0::1"));
+    }
+
+    @Test
+    @DisplayName("/128应该只匹配单个IPv6地址")
+    void testIpv6HostPrefix() {
+        CidrTrie trie = CidrTrie.of(List.of("::1/128"));
+
+        assertTrue(trie.contains("::1"));
+        assertTrue(trie.contains("0:0:0:0:0:0:0:1"));
+        assertFalse(trie.contains("::2"));
+        assertFalse(trie.contains("::"));
+        assertFalse(trie.contains("1::"));
+    }
+
+    @Test
+    @DisplayName("应该识别方括号、端口、zone与首尾空白")
+    void testNormalizedForms() {
+        CidrTrie trie = CidrTrie.of(List.of("10.0.0.0/8", "fe80::/10", "::1/128"));
+
+        assertTrue(trie.contains("10.1.2.3:8080"));
+        assertTrue(trie.contains("  10.1.2.3 "));
+        assertTrue(trie.contains("[::1]"));
+        assertTrue(trie.contains("[::1]:8080"));
+        assertTrue(trie.contains("fe80::1%eth0"));
+        String header = "8.8.8.8, 10.0.0.2";
+        assertTrue(trie.contains(header, 9, header.length()));
+        assertFalse(trie.contains(header, 0, 7));
+    }
+
+    @Test
+    @DisplayName("IPv4网段应该同时匹配IPv4映射的IPv6地址")
+    void testIpv4MappedAddress() {
+        CidrTrie trie = CidrTrie.of(List.of("10.0.0.0/8"));
+
+        assertTrue(trie.contains("::ffff:10.1.2.3"));
+        assertTrue(trie.contains("::ffff:a01:203"));
+        assertFalse(trie.contains("::ffff:11.1.2.3"));
+        assertFalse(trie.contains("::10.1.2.3"));
+    }
+
+    @Test
+    @DisplayName("较短前缀应该覆盖较长前缀，与登记顺序无关")
+    void testOverlappingPrefixes() {
+        CidrTrie longFirst = CidrTrie.of(List.of("10.1.0.0/16", "10.0.0.0/8"));
+        CidrTrie shortFirst = CidrTrie.of(List.of("10.0.0.0/8", "10.1.0.0/16"));
+
+        for (CidrTrie trie : new CidrTrie[]{longFirst, shortFirst}) {
+            assertTrue(trie.contains("10.1.2.3"));
+            assertTrue(trie.contains("10.2.0.1"));
+            assertFalse(trie.contains("11.1.2.3"));
+        }
+    }
+
+    @Test
+    @DisplayName("节点扩容后已登记的网段应该仍然可以命中")
+    void testGrowth() {
+        List<String> cidrs = new ArrayList<>();
+        for (int i = 1; i <= 500; i++) {
+            cidrs.add("2001:db8::" + Integer.toHexString(i) + "/128");
+        }
+        CidrTrie trie = CidrTrie.of(cidrs);
+
+        for (int i = 1; i <= 500; i++) {
+            assertTrue(trie.contains("2001:db8::" + Integer.toHexString(i)));
+        }
+        assertFalse(trie.contains("2001:db8::" + Integer.toHexString(501)));
+    }
+
+    @Test
+    @DisplayName("非法网段应该在构建时拒绝")
+    void testMalformedCidr() {
+        for (String cidr : new String[]{"", " ", "abc", "10.0.0/8", "10.0.0.0/33", "10.0.0.0/-1", "10.0.0.0/x",
+                "256.0.0.0/8", "::/129", "1::2::3/64", "2001:db8:::/32", "12345::/16"}) {
+            assertThrows(IllegalArgumentException.class, () -> CidrTrie.of(List.of(cidr)), cidr);
+        }
+        assertThrows(IllegalArgumentException.class, () -> CidrTrie.of(Arrays.asList("10.0.0.0/8", null)));
+    }
+
+    @Test
+    @DisplayName("非法地址应该不命中且不抛出异常")
+    void testMalformedAddress() {
+        CidrTrie trie = CidrTrie.of(List.of("0.0.0.0/0", "::/0"));
+
+        for (String ip : new String[]{"", " ", "256.1.1.1", "10.0.0", "10.0.0.1.5", "10.0.0.a", "10..0.1",
+                "1::2::3", "12345::1", "1:2:3:4:5:6:7", "1:2:3:4:5:6:7:8:9", "1:", "[::1", "::ffff:1.2.3",
+                "unknown"}) {
+            assertFalse(trie.contains(ip), ip);
+            assertFalse(CidrTrie.isValidIp(ip, 0, ip.length()), ip);
+        }
+        assertFalse(trie.contains(null));
+    }
+
+    @Test
+    @DisplayName("合法地址应该通过校验")
+    void testValidAddress() {
+        for (String ip : new String[]{"0.0.0.0", "255.255.255.255", "::", "::1", "1:2:3:4:5:6:7:8",
+                "::ffff:1.2.3.4", "[2001:db8::1]:443", "fe80::1%eth0"}) {
+            assertTrue(CidrTrie.isValidIp(ip, 0, ip.length()), ip);
+        }
+    }
+
+    @Test
+    @DisplayName("空前缀树应该不命中任何地址")
+    void testEmpty() {
+        CidrTrie trie = CidrTrie.of(List.of());
+
+        assertTrue(trie.isEmpty());
+        assertFalse(trie.contains("127.0.0.1"));
+        assertTrue(CidrTrie.of(null).isEmpty());
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright 2024-2026 EasyWing Platform Team.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.easywing.platform.core.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 客户端IP解析器单元测试
+ *
+ * @author EasyWing Team
+ * @since 1.0.0
+ */
+class ClientIpResolverTest {
+
+    private final ClientIpResolver resolver = ClientIpResolver.defaults();
+
+    @Test
+    @DisplayName("直连地址不是受信代理时应该忽略转发头")
+    void testUntrustedRemoteIgnoresHeaders() {
+        assertEquals("8.8.8.8", resolver.resolve("1.1.1.1", "2.2.2.2", "8.8.8.8"));
+    }
+
+    @Test
+    @DisplayName("应该从右向左跳过受信代理，忽略左侧伪造的地址")
+    void testSpoofedLeftmostEntries() {
+        assertEquals("203.0.113.7",
+                resolver.resolve("6.6.6.6, 127.0.0.1, 203.0.113.7, 10.0.0.2, 192.168.1.5", null, "10.0.0.1"));
+    }
+
+    @Test
+    @DisplayName("转发链全部为受信代理时应该返回最左侧地址")
+    void testAllTrusted() {
+        assertEquals("10.0.0.5", resolver.resolve("10.0.0.5, 192.168.1.2", null, "127.0.0.1"));
+    }
+
+    @Test
+    @DisplayName("遇到非法地址应该停止遍历并返回最后一个合法地址")
+    void testStopAtMalformedEntry() {
+        assertEquals("10.0.0.2", resolver.resolve("203.0.113.9, not-an-ip, 10.0.0.2", null, "10.0.0.1"));
+        assertEquals("10.0.0.1", resolver.resolve("203.0.113.9,", null, "10.0.0.1"));
+    }
+
+    @Test
+    @DisplayName("应该解析IPv6转发链并去除方括号、端口与空白")
+    void testIpv6Chain() {
+        assertEquals("2001:db8::5", resolver.resolve("2001:db8::5, fd00::1", null, "::1"));
+        assertEquals("2001:db8::1", resolver.resolve(" [2001:db8::1]:443 , 10.0.0.2", null, "10.0.0.1"));
+        assertEquals("203.0.113.7", resolver.resolve("203.0.113.7:51234", null, "127.0.0.1"));
+    }
+
+    @Test
+    @DisplayName("没有转发链时应该使用合法的X-Real-IP")
+    void testRealIpFallback() {
+        assertEquals("203.0.113.7", resolver.resolve(null, " 203.0.113.7 ", "10.0.0.1"));
+        assertEquals("10.0.0.1", resolver.resolve(null, "abc", "10.0.0.1"));
+        assertEquals(ClientIpResolver.UNKNOWN, resolver.resolve(null, null, null));
+        assertEquals(ClientIpResolver.UNKNOWN, resolver.resolve("", "", ""));
+    }
+
+    @Test
+    @DisplayName("缺少直连地址时应该仍然解析转发链")
+    void testMissingRemote() {
+        assertEquals("203.0.113.7", resolver.resolve("203.0.113.7, 10.0.0.2", null, null));
+    }
+
+    @Test
+    @DisplayName("应该使用自定义的受信代理网段")
+    void testCustomTrustedProxies() {
+        ClientIpResolver custom = ClientIpResolver.of(List.of("203.0.113.0/24"));
+
+        assertTrue(custom.isTrustedProxy("203.0.113.10"));
+        assertFalse(custom.isTrustedProxy("10.0.0.1"));
+        assertEquals("198.51.100.1", custom.resolve("198.51.100.1, 203.0.113.9", null, "203.0.113.10"));
+        assertEquals("10.0.0.1", custom.resolve("198.51.100.1", null, "10.0.0.1"));
+    }
+
+    @Test
+    @DisplayName("未配置受信代理时应该始终返回直连地址")
+    void testNoTrustedProxies() {
+        ClientIpResolver none = ClientIpResolver.of(List.of());
+
+        assertEquals("10.0.0.1", none.resolve("1.2.3.4", "5.6.7.8", "10.0.0.1"));
+    }
+}
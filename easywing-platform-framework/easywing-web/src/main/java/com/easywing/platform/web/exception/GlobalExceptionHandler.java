@@ -20,6 +20,7 @@ import com.easywing.platform.core.exception.BizException;
 import com.easywing.platform.core.exception.ErrorCode;
 import com.easywing.platform.core.exception.SystemException;
 import com.easywing.platform.core.exception.ValidationException;
+import com.easywing.platform.core.util.ClientIpResolver;
 import com.easywing.platform.web.problem.Rfc9457ProblemDetail;
 import com.easywing.platform.web.problem.Rfc9457ProblemDetail.ValidationError;
 import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
@@ -560,15 +561,10 @@ public class GlobalExceptionHandler {
      * 获取客户端IP地址
      */
     private String getClientIp(HttpServletRequest request) {
-        String xForwardedFor = request.getHeader("X-Forwarded-For");
-        if (xForwardedFor != null && !xForwardedFor.isEmpty()) {
-            return xForwardedFor.split(",")[0].trim();
-        }
-        String xRealIp = request.getHeader("X-Real-IP");
-        if (xRealIp != null && !xRealIp.isEmpty()) {
-            return xRealIp;
-        }
-        return request.getRemoteAddr();
+        return ClientIpResolver.defaults().resolve(
+                request.getHeader(HttpHeaders.X_FORWARDED_FOR),
+                request.getHeader(HttpHeaders.X_REAL_IP),
+                request.getRemoteAddr());
     }
 
     /**
@@ -15,20 +15,56 @@
  */
 package com.easywing.platform.gateway.config;
 
+import com.easywing.platform.gateway.filter.cache.ResponseCacheGatewayFilterFactory;
+import com.easywing.platform.gateway.filter.cache.ResponseCacheInvalidationListener;
+import com.easywing.platform.gateway.filter.cache.ResponseCacheManager;
+import com.easywing.platform.gateway.filter.coalescing.RequestCoalescingGatewayFilterFactory;
+import com.easywing.platform.gateway.filter.edge.EdgeFilter;
+import com.easywing.platform.gateway.filter.edge.EdgeStage;
 import com.easywing.platform.gateway.filter.gray.GrayReleaseFilter;
+import com.easywing.platform.gateway.filter.ip.IpAccessFilter;
 import com.easywing.platform.gateway.filter.jwt.JwtValidationFilter;
+import com.easywing.platform.gateway.filter.latency.GatewayLatencyEndpoint;
+import com.easywing.platform.gateway.filter.latency.LatencyRecordingFilter;
+import com.easywing.platform.gateway.filter.latency.RouteLatencyRecorder;
+import com.easywing.platform.gateway.filter.logging.BinaryAccessLogWriter;
 import com.easywing.platform.gateway.filter.logging.LoggingFilter;
 import com.easywing.platform.gateway.filter.ratelimit.RateLimitFilter;
 import com.easywing.platform.gateway.filter.ratelimit.RedisRateLimiter;
+import com.easywing.platform.gateway.filter.size.RequestSizeGuardFilter;
+import com.easywing.platform.gateway.httpclient.ServiceConnectionPools;
+import com.easywing.platform.gateway.httpclient.ServicePoolRoutingFilter;
+import com.easywing.platform.gateway.loadbalancer.GrayLoadBalancerClientConfiguration;
+import com.easywing.platform.gateway.loadbalancer.VersionedInstanceIndexRegistry;
+import com.easywing.platform.gateway.metrics.GatewayCacheMetrics;
 import com.easywing.platform.gateway.properties.GatewayProperties;
+import com.easywing.platform.gateway.properties.TraceProperties;
+import com.easywing.platform.gateway.util.IdGenerator;
+import com.easywing.platform.gateway.util.RandomIdGenerator;
+import com.easywing.platform.gateway.util.TimeBasedIdGenerator;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.data.redis.RedisReactiveAutoConfiguration;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cloud.gateway.config.HttpClientCustomizer;
+import org.springframework.cloud.gateway.config.HttpClientProperties;
+import org.springframework.cloud.gateway.filter.NettyWriteResponseFilter;
+import org.springframework.cloud.gateway.filter.headers.HttpHeadersFilter;
 import org.springframework.cloud.gateway.filter.ratelimit.KeyResolver;
+import org.springframework.cloud.loadbalancer.annotation.LoadBalancerClients;
 import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
 import org.springframework.data.redis.core.script.RedisScript;
+import reactor.netty.http.client.HttpClient;
+
+import java.io.IOException;
+import java.util.List;
 
 /**
  * 网关自动配置类
@@ -36,7 +72,7 @@ import org.springframework.data.redis.core.script.RedisScript;
  * @author EasyWing Team
  * @since 1.0.0
  */
-@AutoConfiguration
+@AutoConfiguration(after = RedisReactiveAutoConfiguration.class)
 @EnableConfigurationProperties(GatewayProperties.class)
 public class GatewayAutoConfiguration {
 
@@ -61,15 +97,170 @@ public class GatewayAutoConfiguration {
         return new RedisRateLimiter();
     }
 
+    @Bean
+    @ConditionalOnMissingBean
+    public IdGenerator idGenerator(GatewayProperties properties) {
+        TraceProperties trace = properties.getTrace();
+        if (trace.getIdGenerator() == TraceProperties.IdGeneratorType.TIME_BASED) {
+            int nodeId = trace.getNodeId() >= 0 ? trace.getNodeId() : TimeBasedIdGenerator.defaultNodeId();
+            return new TimeBasedIdGenerator(nodeId);
+        }
+        return new RandomIdGenerator();
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "easywing.gateway.client-ip", name = "access-control-enabled", havingValue = "true", matchIfMissing = true)
+    public IpAccessFilter ipAccessFilter(GatewayProperties properties) {
+        return new IpAccessFilter(properties);
+    }
+
     @Bean
     @ConditionalOnProperty(prefix = "easywing.gateway.gray", name = "enabled", havingValue = "true", matchIfMissing = true)
     public GrayReleaseFilter grayReleaseFilter(GatewayProperties properties) {
         return new GrayReleaseFilter(properties);
     }
 
+    @Bean
+    @ConditionalOnProperty(prefix = "easywing.gateway.request-size", name = "enabled", havingValue = "true", matchIfMissing = true)
+    public RequestSizeGuardFilter requestSizeGuardFilter(GatewayProperties properties,
+                                                         ObjectProvider<MeterRegistry> meterRegistry) {
+        return new RequestSizeGuardFilter(properties, meterRegistry.getIfAvailable(() -> Metrics.globalRegistry));
+    }
+
+    /**
+     * 边缘融合过滤器：按顺序串联所有 EdgeStage，请求头只装饰一次
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "easywing.gateway.edge", name = "fused", havingValue = "true")
+    public EdgeFilter edgeFilter(ObjectProvider<EdgeStage> stages) {
+        return new EdgeFilter(stages.orderedStream().toList());
+    }
+
+    /**
+     * 网关本地缓存统计，注册为 Micrometer 指标
+     */
+    @Bean
+    public GatewayCacheMetrics gatewayCacheMetrics(ObjectProvider<JwtValidationFilter> jwtValidationFilter,
+                                                   ObjectProvider<RateLimitFilter> rateLimitFilter,
+                                                   ObjectProvider<GrayReleaseFilter> grayReleaseFilter,
+                                                   ObjectProvider<ResponseCacheManager> responseCacheManager) {
+        return new GatewayCacheMetrics(jwtValidationFilter.getIfAvailable(), rateLimitFilter.getIfAvailable(),
+                grayReleaseFilter.getIfAvailable(), responseCacheManager.getIfAvailable());
+    }
+
+    @Bean
+    public RequestCoalescingGatewayFilterFactory requestCoalescingGatewayFilterFactory() {
+        return new RequestCoalescingGatewayFilterFactory();
+    }
+
     @Bean
     @ConditionalOnProperty(prefix = "easywing.gateway.logging", name = "enabled", havingValue = "true", matchIfMissing = true)
-    public LoggingFilter loggingFilter(GatewayProperties properties) {
-        return new LoggingFilter(properties);
+    public LoggingFilter loggingFilter(GatewayProperties properties,
+                                       ObjectProvider<BinaryAccessLogWriter> binaryAccessLogWriter) {
+        return new LoggingFilter(properties, binaryAccessLogWriter.getIfAvailable());
+    }
+
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(prefix = "easywing.gateway.logging.binary", name = "enabled", havingValue = "true")
+    public BinaryAccessLogWriter binaryAccessLogWriter(GatewayProperties properties) throws IOException {
+        return new BinaryAccessLogWriter(properties.getLogging().getBinary());
+    }
+
+    /**
+     * 版本感知负载均衡，替换各服务默认的轮询负载均衡器
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnProperty(prefix = "easywing.gateway.gray", name = "load-balancer-enabled", havingValue = "true")
+    @LoadBalancerClients(defaultConfiguration = GrayLoadBalancerClientConfiguration.class)
+    static class GrayLoadBalancerConfiguration {
+
+        @Bean
+        public VersionedInstanceIndexRegistry versionedInstanceIndexRegistry(GatewayProperties properties) {
+            return new VersionedInstanceIndexRegistry(properties.getGray());
+        }
+    }
+
+    /**
+     * 网关响应缓存，路由通过 ResponseCache 过滤器显式启用
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnProperty(prefix = "easywing.gateway.response-cache", name = "enabled", havingValue = "true", matchIfMissing = true)
+    static class ResponseCacheConfiguration {
+
+        @Bean
+        public ResponseCacheManager responseCacheManager(GatewayProperties properties) {
+            return new ResponseCacheManager(properties.getResponseCache());
+        }
+
+        @Bean
+        public ResponseCacheGatewayFilterFactory responseCacheGatewayFilterFactory(ResponseCacheManager responseCacheManager) {
+            return new ResponseCacheGatewayFilterFactory(responseCacheManager);
+        }
+
+        @Bean
+        @ConditionalOnBean(ReactiveStringRedisTemplate.class)
+        public ResponseCacheInvalidationListener responseCacheInvalidationListener(
+                ReactiveStringRedisTemplate redisTemplate, ResponseCacheManager responseCacheManager) {
+            return new ResponseCacheInvalidationListener(redisTemplate, responseCacheManager);
+        }
+    }
+
+    /**
+     * 路由延迟直方图与 /actuator/gateway-latency 端点
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnProperty(prefix = "easywing.gateway.latency", name = "enabled", havingValue = "true", matchIfMissing = true)
+    static class LatencyConfiguration {
+
+        @Bean
+        public RouteLatencyRecorder routeLatencyRecorder(GatewayProperties properties) {
+            return new RouteLatencyRecorder(properties.getLatency());
+        }
+
+        @Bean
+        public LatencyRecordingFilter latencyRecordingFilter(RouteLatencyRecorder routeLatencyRecorder) {
+            return new LatencyRecordingFilter(routeLatencyRecorder);
+        }
+
+        @Bean
+        public GatewayLatencyEndpoint gatewayLatencyEndpoint(RouteLatencyRecorder routeLatencyRecorder) {
+            return new GatewayLatencyEndpoint(routeLatencyRecorder);
+        }
+    }
+
+    /**
+     * 按服务隔离的上游连接池，接管默认的 NettyRoutingFilter
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnProperty(prefix = "spring.cloud.gateway.global-filter.netty-routing", name = "enabled", havingValue = "false")
+    static class ServiceConnectionPoolConfiguration {
+
+        @Bean
+        public ServiceConnectionPools serviceConnectionPools(GatewayProperties properties,
+                                                             HttpClientProperties httpClientProperties,
+                                                             ObjectProvider<HttpClientCustomizer> customizers) {
+            return new ServiceConnectionPools(properties.getHttpClient(), httpClientProperties,
+                    customizers.orderedStream().toList());
+        }
+
+        @Bean
+        public ServicePoolRoutingFilter servicePoolRoutingFilter(HttpClient httpClient,
+                                                                 ObjectProvider<List<HttpHeadersFilter>> headersFilters,
+                                                                 HttpClientProperties httpClientProperties,
+                                                                 ServiceConnectionPools serviceConnectionPools,
+                                                                 ObjectProvider<MeterRegistry> meterRegistry) {
+            return new ServicePoolRoutingFilter(httpClient, headersFilters, httpClientProperties,
+                    serviceConnectionPools, meterRegistry.getIfAvailable(() -> Metrics.globalRegistry));
+        }
+
+        /**
+         * 默认的 NettyWriteResponseFilter 与 NettyRoutingFilter 共用开关，关闭后需要在此补回，否则响应体不会写回客户端
+         */
+        @Bean
+        @ConditionalOnMissingBean
+        public NettyWriteResponseFilter nettyWriteResponseFilter(
+                org.springframework.cloud.gateway.config.GatewayProperties gatewayProperties) {
+            return new NettyWriteResponseFilter(gatewayProperties.getStreamingMediaTypes());
+        }
     }
-}
\ No newline at end of file
+}
@@ -16,9 +16,13 @@
 package com.easywing.platform.gateway.config;
 
 import com.easywing.platform.core.constant.HttpHeaders;
+import com.easywing.platform.core.util.ClientIpResolver;
+import com.easywing.platform.gateway.properties.GatewayProperties;
+import com.easywing.platform.gateway.util.IpUtil;
 import org.springframework.cloud.gateway.filter.ratelimit.KeyResolver;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
 import reactor.core.publisher.Mono;
 
 /**
@@ -33,19 +37,18 @@ public class GatewayConfig {
     /**
      * 用户限流Key解析器
      * <p>
-     * 根据用户ID或IP地址进行限流
+     * 根据用户ID或IP地址进行限流，作为 RequestRateLimiter 未指定解析器时的默认解析器
      */
     @Bean
-    public KeyResolver userKeyResolver() {
+    @Primary
+    public KeyResolver userKeyResolver(GatewayProperties properties) {
+        ClientIpResolver resolver = ClientIpResolver.of(properties.getClientIp().getTrustedProxies());
         return exchange -> {
             String userId = exchange.getRequest().getHeaders().getFirst(HttpHeaders.X_USER_ID);
             if (userId != null && !userId.isEmpty()) {
                 return Mono.just(userId);
             }
-            String ip = exchange.getRequest().getRemoteAddress() != null
-                    ? exchange.getRequest().getRemoteAddress().getAddress().getHostAddress()
-                    : "unknown";
-            return Mono.just(ip);
+            return Mono.just(IpUtil.getClientIp(exchange, resolver));
         };
     }
 
@@ -61,24 +64,9 @@ public class GatewayConfig {
      * IP限流Key解析器
      */
     @Bean
-    public KeyResolver ipKeyResolver() {
-        return exchange -> {
-            String xForwardedFor = exchange.getRequest().getHeaders().getFirst(HttpHeaders.X_FORWARDED_FOR);
-            if (xForwardedFor != null && !xForwardedFor.isEmpty()) {
-                return Mono.just(xForwardedFor.split(",")[0].trim());
-            }
-            
-            String xRealIp = exchange.getRequest().getHeaders().getFirst(HttpHeaders.X_REAL_IP);
-            if (xRealIp != null && !xRealIp.isEmpty()) {
-                return Mono.just(xRealIp);
-            }
-            
-            if (exchange.getRequest().getRemoteAddress() != null) {
-                return Mono.just(exchange.getRequest().getRemoteAddress().getAddress().getHostAddress());
-            }
-            
-            return Mono.just("unknown");
-        };
+    public KeyResolver ipKeyResolver(GatewayProperties properties) {
+        ClientIpResolver resolver = ClientIpResolver.of(properties.getClientIp().getTrustedProxies());
+        return exchange -> Mono.just(IpUtil.getClientIp(exchange, resolver));
     }
 
     /**
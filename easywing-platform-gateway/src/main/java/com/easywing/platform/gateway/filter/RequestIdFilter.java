@@ -16,19 +16,33 @@
 package com.easywing.platform.gateway.filter;
 
 import com.easywing.platform.core.constant.HttpHeaders;
+import com.easywing.platform.gateway.filter.edge.EdgeHeaders;
+import com.easywing.platform.gateway.properties.GatewayProperties;
+import com.easywing.platform.gateway.properties.TraceProperties;
+import com.easywing.platform.gateway.util.IdGenerator;
+import com.easywing.platform.gateway.util.RandomIdGenerator;
+import com.easywing.platform.gateway.util.TraceParent;
+import com.easywing.platform.gateway.util.TraceUtil;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.cloud.gateway.filter.GatewayFilterChain;
 import org.springframework.cloud.gateway.filter.GlobalFilter;
 import org.springframework.core.Ordered;
+import org.springframework.http.server.reactive.ServerHttpRequest;
 import org.springframework.stereotype.Component;
 import org.springframework.web.server.ServerWebExchange;
 import reactor.core.publisher.Mono;
 
-import java.util.UUID;
-
 /**
  * 全局请求ID过滤器
  * <p>
- * 为每个请求生成唯一的请求ID，并传递到下游服务
+ * 为每个请求生成唯一的请求ID，并参与 W3C Trace Context 传播：
+ * <ul>
+ *     <li>携带合法 traceparent 时沿用其 traceId 与采样标志，生成新的 spanId 作为下游父级</li>
+ *     <li>否则沿用合法的 X-Trace-Id，再否则新建链路</li>
+ *     <li>向下游写入 traceparent、X-Trace-Id、X-Span-Id，tracestate 原样透传</li>
+ * </ul>
+ * 位于延迟采集与请求体大小限制之前，被后续过滤器拒绝的响应也带有请求ID与链路ID；
+ * 因此边缘融合模式下同样独立运行，不作为融合环节。
  *
  * @author EasyWing Team
  * @since 1.0.0
@@ -36,27 +50,54 @@ import java.util.UUID;
 @Component
 public class RequestIdFilter implements GlobalFilter, Ordered {
 
+    private static final String ZERO_TRACE_ID = "00000000000000000000000000000000";
+
+    private final IdGenerator idGenerator;
+    private final String defaultFlags;
+
+    public RequestIdFilter() {
+        this(new RandomIdGenerator(), new GatewayProperties());
+    }
+
+    @Autowired
+    public RequestIdFilter(IdGenerator idGenerator, GatewayProperties properties) {
+        this.idGenerator = idGenerator;
+        TraceProperties trace = properties.getTrace();
+        this.defaultFlags = trace.isSampled() ? TraceParent.FLAG_SAMPLED : "00";
+    }
+
     @Override
     public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
-        String requestId = exchange.getRequest().getHeaders().getFirst(HttpHeaders.X_REQUEST_ID);
+        ServerHttpRequest request = exchange.getRequest();
+
+        String requestId = request.getHeaders().getFirst(HttpHeaders.X_REQUEST_ID);
         if (requestId == null || requestId.isEmpty()) {
-            requestId = UUID.randomUUID().toString().replace("-", "");
+            requestId = idGenerator.nextRequestId();
         }
 
-        String traceId = exchange.getRequest().getHeaders().getFirst(HttpHeaders.X_TRACE_ID);
-        if (traceId == null || traceId.isEmpty()) {
-            traceId = requestId;
+        TraceParent parent = TraceParent.parse(request.getHeaders().getFirst(HttpHeaders.TRACE_PARENT));
+        if (parent == null) {
+            String forwardedTraceId = request.getHeaders().getFirst(HttpHeaders.X_TRACE_ID);
+            String traceId = TraceUtil.isValidTraceId(forwardedTraceId) && !ZERO_TRACE_ID.equals(forwardedTraceId)
+                    ? forwardedTraceId.toLowerCase()
+                    : idGenerator.nextTraceId();
+            parent = new TraceParent(traceId, null, defaultFlags);
         }
 
-        ServerWebExchange mutatedExchange = exchange.mutate()
-                .request(builder -> builder
-                        .header(HttpHeaders.X_REQUEST_ID, requestId)
-                        .header(HttpHeaders.X_TRACE_ID, traceId))
-                .response(builder -> builder.header(HttpHeaders.X_REQUEST_ID, requestId)
-                        .header(HttpHeaders.X_TRACE_ID, traceId))
-                .build();
+        String traceId = parent.traceId();
+        String spanId = idGenerator.nextSpanId();
+        String traceparent = parent.withParentId(spanId).format();
+
+        exchange.getResponse().getHeaders().set(HttpHeaders.X_REQUEST_ID, requestId);
+        exchange.getResponse().getHeaders().set(HttpHeaders.X_TRACE_ID, traceId);
+
+        EdgeHeaders headers = new EdgeHeaders();
+        headers.set(HttpHeaders.X_REQUEST_ID, requestId);
+        headers.set(HttpHeaders.X_TRACE_ID, traceId);
+        headers.set(HttpHeaders.X_SPAN_ID, spanId);
+        headers.set(HttpHeaders.TRACE_PARENT, traceparent);
 
-        return chain.filter(mutatedExchange);
+        return chain.filter(headers.applyTo(exchange));
     }
 
     @Override
@@ -0,0 +1,148 @@
+/*
+ * Copyright 2024-2026 EasyWing Platform Team.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.easywing.platform.gateway.filter.cache;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 缓存的完整响应
+ * <p>
+ * 响应头与响应体在写入缓存后不再修改，可被多个请求并发读取；
+ * 响应缓存与请求合并共用该结构回放上游响应。
+ *
+ * @author EasyWing Team
+ * @since 1.0.0
+ */
+public final class CachedResponse {
+
+    /**
+     * 不随缓存回放的响应头：逐跳头、时间相关头、Cookie 以及单个请求专属的ID
+     */
+    private static final Set<String> EXCLUDED_HEADERS = Set.of(
+            "connection", "keep-alive", "transfer-encoding", "te", "trailer", "upgrade",
+            "proxy-authenticate", "date", "age", "set-cookie", "x-cache",
+            com.easywing.platform.core.constant.HttpHeaders.X_REQUEST_ID.toLowerCase(Locale.ROOT),
+            com.easywing.platform.core.constant.HttpHeaders.X_TRACE_ID.toLowerCase(Locale.ROOT));
+
+    private final int status;
+    private final HttpHeaders headers;
+    private final byte[] body;
+    private final String etag;
+    private final long createdAt;
+    private final long ttlMillis;
+
+    public CachedResponse(int status, HttpHeaders headers, byte[] body, String etag, long ttlMillis) {
+        this.status = status;
+        this.headers = HttpHeaders.readOnlyHttpHeaders(headers);
+        this.body = body;
+        this.etag = etag;
+        this.createdAt = System.currentTimeMillis();
+        this.ttlMillis = ttlMillis;
+    }
+
+    public int getStatus() {
+        return status;
+    }
+
+    public HttpHeaders getHeaders() {
+        return headers;
+    }
+
+    public byte[] getBody() {
+        return body;
+    }
+
+    public String getEtag() {
+        return etag;
+    }
+
+    public long getCreatedAt() {
+        return createdAt;
+    }
+
+    public long getTtlMillis() {
+        return ttlMillis;
+    }
+
+    /**
+     * 复制可回放的响应头
+     */
+    public static HttpHeaders copyHeaders(HttpHeaders source) {
+        HttpHeaders copy = new HttpHeaders();
+        source.forEach((name, values) -> {
+            if (!EXCLUDED_HEADERS.contains(name.toLowerCase(Locale.ROOT))) {
+                copy.put(name, new ArrayList<>(values));
+            }
+        });
+        return copy;
+    }
+
+    /**
+     * 将缓存的响应写入当前响应，当前请求已设置的响应头优先保留
+     */
+    public Mono<Void> writeTo(ServerHttpResponse response) {
+        HttpHeaders target = response.getHeaders();
+        headers.forEach((name, values) -> {
+            if (!target.containsKey(name)) {
+                target.put(name, new ArrayList<>(values));
+            }
+        });
+        response.setStatusCode(HttpStatusCode.valueOf(status));
+        return response.writeWith(Mono.just(response.bufferFactory().wrap(body)));
+    }
+
+    /**
+     * 响应在缓存中的存活秒数，用于 Age 响应头
+     */
+    public long ageSeconds() {
+        return Math.max(0, (System.currentTimeMillis() - createdAt) / 1000);
+    }
+
+    /**
+     * 判断 If-None-Match 是否命中当前ETag（弱比较）
+     */
+    public boolean matchesEtag(String ifNoneMatch) {
+        if (ifNoneMatch == null || etag == null) {
+            return false;
+        }
+        String target = stripWeak(etag);
+        int start = 0;
+        while (start <= ifNoneMatch.length()) {
+            int comma = ifNoneMatch.indexOf(',', start);
+            int end = comma < 0 ? ifNoneMatch.length() : comma;
+            String candidate = ifNoneMatch.substring(start, end).trim();
+            if ("*".equals(candidate) || target.equals(stripWeak(candidate))) {
+                return true;
+            }
+            if (comma < 0) {
+                break;
+            }
+            start = comma + 1;
+        }
+        return false;
+    }
+
+    private static String stripWeak(String tag) {
+        return tag.startsWith("W/") ? tag.substring(2) : tag;
+    }
+}
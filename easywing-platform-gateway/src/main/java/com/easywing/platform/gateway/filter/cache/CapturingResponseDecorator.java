@@ -0,0 +1,89 @@
+/*
+ * Copyright 2024-2026 EasyWing Platform Team.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.easywing.platform.gateway.filter.cache;
+
+import org.reactivestreams.Publisher;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.util.function.Consumer;
+
+/**
+ * 边透传边复制响应体的装饰器
+ * <p>
+ * 响应体照常流式写回客户端，同时复制一份副本：
+ * <ul>
+ *     <li>累计大小超过上限即放弃副本，不影响响应本身</li>
+ *     <li>响应体完整写出后回调副本；出错、取消或流式刷新（SSE）时不回调</li>
+ * </ul>
+ *
+ * @author EasyWing Team
+ * @since 1.0.0
+ */
+public class CapturingResponseDecorator extends ServerHttpResponseDecorator {
+
+    private final int maxBytes;
+    private final Consumer<byte[]> onCaptured;
+    private ByteArrayOutputStream captured = new ByteArrayOutputStream();
+
+    public CapturingResponseDecorator(ServerHttpResponse delegate, int maxBytes, Consumer<byte[]> onCaptured) {
+        super(delegate);
+        this.maxBytes = maxBytes;
+        this.onCaptured = onCaptured;
+    }
+
+    @Override
+    public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+        long contentLength = getDelegate().getHeaders().getContentLength();
+        if (contentLength > maxBytes) {
+            captured = null;
+            return super.writeWith(body);
+        }
+        Flux<? extends DataBuffer> copying = Flux.from(body)
+                .doOnNext(this::copy)
+                .doOnComplete(() -> {
+                    if (captured != null) {
+                        onCaptured.accept(captured.toByteArray());
+                    }
+                });
+        return super.writeWith(copying);
+    }
+
+    @Override
+    public Mono<Void> writeAndFlushWith(Publisher<? extends Publisher<? extends DataBuffer>> body) {
+        captured = null;
+        return super.writeAndFlushWith(body);
+    }
+
+    private void copy(DataBuffer buffer) {
+        if (captured == null) {
+            return;
+        }
+        int length = buffer.readableByteCount();
+        if (captured.size() + length > maxBytes) {
+            captured = null;
+            return;
+        }
+        byte[] chunk = new byte[length];
+        buffer.toByteBuffer(buffer.readPosition(), ByteBuffer.wrap(chunk), 0, length);
+        captured.write(chunk, 0, length);
+    }
+}
@@ -0,0 +1,264 @@
+/*
+ * Copyright 2024-2026 EasyWing Platform Team.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.easywing.platform.gateway.filter.cache;
+
+import com.easywing.platform.gateway.properties.ResponseCacheProperties;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.CRC32;
+
+/**
+ * 网关响应缓存过滤器工厂
+ * <p>
+ * 按路由显式启用，缓存幂等GET请求的完整响应：
+ * <ul>
+ *     <li>缓存键由路由、路径、查询参数、租户、配置的 vary 请求头以及上游响应 Vary 头列出的请求头组成</li>
+ *     <li>遵循 Cache-Control：no-store/private 不缓存，s-maxage/max-age 决定TTL</li>
+ *     <li>携带 Authorization 的请求仅在响应声明 public 或 s-maxage 时缓存</li>
+ *     <li>命中时支持 If-None-Match 返回304，上游未提供ETag时按响应体生成</li>
+ *     <li>请求携带 no-cache 时跳过读取并以新响应刷新缓存</li>
+ * </ul>
+ * 路由配置示例：
+ * <pre>
+ * filters:
+ *   - name: ResponseCache
+ *     args:
+ *       ttl: 5m
+ *       vary-headers: X-User-Id
+ * </pre>
+ *
+ * @author EasyWing Team
+ * @since 1.0.0
+ */
+public class ResponseCacheGatewayFilterFactory
+        extends AbstractGatewayFilterFactory<ResponseCacheGatewayFilterFactory.Config> {
+
+    public static final String CACHE_STATUS_HEADER = "X-Cache";
+
+    private final ResponseCacheManager cacheManager;
+    private final ResponseCacheProperties properties;
+
+    public ResponseCacheGatewayFilterFactory(ResponseCacheManager cacheManager) {
+        super(Config.class);
+        this.cacheManager = cacheManager;
+        this.properties = cacheManager.getProperties();
+    }
+
+    @Override
+    public List<String> shortcutFieldOrder() {
+        return List.of("ttl");
+    }
+
+    @Override
+    public GatewayFilter apply(Config config) {
+        return (exchange, chain) -> filter(exchange, chain, config);
+    }
+
+    private Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain, Config config) {
+        ServerHttpRequest request = exchange.getRequest();
+        if (request.getMethod() != HttpMethod.GET) {
+            return chain.filter(exchange);
+        }
+        String requestCacheControl = request.getHeaders().getCacheControl();
+        if (hasDirective(requestCacheControl, "no-store")) {
+            return chain.filter(exchange);
+        }
+
+        Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+        String routeId = route != null ? route.getId() : "";
+
+        boolean revalidate = hasDirective(requestCacheControl, "no-cache")
+                || "0".equals(directiveValue(requestCacheControl, "max-age"))
+                || "no-cache".equalsIgnoreCase(request.getHeaders().getPragma());
+        if (!revalidate) {
+            String key = cacheManager.buildKey(routeId, request, config.getVaryHeaders());
+            CachedResponse cached = cacheManager.get(key);
+            if (cached != null) {
+                return writeCached(exchange, cached);
+            }
+        }
+
+        long defaultTtl = (config.getTtl() != null ? config.getTtl() : properties.getDefaultTtl()).toMillis();
+        ServerHttpResponse response = exchange.getResponse();
+        response.getHeaders().set(CACHE_STATUS_HEADER, "MISS");
+        CapturingResponseDecorator decorated = new CapturingResponseDecorator(response, properties.getMaxEntrySize(),
+                body -> store(routeId, request, config, response, body, defaultTtl));
+        return chain.filter(exchange.mutate().response(decorated).build());
+    }
+
+    private Mono<Void> writeCached(ServerWebExchange exchange, CachedResponse cached) {
+        ServerHttpResponse response = exchange.getResponse();
+        response.getHeaders().set(CACHE_STATUS_HEADER, "HIT");
+        response.getHeaders().set(HttpHeaders.AGE, String.valueOf(cached.ageSeconds()));
+
+        String ifNoneMatch = exchange.getRequest().getHeaders().getFirst(HttpHeaders.IF_NONE_MATCH);
+        if (cached.matchesEtag(ifNoneMatch)) {
+            if (cached.getEtag() != null) {
+                response.getHeaders().setETag(cached.getEtag());
+            }
+            response.setStatusCode(HttpStatus.NOT_MODIFIED);
+            return response.setComplete();
+        }
+        return cached.writeTo(response);
+    }
+
+    private void store(String routeId, ServerHttpRequest request, Config config, ServerHttpResponse response,
+                       byte[] body, long defaultTtl) {
+        HttpStatusCode status = response.getStatusCode();
+        if (status == null || status.value() != HttpStatus.OK.value()) {
+            return;
+        }
+        HttpHeaders headers = response.getHeaders();
+        String cacheControl = headers.getCacheControl();
+        if (hasDirective(cacheControl, "no-store") || hasDirective(cacheControl, "private")
+                || hasDirective(cacheControl, "no-cache")
+                || headers.containsKey(HttpHeaders.SET_COOKIE)
+                || "*".equals(headers.getFirst(HttpHeaders.VARY))) {
+            return;
+        }
+        // 共享缓存不得保存鉴权请求的响应，除非上游显式允许（RFC 9111 §3.5）
+        if (request.getHeaders().containsKey(HttpHeaders.AUTHORIZATION)
+                && !hasDirective(cacheControl, "public") && !hasDirective(cacheControl, "s-maxage")) {
+            return;
+        }
+        long ttl = resolveTtl(cacheControl, defaultTtl);
+        if (ttl <= 0) {
+            return;
+        }
+
+        HttpHeaders copy = CachedResponse.copyHeaders(headers);
+        String etag = headers.getETag();
+        if (etag == null) {
+            etag = computeEtag(body);
+            copy.setETag(etag);
+        }
+        copy.setContentLength(body.length);
+        String key = cacheManager.buildKey(routeId, request, config.getVaryHeaders(), headers);
+        cacheManager.put(key, new CachedResponse(status.value(), copy, body, etag, ttl));
+    }
+
+    static long resolveTtl(String cacheControl, long defaultTtl) {
+        String maxAge = directiveValue(cacheControl, "s-maxage");
+        if (maxAge == null) {
+            maxAge = directiveValue(cacheControl, "max-age");
+        }
+        if (maxAge == null) {
+            return defaultTtl;
+        }
+        try {
+            return Duration.ofSeconds(Long.parseLong(maxAge)).toMillis();
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    static boolean hasDirective(String cacheControl, String directive) {
+        return findDirective(cacheControl, directive) >= 0;
+    }
+
+    static String directiveValue(String cacheControl, String directive) {
+        int index = findDirective(cacheControl, directive);
+        if (index < 0) {
+            return null;
+        }
+        int start = index + directive.length();
+        if (start >= cacheControl.length() || cacheControl.charAt(start) != '=') {
+            return null;
+        }
+        int end = cacheControl.indexOf(',', start);
+        return cacheControl.substring(start + 1, end < 0 ? cacheControl.length() : end).trim().replace("\"", "");
+    }
+
+    private static int findDirective(String cacheControl, String directive) {
+        if (cacheControl == null) {
+            return -1;
+        }
+        int from = 0;
+        while (true) {
+            int index = indexOfIgnoreCase(cacheControl, directive, from);
+            if (index < 0) {
+                return -1;
+            }
+            int end = index + directive.length();
+            boolean startOk = index == 0 || cacheControl.charAt(index - 1) == ',' || cacheControl.charAt(index - 1) == ' ';
+            boolean endOk = end == cacheControl.length() || cacheControl.charAt(end) == ','
+                    || cacheControl.charAt(end) == '=' || cacheControl.charAt(end) == ' ';
+            if (startOk && endOk) {
+                return index;
+            }
+            from = index + 1;
+        }
+    }
+
+    private static int indexOfIgnoreCase(String text, String token, int from) {
+        for (int i = from; i + token.length() <= text.length(); i++) {
+            if (text.regionMatches(true, i, token, 0, token.length())) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static String computeEtag(byte[] body) {
+        CRC32 crc = new CRC32();
+        crc.update(body);
+        return "\"" + Long.toHexString(crc.getValue()) + "-" + Integer.toHexString(body.length) + "\"";
+    }
+
+    public static class Config {
+
+        /**
+         * 上游未给出 Cache-Control 时的缓存时长，为空时使用全局默认值
+         */
+        private Duration ttl;
+
+        /**
+         * 额外参与缓存键计算的请求头
+         */
+        private List<String> varyHeaders = new ArrayList<>();
+
+        public Duration getTtl() {
+            return ttl;
+        }
+
+        public void setTtl(Duration ttl) {
+            this.ttl = ttl;
+        }
+
+        public List<String> getVaryHeaders() {
+            return varyHeaders;
+        }
+
+        public void setVaryHeaders(List<String> varyHeaders) {
+            this.varyHeaders = varyHeaders;
+        }
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright 2024-2026 EasyWing Platform Team.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.easywing.platform.gateway.filter.cache;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.data.redis.connection.ReactiveSubscription;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+
+/**
+ * 响应缓存失效监听器
+ * <p>
+ * 订阅Redis频道，收到消息后失效本地响应缓存。消息格式：
+ * <ul>
+ *     <li>{@code *}：清空全部缓存</li>
+ *     <li>{@code routeId}：清空指定路由</li>
+ *     <li>{@code routeId:/path/prefix}：清空指定路由下的路径前缀</li>
+ * </ul>
+ * 后端服务在修改字典、菜单等参考数据后发布消息即可，例如：
+ * {@code PUBLISH easywing:gateway:response-cache:invalidate system-dict:/api/system/dict}
+ *
+ * @author EasyWing Team
+ * @since 1.0.0
+ */
+public class ResponseCacheInvalidationListener implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(ResponseCacheInvalidationListener.class);
+
+    private final ReactiveStringRedisTemplate redisTemplate;
+    private final ResponseCacheManager cacheManager;
+    private final String topic;
+    private volatile Disposable subscription;
+
+    public ResponseCacheInvalidationListener(ReactiveStringRedisTemplate redisTemplate,
+                                             ResponseCacheManager cacheManager) {
+        this.redisTemplate = redisTemplate;
+        this.cacheManager = cacheManager;
+        this.topic = cacheManager.getProperties().getInvalidationTopic();
+    }
+
+    @Override
+    public void start() {
+        subscription = redisTemplate.listenToChannel(topic)
+                .map(ReactiveSubscription.Message::getMessage)
+                .doOnNext(this::apply)
+                .doOnError(e -> log.warn("Response cache invalidation subscription failed: {}", e.getMessage()))
+                .retryWhen(Retry.backoff(Long.MAX_VALUE, Duration.ofSeconds(1)).maxBackoff(Duration.ofSeconds(30)))
+                .subscribe();
+        log.info("Subscribed to response cache invalidation topic {}", topic);
+    }
+
+    @Override
+    public void stop() {
+        Disposable current = subscription;
+        if (current != null) {
+            current.dispose();
+            subscription = null;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return subscription != null && !subscription.isDisposed();
+    }
+
+    /**
+     * 广播失效消息，包括本节点在内的所有网关节点都会处理
+     */
+    public Mono<Long> publish(String routeId, String pathPrefix) {
+        String message = pathPrefix == null || pathPrefix.isEmpty() ? routeId : routeId + ":" + pathPrefix;
+        return redisTemplate.convertAndSend(topic, message);
+    }
+
+    void apply(String message) {
+        if (message == null || message.isBlank()) {
+            return;
+        }
+        int separator = message.indexOf(':');
+        String routeId = separator < 0 ? message.trim() : message.substring(0, separator).trim();
+        String pathPrefix = separator < 0 ? null : message.substring(separator + 1).trim();
+        cacheManager.invalidate(routeId, pathPrefix);
+        log.debug("Response cache invalidated: route={}, pathPrefix={}", routeId, pathPrefix);
+    }
+}
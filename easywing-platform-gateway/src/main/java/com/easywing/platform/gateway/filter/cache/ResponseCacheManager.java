@@ -0,0 +1,246 @@
+/*
+ * Copyright 2024-2026 EasyWing Platform Team.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.easywing.platform.gateway.filter.cache;
+
+import com.easywing.platform.gateway.properties.ResponseCacheProperties;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.NavigableSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 网关响应缓存存储
+ * <p>
+ * 基于Caffeine的本地存储：
+ * <ul>
+ *     <li>按响应体字节数加权，总容量受 {@code maxSize} 约束</li>
+ *     <li>每个条目按自身TTL过期（来自 Cache-Control 或路由配置）</li>
+ *     <li>记录上游响应的 Vary 头，后续请求按其列出的请求头取值区分缓存条目</li>
+ *     <li>按路由维护有序键索引，按路由或路径前缀失效时只扫描匹配范围</li>
+ * </ul>
+ *
+ * @author EasyWing Team
+ * @since 1.0.0
+ */
+public class ResponseCacheManager {
+
+    private static final char SEPARATOR = '|';
+    private static final int ENTRY_OVERHEAD = 512;
+    private static final int MAX_VARY_ENTRIES = 10_000;
+
+    private final ResponseCacheProperties properties;
+    private final Cache<String, CachedResponse> cache;
+    private final Cache<String, List<String>> responseVary;
+    private final ConcurrentHashMap<String, NavigableSet<String>> keysByRoute = new ConcurrentHashMap<>();
+
+    public ResponseCacheManager(ResponseCacheProperties properties) {
+        this.properties = properties;
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(properties.getMaxSize())
+                .weigher((String key, CachedResponse value) -> key.length() * 2 + value.getBody().length + ENTRY_OVERHEAD)
+                .expireAfter(new Expiry<String, CachedResponse>() {
+                    @Override
+                    public long expireAfterCreate(String key, CachedResponse value, long currentTime) {
+                        return TimeUnit.MILLISECONDS.toNanos(value.getTtlMillis());
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, CachedResponse value, long currentTime,
+                                                  long currentDuration) {
+                        return TimeUnit.MILLISECONDS.toNanos(value.getTtlMillis());
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, CachedResponse value, long currentTime,
+                                                long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .evictionListener((String key, CachedResponse value, RemovalCause cause) -> unindex(key))
+                .recordStats()
+                .build();
+        this.responseVary = Caffeine.newBuilder()
+                .maximumSize(MAX_VARY_ENTRIES)
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * 构建查询用的缓存键：路由ID|路径?查询|租户|vary请求头取值
+     * <p>
+     * vary 请求头包括全局配置、路由配置以及该资源上次响应的 Vary 头。
+     */
+    public String buildKey(String routeId, ServerHttpRequest request, List<String> routeVaryHeaders) {
+        StringBuilder key = baseKey(routeId, request);
+        List<String> vary = responseVary.getIfPresent(key.toString());
+        return appendAllVary(key, request, routeVaryHeaders, vary);
+    }
+
+    /**
+     * 构建写入用的缓存键，并记录该资源响应的 Vary 头供后续查询使用
+     */
+    public String buildKey(String routeId, ServerHttpRequest request, List<String> routeVaryHeaders,
+                           HttpHeaders responseHeaders) {
+        StringBuilder key = baseKey(routeId, request);
+        List<String> vary = parseVary(responseHeaders);
+        if (vary.isEmpty()) {
+            responseVary.invalidate(key.toString());
+        } else {
+            responseVary.put(key.toString(), vary);
+        }
+        return appendAllVary(key, request, routeVaryHeaders, vary);
+    }
+
+    private StringBuilder baseKey(String routeId, ServerHttpRequest request) {
+        StringBuilder key = new StringBuilder(128)
+                .append(routeId).append(SEPARATOR)
+                .append(request.getPath().value());
+        String query = request.getURI().getRawQuery();
+        if (query != null) {
+            key.append('?').append(query);
+        }
+        key.append(SEPARATOR);
+        String tenant = request.getHeaders().getFirst(properties.getTenantHeader());
+        if (tenant != null) {
+            key.append(tenant);
+        }
+        return key;
+    }
+
+    private String appendAllVary(StringBuilder key, ServerHttpRequest request, List<String> routeVaryHeaders,
+                                 List<String> vary) {
+        appendVary(key, request, properties.getVaryHeaders());
+        appendVary(key, request, routeVaryHeaders);
+        if (vary != null && !vary.isEmpty()) {
+            key.append(SEPARATOR).append("vary");
+            for (String header : vary) {
+                key.append(SEPARATOR).append(header).append('=');
+                appendValues(key, request, header);
+            }
+        }
+        return key.toString();
+    }
+
+    /**
+     * 解析响应 Vary 头中的请求头名（小写，去重）
+     */
+    static List<String> parseVary(HttpHeaders responseHeaders) {
+        List<String> values = responseHeaders.get(HttpHeaders.VARY);
+        if (values == null) {
+            return List.of();
+        }
+        List<String> names = new ArrayList<>(2);
+        for (String value : values) {
+            for (String name : value.split(",")) {
+                String normalized = name.trim().toLowerCase(Locale.ROOT);
+                if (!normalized.isEmpty() && !names.contains(normalized)) {
+                    names.add(normalized);
+                }
+            }
+        }
+        return names;
+    }
+
+    private static void appendVary(StringBuilder key, ServerHttpRequest request, List<String> headers) {
+        if (headers == null) {
+            return;
+        }
+        for (String header : headers) {
+            key.append(SEPARATOR);
+            appendValues(key, request, header);
+        }
+    }
+
+    private static void appendValues(StringBuilder key, ServerHttpRequest request, String header) {
+        List<String> values = request.getHeaders().get(header);
+        if (values != null) {
+            for (int i = 0; i < values.size(); i++) {
+                if (i > 0) {
+                    key.append(',');
+                }
+                key.append(values.get(i));
+            }
+        }
+    }
+
+    public CachedResponse get(String key) {
+        return cache.getIfPresent(key);
+    }
+
+    public void put(String key, CachedResponse response) {
+        cache.put(key, response);
+        keysByRoute.computeIfAbsent(routeOf(key), route -> new ConcurrentSkipListSet<>()).add(key);
+    }
+
+    /**
+     * 失效指定路由下的缓存
+     *
+     * @param routeId    路由ID，{@code *} 表示全部
+     * @param pathPrefix 路径前缀，为空表示整个路由
+     */
+    public void invalidate(String routeId, String pathPrefix) {
+        if ("*".equals(routeId)) {
+            cache.invalidateAll();
+            keysByRoute.clear();
+            return;
+        }
+        NavigableSet<String> keys = keysByRoute.get(routeId);
+        if (keys == null) {
+            return;
+        }
+        String prefix = routeId + SEPARATOR + (pathPrefix != null ? pathPrefix : "");
+        Iterator<String> matched = keys.subSet(prefix, true, prefix + Character.MAX_VALUE, false).iterator();
+        while (matched.hasNext()) {
+            String key = matched.next();
+            matched.remove();
+            cache.invalidate(key);
+        }
+    }
+
+    private void unindex(String key) {
+        NavigableSet<String> keys = keysByRoute.get(routeOf(key));
+        if (keys != null) {
+            keys.remove(key);
+        }
+    }
+
+    private static String routeOf(String key) {
+        return key.substring(0, key.indexOf(SEPARATOR));
+    }
+
+    public Cache<String, CachedResponse> getCache() {
+        return cache;
+    }
+
+    public Cache<String, List<String>> getVaryCache() {
+        return responseVary;
+    }
+
+    public ResponseCacheProperties getProperties() {
+        return properties;
+    }
+}
@@ -0,0 +1,251 @@
+/*
+ * Copyright 2024-2026 EasyWing Platform Team.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.easywing.platform.gateway.filter.coalescing;
+
+import com.easywing.platform.core.constant.HttpHeaders;
+import com.easywing.platform.gateway.filter.cache.CachedResponse;
+import com.easywing.platform.gateway.filter.cache.CapturingResponseDecorator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 请求合并（single-flight）过滤器工厂
+ * <p>
+ * 按路由显式启用。同一时刻路由、路径、查询参数、鉴权范围与内容协商请求头
+ * （Accept、Accept-Encoding、Accept-Language）相同的GET请求只转发一次：
+ * <ul>
+ *     <li>首个请求作为 leader 转发上游，边写回边复制响应</li>
+ *     <li>其余请求等待 leader 的响应副本，到达后各自回放</li>
+ *     <li>响应超过大小上限、leader 失败或等待超时时，等待者各自转发上游</li>
+ *     <li>单个键的等待者数量受限，超出部分直接转发</li>
+ * </ul>
+ * 路由配置示例：
+ * <pre>
+ * filters:
+ *   - name: RequestCoalescing
+ *     args:
+ *       timeout: 3s
+ *       max-body-size: 1048576
+ * </pre>
+ *
+ * @author EasyWing Team
+ * @since 1.0.0
+ */
+public class RequestCoalescingGatewayFilterFactory
+        extends AbstractGatewayFilterFactory<RequestCoalescingGatewayFilterFactory.Config> {
+
+    public static final String COALESCED_HEADER = "X-Coalesced";
+
+    private static final Logger log = LoggerFactory.getLogger(RequestCoalescingGatewayFilterFactory.class);
+    private static final char SEPARATOR = '|';
+    private static final List<String> NEGOTIATION_HEADERS =
+            List.of(HttpHeaders.ACCEPT, HttpHeaders.ACCEPT_ENCODING, HttpHeaders.ACCEPT_LANGUAGE);
+
+    private final Map<String, InFlight> inFlight = new ConcurrentHashMap<>();
+
+    public RequestCoalescingGatewayFilterFactory() {
+        super(Config.class);
+    }
+
+    @Override
+    public List<String> shortcutFieldOrder() {
+        return List.of("timeout");
+    }
+
+    @Override
+    public GatewayFilter apply(Config config) {
+        return (exchange, chain) -> filter(exchange, chain, config);
+    }
+
+    /**
+     * 当前进行中的合并键数量
+     */
+    public int inFlightCount() {
+        return inFlight.size();
+    }
+
+    private Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain, Config config) {
+        if (exchange.getRequest().getMethod() != HttpMethod.GET) {
+            return chain.filter(exchange);
+        }
+
+        String key = buildKey(exchange);
+        InFlight created = new InFlight();
+        InFlight existing = inFlight.putIfAbsent(key, created);
+        if (existing != null) {
+            return await(exchange, chain, config, existing);
+        }
+        return lead(exchange, chain, config, key, created);
+    }
+
+    private Mono<Void> lead(ServerWebExchange exchange, GatewayFilterChain chain, Config config,
+                            String key, InFlight flight) {
+        ServerHttpResponse response = exchange.getResponse();
+        CapturingResponseDecorator decorated = new CapturingResponseDecorator(response, config.getMaxBodySize(),
+                body -> flight.capture(response, body));
+        return chain.filter(exchange.mutate().response(decorated).build())
+                .doFinally(signal -> {
+                    inFlight.remove(key, flight);
+                    flight.complete();
+                });
+    }
+
+    private Mono<Void> await(ServerWebExchange exchange, GatewayFilterChain chain, Config config, InFlight flight) {
+        if (flight.waiters.incrementAndGet() > config.getMaxWaiters()) {
+            return chain.filter(exchange);
+        }
+        // 写回共享响应本身不发出元素，因此"无可共享响应"需单独表达，不能依赖 switchIfEmpty
+        return flight.result.asMono()
+                .timeout(config.getTimeout())
+                .map(Optional::of)
+                .defaultIfEmpty(Optional.empty())
+                .onErrorResume(TimeoutException.class, e -> {
+                    log.debug("Coalesced request timed out, forwarding upstream: {}",
+                            exchange.getRequest().getPath().value());
+                    return Mono.just(Optional.empty());
+                })
+                .flatMap(shared -> shared.isPresent()
+                        ? replay(exchange, shared.get())
+                        : chain.filter(exchange));
+    }
+
+    private static Mono<Void> replay(ServerWebExchange exchange, CachedResponse shared) {
+        exchange.getResponse().getHeaders().set(COALESCED_HEADER, "true");
+        return shared.writeTo(exchange.getResponse());
+    }
+
+    private static String buildKey(ServerWebExchange exchange) {
+        ServerHttpRequest request = exchange.getRequest();
+        Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+        StringBuilder key = new StringBuilder(128)
+                .append(route != null ? route.getId() : "").append(SEPARATOR)
+                .append(request.getPath().value());
+        String query = request.getURI().getRawQuery();
+        if (query != null) {
+            key.append('?').append(query);
+        }
+        key.append(SEPARATOR).append(nullToEmpty(request.getHeaders().getFirst(HttpHeaders.X_TENANT_ID)));
+        key.append(SEPARATOR);
+        String userId = request.getHeaders().getFirst(HttpHeaders.X_USER_ID);
+        if (userId != null) {
+            key.append(userId);
+        } else {
+            key.append(nullToEmpty(request.getHeaders().getFirst(HttpHeaders.AUTHORIZATION)));
+        }
+        // 协商结果不同的响应（如gzip与identity编码）不可互相回放
+        for (String header : NEGOTIATION_HEADERS) {
+            List<String> values = request.getHeaders().get(header);
+            key.append(SEPARATOR);
+            if (values != null) {
+                key.append(String.join(",", values));
+            }
+        }
+        return key.toString();
+    }
+
+    private static String nullToEmpty(String value) {
+        return value != null ? value : "";
+    }
+
+    /**
+     * 进行中的上游请求
+     */
+    private static final class InFlight {
+
+        private final Sinks.One<CachedResponse> result = Sinks.one();
+        private final AtomicInteger waiters = new AtomicInteger();
+        private volatile CachedResponse captured;
+
+        void capture(ServerHttpResponse response, byte[] body) {
+            HttpStatusCode status = response.getStatusCode();
+            if (status != null) {
+                captured = new CachedResponse(status.value(),
+                        CachedResponse.copyHeaders(response.getHeaders()), body, null, 0);
+            }
+        }
+
+        void complete() {
+            CachedResponse response = captured;
+            if (response != null) {
+                result.tryEmitValue(response);
+            } else {
+                result.tryEmitEmpty();
+            }
+        }
+    }
+
+    public static class Config {
+
+        /**
+         * 等待 leader 响应的最长时间，超时后各自转发上游
+         */
+        private Duration timeout = Duration.ofSeconds(5);
+
+        /**
+         * 可共享的响应体上限（字节）
+         */
+        private int maxBodySize = 1024 * 1024;
+
+        /**
+         * 单个键的最大等待者数量
+         */
+        private int maxWaiters = 1000;
+
+        public Duration getTimeout() {
+            return timeout;
+        }
+
+        public void setTimeout(Duration timeout) {
+            this.timeout = timeout;
+        }
+
+        public int getMaxBodySize() {
+            return maxBodySize;
+        }
+
+        public void setMaxBodySize(int maxBodySize) {
+            this.maxBodySize = maxBodySize;
+        }
+
+        public int getMaxWaiters() {
+            return maxWaiters;
+        }
+
+        public void setMaxWaiters(int maxWaiters) {
+            this.maxWaiters = maxWaiters;
+        }
+    }
+}
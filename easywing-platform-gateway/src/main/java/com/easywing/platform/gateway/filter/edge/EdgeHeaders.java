@@ -0,0 +1,106 @@
+/*
+ * Copyright 2024-2026 EasyWing Platform Team.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.easywing.platform.gateway.filter.edge;
+
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.web.server.ServerWebExchange;
+
+import java.util.Arrays;
+
+/**
+ * 待写入下游请求的头集合
+ * <p>
+ * 边缘阶段的各环节只登记要设置的请求头，不立即修改交换对象：
+ * <ul>
+ *     <li>同名头后写覆盖先写（名称大小写不敏感），与 {@code builder.header(...)} 语义一致</li>
+ *     <li>后续环节通过 {@link #get} 读取，优先返回已登记的值</li>
+ *     <li>全部环节通过后由 {@link #applyTo} 一次性装饰请求，只复制一次原始请求头</li>
+ * </ul>
+ * 首次登记时才分配存储；非线程安全，仅在单个请求的处理链路中使用。
+ *
+ * @author EasyWing Team
+ * @since 1.0.0
+ */
+public final class EdgeHeaders {
+
+    private static final int INITIAL_CAPACITY = 8;
+
+    private String[] names;
+    private String[] values;
+    private int size;
+
+    /**
+     * 登记请求头，已存在同名头时覆盖
+     */
+    public void set(String name, String value) {
+        int index = indexOf(name);
+        if (index >= 0) {
+            values[index] = value;
+            return;
+        }
+        if (names == null) {
+            names = new String[INITIAL_CAPACITY];
+            values = new String[INITIAL_CAPACITY];
+        } else if (size == names.length) {
+            names = Arrays.copyOf(names, size * 2);
+            values = Arrays.copyOf(values, size * 2);
+        }
+        names[size] = name;
+        values[size] = value;
+        size++;
+    }
+
+    /**
+     * 读取请求头：已登记的值优先，否则取原始请求
+     */
+    public String get(ServerHttpRequest request, String name) {
+        int index = indexOf(name);
+        return index >= 0 ? values[index] : request.getHeaders().getFirst(name);
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * 将登记的请求头一次性应用到交换对象，无登记时原样返回
+     */
+    public ServerWebExchange applyTo(ServerWebExchange exchange) {
+        if (size == 0) {
+            return exchange;
+        }
+        return exchange.mutate()
+                .request(builder -> builder.headers(headers -> {
+                    for (int i = 0; i < size; i++) {
+                        headers.set(names[i], values[i]);
+                    }
+                }))
+                .build();
+    }
+
+    private int indexOf(String name) {
+        for (int i = 0; i < size; i++) {
+            if (names[i].equalsIgnoreCase(name)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,45 @@
+/*
+ * Copyright 2024-2026 EasyWing Platform Team.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.easywing.platform.gateway.filter.edge;
+
+import org.springframework.core.Ordered;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.util.function.Supplier;
+
+/**
+ * 边缘阶段环节
+ * <p>
+ * 由请求ID、IP访问控制、JWT校验、限流、灰度染色等全局过滤器实现。
+ * 环节需要修改请求头时写入 {@link EdgeHeaders}，放行时调用 {@code next}，
+ * 拒绝时直接返回写出响应的 {@link Mono}。独立运行与融合运行共用同一套逻辑。
+ *
+ * @author EasyWing Team
+ * @since 1.0.0
+ */
+public interface EdgeStage extends Ordered {
+
+    /**
+     * 执行本环节
+     *
+     * @param exchange 当前交换对象（融合模式下请求头尚未应用）
+     * @param headers  待写入下游请求的头
+     * @param next     后续环节
+     * @return 处理结果
+     */
+    Mono<Void> apply(ServerWebExchange exchange, EdgeHeaders headers, Supplier<Mono<Void>> next);
+}
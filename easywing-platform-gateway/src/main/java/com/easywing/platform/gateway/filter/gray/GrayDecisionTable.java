@@ -0,0 +1,253 @@
+/*
+ * Copyright 2024-2026 EasyWing Platform Team.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.easywing.platform.gateway.filter.gray;
+
+import com.easywing.platform.gateway.properties.GrayProperties;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 灰度决策表
+ * <p>
+ * 由 {@link GrayProperties} 编译得到的不可变结构：
+ * <ul>
+ *     <li>服务ID到服务决策的哈希索引</li>
+ *     <li>用户ID列表预先构建为HashSet</li>
+ *     <li>百分比阈值预先解析</li>
+ *     <li>Header匹配器预先提取</li>
+ * </ul>
+ * 配置变化时整体重新编译并原子替换，请求线程永远看到完整一致的一张表。
+ *
+ * @author EasyWing Team
+ * @since 1.0.0
+ */
+public final class GrayDecisionTable {
+
+    private static final Logger log = LoggerFactory.getLogger(GrayDecisionTable.class);
+    private static final AtomicLong GENERATIONS = new AtomicLong();
+
+    private final long generation;
+    private final Map<String, ServiceDecision> services;
+
+    private GrayDecisionTable(Map<String, ServiceDecision> services) {
+        this.generation = GENERATIONS.incrementAndGet();
+        this.services = services;
+    }
+
+    public static GrayDecisionTable compile(GrayProperties properties, GrayHasher hasher) {
+        Map<String, ServiceDecision> services = new HashMap<>();
+        for (GrayProperties.ServiceConfig service : properties.getServices()) {
+            if (service.getServiceId() == null) {
+                continue;
+            }
+            services.put(service.getServiceId(), compileService(service, hasher));
+        }
+        return new GrayDecisionTable(Map.copyOf(services));
+    }
+
+    /**
+     * 决策表版本号，每次编译递增，用于隔离不同版本决策表的缓存结果
+     */
+    public long getGeneration() {
+        return generation;
+    }
+
+    public ServiceDecision getService(String serviceId) {
+        return services.get(serviceId);
+    }
+
+    private static ServiceDecision compileService(GrayProperties.ServiceConfig service, GrayHasher hasher) {
+        List<Rule> rules = new ArrayList<>();
+        for (GrayProperties.RuleConfig ruleConfig : service.getRules()) {
+            Rule rule = compileRule(ruleConfig, hasher);
+            if (rule != null) {
+                rules.add(rule);
+            }
+        }
+        WeightedSelector selector = service.getVersions().isEmpty()
+                ? null
+                : new WeightedSelector(service.getVersions(), hasher);
+        return new ServiceDecision(service.getServiceId(), service.getDefaultVersion(), List.copyOf(rules), selector);
+    }
+
+    private static Rule compileRule(GrayProperties.RuleConfig rule, GrayHasher hasher) {
+        String type = rule.getType();
+        String value = rule.getMatchValue();
+        if (type == null || value == null) {
+            return null;
+        }
+        try {
+            return switch (type) {
+                case "user_id" -> new UserIdRule(Set.of(value.trim()), rule.getTargetVersion());
+                case "user_ids" -> {
+                    Set<String> ids = new HashSet<>();
+                    for (String id : value.split(",")) {
+                        if (!id.isBlank()) {
+                            ids.add(id.trim());
+                        }
+                    }
+                    yield new UserIdRule(Set.copyOf(ids), rule.getTargetVersion());
+                }
+                case "header" -> new HeaderRule(rule.getMatchKey(), value, rule.getTargetVersion());
+                case "percentage" -> new PercentageRule(hasher, Integer.parseInt(value.trim()), rule.getTargetVersion());
+                default -> {
+                    log.warn("Unknown gray rule type ignored: {}", type);
+                    yield null;
+                }
+            };
+        } catch (NumberFormatException e) {
+            log.warn("Invalid gray percentage rule ignored: {}", value);
+            return null;
+        }
+    }
+
+    /**
+     * 单个服务的决策
+     */
+    public static final class ServiceDecision {
+        private final String serviceId;
+        private final String defaultVersion;
+        private final List<Rule> rules;
+        private final WeightedSelector selector;
+
+        ServiceDecision(String serviceId, String defaultVersion, List<Rule> rules, WeightedSelector selector) {
+            this.serviceId = serviceId;
+            this.defaultVersion = defaultVersion;
+            this.rules = rules;
+            this.selector = selector;
+        }
+
+        public String getServiceId() {
+            return serviceId;
+        }
+
+        /**
+         * 计算仅依赖粘性key的决策部分，结果可以按 (服务, 用户) 缓存
+         */
+        public KeyDecision decideByKey(String stickyKey) {
+            for (int i = 0; i < rules.size(); i++) {
+                Rule rule = rules.get(i);
+                if (!rule.requestScoped() && rule.matches(stickyKey, null)) {
+                    return new KeyDecision(i, rule.targetVersion());
+                }
+            }
+            String version = selector != null ? selector.select(stickyKey) : null;
+            return new KeyDecision(rules.size(), version != null ? version : defaultVersion);
+        }
+
+        /**
+         * 结合请求级规则（Header）得出最终版本
+         * <p>
+         * 只需检查排在已缓存命中规则之前的请求级规则，保持规则的声明顺序语义
+         */
+        public String decide(KeyDecision keyDecision, ServerHttpRequest request) {
+            for (int i = 0; i < keyDecision.ruleIndex(); i++) {
+                Rule rule = rules.get(i);
+                if (rule.requestScoped() && rule.matches(null, request)) {
+                    return rule.targetVersion();
+                }
+            }
+            return keyDecision.version();
+        }
+    }
+
+    /**
+     * 按粘性key得出的决策：命中规则的下标（未命中为规则数）及对应版本
+     */
+    public record KeyDecision(int ruleIndex, String version) {
+    }
+
+    interface Rule {
+        boolean requestScoped();
+
+        boolean matches(String stickyKey, ServerHttpRequest request);
+
+        String targetVersion();
+    }
+
+    private record UserIdRule(Set<String> userIds, String targetVersion) implements Rule {
+        @Override
+        public boolean requestScoped() {
+            return false;
+        }
+
+        @Override
+        public boolean matches(String stickyKey, ServerHttpRequest request) {
+            return userIds.contains(stickyKey);
+        }
+    }
+
+    private record PercentageRule(GrayHasher hasher, int percentage, String targetVersion) implements Rule {
+        @Override
+        public boolean requestScoped() {
+            return false;
+        }
+
+        @Override
+        public boolean matches(String stickyKey, ServerHttpRequest request) {
+            return hasher.bucket(stickyKey, 100) < percentage;
+        }
+    }
+
+    private record HeaderRule(String headerName, String expectedValue, String targetVersion) implements Rule {
+        @Override
+        public boolean requestScoped() {
+            return true;
+        }
+
+        @Override
+        public boolean matches(String stickyKey, ServerHttpRequest request) {
+            return expectedValue.equals(request.getHeaders().getFirst(headerName));
+        }
+    }
+
+    /**
+     * 权重选择器：累计权重 + 哈希分桶
+     */
+    static final class WeightedSelector {
+        private final NavigableMap<Integer, String> weightMap = new TreeMap<>();
+        private final GrayHasher hasher;
+        private int totalWeight = 0;
+
+        WeightedSelector(List<GrayProperties.VersionConfig> versions, GrayHasher hasher) {
+            this.hasher = hasher;
+            for (GrayProperties.VersionConfig version : versions) {
+                if (version.getWeight() > 0) {
+                    totalWeight += version.getWeight();
+                    weightMap.put(totalWeight, version.getVersion());
+                }
+            }
+        }
+
+        String select(String key) {
+            if (totalWeight == 0) {
+                return null;
+            }
+            return weightMap.higherEntry(hasher.bucket(key, totalWeight)).getValue();
+        }
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright 2024-2026 EasyWing Platform Team.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.easywing.platform.gateway.filter.gray;
+
+/**
+ * 灰度路由哈希器
+ * <p>
+ * 基于MurmurHash3（x86_32）的非加密哈希，按UTF-16字符直接计算，不分配字节数组。
+ * 百分比规则与权重选择共用同一哈希器和种子，保证同一用户在不同规则下落在一致的分桶中。
+ *
+ * @author EasyWing Team
+ * @since 1.0.0
+ */
+public final class GrayHasher {
+
+    public static final int DEFAULT_SEED = 0x9747B28C;
+
+    private static final int C1 = 0xCC9E2D51;
+    private static final int C2 = 0x1B873593;
+
+    private final int seed;
+
+    public GrayHasher(int seed) {
+        this.seed = seed;
+    }
+
+    /**
+     * 计算32位哈希值
+     */
+    public int hash(CharSequence key) {
+        int h1 = seed;
+        int length = key.length();
+        for (int i = 1; i < length; i += 2) {
+            int k1 = key.charAt(i - 1) | (key.charAt(i) << 16);
+            h1 ^= mixK1(k1);
+            h1 = Integer.rotateLeft(h1, 13);
+            h1 = h1 * 5 + 0xE6546B64;
+        }
+        if ((length & 1) == 1) {
+            h1 ^= mixK1(key.charAt(length - 1));
+        }
+        return fmix(h1 ^ (Character.BYTES * length));
+    }
+
+    /**
+     * 将key映射到 [0, buckets) 区间
+     */
+    public int bucket(CharSequence key, int buckets) {
+        return Math.floorMod(hash(key), buckets);
+    }
+
+    private static int mixK1(int k1) {
+        k1 *= C1;
+        k1 = Integer.rotateLeft(k1, 15);
+        return k1 * C2;
+    }
+
+    private static int fmix(int h1) {
+        h1 ^= h1 >>> 16;
+        h1 *= 0x85EBCA6B;
+        h1 ^= h1 >>> 13;
+        h1 *= 0xC2B2AE35;
+        h1 ^= h1 >>> 16;
+        return h1;
+    }
+}
@@ -16,32 +16,30 @@
 package com.easywing.platform.gateway.filter.gray;
 
 import com.easywing.platform.core.constant.HttpHeaders;
+import com.easywing.platform.gateway.filter.edge.EdgeHeaders;
+import com.easywing.platform.gateway.filter.edge.EdgeStage;
 import com.easywing.platform.gateway.properties.GatewayProperties;
 import com.easywing.platform.gateway.properties.GrayProperties;
+import com.easywing.platform.gateway.util.TraceUtil;
 import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.cloud.context.scope.refresh.RefreshScopeRefreshedEvent;
 import org.springframework.cloud.gateway.filter.GatewayFilterChain;
 import org.springframework.cloud.gateway.filter.GlobalFilter;
 import org.springframework.cloud.gateway.route.Route;
+import org.springframework.context.ApplicationListener;
 import org.springframework.core.Ordered;
 import org.springframework.http.HttpCookie;
+import org.springframework.http.ResponseCookie;
 import org.springframework.http.server.reactive.ServerHttpRequest;
 import org.springframework.util.StringUtils;
 import org.springframework.web.server.ServerWebExchange;
 import reactor.core.publisher.Mono;
 
-import java.nio.charset.StandardCharsets;
-import java.security.MessageDigest;
-import java.security.NoSuchAlgorithmException;
 import java.time.Duration;
-import java.util.List;
-import java.util.Map;
-import java.util.NavigableMap;
-import java.util.TreeMap;
-import java.util.concurrent.ThreadLocalRandom;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
 
 /**
  * 灰度发布全局过滤器
@@ -52,66 +50,77 @@ import java.util.concurrent.ConcurrentHashMap;
  *     <li>版本路由（Nacos元数据标签匹配）</li>
  *     <li>金丝雀发布策略：百分比路由、用户维度、权重路由</li>
  *     <li>A/B测试支持</li>
+ *     <li>可作为边缘融合阶段的环节运行</li>
  * </ul>
  * <p>
  * 性能优化：
  * <ul>
- *     <li>路由规则本地缓存（监听Nacos变化）</li>
- *     <li>一致性哈希（相同用户路由到相同版本）</li>
+ *     <li>灰度规则编译为不可变决策表，配置刷新时原子替换</li>
+ *     <li>决策结果按（服务, 用户）缓存，服务间互不干扰</li>
+ *     <li>一致性哈希（MurmurHash3，相同用户/设备路由到相同版本）</li>
+ *     <li>匿名流量通过设备ID或粘性Cookie保持路由一致</li>
  *     <li>零拷贝路由决策</li>
  * </ul>
  *
  * @author EasyWing Team
  * @since 1.0.0
  */
-public class GrayReleaseFilter implements GlobalFilter, Ordered {
+public class GrayReleaseFilter implements GlobalFilter, EdgeStage, ApplicationListener<RefreshScopeRefreshedEvent> {
 
     private static final Logger log = LoggerFactory.getLogger(GrayReleaseFilter.class);
     private static final String GRAY_VERSION_ATTR = "grayVersion";
-    private static final String CONSISTENT_HASH_ATTR = "consistentHash";
+    private static final String DEVICE_KEY_PREFIX = "device:";
+    private static final String STICKY_KEY_PREFIX = "sticky:";
 
     private final GrayProperties properties;
-    private final Cache<String, String> userVersionCache;
-    private final Map<String, WeightedSelector> serviceSelectors = new ConcurrentHashMap<>();
+    private final GrayHasher hasher;
+    private final boolean fused;
+    private final Cache<DecisionCacheKey, GrayDecisionTable.KeyDecision> userVersionCache;
+    private volatile GrayDecisionTable decisionTable;
 
     public GrayReleaseFilter(GatewayProperties gatewayProperties) {
         this.properties = gatewayProperties.getGray();
+        this.hasher = new GrayHasher(properties.getHashSeed());
+        this.fused = gatewayProperties.getEdge().isFused();
         this.userVersionCache = Caffeine.newBuilder()
                 .maximumSize(10000)
                 .expireAfterWrite(Duration.ofHours(1))
+                .recordStats()
                 .build();
-        
-        initSelectors();
+        this.decisionTable = GrayDecisionTable.compile(properties, hasher);
     }
 
     @Override
     public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
-        if (!properties.isEnabled()) {
+        if (fused) {
             return chain.filter(exchange);
         }
+        EdgeHeaders headers = new EdgeHeaders();
+        return apply(exchange, headers, () -> chain.filter(headers.applyTo(exchange)));
+    }
+
+    @Override
+    public Mono<Void> apply(ServerWebExchange exchange, EdgeHeaders headers, Supplier<Mono<Void>> next) {
+        if (!properties.isEnabled()) {
+            return next.get();
+        }
 
         String grayVersion = resolveGrayVersion(exchange);
         
         if (grayVersion == null) {
-            String userId = exchange.getRequest().getHeaders().getFirst(HttpHeaders.X_USER_ID);
             Route route = exchange.getAttribute(org.springframework.cloud.gateway.support.ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
             
-            if (route != null && userId != null) {
-                grayVersion = resolveVersionByStrategy(route.getId(), userId, exchange);
+            if (route != null) {
+                grayVersion = resolveVersionByStrategy(route.getId(), exchange, headers);
             }
         }
         
         if (grayVersion != null) {
             exchange.getAttributes().put(GRAY_VERSION_ATTR, grayVersion);
-            
-            ServerHttpRequest mutatedRequest = exchange.getRequest().mutate()
-                    .header(properties.getHeaderName(), grayVersion)
-                    .build();
-            
-            return chain.filter(exchange.mutate().request(mutatedRequest).build());
+            headers.set(properties.getHeaderName(), grayVersion);
         }
         
-        return chain.filter(exchange);
+        return next.get();
     }
 
     private String resolveGrayVersion(ServerWebExchange exchange) {
@@ -144,111 +153,70 @@ public class GrayReleaseFilter implements GlobalFilter, Ordered {
         return StringUtils.hasText(param) ? param : null;
     }
 
-    private String resolveVersionByStrategy(String serviceId, String userId, ServerWebExchange exchange) {
-        GrayProperties.ServiceConfig serviceConfig = findServiceConfig(serviceId);
-        if (serviceConfig == null) {
+    private String resolveVersionByStrategy(String serviceId, ServerWebExchange exchange, EdgeHeaders headers) {
+        GrayDecisionTable table = decisionTable;
+        GrayDecisionTable.ServiceDecision service = table.getService(serviceId);
+        if (service == null) {
             return properties.getDefaultVersion();
         }
         
-        String cachedVersion = userVersionCache.getIfPresent(userId);
-        if (cachedVersion != null) {
-            return cachedVersion;
-        }
-        
-        String version = null;
+        String stickyKey = resolveStickyKey(exchange, headers);
+        GrayDecisionTable.KeyDecision keyDecision = userVersionCache.get(
+                new DecisionCacheKey(table.getGeneration(), serviceId, stickyKey),
+                key -> service.decideByKey(stickyKey));
         
-        for (GrayProperties.RuleConfig rule : serviceConfig.getRules()) {
-            if (matchesRule(rule, userId, exchange)) {
-                version = rule.getTargetVersion();
-                break;
-            }
-        }
-        
-        if (version == null) {
-            version = selectByWeight(serviceId, userId, serviceConfig);
-        }
-        
-        if (version != null) {
-            userVersionCache.put(userId, version);
-        }
-        
-        return version != null ? version : serviceConfig.getDefaultVersion();
+        return service.decide(keyDecision, exchange.getRequest());
     }
 
-    private boolean matchesRule(GrayProperties.RuleConfig rule, String userId, ServerWebExchange exchange) {
-        return switch (rule.getType()) {
-            case "user_id" -> userId != null && userId.equals(rule.getMatchValue());
-            case "user_ids" -> {
-                String[] ids = rule.getMatchValue().split(",");
-                for (String id : ids) {
-                    if (userId != null && userId.equals(id.trim())) {
-                        yield true;
-                    }
-                }
-                yield false;
-            }
-            case "header" -> {
-                String headerValue = exchange.getRequest().getHeaders().getFirst(rule.getMatchKey());
-                yield headerValue != null && headerValue.equals(rule.getMatchValue());
-            }
-            case "percentage" -> {
-                int percentage = Integer.parseInt(rule.getMatchValue());
-                int hash = consistentHash(userId);
-                yield (hash % 100) < percentage;
-            }
-            default -> false;
-        };
-    }
-
-    private String selectByWeight(String serviceId, String userId, GrayProperties.ServiceConfig config) {
-        if (config.getVersions().isEmpty()) {
-            return config.getDefaultVersion();
+    /**
+     * 解析粘性路由key：用户ID > 设备ID > 粘性Cookie
+     * <p>
+     * 匿名且无设备标识的请求生成随机key并写回Cookie，保证后续请求路由到同一版本
+     */
+    private String resolveStickyKey(ServerWebExchange exchange, EdgeHeaders headers) {
+        ServerHttpRequest request = exchange.getRequest();
+        String userId = headers.get(request, HttpHeaders.X_USER_ID);
+        if (StringUtils.hasText(userId)) {
+            return userId;
         }
         
-        WeightedSelector selector = serviceSelectors.computeIfAbsent(serviceId, 
-                k -> new WeightedSelector(config.getVersions()));
-        
-        int hash = consistentHash(userId);
-        return selector.select(hash);
-    }
-
-    private int consistentHash(String key) {
-        if (key == null) {
-            return ThreadLocalRandom.current().nextInt();
+        String deviceId = request.getHeaders().getFirst(properties.getDeviceIdHeader());
+        if (StringUtils.hasText(deviceId)) {
+            return DEVICE_KEY_PREFIX + deviceId;
         }
-        try {
-            MessageDigest md = MessageDigest.getInstance("MD5");
-            byte[] digest = md.digest(key.getBytes(StandardCharsets.UTF_8));
-            return ((digest[0] & 0xFF) << 24) | 
-                   ((digest[1] & 0xFF) << 16) | 
-                   ((digest[2] & 0xFF) << 8) | 
-                   (digest[3] & 0xFF);
-        } catch (NoSuchAlgorithmException e) {
-            return key.hashCode();
+        
+        HttpCookie cookie = request.getCookies().getFirst(properties.getStickyCookieName());
+        if (cookie != null && StringUtils.hasText(cookie.getValue())) {
+            return STICKY_KEY_PREFIX + cookie.getValue();
         }
+        
+        String stickyId = TraceUtil.generateTraceId();
+        exchange.getResponse().addCookie(ResponseCookie.from(properties.getStickyCookieName(), stickyId)
+                .path("/")
+                .httpOnly(true)
+                .maxAge(properties.getStickyCookieMaxAge())
+                .build());
+        return STICKY_KEY_PREFIX + stickyId;
     }
 
-    private GrayProperties.ServiceConfig findServiceConfig(String serviceId) {
-        for (GrayProperties.ServiceConfig config : properties.getServices()) {
-            if (config.getServiceId().equals(serviceId)) {
-                return config;
-            }
-        }
-        return null;
+    /**
+     * 重新编译灰度决策表并原子替换
+     * <p>
+     * 旧决策表的缓存结果因版本号不同自然失效
+     */
+    public void refreshSelectors() {
+        decisionTable = GrayDecisionTable.compile(properties, hasher);
+        userVersionCache.invalidateAll();
+        log.info("Gray release decision table refreshed, generation={}", decisionTable.getGeneration());
     }
 
-    private void initSelectors() {
-        for (GrayProperties.ServiceConfig service : properties.getServices()) {
-            if (!service.getVersions().isEmpty()) {
-                serviceSelectors.put(service.getServiceId(), new WeightedSelector(service.getVersions()));
-            }
-        }
+    public Cache<?, ?> getUserVersionCache() {
+        return userVersionCache;
     }
 
-    public void refreshSelectors() {
-        serviceSelectors.clear();
-        initSelectors();
-        log.info("Gray release selectors refreshed");
+    @Override
+    public void onApplicationEvent(RefreshScopeRefreshedEvent event) {
+        refreshSelectors();
     }
 
     @Override
@@ -256,22 +224,6 @@ public class GrayReleaseFilter implements GlobalFilter, Ordered {
         return Ordered.HIGHEST_PRECEDENCE + 30;
     }
 
-    private static class WeightedSelector {
-        private final NavigableMap<Integer, String> weightMap = new TreeMap<>();
-        private int totalWeight = 0;
-
-        WeightedSelector(List<GrayProperties.VersionConfig> versions) {
-            for (GrayProperties.VersionConfig version : versions) {
-                totalWeight += version.getWeight();
-                weightMap.put(totalWeight, version.getVersion());
-            }
-        }
-
-        String select(int hash) {
-            int value = Math.abs(hash % totalWeight);
-            return weightMap.ceilingEntry(value + 1) != null 
-                    ? weightMap.ceilingEntry(value + 1).getValue() 
-                    : weightMap.lastEntry().getValue();
-        }
+    private record DecisionCacheKey(long generation, String serviceId, String stickyKey) {
     }
-}
\ No newline at end of file
+}
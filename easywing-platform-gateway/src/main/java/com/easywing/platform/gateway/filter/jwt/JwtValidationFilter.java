@@ -17,6 +17,8 @@ package com.easywing.platform.gateway.filter.jwt;
 
 import com.easywing.platform.core.constant.HttpHeaders;
 import com.easywing.platform.core.exception.TokenBlacklistedException;
+import com.easywing.platform.gateway.filter.edge.EdgeHeaders;
+import com.easywing.platform.gateway.filter.edge.EdgeStage;
 import com.easywing.platform.gateway.properties.GatewayProperties;
 import com.easywing.platform.gateway.properties.JwtProperties;
 import com.nimbusds.jose.JWSAlgorithm;
@@ -41,7 +43,6 @@ import org.springframework.cloud.gateway.filter.GlobalFilter;
 import org.springframework.core.Ordered;
 import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
 import org.springframework.http.HttpStatus;
-import org.springframework.http.server.reactive.ServerHttpRequest;
 import org.springframework.util.AntPathMatcher;
 import org.springframework.util.StringUtils;
 import org.springframework.web.server.ServerWebExchange;
@@ -55,6 +56,7 @@ import java.time.Duration;
 import java.time.Instant;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
 
 /**
  * JWT校验全局过滤器
@@ -66,6 +68,7 @@ import java.util.concurrent.ConcurrentHashMap;
  *     <li>Token黑名单（Redis存储）</li>
  *     <li>多Issuer支持</li>
  *     <li>免鉴权路径白名单</li>
+ *     <li>可作为边缘融合阶段的环节运行</li>
  * </ul>
  * <p>
  * 性能优化：
@@ -78,7 +81,7 @@ import java.util.concurrent.ConcurrentHashMap;
  * @author EasyWing Team
  * @since 1.0.0
  */
-public class JwtValidationFilter implements GlobalFilter, Ordered {
+public class JwtValidationFilter implements GlobalFilter, EdgeStage {
 
     private static final Logger log = LoggerFactory.getLogger(JwtValidationFilter.class);
     private static final String BEARER_PREFIX = "Bearer ";
@@ -93,11 +96,13 @@ public class JwtValidationFilter implements GlobalFilter, Ordered {
     private final ReactiveStringRedisTemplate redisTemplate;
     private final Map<String, JWKSet> jwkSetCache = new ConcurrentHashMap<>();
     private volatile long lastJwkRefreshTime = 0;
+    private final boolean fused;
 
     public JwtValidationFilter(GatewayProperties gatewayProperties,
                                 ReactiveStringRedisTemplate redisTemplate) {
         this.properties = gatewayProperties.getJwt();
         this.redisTemplate = redisTemplate;
+        this.fused = gatewayProperties.getEdge().isFused();
         this.jwtCache = Caffeine.newBuilder()
                 .maximumSize(properties.getCacheMaxSize())
                 .expireAfterWrite(properties.getCacheTtl())
@@ -106,10 +111,12 @@ public class JwtValidationFilter implements GlobalFilter, Ordered {
         this.jwkCache = Caffeine.newBuilder()
                 .maximumSize(100)
                 .expireAfterWrite(Duration.ofHours(1))
+                .recordStats()
                 .build();
         this.blacklistCache = Caffeine.newBuilder()
                 .maximumSize(10000)
                 .expireAfterWrite(Duration.ofMinutes(5))
+                .recordStats()
                 .build();
         
         initJwkSet();
@@ -118,14 +125,23 @@ public class JwtValidationFilter implements GlobalFilter, Ordered {
 
     @Override
     public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
-        if (!properties.isEnabled()) {
+        if (fused) {
             return chain.filter(exchange);
         }
+        EdgeHeaders headers = new EdgeHeaders();
+        return apply(exchange, headers, () -> chain.filter(headers.applyTo(exchange)));
+    }
+
+    @Override
+    public Mono<Void> apply(ServerWebExchange exchange, EdgeHeaders headers, Supplier<Mono<Void>> next) {
+        if (!properties.isEnabled()) {
+            return next.get();
+        }
 
         String path = exchange.getRequest().getPath().value();
         
         if (isIgnoredPath(path)) {
-            return chain.filter(exchange);
+            return next.get();
         }
 
         String authHeader = exchange.getRequest().getHeaders().getFirst(HttpHeaders.AUTHORIZATION);
@@ -145,16 +161,14 @@ public class JwtValidationFilter implements GlobalFilter, Ordered {
                     }
                     
                     String roles = String.join(",", claims.getRoles());
-                    ServerHttpRequest mutatedRequest = exchange.getRequest().mutate()
-                            .header(HttpHeaders.X_USER_ID, claims.getSubject())
-                            .header(HttpHeaders.X_USERNAME, claims.getUsername() != null ? claims.getUsername() : "")
-                            .header(HttpHeaders.X_ROLES, roles)
-                            .header(HttpHeaders.X_TENANT_ID, claims.getTenantId() != null ? claims.getTenantId() : "")
-                            .build();
+                    headers.set(HttpHeaders.X_USER_ID, claims.getSubject());
+                    headers.set(HttpHeaders.X_USERNAME, claims.getUsername() != null ? claims.getUsername() : "");
+                    headers.set(HttpHeaders.X_ROLES, roles);
+                    headers.set(HttpHeaders.X_TENANT_ID, claims.getTenantId() != null ? claims.getTenantId() : "");
                     
                     exchange.getAttributes().put(JWT_CLAIMS_ATTR, claims);
                     
-                    return chain.filter(exchange.mutate().request(mutatedRequest).build());
+                    return next.get();
                 })
                 .onErrorResume(SignatureException.class, e -> {
                     log.warn("JWT signature verification failed: {}", e.getMessage());
@@ -349,6 +363,14 @@ public class JwtValidationFilter implements GlobalFilter, Ordered {
         return jwtCache;
     }
 
+    public Cache<String, JWK> getJwkCache() {
+        return jwkCache;
+    }
+
+    public Cache<String, Boolean> getBlacklistCache() {
+        return blacklistCache;
+    }
+
     @Override
     public int getOrder() {
         return Ordered.HIGHEST_PRECEDENCE + 10;
@@ -0,0 +1,69 @@
+/*
+ * Copyright 2024-2026 EasyWing Platform Team.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.easywing.platform.gateway.filter.latency;
+
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 路由延迟监控端点
+ * <p>
+ * 通过 {@code management.endpoints.web.path-mapping} 映射为 {@code /actuator/gateway-latency}：
+ * <ul>
+ *     <li>GET /actuator/gateway-latency：全部路由的 p50/p90/p99/p999</li>
+ *     <li>GET /actuator/gateway-latency/{routeId}：单个路由当前窗口，不轮转窗口</li>
+ *     <li>DELETE /actuator/gateway-latency：重置统计窗口</li>
+ * </ul>
+ *
+ * @author EasyWing Team
+ * @since 1.0.0
+ */
+@Endpoint(id = "gatewaylatency")
+public class GatewayLatencyEndpoint {
+
+    private final RouteLatencyRecorder recorder;
+
+    public GatewayLatencyEndpoint(RouteLatencyRecorder recorder) {
+        this.recorder = recorder;
+    }
+
+    @ReadOperation
+    public Map<String, Object> latency() {
+        RouteLatencyRecorder.WindowSnapshot snapshot = recorder.snapshot();
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("routes", snapshot.routes());
+        result.put("windowStart", Instant.ofEpochMilli(snapshot.windowStart()).toString());
+        result.put("windowEnd", Instant.ofEpochMilli(snapshot.windowEnd()).toString());
+        result.put("unit", "ms");
+        return result;
+    }
+
+    @ReadOperation
+    public Map<String, RouteLatencyRecorder.LatencySnapshot> route(@Selector String routeId) {
+        return recorder.snapshot(routeId);
+    }
+
+    @DeleteOperation
+    public void reset() {
+        recorder.reset();
+    }
+}
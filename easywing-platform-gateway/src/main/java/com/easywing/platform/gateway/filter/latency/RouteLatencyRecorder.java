@@ -0,0 +1,217 @@
+/*
+ * Copyright 2024-2026 EasyWing Platform Team.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.easywing.platform.gateway.filter.latency;
+
+import com.easywing.platform.gateway.properties.LatencyProperties;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 路由延迟直方图
+ * <p>
+ * 按路由与状态码类别（2xx/4xx/5xx等）分别记录延迟：
+ * <ul>
+ *     <li>写入使用 HdrHistogram {@link Recorder}，无锁、不分配对象</li>
+ *     <li>读取时将区间直方图并入窗口累计值，读写互不阻塞</li>
+ *     <li>窗口到期后的下次全量读取先返回已结束窗口的统计及其起止时间，再清零开启新窗口，也可手动重置</li>
+ *     <li>单路由读取只查看当前窗口，不轮转窗口，避免丢弃其他路由尚未读取的统计</li>
+ * </ul>
+ * 延迟以微秒记录，输出时换算为毫秒。
+ *
+ * @author EasyWing Team
+ * @since 1.0.0
+ */
+public class RouteLatencyRecorder {
+
+    private static final String[] STATUS_CLASSES = {"unknown", "1xx", "2xx", "3xx", "4xx", "5xx"};
+
+    private final Map<String, RouteLatency> routes = new ConcurrentHashMap<>();
+    private final long highestTrackableMicros;
+    private final int significantDigits;
+    private final long windowMillis;
+    private volatile long windowStart = System.currentTimeMillis();
+
+    public RouteLatencyRecorder(LatencyProperties properties) {
+        this.highestTrackableMicros = TimeUnit.NANOSECONDS.toMicros(properties.getHighestTrackable().toNanos());
+        this.significantDigits = properties.getSignificantDigits();
+        this.windowMillis = properties.getWindow().toMillis();
+    }
+
+    /**
+     * 记录一次请求延迟
+     *
+     * @param routeId     路由ID
+     * @param status      HTTP状态码，未知时传0
+     * @param elapsedNanos 耗时（纳秒）
+     */
+    public void record(String routeId, int status, long elapsedNanos) {
+        long micros = Math.min(Math.max(TimeUnit.NANOSECONDS.toMicros(elapsedNanos), 1), highestTrackableMicros);
+        routes.computeIfAbsent(routeId, id -> new RouteLatency())
+                .slot(statusClassIndex(status))
+                .recorder.recordValue(micros);
+    }
+
+    /**
+     * 各路由、各状态类别的延迟分位
+     * <p>
+     * 窗口到期时返回已结束窗口的统计并开启新窗口，起止时间与统计数据取自同一窗口。
+     */
+    public synchronized WindowSnapshot snapshot() {
+        long now = System.currentTimeMillis();
+        long start = windowStart;
+        boolean rotate = now - start >= windowMillis;
+        if (rotate) {
+            windowStart = now;
+        }
+        Map<String, Map<String, LatencySnapshot>> result = new TreeMap<>();
+        routes.forEach((routeId, route) -> result.put(routeId, route.snapshot(rotate)));
+        return new WindowSnapshot(start, now, result);
+    }
+
+    /**
+     * 单个路由在当前窗口内的延迟分位，不轮转窗口
+     */
+    public Map<String, LatencySnapshot> snapshot(String routeId) {
+        RouteLatency route = routes.get(routeId);
+        return route != null ? route.snapshot(false) : Map.of();
+    }
+
+    /**
+     * 清空所有路由的统计并开启新窗口
+     */
+    public synchronized void reset() {
+        routes.values().forEach(RouteLatency::reset);
+        windowStart = System.currentTimeMillis();
+    }
+
+    public long getWindowStart() {
+        return windowStart;
+    }
+
+    private static int statusClassIndex(int status) {
+        int statusClass = status / 100;
+        return statusClass >= 1 && statusClass <= 5 ? statusClass : 0;
+    }
+
+    /**
+     * 窗口快照
+     *
+     * @param windowStart 窗口开始时间（毫秒）
+     * @param windowEnd   读取时间，窗口到期时即为窗口结束时间（毫秒）
+     * @param routes      路由 → 状态类别 → 延迟分位
+     */
+    public record WindowSnapshot(long windowStart, long windowEnd,
+                                 Map<String, Map<String, LatencySnapshot>> routes) {
+    }
+
+    /**
+     * 延迟分位快照（毫秒）
+     */
+    public record LatencySnapshot(long count, double p50, double p90, double p99, double p999,
+                                  double max, double mean) {
+    }
+
+    private final class RouteLatency {
+
+        private final AtomicReferenceArray<Slot> slots = new AtomicReferenceArray<>(STATUS_CLASSES.length);
+
+        Slot slot(int index) {
+            Slot slot = slots.get(index);
+            if (slot == null) {
+                slots.compareAndSet(index, null, new Slot());
+                slot = slots.get(index);
+            }
+            return slot;
+        }
+
+        Map<String, LatencySnapshot> snapshot(boolean reset) {
+            Map<String, LatencySnapshot> result = new LinkedHashMap<>();
+            for (int i = 0; i < STATUS_CLASSES.length; i++) {
+                Slot slot = slots.get(i);
+                if (slot != null) {
+                    LatencySnapshot snapshot = slot.snapshot(reset);
+                    if (snapshot.count() > 0) {
+                        result.put(STATUS_CLASSES[i], snapshot);
+                    }
+                }
+            }
+            return result;
+        }
+
+        void reset() {
+            for (int i = 0; i < STATUS_CLASSES.length; i++) {
+                Slot slot = slots.get(i);
+                if (slot != null) {
+                    slot.reset();
+                }
+            }
+        }
+    }
+
+    private final class Slot {
+
+        private final Recorder recorder = new Recorder(highestTrackableMicros, significantDigits);
+        private final Histogram accumulated = new Histogram(highestTrackableMicros, significantDigits);
+        private Histogram interval;
+
+        /**
+         * 先取区间直方图再生成快照，reset为true时随后清零，保证已结束窗口的数据被读到
+         */
+        synchronized LatencySnapshot snapshot(boolean reset) {
+            drain();
+            LatencySnapshot snapshot = toSnapshot();
+            if (reset) {
+                accumulated.reset();
+            }
+            return snapshot;
+        }
+
+        private LatencySnapshot toSnapshot() {
+            if (accumulated.getTotalCount() == 0) {
+                return new LatencySnapshot(0, 0, 0, 0, 0, 0, 0);
+            }
+            return new LatencySnapshot(
+                    accumulated.getTotalCount(),
+                    millis(accumulated.getValueAtPercentile(50.0)),
+                    millis(accumulated.getValueAtPercentile(90.0)),
+                    millis(accumulated.getValueAtPercentile(99.0)),
+                    millis(accumulated.getValueAtPercentile(99.9)),
+                    millis(accumulated.getMaxValue()),
+                    accumulated.getMean() / 1000.0);
+        }
+
+        synchronized void reset() {
+            drain();
+            accumulated.reset();
+        }
+
+        private void drain() {
+            interval = recorder.getIntervalHistogram(interval);
+            accumulated.add(interval);
+        }
+
+        private double millis(long micros) {
+            return micros / 1000.0;
+        }
+    }
+}
@@ -0,0 +1,183 @@
+/*
+ * Copyright 2024-2026 EasyWing Platform Team.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.easywing.platform.gateway.filter.logging;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 二进制访问日志离线查询工具
+ * <p>
+ * 按时间范围、状态码、路由、耗时过滤，并以JSON Lines格式导出：
+ * <pre>
+ * java -cp easywing-platform-gateway-&lt;version&gt;-exec.jar \
+ *      -Dloader.main=com.easywing.platform.gateway.filter.logging.AccessLogQueryTool \
+ *      org.springframework.boot.loader.launch.PropertiesLauncher \
+ *      --dir logs/access --from 2026-01-01T00:00:00Z --status 5xx --route user-service --min-latency 500
+ * </pre>
+ *
+ * @author EasyWing Team
+ * @since 1.0.0
+ */
+public final class AccessLogQueryTool {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private AccessLogQueryTool() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        Query query;
+        try {
+            query = Query.parse(args);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            printUsage();
+            System.exit(1);
+            return;
+        }
+
+        Writer writer = query.output != null
+                ? Files.newBufferedWriter(query.output, StandardCharsets.UTF_8)
+                : new BufferedWriter(new OutputStreamWriter(System.out, StandardCharsets.UTF_8));
+        long[] matched = new long[1];
+        try (writer) {
+            new BinaryAccessLogReader().readAll(query.directory, accessLog -> {
+                if (query.matches(accessLog)) {
+                    matched[0]++;
+                    try {
+                        writer.write(OBJECT_MAPPER.writeValueAsString(toJson(accessLog)));
+                        writer.write('\n');
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                }
+            });
+        }
+        System.err.println("Matched " + matched[0] + " records");
+    }
+
+    private static Map<String, Object> toJson(AccessLog accessLog) {
+        Map<String, Object> json = new LinkedHashMap<>();
+        json.put("time", Instant.ofEpochMilli(accessLog.getRequestTime()).toString());
+        json.put("traceId", accessLog.getTraceId());
+        json.put("requestId", accessLog.getRequestId());
+        json.put("method", accessLog.getMethod());
+        json.put("path", accessLog.getPath());
+        json.put("query", accessLog.getQueryString());
+        json.put("status", accessLog.getStatus());
+        json.put("duration", accessLog.getDuration());
+        json.put("route", accessLog.getServiceId());
+        json.put("grayVersion", accessLog.getGrayVersion());
+        json.put("clientIp", accessLog.getClientIp());
+        json.put("userAgent", accessLog.getUserAgent());
+        json.put("userId", accessLog.getUserId());
+        json.put("tenantId", accessLog.getTenantId());
+        json.put("requestSize", accessLog.getRequestSize());
+        json.put("responseSize", accessLog.getResponseSize());
+        json.put("error", accessLog.getErrorMessage());
+        return json;
+    }
+
+    private static void printUsage() {
+        System.err.println("""
+                Usage: AccessLogQueryTool --dir <directory> [options]
+                  --from <instant|epochMillis>   请求时间下限（含）
+                  --to <instant|epochMillis>     请求时间上限（不含）
+                  --status <code|Nxx>            状态码，如 502 或 5xx
+                  --route <routeId>              路由ID
+                  --min-latency <ms>             最小耗时
+                  --max-latency <ms>             最大耗时
+                  --output <file>                导出文件，默认标准输出
+                """);
+    }
+
+    static final class Query {
+        private Path directory;
+        private Path output;
+        private long from = Long.MIN_VALUE;
+        private long to = Long.MAX_VALUE;
+        private int statusFrom = 0;
+        private int statusTo = Integer.MAX_VALUE;
+        private String route;
+        private long minLatency = 0;
+        private long maxLatency = Long.MAX_VALUE;
+
+        static Query parse(String[] args) {
+            Query query = new Query();
+            for (int i = 0; i < args.length; i++) {
+                String name = args[i];
+                if (i + 1 >= args.length) {
+                    throw new IllegalArgumentException("Missing value for " + name);
+                }
+                String value = args[++i];
+                switch (name) {
+                    case "--dir" -> query.directory = Paths.get(value);
+                    case "--output" -> query.output = Paths.get(value);
+                    case "--from" -> query.from = parseTime(value);
+                    case "--to" -> query.to = parseTime(value);
+                    case "--route" -> query.route = value;
+                    case "--min-latency" -> query.minLatency = Long.parseLong(value);
+                    case "--max-latency" -> query.maxLatency = Long.parseLong(value);
+                    case "--status" -> {
+                        if (value.length() == 3 && value.endsWith("xx")) {
+                            int clazz = Character.digit(value.charAt(0), 10);
+                            query.statusFrom = clazz * 100;
+                            query.statusTo = clazz * 100 + 99;
+                        } else {
+                            query.statusFrom = Integer.parseInt(value);
+                            query.statusTo = query.statusFrom;
+                        }
+                    }
+                    default -> throw new IllegalArgumentException("Unknown option: " + name);
+                }
+            }
+            if (query.directory == null) {
+                throw new IllegalArgumentException("--dir is required");
+            }
+            return query;
+        }
+
+        private static long parseTime(String value) {
+            if (value.chars().allMatch(Character::isDigit)) {
+                return Long.parseLong(value);
+            }
+            return Instant.parse(value).toEpochMilli();
+        }
+
+        boolean matches(AccessLog accessLog) {
+            return accessLog.getRequestTime() >= from
+                    && accessLog.getRequestTime() < to
+                    && accessLog.getStatus() >= statusFrom
+                    && accessLog.getStatus() <= statusTo
+                    && accessLog.getDuration() >= minLatency
+                    && accessLog.getDuration() <= maxLatency
+                    && (route == null || route.equals(accessLog.getServiceId()));
+        }
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright 2024-2026 EasyWing Platform Team.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.easywing.platform.gateway.filter.logging;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 二进制访问日志格式定义
+ * <p>
+ * 分段文件结构：
+ * <pre>
+ * 文件头: magic(int) | version(short) | reserved(short)
+ * 记录:   length(int) | type(byte) | payload
+ * </pre>
+ * length为0表示分段已写入数据的结尾。字典记录（DICT）在首次引用前写入，
+ * 因此每个分段都可以独立解码。
+ *
+ * @author EasyWing Team
+ * @since 1.0.0
+ */
+final class BinaryAccessLogFormat {
+
+    static final int MAGIC = 0x4557414C;
+    static final short VERSION = 1;
+    static final int HEADER_SIZE = 8;
+    static final int RECORD_HEADER_SIZE = 5;
+
+    static final byte RECORD_DICT = 1;
+    static final byte RECORD_ENTRY = 2;
+
+    static final String SEGMENT_PREFIX = "access-";
+    static final String SEGMENT_SUFFIX = ".ewal";
+
+    private static final String[] METHODS = {
+            "GET", "POST", "PUT", "DELETE", "PATCH", "HEAD", "OPTIONS", "TRACE"
+    };
+
+    private BinaryAccessLogFormat() {
+    }
+
+    static int methodCode(String method) {
+        if (method == null) {
+            return 0;
+        }
+        for (int i = 0; i < METHODS.length; i++) {
+            if (METHODS[i].equals(method)) {
+                return i + 1;
+            }
+        }
+        return 0;
+    }
+
+    static String methodName(int code) {
+        return code > 0 && code <= METHODS.length ? METHODS[code - 1] : null;
+    }
+
+    static void putVarLong(ByteBuffer buffer, long value) {
+        while ((value & ~0x7FL) != 0) {
+            buffer.put((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        buffer.put((byte) value);
+    }
+
+    static long getVarLong(ByteBuffer buffer) {
+        long result = 0;
+        int shift = 0;
+        byte b;
+        do {
+            b = buffer.get();
+            result |= (long) (b & 0x7F) << shift;
+            shift += 7;
+        } while ((b & 0x80) != 0);
+        return result;
+    }
+
+    static void putZigZag(ByteBuffer buffer, long value) {
+        putVarLong(buffer, (value << 1) ^ (value >> 63));
+    }
+
+    static long getZigZag(ByteBuffer buffer) {
+        long raw = getVarLong(buffer);
+        return (raw >>> 1) ^ -(raw & 1);
+    }
+
+    /**
+     * 写入长度前缀的UTF-8字符串，null以长度0表示
+     */
+    static void putString(ByteBuffer buffer, String value, int maxBytes) {
+        if (value == null || value.isEmpty()) {
+            putVarLong(buffer, 0);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        int length = Math.min(bytes.length, maxBytes);
+        putVarLong(buffer, length);
+        buffer.put(bytes, 0, length);
+    }
+
+    static String getString(ByteBuffer buffer) {
+        int length = (int) getVarLong(buffer);
+        if (length == 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
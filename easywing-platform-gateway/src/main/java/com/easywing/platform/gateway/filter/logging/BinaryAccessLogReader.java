@@ -0,0 +1,137 @@
+/*
+ * Copyright 2024-2026 EasyWing Platform Team.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.easywing.platform.gateway.filter.logging;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import static com.easywing.platform.gateway.filter.logging.BinaryAccessLogFormat.*;
+
+/**
+ * 二进制访问日志读取器
+ * <p>
+ * 按分段顺序解码 {@link BinaryAccessLogWriter} 写出的记录，
+ * 遇到长度为0或不完整的记录即视为分段结尾（兼容写入中的活动分段）
+ *
+ * @author EasyWing Team
+ * @since 1.0.0
+ */
+public class BinaryAccessLogReader {
+
+    /**
+     * 列出目录下的全部分段文件，按文件名（即创建时间）升序
+     */
+    public static List<Path> listSegments(Path directory) throws IOException {
+        if (!Files.isDirectory(directory)) {
+            return List.of();
+        }
+        try (Stream<Path> stream = Files.list(directory)) {
+            return stream
+                    .filter(path -> {
+                        String name = path.getFileName().toString();
+                        return name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX);
+                    })
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    /**
+     * 读取目录下全部分段
+     */
+    public void readAll(Path directory, Consumer<AccessLog> consumer) throws IOException {
+        for (Path segment : listSegments(directory)) {
+            read(segment, consumer);
+        }
+    }
+
+    /**
+     * 读取单个分段
+     */
+    public void read(Path segment, Consumer<AccessLog> consumer) throws IOException {
+        ByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.READ)) {
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+
+        if (buffer.remaining() < HEADER_SIZE || buffer.getInt() != MAGIC) {
+            throw new IOException("Not a binary access log segment: " + segment);
+        }
+        short version = buffer.getShort();
+        if (version != VERSION) {
+            throw new IOException("Unsupported access log version " + version + ": " + segment);
+        }
+        buffer.getShort();
+
+        List<String> dictionary = new ArrayList<>();
+        while (buffer.remaining() >= RECORD_HEADER_SIZE) {
+            int length = buffer.getInt();
+            if (length <= 0 || length > buffer.remaining()) {
+                break;
+            }
+            ByteBuffer record = buffer.slice(buffer.position(), length);
+            buffer.position(buffer.position() + length);
+
+            byte type = record.get();
+            if (type == RECORD_DICT) {
+                int id = (int) getVarLong(record);
+                String value = getString(record);
+                while (dictionary.size() < id) {
+                    dictionary.add(null);
+                }
+                dictionary.set(id - 1, value);
+            } else if (type == RECORD_ENTRY) {
+                consumer.accept(decodeEntry(record, dictionary));
+            }
+        }
+    }
+
+    private AccessLog decodeEntry(ByteBuffer record, List<String> dictionary) {
+        AccessLog accessLog = new AccessLog();
+        accessLog.setRequestTime(record.getLong());
+        accessLog.setDuration(getVarLong(record));
+        accessLog.setResponseTime(accessLog.getRequestTime() + accessLog.getDuration());
+        accessLog.setStatus((int) getVarLong(record));
+        accessLog.setMethod(methodName(record.get()));
+        accessLog.setPath(lookup(dictionary, record));
+        accessLog.setUserAgent(lookup(dictionary, record));
+        accessLog.setClientIp(lookup(dictionary, record));
+        accessLog.setServiceId(lookup(dictionary, record));
+        accessLog.setGrayVersion(lookup(dictionary, record));
+        accessLog.setUserId(lookup(dictionary, record));
+        accessLog.setTenantId(lookup(dictionary, record));
+        accessLog.setRequestSize(getZigZag(record));
+        accessLog.setResponseSize(getZigZag(record));
+        accessLog.setTraceId(getString(record));
+        accessLog.setRequestId(getString(record));
+        accessLog.setQueryString(getString(record));
+        accessLog.setErrorMessage(getString(record));
+        return accessLog;
+    }
+
+    private String lookup(List<String> dictionary, ByteBuffer record) {
+        int id = (int) getVarLong(record);
+        return id > 0 && id <= dictionary.size() ? dictionary.get(id - 1) : null;
+    }
+}
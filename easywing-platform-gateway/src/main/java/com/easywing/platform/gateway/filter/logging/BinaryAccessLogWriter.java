@@ -0,0 +1,308 @@
+/*
+ * Copyright 2024-2026 EasyWing Platform Team.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.easywing.platform.gateway.filter.logging;
+
+import com.easywing.platform.gateway.properties.LoggingProperties;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Serial;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.easywing.platform.gateway.filter.logging.BinaryAccessLogFormat.*;
+
+/**
+ * 二进制访问日志写入器
+ * <p>
+ * 核心功能：
+ * <ul>
+ *     <li>长度前缀的紧凑二进制记录</li>
+ *     <li>路径、User-Agent、IP、服务、用户等字段按分段做字典编码</li>
+ *     <li>内存映射分段文件，写满后滚动并按数量保留</li>
+ * </ul>
+ * <p>
+ * {@link #append} 只把记录放入有界队列，编码、写入映射内存以及滚动时的
+ * force/truncate/打开新分段/删除旧分段都在专用写线程中完成，不阻塞事件循环线程；
+ * 队列已满时丢弃记录并计数。关闭时先写完队列中已有的记录。
+ * 分段文件可通过 {@link AccessLogQueryTool} 离线查询。
+ *
+ * @author EasyWing Team
+ * @since 1.0.0
+ */
+public class BinaryAccessLogWriter implements Closeable {
+
+    private static final Logger log = LoggerFactory.getLogger(BinaryAccessLogWriter.class);
+    private static final int MAX_STRING_BYTES = 2048;
+    private static final int SCRATCH_SIZE = 64 * 1024;
+    private static final long POLL_INTERVAL_MILLIS = 100;
+    private static final long CLOSE_TIMEOUT_MILLIS = 5000;
+
+    private final Path directory;
+    private final long segmentSize;
+    private final int maxSegments;
+    private final int maxDictionarySize;
+    private final ByteBuffer scratch = ByteBuffer.allocate(SCRATCH_SIZE);
+    private final Map<String, Integer> dictionary = new HashMap<>();
+    private final List<String> pendingEntries = new ArrayList<>();
+    private final BlockingQueue<AccessLog> queue;
+    private final AtomicLong dropped = new AtomicLong();
+    private final Thread writerThread;
+
+    private FileChannel channel;
+    private MappedByteBuffer segment;
+    private int segmentSequence;
+    private volatile boolean closed;
+
+    public BinaryAccessLogWriter(LoggingProperties.BinaryLogConfig config) throws IOException {
+        this.directory = Paths.get(config.getDirectory());
+        this.segmentSize = Math.min(config.getSegmentSize(), Integer.MAX_VALUE);
+        this.maxSegments = config.getMaxSegments();
+        this.maxDictionarySize = config.getMaxDictionarySize();
+        this.queue = new ArrayBlockingQueue<>(Math.max(1, config.getQueueCapacity()));
+        Files.createDirectories(directory);
+        openSegment();
+        this.writerThread = new Thread(this::drainLoop, "binary-access-log-writer");
+        this.writerThread.setDaemon(true);
+        this.writerThread.start();
+        log.info("Binary access log enabled: directory={}, segmentSize={}", directory.toAbsolutePath(), segmentSize);
+    }
+
+    /**
+     * 追加一条访问日志，不阻塞调用线程
+     * <p>
+     * 写入器已关闭或队列已满时丢弃该记录
+     */
+    public void append(AccessLog accessLog) {
+        if (closed || !queue.offer(accessLog)) {
+            long count = dropped.incrementAndGet();
+            log.debug("Binary access log queue full or closed, dropped {} records so far", count);
+        }
+    }
+
+    /**
+     * 因队列已满或已关闭而丢弃的记录数
+     */
+    public long getDroppedCount() {
+        return dropped.get();
+    }
+
+    private void drainLoop() {
+        try {
+            while (!closed || !queue.isEmpty()) {
+                AccessLog accessLog = queue.poll(POLL_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+                if (accessLog != null) {
+                    write(accessLog);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            try {
+                closeSegment();
+            } catch (IOException e) {
+                log.warn("Failed to close binary access log segment: {}", e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 在写线程中编码并写入一条记录
+     * <p>
+     * 当前分段空间或字典容量不足时滚动到新分段；单条记录超过分段大小时丢弃
+     */
+    private void write(AccessLog accessLog) {
+        try {
+            if (!encode(accessLog) || scratch.position() > segment.remaining()) {
+                rollbackDictionary();
+                rotate();
+                if (!encode(accessLog) || scratch.position() > segment.remaining()) {
+                    rollbackDictionary();
+                    log.debug("Access log record too large, dropped: {}", accessLog.getPath());
+                    return;
+                }
+            }
+            pendingEntries.clear();
+            scratch.flip();
+            segment.put(scratch);
+        } catch (IOException e) {
+            log.warn("Failed to write binary access log: {}", e.getMessage());
+        }
+    }
+
+    private boolean encode(AccessLog accessLog) {
+        scratch.clear();
+        try {
+            long pathId = intern(accessLog.getPath());
+            long userAgentId = intern(accessLog.getUserAgent());
+            long clientIpId = intern(accessLog.getClientIp());
+            long serviceId = intern(accessLog.getServiceId());
+            long grayVersionId = intern(accessLog.getGrayVersion());
+            long userId = intern(accessLog.getUserId());
+            long tenantId = intern(accessLog.getTenantId());
+
+            int start = beginRecord(RECORD_ENTRY);
+            scratch.putLong(accessLog.getRequestTime());
+            putVarLong(scratch, Math.max(0, accessLog.getDuration()));
+            putVarLong(scratch, Math.max(0, accessLog.getStatus()));
+            scratch.put((byte) methodCode(accessLog.getMethod()));
+            putVarLong(scratch, pathId);
+            putVarLong(scratch, userAgentId);
+            putVarLong(scratch, clientIpId);
+            putVarLong(scratch, serviceId);
+            putVarLong(scratch, grayVersionId);
+            putVarLong(scratch, userId);
+            putVarLong(scratch, tenantId);
+            putZigZag(scratch, accessLog.getRequestSize());
+            putZigZag(scratch, accessLog.getResponseSize());
+            putString(scratch, accessLog.getTraceId(), MAX_STRING_BYTES);
+            putString(scratch, accessLog.getRequestId(), MAX_STRING_BYTES);
+            putString(scratch, accessLog.getQueryString(), MAX_STRING_BYTES);
+            putString(scratch, accessLog.getErrorMessage(), MAX_STRING_BYTES);
+            endRecord(start);
+            return true;
+        } catch (BufferOverflowException | DictionaryFullException e) {
+            return false;
+        }
+    }
+
+    /**
+     * 返回字符串在当前分段字典中的编号，首次出现时先写出字典记录；0表示null
+     */
+    private long intern(String value) {
+        if (value == null || value.isEmpty()) {
+            return 0;
+        }
+        Integer id = dictionary.get(value);
+        if (id != null) {
+            return id;
+        }
+        if (dictionary.size() >= maxDictionarySize) {
+            throw DictionaryFullException.INSTANCE;
+        }
+        int newId = dictionary.size() + 1;
+        int start = beginRecord(RECORD_DICT);
+        putVarLong(scratch, newId);
+        putString(scratch, value, MAX_STRING_BYTES);
+        endRecord(start);
+        dictionary.put(value, newId);
+        pendingEntries.add(value);
+        return newId;
+    }
+
+    private int beginRecord(byte type) {
+        int start = scratch.position();
+        scratch.putInt(0);
+        scratch.put(type);
+        return start;
+    }
+
+    private void endRecord(int start) {
+        scratch.putInt(start, scratch.position() - start - Integer.BYTES);
+    }
+
+    private void rollbackDictionary() {
+        for (String value : pendingEntries) {
+            dictionary.remove(value);
+        }
+        pendingEntries.clear();
+    }
+
+    private void rotate() throws IOException {
+        closeSegment();
+        openSegment();
+        purgeOldSegments();
+    }
+
+    private void openSegment() throws IOException {
+        String fileName = String.format("%s%013d-%04d%s", SEGMENT_PREFIX,
+                System.currentTimeMillis(), segmentSequence++ % 10000, SEGMENT_SUFFIX);
+        Path segmentPath = directory.resolve(fileName);
+        channel = FileChannel.open(segmentPath, StandardOpenOption.CREATE_NEW,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+        segment = channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentSize);
+        segment.putInt(MAGIC).putShort(VERSION).putShort((short) 0);
+        dictionary.clear();
+        pendingEntries.clear();
+        log.debug("Opened access log segment: {}", segmentPath);
+    }
+
+    private void closeSegment() throws IOException {
+        if (channel == null) {
+            return;
+        }
+        int written = segment.position();
+        segment.force();
+        try {
+            channel.truncate(written);
+        } catch (IOException e) {
+            log.debug("Failed to truncate access log segment: {}", e.getMessage());
+        }
+        channel.close();
+        channel = null;
+    }
+
+    private void purgeOldSegments() throws IOException {
+        List<Path> segments = BinaryAccessLogReader.listSegments(directory);
+        for (int i = 0; i < segments.size() - maxSegments; i++) {
+            Files.deleteIfExists(segments.get(i));
+            log.debug("Deleted expired access log segment: {}", segments.get(i));
+        }
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            writerThread.join(CLOSE_TIMEOUT_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (writerThread.isAlive()) {
+            writerThread.interrupt();
+            log.warn("Binary access log writer did not drain within {} ms", CLOSE_TIMEOUT_MILLIS);
+        }
+    }
+
+    private static final class DictionaryFullException extends RuntimeException {
+        @Serial
+        private static final long serialVersionUID = 1L;
+        private static final DictionaryFullException INSTANCE = new DictionaryFullException();
+
+        private DictionaryFullException() {
+            super(null, null, false, false);
+        }
+    }
+}
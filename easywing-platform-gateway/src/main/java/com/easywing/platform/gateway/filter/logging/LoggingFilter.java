@@ -16,13 +16,17 @@
 package com.easywing.platform.gateway.filter.logging;
 
 import com.easywing.platform.core.constant.HttpHeaders;
+import com.easywing.platform.core.util.ClientIpResolver;
 import com.easywing.platform.gateway.properties.GatewayProperties;
 import com.easywing.platform.gateway.properties.LoggingProperties;
+import com.easywing.platform.gateway.util.IpUtil;
 import org.reactivestreams.Publisher;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.cloud.gateway.filter.GatewayFilterChain;
 import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
 import org.springframework.core.Ordered;
 import org.springframework.core.io.buffer.DataBuffer;
 import org.springframework.core.io.buffer.DataBufferUtils;
@@ -71,10 +75,18 @@ public class LoggingFilter implements GlobalFilter, Ordered {
 
     private final LoggingProperties properties;
     private final DesensitizeConverter desensitizeConverter;
+    private final BinaryAccessLogWriter binaryWriter;
+    private final ClientIpResolver clientIpResolver;
 
     public LoggingFilter(GatewayProperties gatewayProperties) {
+        this(gatewayProperties, null);
+    }
+
+    public LoggingFilter(GatewayProperties gatewayProperties, BinaryAccessLogWriter binaryWriter) {
         this.properties = gatewayProperties.getLogging();
         this.desensitizeConverter = new DesensitizeConverter(properties);
+        this.binaryWriter = binaryWriter;
+        this.clientIpResolver = ClientIpResolver.of(gatewayProperties.getClientIp().getTrustedProxies());
     }
 
     @Override
@@ -125,7 +137,7 @@ public class LoggingFilter implements GlobalFilter, Ordered {
         accessLog.setMethod(request.getMethod().name());
         accessLog.setPath(request.getPath().value());
         accessLog.setQueryString(request.getURI().getQuery());
-        accessLog.setClientIp(getClientIp(exchange));
+        accessLog.setClientIp(IpUtil.getClientIp(exchange, clientIpResolver));
         accessLog.setUserAgent(request.getHeaders().getFirst(HttpHeaders.USER_AGENT));
         accessLog.setUserId(request.getHeaders().getFirst(HttpHeaders.X_USER_ID));
         accessLog.setTenantId(request.getHeaders().getFirst(HttpHeaders.X_TENANT_ID));
@@ -150,26 +162,6 @@ public class LoggingFilter implements GlobalFilter, Ordered {
         return accessLog;
     }
 
-    private String getClientIp(ServerWebExchange exchange) {
-        ServerHttpRequest request = exchange.getRequest();
-        
-        String xForwardedFor = request.getHeaders().getFirst(HttpHeaders.X_FORWARDED_FOR);
-        if (xForwardedFor != null && !xForwardedFor.isEmpty()) {
-            return xForwardedFor.split(",")[0].trim();
-        }
-        
-        String xRealIp = request.getHeaders().getFirst(HttpHeaders.X_REAL_IP);
-        if (xRealIp != null && !xRealIp.isEmpty()) {
-            return xRealIp;
-        }
-        
-        if (request.getRemoteAddress() != null) {
-            return request.getRemoteAddress().getAddress().getHostAddress();
-        }
-        
-        return "unknown";
-    }
-
     private boolean isSensitiveHeader(String headerName) {
         String lowerName = headerName.toLowerCase();
         return lowerName.contains("authorization") || 
@@ -215,6 +207,18 @@ public class LoggingFilter implements GlobalFilter, Ordered {
         
         accessLog.setResponseSize(response.getHeaders().getContentLength());
         
+        Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+        if (route != null) {
+            accessLog.setServiceId(route.getId());
+        }
+        
+        if (binaryWriter != null) {
+            binaryWriter.append(accessLog);
+            if (!properties.getBinary().isTextLogEnabled()) {
+                return Mono.empty();
+            }
+        }
+        
         if (accessLog.getStatus() >= 400) {
             log.warn("Request failed: {}", accessLog);
         } else {
@@ -16,8 +16,12 @@
 package com.easywing.platform.gateway.filter.ratelimit;
 
 import com.easywing.platform.core.constant.HttpHeaders;
+import com.easywing.platform.core.util.ClientIpResolver;
+import com.easywing.platform.gateway.filter.edge.EdgeHeaders;
+import com.easywing.platform.gateway.filter.edge.EdgeStage;
 import com.easywing.platform.gateway.properties.GatewayProperties;
 import com.easywing.platform.gateway.properties.RateLimitProperties;
+import com.easywing.platform.gateway.util.IpUtil;
 import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
 import org.slf4j.Logger;
@@ -36,6 +40,7 @@ import java.time.Duration;
 import java.util.Collections;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
 
 /**
  * 限流全局过滤器
@@ -45,7 +50,8 @@ import java.util.concurrent.atomic.AtomicLong;
  *     <li>分布式限流（Redis + Lua脚本，保证原子性）</li>
  *     <li>多级限流策略：全局、API、用户、IP</li>
  *     <li>令牌桶/漏桶/滑动窗口算法支持</li>
- *     <li>本地令牌桶预热（减少Redis访问）</li>
+ *     <li>本地令牌桶预热（减少Redis访问），local-enabled为false时每个请求都经过Redis脚本</li>
+ *     <li>可作为边缘融合阶段的环节运行，用户ID取自JWT环节登记的请求头</li>
  * </ul>
  * <p>
  * 性能优化：
@@ -59,7 +65,7 @@ import java.util.concurrent.atomic.AtomicLong;
  * @author EasyWing Team
  * @since 1.0.0
  */
-public class RateLimitFilter implements GlobalFilter, Ordered {
+public class RateLimitFilter implements GlobalFilter, EdgeStage {
 
     private static final Logger log = LoggerFactory.getLogger(RateLimitFilter.class);
     private static final String RATE_LIMIT_REMAINING = "X-RateLimit-Remaining";
@@ -70,6 +76,8 @@ public class RateLimitFilter implements GlobalFilter, Ordered {
     private final ReactiveStringRedisTemplate redisTemplate;
     private final RedisScript<Long> rateLimitScript;
     private final Cache<String, LocalTokenBucket> localBuckets;
+    private final ClientIpResolver clientIpResolver;
+    private final boolean fused;
 
     public RateLimitFilter(GatewayProperties gatewayProperties, 
                           ReactiveStringRedisTemplate redisTemplate,
@@ -77,36 +85,52 @@ public class RateLimitFilter implements GlobalFilter, Ordered {
         this.properties = gatewayProperties.getRateLimit();
         this.redisTemplate = redisTemplate;
         this.rateLimitScript = rateLimitScript;
+        this.clientIpResolver = ClientIpResolver.of(gatewayProperties.getClientIp().getTrustedProxies());
+        this.fused = gatewayProperties.getEdge().isFused();
         this.localBuckets = Caffeine.newBuilder()
                 .maximumSize(properties.getLocalCacheSize())
                 .expireAfterAccess(Duration.ofMinutes(10))
+                .recordStats()
                 .build();
     }
 
     @Override
     public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
-        if (!properties.isEnabled()) {
+        if (fused) {
             return chain.filter(exchange);
         }
+        // 本环节不修改请求头
+        return apply(exchange, new EdgeHeaders(), () -> chain.filter(exchange));
+    }
 
-        String key = resolveKey(exchange);
+    @Override
+    public Mono<Void> apply(ServerWebExchange exchange, EdgeHeaders headers, Supplier<Mono<Void>> next) {
+        if (!properties.isEnabled()) {
+            return next.get();
+        }
+
+        String key = resolveKey(exchange, headers);
         RateLimitProperties.RuleConfig rule = findMatchingRule(exchange);
         
         int rate = rule != null ? rule.getRate() : properties.getDefaultRate();
         int capacity = rule != null ? rule.getCapacity() : properties.getDefaultCapacity();
         
-        LocalTokenBucket localBucket = localBuckets.get(key, k -> new LocalTokenBucket(capacity, rate));
+        LocalTokenBucket localBucket = properties.isLocalEnabled()
+                ? localBuckets.get(key, k -> new LocalTokenBucket(capacity, rate))
+                : null;
         
-        if (localBucket.tryConsume()) {
+        if (localBucket != null && localBucket.tryConsume()) {
             addRateLimitHeaders(exchange, localBucket);
-            return chain.filter(exchange);
+            return next.get();
         }
         
         return checkDistributedRateLimit(key, rate, capacity)
                 .flatMap(allowed -> {
                     if (allowed) {
-                        addRateLimitHeaders(exchange, localBucket);
-                        return chain.filter(exchange);
+                        if (localBucket != null) {
+                            addRateLimitHeaders(exchange, localBucket);
+                        }
+                        return next.get();
                     }
                     return tooManyRequests(exchange);
                 })
@@ -116,41 +140,23 @@ public class RateLimitFilter implements GlobalFilter, Ordered {
                         LocalTokenBucket fallbackBucket = localBuckets.get(key, 
                                 k -> new LocalTokenBucket(properties.getFallbackRate(), properties.getFallbackRate()));
                         if (fallbackBucket.tryConsume()) {
-                            return chain.filter(exchange);
+                            return next.get();
                         }
                     }
                     return tooManyRequests(exchange);
                 });
     }
 
-    private String resolveKey(ServerWebExchange exchange) {
-        String userId = exchange.getRequest().getHeaders().getFirst(HttpHeaders.X_USER_ID);
+    private String resolveKey(ServerWebExchange exchange, EdgeHeaders headers) {
+        String userId = headers.get(exchange.getRequest(), HttpHeaders.X_USER_ID);
         if (userId != null && !userId.isEmpty()) {
             return "rate_limit:user:" + userId;
         }
         
-        String ip = getClientIp(exchange);
+        String ip = IpUtil.getClientIp(exchange, clientIpResolver);
         return "rate_limit:ip:" + ip;
     }
 
-    private String getClientIp(ServerWebExchange exchange) {
-        String xForwardedFor = exchange.getRequest().getHeaders().getFirst(HttpHeaders.X_FORWARDED_FOR);
-        if (xForwardedFor != null && !xForwardedFor.isEmpty()) {
-            return xForwardedFor.split(",")[0].trim();
-        }
-        
-        String xRealIp = exchange.getRequest().getHeaders().getFirst(HttpHeaders.X_REAL_IP);
-        if (xRealIp != null && !xRealIp.isEmpty()) {
-            return xRealIp;
-        }
-        
-        if (exchange.getRequest().getRemoteAddress() != null) {
-            return exchange.getRequest().getRemoteAddress().getAddress().getHostAddress();
-        }
-        
-        return "unknown";
-    }
-
     private RateLimitProperties.RuleConfig findMatchingRule(ServerWebExchange exchange) {
         String path = exchange.getRequest().getPath().value();
         for (RateLimitProperties.RuleConfig rule : properties.getRules()) {
@@ -193,6 +199,10 @@ public class RateLimitFilter implements GlobalFilter, Ordered {
         return response.writeWith(Mono.just(response.bufferFactory().wrap(body.getBytes())));
     }
 
+    public Cache<String, ?> getLocalBuckets() {
+        return localBuckets;
+    }
+
     @Override
     public int getOrder() {
         return Ordered.HIGHEST_PRECEDENCE + 20;
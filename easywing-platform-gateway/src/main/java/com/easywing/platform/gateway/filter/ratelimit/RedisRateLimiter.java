@@ -28,11 +28,13 @@ import org.springframework.stereotype.Component;
  *     <li>>=0: 剩余令牌数</li>
  *     <li>-1: 限流失败</li>
  * </ul>
+ * <p>
+ * 显式命名Bean，避免与 Spring Cloud Gateway 自带的 redisRateLimiter 冲突导致启动失败
  *
  * @author EasyWing Team
  * @since 1.0.0
  */
-@Component
+@Component("redisRateLimitScript")
 public class RedisRateLimiter implements RedisScript<Long> {
 
     private static final String SCRIPT = """
@@ -0,0 +1,133 @@
+/*
+ * Copyright 2024-2026 EasyWing Platform Team.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.easywing.platform.gateway.httpclient;
+
+import com.easywing.platform.gateway.properties.HttpClientPoolProperties;
+import io.netty.channel.ChannelOption;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.cloud.gateway.config.HttpClientCustomizer;
+import org.springframework.cloud.gateway.config.HttpClientProperties;
+import org.springframework.cloud.gateway.route.Route;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 按服务隔离的上游连接池
+ * <p>
+ * 启动时为每个配置的服务构建独立的 {@link ConnectionProvider} 与 {@link HttpClient}：
+ * <ul>
+ *     <li>连接数、等待队列长度、等待超时、空闲/存活时间、后台驱逐均按服务配置</li>
+ *     <li>连接池开启 Reactor Netty 指标，名称为 gateway-服务ID，
+ *     输出 reactor.netty.connection.provider.* 系列指标（活跃/空闲/等待连接数与获取连接耗时）</li>
+ *     <li>连接超时沿用 spring.cloud.gateway.httpclient.connect-timeout，并应用所有 {@link HttpClientCustomizer}</li>
+ * </ul>
+ * 独立连接池不继承网关共享客户端的 SSL 与代理设置，TLS 上游使用 Reactor Netty 默认配置。
+ *
+ * @author EasyWing Team
+ * @since 1.0.0
+ */
+public class ServiceConnectionPools implements DisposableBean {
+
+    public static final String POOL_NAME_PREFIX = "gateway-";
+
+    private static final Logger log = LoggerFactory.getLogger(ServiceConnectionPools.class);
+    private static final String LB_SCHEME = "lb";
+
+    private final Map<String, ConnectionProvider> providers;
+    private final Map<String, HttpClient> clients;
+
+    public ServiceConnectionPools(HttpClientPoolProperties properties,
+                                  HttpClientProperties gatewayHttpClient,
+                                  List<HttpClientCustomizer> customizers) {
+        Map<String, ConnectionProvider> providers = new LinkedHashMap<>();
+        Map<String, HttpClient> clients = new LinkedHashMap<>();
+        properties.getServices().forEach((serviceId, pool) -> {
+            ConnectionProvider provider = buildProvider(serviceId, pool);
+            HttpClient client = HttpClient.create(provider);
+            if (gatewayHttpClient != null && gatewayHttpClient.getConnectTimeout() != null) {
+                client = client.option(ChannelOption.CONNECT_TIMEOUT_MILLIS, gatewayHttpClient.getConnectTimeout());
+            }
+            if (pool.isHttp2()) {
+                client = client.protocol(HttpProtocol.HTTP11, HttpProtocol.H2, HttpProtocol.H2C);
+            }
+            for (HttpClientCustomizer customizer : customizers) {
+                client = customizer.customize(client);
+            }
+            providers.put(serviceId, provider);
+            clients.put(serviceId, client);
+            log.info("Upstream connection pool for {}: maxConnections={}, pendingAcquireMaxCount={}, http2={}",
+                    serviceId, pool.getMaxConnections(), pool.getPendingAcquireMaxCount(), pool.isHttp2());
+        });
+        this.providers = Map.copyOf(providers);
+        this.clients = Map.copyOf(clients);
+    }
+
+    private static ConnectionProvider buildProvider(String serviceId, HttpClientPoolProperties.PoolConfig pool) {
+        ConnectionProvider.Builder builder = ConnectionProvider.builder(POOL_NAME_PREFIX + serviceId)
+                .maxConnections(pool.getMaxConnections())
+                .pendingAcquireMaxCount(pool.getPendingAcquireMaxCount())
+                .pendingAcquireTimeout(pool.getPendingAcquireTimeout())
+                .metrics(true);
+        if (pool.getMaxIdleTime() != null) {
+            builder.maxIdleTime(pool.getMaxIdleTime());
+        }
+        if (pool.getMaxLifeTime() != null) {
+            builder.maxLifeTime(pool.getMaxLifeTime());
+        }
+        Duration eviction = pool.getEvictionInterval();
+        if (eviction != null && !eviction.isZero()) {
+            builder.evictInBackground(eviction);
+        }
+        return builder.build();
+    }
+
+    /**
+     * 路由对应的服务ID：负载均衡路由取服务名，其余取路由ID
+     */
+    public static String serviceId(Route route) {
+        URI uri = route.getUri();
+        if (uri != null && LB_SCHEME.equalsIgnoreCase(uri.getScheme()) && uri.getHost() != null) {
+            return uri.getHost();
+        }
+        return route.getId();
+    }
+
+    /**
+     * 获取服务的独立客户端，未配置时返回 null
+     */
+    public HttpClient clientFor(String serviceId) {
+        return serviceId != null ? clients.get(serviceId) : null;
+    }
+
+    public Set<String> getServiceIds() {
+        return clients.keySet();
+    }
+
+    @Override
+    public void destroy() {
+        providers.values().forEach(ConnectionProvider::dispose);
+    }
+}
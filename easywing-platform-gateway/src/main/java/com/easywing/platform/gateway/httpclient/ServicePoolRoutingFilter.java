@@ -0,0 +1,135 @@
+/*
+ * Copyright 2024-2026 EasyWing Platform Team.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.easywing.platform.gateway.httpclient;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.netty.channel.ChannelOption;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cloud.gateway.config.HttpClientProperties;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.NettyRoutingFilter;
+import org.springframework.cloud.gateway.filter.headers.HttpHeadersFilter;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.RouteMetadataUtils;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClient;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 按服务选择连接池的路由过滤器
+ * <p>
+ * 替换 Spring Cloud Gateway 默认的 {@link NettyRoutingFilter}
+ * （设置 spring.cloud.gateway.global-filter.netty-routing.enabled=false 时启用）：
+ * <ul>
+ *     <li>已配置独立连接池的服务使用 {@link ServiceConnectionPools} 中的客户端，其余沿用共享客户端</li>
+ *     <li>路由元数据 connect-timeout 仍然生效</li>
+ *     <li>等待队列已满或获取连接超时计入 gateway.httpclient.pool.exhausted，按服务与原因打标签</li>
+ * </ul>
+ *
+ * @author EasyWing Team
+ * @since 1.0.0
+ */
+public class ServicePoolRoutingFilter extends NettyRoutingFilter {
+
+    public static final String EXHAUSTED_METER = "gateway.httpclient.pool.exhausted";
+
+    static final String REASON_PENDING_LIMIT = "pending-limit";
+    static final String REASON_ACQUIRE_TIMEOUT = "acquire-timeout";
+
+    private static final Logger log = LoggerFactory.getLogger(ServicePoolRoutingFilter.class);
+
+    private final HttpClient sharedClient;
+    private final ServiceConnectionPools pools;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Counter> exhaustedCounters = new ConcurrentHashMap<>();
+
+    public ServicePoolRoutingFilter(HttpClient sharedClient,
+                                    ObjectProvider<List<HttpHeadersFilter>> headersFiltersProvider,
+                                    HttpClientProperties properties,
+                                    ServiceConnectionPools pools,
+                                    MeterRegistry meterRegistry) {
+        super(sharedClient, headersFiltersProvider, properties);
+        this.sharedClient = sharedClient;
+        this.pools = pools;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        return super.filter(exchange, chain)
+                .doOnError(ex -> {
+                    String reason = exhaustionReason(ex);
+                    if (reason != null) {
+                        Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+                        String serviceId = route != null ? ServiceConnectionPools.serviceId(route) : "unknown";
+                        exhaustedCounter(serviceId, reason).increment();
+                        log.warn("Upstream connection pool exhausted: service={}, reason={}", serviceId, reason);
+                    }
+                });
+    }
+
+    @Override
+    protected HttpClient getHttpClient(Route route, ServerWebExchange exchange) {
+        HttpClient client = pools.clientFor(ServiceConnectionPools.serviceId(route));
+        if (client == null) {
+            client = sharedClient;
+        }
+        Object connectTimeout = route.getMetadata().get(RouteMetadataUtils.CONNECT_TIMEOUT_ATTR);
+        if (connectTimeout != null) {
+            client = client.option(ChannelOption.CONNECT_TIMEOUT_MILLIS, toInteger(connectTimeout));
+        }
+        return client;
+    }
+
+    /**
+     * 识别连接池耗尽异常；reactor-pool 在 Reactor Netty 中为内部重打包类，按类名匹配
+     */
+    static String exhaustionReason(Throwable ex) {
+        for (Throwable t = ex; t != null; t = t.getCause()) {
+            String name = t.getClass().getSimpleName();
+            if ("PoolAcquirePendingLimitException".equals(name)) {
+                return REASON_PENDING_LIMIT;
+            }
+            if ("PoolAcquireTimeoutException".equals(name)) {
+                return REASON_ACQUIRE_TIMEOUT;
+            }
+        }
+        return null;
+    }
+
+    private Counter exhaustedCounter(String serviceId, String reason) {
+        return exhaustedCounters.computeIfAbsent(serviceId + '|' + reason, k -> Counter.builder(EXHAUSTED_METER)
+                .description("Upstream requests failed because the connection pool was exhausted")
+                .tag("service", serviceId)
+                .tag("reason", reason)
+                .register(meterRegistry));
+    }
+
+    private static Integer toInteger(Object value) {
+        if (value instanceof Number number) {
+            return number.intValue();
+        }
+        return Integer.valueOf(value.toString());
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright 2024-2026 EasyWing Platform Team.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.easywing.platform.gateway.loadbalancer;
+
+import com.easywing.platform.gateway.properties.GrayProperties;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.DefaultResponse;
+import org.springframework.cloud.client.loadbalancer.EmptyResponse;
+import org.springframework.cloud.client.loadbalancer.Request;
+import org.springframework.cloud.client.loadbalancer.RequestDataContext;
+import org.springframework.cloud.client.loadbalancer.Response;
+import org.springframework.cloud.loadbalancer.core.NoopServiceInstanceListSupplier;
+import org.springframework.cloud.loadbalancer.core.ReactorServiceInstanceLoadBalancer;
+import org.springframework.cloud.loadbalancer.core.ServiceInstanceListSupplier;
+import reactor.core.publisher.Mono;
+
+/**
+ * 版本感知负载均衡器
+ * <p>
+ * 根据灰度过滤器写入请求头的目标版本，从 {@link VersionedInstanceIndex} 中直接定位版本分组：
+ * <ul>
+ *     <li>请求路径上不再逐次过滤全量实例列表</li>
+ *     <li>服务发现事件到达或索引超过最大存活时间后，由首个请求拉取一次实例列表并增量更新索引</li>
+ *     <li>拉取失败或返回空列表时保留现有索引并保持待刷新状态，由后续请求重试</li>
+ *     <li>目标版本无可用实例时退化为全部实例轮询</li>
+ * </ul>
+ *
+ * @author EasyWing Team
+ * @since 1.0.0
+ */
+public class GrayVersionLoadBalancer implements ReactorServiceInstanceLoadBalancer {
+
+    private static final Logger log = LoggerFactory.getLogger(GrayVersionLoadBalancer.class);
+
+    private final String serviceId;
+    private final GrayProperties properties;
+    private final ObjectProvider<ServiceInstanceListSupplier> supplierProvider;
+    private final VersionedInstanceIndex index;
+
+    public GrayVersionLoadBalancer(ObjectProvider<ServiceInstanceListSupplier> supplierProvider,
+                                   String serviceId,
+                                   GrayProperties properties,
+                                   VersionedInstanceIndex index) {
+        this.supplierProvider = supplierProvider;
+        this.serviceId = serviceId;
+        this.properties = properties;
+        this.index = index;
+    }
+
+    @Override
+    @SuppressWarnings("rawtypes")
+    public Mono<Response<ServiceInstance>> choose(Request request) {
+        String version = resolveVersion(request);
+        boolean refresh = index.claimRefresh();
+        if (!refresh && index.isLoaded()) {
+            return Mono.just(toResponse(index.choose(version), version));
+        }
+
+        ServiceInstanceListSupplier supplier = supplierProvider
+                .getIfAvailable(() -> new NoopServiceInstanceListSupplier());
+        return supplier.get(request).next()
+                .filter(instances -> !instances.isEmpty())
+                .map(instances -> {
+                    index.update(instances);
+                    return toResponse(index.choose(version), version);
+                })
+                .switchIfEmpty(Mono.fromSupplier(() -> {
+                    log.debug("Empty instance list for service {}, keeping current index", serviceId);
+                    index.markStale();
+                    return toResponse(index.choose(version), version);
+                }))
+                .onErrorResume(e -> {
+                    log.warn("Failed to refresh instances for service {}: {}", serviceId, e.getMessage());
+                    index.markStale();
+                    return Mono.just(toResponse(index.choose(version), version));
+                });
+    }
+
+    @SuppressWarnings("rawtypes")
+    private String resolveVersion(Request request) {
+        if (request != null && request.getContext() instanceof RequestDataContext context
+                && context.getClientRequest() != null) {
+            return context.getClientRequest().getHeaders().getFirst(properties.getHeaderName());
+        }
+        return null;
+    }
+
+    private Response<ServiceInstance> toResponse(ServiceInstance instance, String version) {
+        if (instance == null) {
+            log.warn("No instance available for service {} (version {})", serviceId, version);
+            return new EmptyResponse();
+        }
+        return new DefaultResponse(instance);
+    }
+}
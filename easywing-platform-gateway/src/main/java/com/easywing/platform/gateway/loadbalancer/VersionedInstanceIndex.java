@@ -0,0 +1,215 @@
+/*
+ * Copyright 2024-2026 EasyWing Platform Team.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.easywing.platform.gateway.loadbalancer;
+
+import org.springframework.cloud.client.ServiceInstance;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 按版本分组的服务实例索引
+ * <p>
+ * 实例按元数据中的版本号分组，选择实例时直接定位分组后轮询，复杂度O(1)。
+ * 实例列表变化时与当前快照做差异比较，只重建成员发生变化的分组，
+ * 未变化分组保留原有轮询位置。实例ID相同但地址或端口变化时同样视为变化。
+ * 除服务发现事件外，距上次刷新超过最大存活时间时也会触发一次刷新。
+ *
+ * @author EasyWing Team
+ * @since 1.0.0
+ */
+public class VersionedInstanceIndex {
+
+    private static final String UNVERSIONED = "";
+
+    private final String serviceId;
+    private final String metadataKey;
+    private final AtomicBoolean stale = new AtomicBoolean(true);
+    private final long maxAgeNanos;
+    private final AtomicLong refreshedAt = new AtomicLong(System.nanoTime());
+
+    private Map<String, ServiceInstance> instances = Map.of();
+    private volatile Map<String, InstanceGroup> groups = Map.of();
+    private volatile InstanceGroup all = new InstanceGroup(new ServiceInstance[0]);
+    private volatile boolean loaded = false;
+
+    public VersionedInstanceIndex(String serviceId, String metadataKey) {
+        this(serviceId, metadataKey, Duration.ZERO);
+    }
+
+    /**
+     * @param maxAge 索引最大存活时间，超过后由下一个请求刷新；为0时只在服务发现事件后刷新
+     */
+    public VersionedInstanceIndex(String serviceId, String metadataKey, Duration maxAge) {
+        this.serviceId = serviceId;
+        this.metadataKey = metadataKey;
+        this.maxAgeNanos = maxAge != null ? maxAge.toNanos() : 0;
+    }
+
+    public String getServiceId() {
+        return serviceId;
+    }
+
+    /**
+     * 是否已加载过实例列表
+     */
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    /**
+     * 标记索引需要刷新（服务发现事件触发）
+     */
+    public void markStale() {
+        stale.set(true);
+    }
+
+    /**
+     * 认领一次刷新，保证同一事件或同一次过期只有一个请求去拉取实例列表
+     */
+    public boolean claimRefresh() {
+        if (stale.compareAndSet(true, false)) {
+            refreshedAt.set(System.nanoTime());
+            return true;
+        }
+        if (maxAgeNanos <= 0) {
+            return false;
+        }
+        long last = refreshedAt.get();
+        long now = System.nanoTime();
+        return now - last >= maxAgeNanos && refreshedAt.compareAndSet(last, now);
+    }
+
+    /**
+     * 以新的实例列表增量更新索引
+     */
+    public synchronized void update(List<ServiceInstance> latest) {
+        Map<String, ServiceInstance> next = new LinkedHashMap<>();
+        for (ServiceInstance instance : latest) {
+            next.put(instanceKey(instance), instance);
+        }
+
+        Set<String> changedVersions = new HashSet<>();
+        for (Map.Entry<String, ServiceInstance> entry : instances.entrySet()) {
+            if (!next.containsKey(entry.getKey())) {
+                changedVersions.add(versionOf(entry.getValue()));
+            }
+        }
+        for (Map.Entry<String, ServiceInstance> entry : next.entrySet()) {
+            ServiceInstance previous = instances.get(entry.getKey());
+            String version = versionOf(entry.getValue());
+            if (previous == null || !sameEndpoint(previous, entry.getValue())) {
+                changedVersions.add(version);
+                if (previous != null) {
+                    changedVersions.add(versionOf(previous));
+                }
+            } else if (!Objects.equals(versionOf(previous), version)) {
+                changedVersions.add(version);
+                changedVersions.add(versionOf(previous));
+            }
+        }
+
+        loaded = true;
+        if (changedVersions.isEmpty()) {
+            return;
+        }
+
+        instances = next;
+        Map<String, InstanceGroup> nextGroups = new HashMap<>(groups);
+        for (String version : changedVersions) {
+            List<ServiceInstance> members = new ArrayList<>();
+            for (ServiceInstance instance : next.values()) {
+                if (version.equals(versionOf(instance))) {
+                    members.add(instance);
+                }
+            }
+            if (members.isEmpty()) {
+                nextGroups.remove(version);
+            } else {
+                nextGroups.put(version, new InstanceGroup(members.toArray(new ServiceInstance[0])));
+            }
+        }
+        nextGroups.remove(UNVERSIONED);
+        groups = Map.copyOf(nextGroups);
+        all = new InstanceGroup(next.values().toArray(new ServiceInstance[0]));
+    }
+
+    /**
+     * 选择实例：优先目标版本分组，分组不存在时退化为全部实例
+     *
+     * @return 实例，无可用实例时返回null
+     */
+    public ServiceInstance choose(String version) {
+        InstanceGroup group = version != null ? groups.get(version) : null;
+        if (group == null) {
+            group = all;
+        }
+        return group.next();
+    }
+
+    /**
+     * 当前各版本实例数
+     */
+    public Map<String, Integer> versionCounts() {
+        Map<String, Integer> counts = new HashMap<>();
+        groups.forEach((version, group) -> counts.put(version, group.instances.length));
+        return counts;
+    }
+
+    private String versionOf(ServiceInstance instance) {
+        Map<String, String> metadata = instance.getMetadata();
+        String version = metadata != null ? metadata.get(metadataKey) : null;
+        return version != null ? version : UNVERSIONED;
+    }
+
+    private static boolean sameEndpoint(ServiceInstance previous, ServiceInstance current) {
+        return previous.getPort() == current.getPort()
+                && Objects.equals(previous.getHost(), current.getHost())
+                && previous.isSecure() == current.isSecure();
+    }
+
+    private static String instanceKey(ServiceInstance instance) {
+        return instance.getInstanceId() != null
+                ? instance.getInstanceId()
+                : instance.getHost() + ":" + instance.getPort();
+    }
+
+    private static final class InstanceGroup {
+        private final ServiceInstance[] instances;
+        private final AtomicInteger position = new AtomicInteger();
+
+        InstanceGroup(ServiceInstance[] instances) {
+            this.instances = instances;
+        }
+
+        ServiceInstance next() {
+            if (instances.length == 0) {
+                return null;
+            }
+            return instances[(position.getAndIncrement() & Integer.MAX_VALUE) % instances.length];
+        }
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright 2024-2026 EasyWing Platform Team.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.easywing.platform.gateway.loadbalancer;
+
+import com.easywing.platform.gateway.properties.GrayProperties;
+import org.springframework.cloud.client.discovery.event.HeartbeatEvent;
+import org.springframework.context.ApplicationListener;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 版本实例索引注册表
+ * <p>
+ * 位于主应用上下文，持有各服务的 {@link VersionedInstanceIndex}。
+ * 负载均衡器运行在各服务的子上下文中，收不到主上下文的服务发现事件，
+ * 因此由注册表监听 {@link HeartbeatEvent} 并将索引标记为待刷新；
+ * 事件丢失时索引按 {@code instance-index-max-age} 定期刷新兜底。
+ *
+ * @author EasyWing Team
+ * @since 1.0.0
+ */
+public class VersionedInstanceIndexRegistry implements ApplicationListener<HeartbeatEvent> {
+
+    private static final String DEFAULT_METADATA_KEY = "version";
+
+    private final GrayProperties properties;
+    private final Map<String, VersionedInstanceIndex> indexes = new ConcurrentHashMap<>();
+
+    public VersionedInstanceIndexRegistry(GrayProperties properties) {
+        this.properties = properties;
+    }
+
+    public VersionedInstanceIndex getIndex(String serviceId) {
+        return indexes.computeIfAbsent(serviceId, id -> new VersionedInstanceIndex(id, resolveMetadataKey(id),
+                properties.getInstanceIndexMaxAge()));
+    }
+
+    public Map<String, VersionedInstanceIndex> getIndexes() {
+        return indexes;
+    }
+
+    @Override
+    public void onApplicationEvent(HeartbeatEvent event) {
+        indexes.values().forEach(VersionedInstanceIndex::markStale);
+    }
+
+    private String resolveMetadataKey(String serviceId) {
+        for (GrayProperties.ServiceConfig service : properties.getServices()) {
+            if (serviceId.equals(service.getServiceId()) && !service.getVersions().isEmpty()) {
+                String metadataKey = service.getVersions().get(0).getMetadataKey();
+                return metadataKey != null ? metadataKey : DEFAULT_METADATA_KEY;
+            }
+        }
+        return DEFAULT_METADATA_KEY;
+    }
+}
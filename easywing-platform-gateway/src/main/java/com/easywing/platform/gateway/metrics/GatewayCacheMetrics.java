@@ -0,0 +1,90 @@
+/*
+ * Copyright 2024-2026 EasyWing Platform Team.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.easywing.platform.gateway.metrics;
+
+import com.easywing.platform.gateway.filter.cache.ResponseCacheManager;
+import com.easywing.platform.gateway.filter.gray.GrayReleaseFilter;
+import com.easywing.platform.gateway.filter.jwt.JwtValidationFilter;
+import com.easywing.platform.gateway.filter.ratelimit.RateLimitFilter;
+import com.github.benmanes.caffeine.cache.Cache;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 网关本地缓存指标
+ * <p>
+ * 将网关内所有 Caffeine 缓存注册到 {@link CaffeineCacheMetrics}，缓存名统一为 {@code gateway.<模块>.<用途>}：
+ * <ul>
+ *     <li>gateway.jwt.claims / gateway.jwt.jwk / gateway.jwt.blacklist</li>
+ *     <li>gateway.ratelimit.buckets</li>
+ *     <li>gateway.gray.decisions</li>
+ *     <li>gateway.response / gateway.response.vary</li>
+ * </ul>
+ * 除 cache.gets、cache.evictions、cache.size、cache.load.duration 等标准指标外，
+ * 另提供 {@code cache.hit.ratio}（自启动以来的累计命中率），便于按缓存名直接观察容量是否合适。
+ * 未启用的过滤器对应的缓存不注册。
+ *
+ * @author EasyWing Team
+ * @since 1.0.0
+ */
+public class GatewayCacheMetrics implements MeterBinder {
+
+    public static final String HIT_RATIO_METER = "cache.hit.ratio";
+
+    private final Map<String, Cache<?, ?>> caches = new LinkedHashMap<>();
+
+    public GatewayCacheMetrics(JwtValidationFilter jwtValidationFilter,
+                               RateLimitFilter rateLimitFilter,
+                               GrayReleaseFilter grayReleaseFilter,
+                               ResponseCacheManager responseCacheManager) {
+        if (jwtValidationFilter != null) {
+            caches.put("gateway.jwt.claims", jwtValidationFilter.getJwtCache());
+            caches.put("gateway.jwt.jwk", jwtValidationFilter.getJwkCache());
+            caches.put("gateway.jwt.blacklist", jwtValidationFilter.getBlacklistCache());
+        }
+        if (rateLimitFilter != null) {
+            caches.put("gateway.ratelimit.buckets", rateLimitFilter.getLocalBuckets());
+        }
+        if (grayReleaseFilter != null) {
+            caches.put("gateway.gray.decisions", grayReleaseFilter.getUserVersionCache());
+        }
+        if (responseCacheManager != null) {
+            caches.put("gateway.response", responseCacheManager.getCache());
+            caches.put("gateway.response.vary", responseCacheManager.getVaryCache());
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        caches.forEach((name, cache) -> {
+            CaffeineCacheMetrics.monitor(registry, cache, name);
+            Gauge.builder(HIT_RATIO_METER, cache, c -> c.stats().hitRate())
+                    .tags(Tags.of("cache", name))
+                    .description("Cumulative hit ratio of the cache")
+                    .register(registry);
+        });
+    }
+
+    public Map<String, Cache<?, ?>> getCaches() {
+        return caches;
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright 2024-2026 EasyWing Platform Team.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.easywing.platform.gateway.properties;
+
+import com.easywing.platform.core.util.ClientIpResolver;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 客户端IP配置属性
+ *
+ * @author EasyWing Team
+ * @since 1.0.0
+ */
+public class ClientIpProperties {
+
+    /**
+     * 受信代理网段，只有来自这些地址的转发头才会被采信
+     */
+    private List<String> trustedProxies = new ArrayList<>(ClientIpResolver.DEFAULT_TRUSTED_PROXIES);
+
+    /**
+     * 是否启用IP黑白名单
+     */
+    private boolean accessControlEnabled = true;
+
+    /**
+     * 白名单网段，非空时仅允许名单内地址访问
+     */
+    private List<String> allowList = new ArrayList<>();
+
+    /**
+     * 黑名单网段，优先于白名单
+     */
+    private List<String> denyList = new ArrayList<>();
+
+    public List<String> getTrustedProxies() {
+        return trustedProxies;
+    }
+
+    public void setTrustedProxies(List<String> trustedProxies) {
+        this.trustedProxies = trustedProxies;
+    }
+
+    public boolean isAccessControlEnabled() {
+        return accessControlEnabled;
+    }
+
+    public void setAccessControlEnabled(boolean accessControlEnabled) {
+        this.accessControlEnabled = accessControlEnabled;
+    }
+
+    public List<String> getAllowList() {
+        return allowList;
+    }
+
+    public void setAllowList(List<String> allowList) {
+        this.allowList = allowList;
+    }
+
+    public List<String> getDenyList() {
+        return denyList;
+    }
+
+    public void setDenyList(List<String> denyList) {
+        this.denyList = denyList;
+    }
+}
@@ -0,0 +1,41 @@
+/*
+ * Copyright 2024-2026 EasyWing Platform Team.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.easywing.platform.gateway.properties;
+
+/**
+ * 边缘过滤器配置属性
+ * <p>
+ * 融合模式下，IP访问控制、JWT校验、限流与灰度染色合并为一个过滤阶段，
+ * 请求头修改统一收集后只对交换对象装饰一次。
+ *
+ * @author EasyWing Team
+ * @since 1.0.0
+ */
+public class EdgeProperties {
+
+    /**
+     * 是否启用融合模式，启用后各独立过滤器直接放行
+     */
+    private boolean fused = false;
+
+    public boolean isFused() {
+        return fused;
+    }
+
+    public void setFused(boolean fused) {
+        this.fused = fused;
+    }
+}
@@ -30,6 +30,13 @@ public class GatewayProperties {
     private RateLimitProperties rateLimit = new RateLimitProperties();
     private GrayProperties gray = new GrayProperties();
     private LoggingProperties logging = new LoggingProperties();
+    private ClientIpProperties clientIp = new ClientIpProperties();
+    private TraceProperties trace = new TraceProperties();
+    private ResponseCacheProperties responseCache = new ResponseCacheProperties();
+    private LatencyProperties latency = new LatencyProperties();
+    private EdgeProperties edge = new EdgeProperties();
+    private RequestSizeProperties requestSize = new RequestSizeProperties();
+    private HttpClientPoolProperties httpClient = new HttpClientPoolProperties();
 
     public JwtProperties getJwt() {
         return jwt;
@@ -62,4 +69,60 @@ public class GatewayProperties {
     public void setLogging(LoggingProperties logging) {
         this.logging = logging;
     }
+
+    public ClientIpProperties getClientIp() {
+        return clientIp;
+    }
+
+    public void setClientIp(ClientIpProperties clientIp) {
+        this.clientIp = clientIp;
+    }
+
+    public TraceProperties getTrace() {
+        return trace;
+    }
+
+    public void setTrace(TraceProperties trace) {
+        this.trace = trace;
+    }
+
+    public ResponseCacheProperties getResponseCache() {
+        return responseCache;
+    }
+
+    public void setResponseCache(ResponseCacheProperties responseCache) {
+        this.responseCache = responseCache;
+    }
+
+    public LatencyProperties getLatency() {
+        return latency;
+    }
+
+    public void setLatency(LatencyProperties latency) {
+        this.latency = latency;
+    }
+
+    public EdgeProperties getEdge() {
+        return edge;
+    }
+
+    public void setEdge(EdgeProperties edge) {
+        this.edge = edge;
+    }
+
+    public RequestSizeProperties getRequestSize() {
+        return requestSize;
+    }
+
+    public void setRequestSize(RequestSizeProperties requestSize) {
+        this.requestSize = requestSize;
+    }
+
+    public HttpClientPoolProperties getHttpClient() {
+        return httpClient;
+    }
+
+    public void setHttpClient(HttpClientPoolProperties httpClient) {
+        this.httpClient = httpClient;
+    }
 }
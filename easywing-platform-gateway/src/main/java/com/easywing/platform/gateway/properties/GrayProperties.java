@@ -15,6 +15,9 @@
  */
 package com.easywing.platform.gateway.properties;
 
+import com.easywing.platform.gateway.filter.gray.GrayHasher;
+
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -31,6 +34,12 @@ public class GrayProperties {
     private String headerName = "X-Gray-Version";
     private String cookieName = "gray-version";
     private String parameterName = "grayVersion";
+    private String deviceIdHeader = "X-Device-Id";
+    private String stickyCookieName = "gray-sticky";
+    private Duration stickyCookieMaxAge = Duration.ofDays(30);
+    private int hashSeed = GrayHasher.DEFAULT_SEED;
+    private boolean loadBalancerEnabled = false;
+    private Duration instanceIndexMaxAge = Duration.ofSeconds(30);
     private Strategy strategy = Strategy.WEIGHT;
     private List<ServiceConfig> services = new ArrayList<>();
 
@@ -74,6 +83,54 @@ public class GrayProperties {
         this.parameterName = parameterName;
     }
 
+    public String getDeviceIdHeader() {
+        return deviceIdHeader;
+    }
+
+    public void setDeviceIdHeader(String deviceIdHeader) {
+        this.deviceIdHeader = deviceIdHeader;
+    }
+
+    public String getStickyCookieName() {
+        return stickyCookieName;
+    }
+
+    public void setStickyCookieName(String stickyCookieName) {
+        this.stickyCookieName = stickyCookieName;
+    }
+
+    public Duration getStickyCookieMaxAge() {
+        return stickyCookieMaxAge;
+    }
+
+    public void setStickyCookieMaxAge(Duration stickyCookieMaxAge) {
+        this.stickyCookieMaxAge = stickyCookieMaxAge;
+    }
+
+    public int getHashSeed() {
+        return hashSeed;
+    }
+
+    public void setHashSeed(int hashSeed) {
+        this.hashSeed = hashSeed;
+    }
+
+    public boolean isLoadBalancerEnabled() {
+        return loadBalancerEnabled;
+    }
+
+    public void setLoadBalancerEnabled(boolean loadBalancerEnabled) {
+        this.loadBalancerEnabled = loadBalancerEnabled;
+    }
+
+    public Duration getInstanceIndexMaxAge() {
+        return instanceIndexMaxAge;
+    }
+
+    public void setInstanceIndexMaxAge(Duration instanceIndexMaxAge) {
+        this.instanceIndexMaxAge = instanceIndexMaxAge;
+    }
+
     public Strategy getStrategy() {
         return strategy;
     }
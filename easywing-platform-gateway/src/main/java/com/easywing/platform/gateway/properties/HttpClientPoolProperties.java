@@ -0,0 +1,125 @@
+/*
+ * Copyright 2024-2026 EasyWing Platform Team.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.easywing.platform.gateway.properties;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 上游HTTP连接池配置属性
+ * <p>
+ * 按服务ID（lb://服务名，非负载均衡路由按路由ID）为上游分配独立的 Reactor Netty 连接池，
+ * 未配置的服务沿用 spring.cloud.gateway.httpclient 的共享连接池。
+ * 设置 spring.cloud.gateway.global-filter.netty-routing.enabled=false 后，
+ * 由网关的按服务路由过滤器接管默认的 NettyRoutingFilter，配置才会生效。
+ *
+ * @author EasyWing Team
+ * @since 1.0.0
+ */
+public class HttpClientPoolProperties {
+
+    /**
+     * 按服务ID配置的独立连接池
+     */
+    private Map<String, PoolConfig> services = new LinkedHashMap<>();
+
+    public Map<String, PoolConfig> getServices() {
+        return services;
+    }
+
+    public void setServices(Map<String, PoolConfig> services) {
+        this.services = services;
+    }
+
+    /**
+     * 单个服务的连接池配置
+     */
+    public static class PoolConfig {
+        private int maxConnections = 200;
+        /**
+         * 等待获取连接的最大请求数，-1 表示不限制
+         */
+        private int pendingAcquireMaxCount = 400;
+        private Duration pendingAcquireTimeout = Duration.ofSeconds(5);
+        private Duration maxIdleTime = Duration.ofSeconds(10);
+        private Duration maxLifeTime = Duration.ofMinutes(5);
+        /**
+         * 后台驱逐空闲连接的间隔，0 表示仅在获取连接时检查
+         */
+        private Duration evictionInterval = Duration.ofSeconds(30);
+        /**
+         * 是否协商 HTTP/2（TLS 使用 ALPN，明文使用 h2c 升级），上游不支持时回退 HTTP/1.1
+         */
+        private boolean http2 = false;
+
+        public int getMaxConnections() {
+            return maxConnections;
+        }
+
+        public void setMaxConnections(int maxConnections) {
+            this.maxConnections = maxConnections;
+        }
+
+        public int getPendingAcquireMaxCount() {
+            return pendingAcquireMaxCount;
+        }
+
+        public void setPendingAcquireMaxCount(int pendingAcquireMaxCount) {
+            this.pendingAcquireMaxCount = pendingAcquireMaxCount;
+        }
+
+        public Duration getPendingAcquireTimeout() {
+            return pendingAcquireTimeout;
+        }
+
+        public void setPendingAcquireTimeout(Duration pendingAcquireTimeout) {
+            this.pendingAcquireTimeout = pendingAcquireTimeout;
+        }
+
+        public Duration getMaxIdleTime() {
+            return maxIdleTime;
+        }
+
+        public void setMaxIdleTime(Duration maxIdleTime) {
+            this.maxIdleTime = maxIdleTime;
+        }
+
+        public Duration getMaxLifeTime() {
+            return maxLifeTime;
+        }
+
+        public void setMaxLifeTime(Duration maxLifeTime) {
+            this.maxLifeTime = maxLifeTime;
+        }
+
+        public Duration getEvictionInterval() {
+            return evictionInterval;
+        }
+
+        public void setEvictionInterval(Duration evictionInterval) {
+            this.evictionInterval = evictionInterval;
+        }
+
+        public boolean isHttp2() {
+            return http2;
+        }
+
+        public void setHttp2(boolean http2) {
+            this.http2 = http2;
+        }
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright 2024-2026 EasyWing Platform Team.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.easywing.platform.gateway.properties;
+
+import java.time.Duration;
+
+/**
+ * 路由延迟统计配置属性
+ *
+ * @author EasyWing Team
+ * @since 1.0.0
+ */
+public class LatencyProperties {
+
+    private boolean enabled = true;
+
+    /**
+     * 统计窗口，窗口到期后在下次读取时清零
+     */
+    private Duration window = Duration.ofMinutes(5);
+
+    /**
+     * 可记录的最大延迟，超出按最大值记录
+     */
+    private Duration highestTrackable = Duration.ofSeconds(60);
+
+    /**
+     * 直方图有效位数（1-5），越大越精确、内存越多
+     */
+    private int significantDigits = 2;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public Duration getWindow() {
+        return window;
+    }
+
+    public void setWindow(Duration window) {
+        this.window = window;
+    }
+
+    public Duration getHighestTrackable() {
+        return highestTrackable;
+    }
+
+    public void setHighestTrackable(Duration highestTrackable) {
+        this.highestTrackable = highestTrackable;
+    }
+
+    public int getSignificantDigits() {
+        return significantDigits;
+    }
+
+    public void setSignificantDigits(int significantDigits) {
+        this.significantDigits = significantDigits;
+    }
+}
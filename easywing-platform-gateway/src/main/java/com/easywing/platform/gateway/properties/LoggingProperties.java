@@ -34,6 +34,7 @@ public class LoggingProperties {
     private int maxBodyLength = 4096;
     private List<DesensitizePattern> desensitizePatterns = new ArrayList<>();
     private List<String> sensitiveHeaders = new ArrayList<>();
+    private BinaryLogConfig binary = new BinaryLogConfig();
 
     public boolean isEnabled() {
         return enabled;
@@ -99,6 +100,86 @@ public class LoggingProperties {
         this.sensitiveHeaders = sensitiveHeaders;
     }
 
+    public BinaryLogConfig getBinary() {
+        return binary;
+    }
+
+    public void setBinary(BinaryLogConfig binary) {
+        this.binary = binary;
+    }
+
+    /**
+     * 二进制访问日志配置
+     * <p>
+     * 启用后访问日志以长度前缀的二进制记录写入内存映射分段文件，
+     * 路径、User-Agent、IP等字段在分段内做字典编码
+     */
+    public static class BinaryLogConfig {
+        private boolean enabled = false;
+        private String directory = "logs/access";
+        private long segmentSize = 64L * 1024 * 1024;
+        private int maxSegments = 32;
+        private int maxDictionarySize = 65536;
+        private int queueCapacity = 8192;
+        private boolean textLogEnabled = false;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public String getDirectory() {
+            return directory;
+        }
+
+        public void setDirectory(String directory) {
+            this.directory = directory;
+        }
+
+        public long getSegmentSize() {
+            return segmentSize;
+        }
+
+        public void setSegmentSize(long segmentSize) {
+            this.segmentSize = segmentSize;
+        }
+
+        public int getMaxSegments() {
+            return maxSegments;
+        }
+
+        public void setMaxSegments(int maxSegments) {
+            this.maxSegments = maxSegments;
+        }
+
+        public int getMaxDictionarySize() {
+            return maxDictionarySize;
+        }
+
+        public void setMaxDictionarySize(int maxDictionarySize) {
+            this.maxDictionarySize = maxDictionarySize;
+        }
+
+        public int getQueueCapacity() {
+            return queueCapacity;
+        }
+
+        public void setQueueCapacity(int queueCapacity) {
+            this.queueCapacity = queueCapacity;
+        }
+
+        public boolean isTextLogEnabled() {
+            return textLogEnabled;
+        }
+
+        public void setTextLogEnabled(boolean textLogEnabled) {
+            this.textLogEnabled = textLogEnabled;
+        }
+    }
+
     public static class DesensitizePattern {
         private String field;
         private DesensitizeType type = DesensitizeType.MASK;
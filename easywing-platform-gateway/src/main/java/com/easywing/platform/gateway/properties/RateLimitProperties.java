@@ -30,6 +30,7 @@ public class RateLimitProperties {
     private int defaultRate = 100;
     private int defaultCapacity = 200;
     private int localCacheSize = 1000;
+    private boolean localEnabled = true;
     private Algorithm algorithm = Algorithm.TOKEN_BUCKET;
     private List<RuleConfig> rules = new ArrayList<>();
     private boolean enableFallback = true;
@@ -67,6 +68,14 @@ public class RateLimitProperties {
         this.localCacheSize = localCacheSize;
     }
 
+    public boolean isLocalEnabled() {
+        return localEnabled;
+    }
+
+    public void setLocalEnabled(boolean localEnabled) {
+        this.localEnabled = localEnabled;
+    }
+
     public Algorithm getAlgorithm() {
         return algorithm;
     }
@@ -0,0 +1,84 @@
+/*
+ * Copyright 2024-2026 EasyWing Platform Team.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.easywing.platform.gateway.properties;
+
+import org.springframework.util.unit.DataSize;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 请求体大小限制配置属性
+ * <p>
+ * 按路由限制请求体大小：
+ * <ul>
+ *     <li>声明了 Content-Length 的请求在转发前直接判定</li>
+ *     <li>分块传输的请求边转发边计数，超限立即中止，不缓冲请求体</li>
+ *     <li>上限小于等于 0 表示不限制</li>
+ * </ul>
+ *
+ * @author EasyWing Team
+ * @since 1.0.0
+ */
+public class RequestSizeProperties {
+
+    private boolean enabled = true;
+
+    /**
+     * 默认请求体上限
+     */
+    private DataSize defaultMaxSize = DataSize.ofMegabytes(10);
+
+    /**
+     * 按路由ID覆盖的请求体上限
+     */
+    private Map<String, DataSize> routes = new LinkedHashMap<>();
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public DataSize getDefaultMaxSize() {
+        return defaultMaxSize;
+    }
+
+    public void setDefaultMaxSize(DataSize defaultMaxSize) {
+        this.defaultMaxSize = defaultMaxSize;
+    }
+
+    public Map<String, DataSize> getRoutes() {
+        return routes;
+    }
+
+    public void setRoutes(Map<String, DataSize> routes) {
+        this.routes = routes;
+    }
+
+    /**
+     * 获取路由的请求体上限（字节），小于等于 0 表示不限制
+     */
+    public long maxSizeFor(String routeId) {
+        DataSize size = routeId != null ? routes.get(routeId) : null;
+        if (size == null) {
+            size = defaultMaxSize;
+        }
+        return size != null ? size.toBytes() : -1;
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright 2024-2026 EasyWing Platform Team.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.easywing.platform.gateway.properties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 网关响应缓存配置属性
+ *
+ * @author EasyWing Team
+ * @since 1.0.0
+ */
+public class ResponseCacheProperties {
+
+    private boolean enabled = true;
+
+    /**
+     * 缓存总容量（字节）
+     */
+    private long maxSize = 64L * 1024 * 1024;
+
+    /**
+     * 单个响应体上限（字节），超过则不缓存
+     */
+    private int maxEntrySize = 1024 * 1024;
+
+    /**
+     * 上游未给出 Cache-Control 时的默认缓存时长
+     */
+    private Duration defaultTtl = Duration.ofSeconds(60);
+
+    /**
+     * 参与缓存键计算的请求头，路由配置可追加
+     */
+    private List<String> varyHeaders = new ArrayList<>(List.of("Accept", "Accept-Language"));
+
+    /**
+     * 租户请求头，参与缓存键计算
+     */
+    private String tenantHeader = "X-Tenant-Id";
+
+    /**
+     * 缓存失效广播的Redis频道
+     */
+    private String invalidationTopic = "easywing:gateway:response-cache:invalidate";
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public long getMaxSize() {
+        return maxSize;
+    }
+
+    public void setMaxSize(long maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    public int getMaxEntrySize() {
+        return maxEntrySize;
+    }
+
+    public void setMaxEntrySize(int maxEntrySize) {
+        this.maxEntrySize = maxEntrySize;
+    }
+
+    public Duration getDefaultTtl() {
+        return defaultTtl;
+    }
+
+    public void setDefaultTtl(Duration defaultTtl) {
+        this.defaultTtl = defaultTtl;
+    }
+
+    public List<String> getVaryHeaders() {
+        return varyHeaders;
+    }
+
+    public void setVaryHeaders(List<String> varyHeaders) {
+        this.varyHeaders = varyHeaders;
+    }
+
+    public String getTenantHeader() {
+        return tenantHeader;
+    }
+
+    public void setTenantHeader(String tenantHeader) {
+        this.tenantHeader = tenantHeader;
+    }
+
+    public String getInvalidationTopic() {
+        return invalidationTopic;
+    }
+
+    public void setInvalidationTopic(String invalidationTopic) {
+        this.invalidationTopic = invalidationTopic;
+    }
+}
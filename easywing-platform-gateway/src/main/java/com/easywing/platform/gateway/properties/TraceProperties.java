@@ -0,0 +1,69 @@
+/*
+ * Copyright 2024-2026 EasyWing Platform Team.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.easywing.platform.gateway.properties;
+
+/**
+ * 链路追踪配置属性
+ *
+ * @author EasyWing Team
+ * @since 1.0.0
+ */
+public class TraceProperties {
+
+    /**
+     * ID生成策略
+     */
+    private IdGeneratorType idGenerator = IdGeneratorType.RANDOM;
+
+    /**
+     * TIME_BASED 策略的节点号（0-65535），小于0时由主机名推导
+     */
+    private int nodeId = -1;
+
+    /**
+     * 新建链路时是否置采样标志
+     */
+    private boolean sampled = true;
+
+    public IdGeneratorType getIdGenerator() {
+        return idGenerator;
+    }
+
+    public void setIdGenerator(IdGeneratorType idGenerator) {
+        this.idGenerator = idGenerator;
+    }
+
+    public int getNodeId() {
+        return nodeId;
+    }
+
+    public void setNodeId(int nodeId) {
+        this.nodeId = nodeId;
+    }
+
+    public boolean isSampled() {
+        return sampled;
+    }
+
+    public void setSampled(boolean sampled) {
+        this.sampled = sampled;
+    }
+
+    public enum IdGeneratorType {
+        RANDOM,
+        TIME_BASED
+    }
+}
@@ -0,0 +1,39 @@
+/*
+ * Copyright 2024-2026 EasyWing Platform Team.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.easywing.platform.gateway.util;
+
+/**
+ * 请求与链路ID生成器
+ * <p>
+ * 生成的ID均为小写十六进制，与 W3C Trace Context 的格式保持一致：
+ * <ul>
+ *     <li>traceId：32位十六进制（128bit），不能全为0</li>
+ *     <li>spanId：16位十六进制（64bit），不能全为0</li>
+ * </ul>
+ *
+ * @author EasyWing Team
+ * @since 1.0.0
+ */
+public interface IdGenerator {
+
+    String nextTraceId();
+
+    String nextSpanId();
+
+    default String nextRequestId() {
+        return nextTraceId();
+    }
+}
@@ -15,119 +15,73 @@
  */
 package com.easywing.platform.gateway.util;
 
+import com.easywing.platform.core.constant.HttpHeaders;
+import com.easywing.platform.core.util.CidrTrie;
+import com.easywing.platform.core.util.ClientIpResolver;
 import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.web.server.ServerWebExchange;
 
 import java.net.InetSocketAddress;
+import java.util.List;
 
 /**
  * IP地址工具类
+ * <p>
+ * 客户端IP统一由 {@link ClientIpResolver} 解析，解析结果缓存在请求属性中，
+ * 同一请求内的过滤器不会重复解析。
  *
  * @author EasyWing Team
  * @since 1.0.0
  */
 public final class IpUtil {
 
-    private static final String UNKNOWN = "unknown";
+    /**
+     * 已解析客户端IP的请求属性名
+     */
+    public static final String CLIENT_IP_ATTR = IpUtil.class.getName() + ".clientIp";
+
     private static final String LOCALHOST_IPV4 = "127.0.0.1";
     private static final String LOCALHOST_IPV6 = "0:0:0:0:0:0:0:1";
 
+    private static final CidrTrie INTERNAL_NETWORKS = CidrTrie.of(List.of(
+            "127.0.0.0/8", "10.0.0.0/8", "172.16.0.0/12", "192.168.0.0/16", "::1/128", "fc00::/7"));
+
     private IpUtil() {
     }
 
     public static String getClientIp(ServerHttpRequest request) {
-        String ip = request.getHeaders().getFirst("X-Forwarded-For");
-        
-        if (isValidIp(ip)) {
-            int index = ip.indexOf(',');
-            if (index != -1) {
-                ip = ip.substring(0, index);
-            }
-            return ip.trim();
-        }
-        
-        ip = request.getHeaders().getFirst("X-Real-IP");
-        if (isValidIp(ip)) {
-            return ip;
-        }
-        
-        ip = request.getHeaders().getFirst("Proxy-Client-IP");
-        if (isValidIp(ip)) {
-            return ip;
-        }
-        
-        ip = request.getHeaders().getFirst("WL-Proxy-Client-IP");
-        if (isValidIp(ip)) {
-            return ip;
-        }
-        
-        ip = request.getHeaders().getFirst("HTTP_CLIENT_IP");
-        if (isValidIp(ip)) {
-            return ip;
-        }
-        
-        ip = request.getHeaders().getFirst("HTTP_X_FORWARDED_FOR");
-        if (isValidIp(ip)) {
-            return ip;
-        }
-        
-        InetSocketAddress remoteAddress = request.getRemoteAddress();
-        if (remoteAddress != null && remoteAddress.getAddress() != null) {
-            ip = remoteAddress.getAddress().getHostAddress();
-            if (LOCALHOST_IPV6.equals(ip)) {
-                ip = LOCALHOST_IPV4;
-            }
-            return ip;
-        }
-        
-        return UNKNOWN;
+        return getClientIp(request, ClientIpResolver.defaults());
     }
 
-    private static boolean isValidIp(String ip) {
-        return ip != null && !ip.isEmpty() && !UNKNOWN.equalsIgnoreCase(ip);
+    public static String getClientIp(ServerHttpRequest request, ClientIpResolver resolver) {
+        return resolver.resolve(
+                request.getHeaders().getFirst(HttpHeaders.X_FORWARDED_FOR),
+                request.getHeaders().getFirst(HttpHeaders.X_REAL_IP),
+                getRemoteIp(request));
     }
 
-    public static boolean isInternalIp(String ip) {
-        if (ip == null || ip.isEmpty()) {
-            return false;
-        }
-        
-        if (LOCALHOST_IPV4.equals(ip) || LOCALHOST_IPV6.equals(ip)) {
-            return true;
-        }
-        
-        byte[] bytes = parseIpBytes(ip);
-        if (bytes == null) {
-            return false;
-        }
-        
-        if (bytes[0] == 10) {
-            return true;
-        }
-        
-        if (bytes[0] == 172 && bytes[1] >= 16 && bytes[1] <= 31) {
-            return true;
+    /**
+     * 获取客户端IP，优先使用本次请求已解析的结果
+     */
+    public static String getClientIp(ServerWebExchange exchange, ClientIpResolver resolver) {
+        String ip = exchange.getAttribute(CLIENT_IP_ATTR);
+        if (ip == null) {
+            ip = getClientIp(exchange.getRequest(), resolver);
+            exchange.getAttributes().put(CLIENT_IP_ATTR, ip);
         }
-        
-        if (bytes[0] == 192 && bytes[1] == 168) {
-            return true;
-        }
-        
-        return false;
+        return ip;
     }
 
-    private static byte[] parseIpBytes(String ip) {
-        try {
-            String[] parts = ip.split("\\.");
-            if (parts.length != 4) {
-                return null;
-            }
-            byte[] bytes = new byte[4];
-            for (int i = 0; i < 4; i++) {
-                bytes[i] = (byte) Integer.parseInt(parts[i]);
-            }
-            return bytes;
-        } catch (Exception e) {
+    public static String getRemoteIp(ServerHttpRequest request) {
+        InetSocketAddress remoteAddress = request.getRemoteAddress();
+        if (remoteAddress == null || remoteAddress.getAddress() == null) {
             return null;
         }
+        String ip = remoteAddress.getAddress().getHostAddress();
+        return LOCALHOST_IPV6.equals(ip) ? LOCALHOST_IPV4 : ip;
+    }
+
+    public static boolean isInternalIp(String ip) {
+        return INTERNAL_NETWORKS.contains(ip);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright 2024-2026 EasyWing Platform Team.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.easywing.platform.gateway.util;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 基于线程本地随机数的ID生成器
+ * <p>
+ * 使用 {@link ThreadLocalRandom}，不经过 SecureRandom，线程间无竞争；
+ * 十六进制直接写入预分配的字符数组，每个ID只产生一次字符串分配。
+ *
+ * @author EasyWing Team
+ * @since 1.0.0
+ */
+public class RandomIdGenerator implements IdGenerator {
+
+    @Override
+    public String nextTraceId() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long high = random.nextLong();
+        long low = random.nextLong();
+        if ((high | low) == 0) {
+            low = 1;
+        }
+        return TraceUtil.toHex(high, low);
+    }
+
+    @Override
+    public String nextSpanId() {
+        long value = ThreadLocalRandom.current().nextLong();
+        return TraceUtil.toHex(value == 0 ? 1 : value);
+    }
+}
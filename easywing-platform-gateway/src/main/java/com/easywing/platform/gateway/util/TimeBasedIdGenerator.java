@@ -0,0 +1,80 @@
+/*
+ * Copyright 2024-2026 EasyWing Platform Team.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.easywing.platform.gateway.util;
+
+import java.net.InetAddress;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 基于时间、节点与计数器的ID生成器
+ * <p>
+ * traceId 布局（128bit）：
+ * <ul>
+ *     <li>高64位：48位毫秒时间戳 + 16位节点号，按时间有序，便于日志检索与排障</li>
+ *     <li>低64位：24位线程槽 + 40位线程内计数器，计数器为线程私有，无CAS竞争</li>
+ * </ul>
+ * spanId 仅需在链路内唯一，直接使用线程本地随机数。
+ *
+ * @author EasyWing Team
+ * @since 1.0.0
+ */
+public class TimeBasedIdGenerator implements IdGenerator {
+
+    private static final long NODE_MASK = 0xFFFFL;
+    private static final long SLOT_MASK = 0xFFFFFFL;
+    private static final long COUNTER_MASK = 0xFFFFFFFFFFL;
+
+    private static final ThreadLocal<Sequence> SEQUENCE = ThreadLocal.withInitial(Sequence::new);
+
+    private final long nodeId;
+
+    public TimeBasedIdGenerator(int nodeId) {
+        this.nodeId = nodeId & NODE_MASK;
+    }
+
+    /**
+     * 以主机名哈希推导节点号，获取失败时随机生成
+     */
+    public static int defaultNodeId() {
+        try {
+            return InetAddress.getLocalHost().getHostName().hashCode() & (int) NODE_MASK;
+        } catch (Exception e) {
+            return ThreadLocalRandom.current().nextInt((int) NODE_MASK + 1);
+        }
+    }
+
+    @Override
+    public String nextTraceId() {
+        long high = (System.currentTimeMillis() << 16) | nodeId;
+        return TraceUtil.toHex(high, SEQUENCE.get().next());
+    }
+
+    @Override
+    public String nextSpanId() {
+        long value = ThreadLocalRandom.current().nextLong();
+        return TraceUtil.toHex(value == 0 ? 1 : value);
+    }
+
+    private static final class Sequence {
+        private final long slot = (Thread.currentThread().threadId() & SLOT_MASK) << 40;
+        private long counter = ThreadLocalRandom.current().nextLong() & COUNTER_MASK;
+
+        long next() {
+            counter = (counter + 1) & COUNTER_MASK;
+            return slot | counter;
+        }
+    }
+}
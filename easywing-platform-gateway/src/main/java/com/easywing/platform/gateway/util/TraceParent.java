@@ -0,0 +1,109 @@
+/*
+ * Copyright 2024-2026 EasyWing Platform Team.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.easywing.platform.gateway.util;
+
+/**
+ * W3C traceparent 请求头
+ * <p>
+ * 格式：{@code version-traceId-parentId-flags}，例如
+ * {@code 00-4bf92f3577b34da6a3ce929d0e0e4736-00f067aa0ba902b7-01}。
+ * 解析遵循规范：字段必须为小写十六进制、traceId/parentId 不能全为0、版本 ff 非法，
+ * 高于 00 的版本允许携带后续字段。
+ *
+ * @param traceId  32位十六进制链路ID
+ * @param parentId 16位十六进制父级spanId
+ * @param flags    2位十六进制标志位
+ * @author EasyWing Team
+ * @since 1.0.0
+ */
+public record TraceParent(String traceId, String parentId, String flags) {
+
+    public static final String VERSION = "00";
+    public static final String FLAG_SAMPLED = "01";
+
+    private static final int LENGTH = 55;
+
+    /**
+     * 解析traceparent，格式非法时返回null
+     */
+    public static TraceParent parse(String header) {
+        if (header == null || header.length() < LENGTH) {
+            return null;
+        }
+        if (header.charAt(2) != '-' || header.charAt(35) != '-' || header.charAt(52) != '-') {
+            return null;
+        }
+        if (!isLowerHex(header, 0, 2) || (header.charAt(0) == 'f' && header.charAt(1) == 'f')) {
+            return null;
+        }
+        boolean version00 = header.charAt(0) == '0' && header.charAt(1) == '0';
+        if (version00 ? header.length() != LENGTH : header.length() > LENGTH && header.charAt(LENGTH) != '-') {
+            return null;
+        }
+        if (!isLowerHex(header, 3, 35) || isAllZero(header, 3, 35)
+                || !isLowerHex(header, 36, 52) || isAllZero(header, 36, 52)
+                || !isLowerHex(header, 53, 55)) {
+            return null;
+        }
+        return new TraceParent(header.substring(3, 35), header.substring(36, 52), header.substring(53, 55));
+    }
+
+    public boolean isSampled() {
+        return (Character.digit(flags.charAt(1), 16) & 1) == 1;
+    }
+
+    /**
+     * 以新的spanId作为父级，生成传递给下游的traceparent
+     */
+    public TraceParent withParentId(String spanId) {
+        return new TraceParent(traceId, spanId, flags);
+    }
+
+    /**
+     * 按版本00格式输出
+     */
+    public String format() {
+        char[] buf = new char[LENGTH];
+        buf[0] = '0';
+        buf[1] = '0';
+        buf[2] = '-';
+        traceId.getChars(0, 32, buf, 3);
+        buf[35] = '-';
+        parentId.getChars(0, 16, buf, 36);
+        buf[52] = '-';
+        flags.getChars(0, 2, buf, 53);
+        return new String(buf);
+    }
+
+    private static boolean isLowerHex(String s, int start, int end) {
+        for (int i = start; i < end; i++) {
+            char c = s.charAt(i);
+            if ((c < '0' || c > '9') && (c < 'a' || c > 'f')) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isAllZero(String s, int start, int end) {
+        for (int i = start; i < end; i++) {
+            if (s.charAt(i) != '0') {
+                return false;
+            }
+        }
+        return true;
+    }
+}
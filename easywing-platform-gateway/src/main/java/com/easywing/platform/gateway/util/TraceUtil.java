@@ -15,9 +15,6 @@
  */
 package com.easywing.platform.gateway.util;
 
-import java.util.UUID;
-import java.util.concurrent.ThreadLocalRandom;
-
 /**
  * 链路追踪工具类
  *
@@ -28,29 +25,51 @@ public final class TraceUtil {
 
     private static final int TRACE_ID_LENGTH = 32;
     private static final int SPAN_ID_LENGTH = 16;
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+    private static final IdGenerator DEFAULT_GENERATOR = new RandomIdGenerator();
 
     private TraceUtil() {
     }
 
     public static String generateTraceId() {
-        return generateId(TRACE_ID_LENGTH);
+        return DEFAULT_GENERATOR.nextTraceId();
     }
 
     public static String generateSpanId() {
-        return generateId(SPAN_ID_LENGTH);
+        return DEFAULT_GENERATOR.nextSpanId();
     }
 
     public static String generateRequestId() {
-        return UUID.randomUUID().toString().replace("-", "");
+        return DEFAULT_GENERATOR.nextRequestId();
+    }
+
+    /**
+     * 64位值转16位小写十六进制
+     */
+    public static String toHex(long value) {
+        char[] buf = new char[SPAN_ID_LENGTH];
+        writeHex(value, buf, 0);
+        return new String(buf);
+    }
+
+    /**
+     * 128位值转32位小写十六进制
+     */
+    public static String toHex(long high, long low) {
+        char[] buf = new char[TRACE_ID_LENGTH];
+        writeHex(high, buf, 0);
+        writeHex(low, buf, SPAN_ID_LENGTH);
+        return new String(buf);
     }
 
-    private static String generateId(int length) {
-        ThreadLocalRandom random = ThreadLocalRandom.current();
-        StringBuilder sb = new StringBuilder(length);
-        for (int i = 0; i < length; i++) {
-            sb.append(Integer.toHexString(random.nextInt(16)));
+    /**
+     * 将64位值以16位十六进制写入字符数组
+     */
+    public static void writeHex(long value, char[] buf, int offset) {
+        for (int i = offset + SPAN_ID_LENGTH - 1; i >= offset; i--) {
+            buf[i] = HEX[(int) (value & 0xF)];
+            value >>>= 4;
         }
-        return sb.toString();
     }
 
     public static boolean isValidTraceId(String traceId) {
@@ -0,0 +1,72 @@
+/*
+ * Copyright 2024-2026 EasyWing Platform Team.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.easywing.platform.gateway.benchmark;
+
+import com.easywing.platform.gateway.filter.gray.GrayHasher;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 灰度路由哈希基准测试：MD5 vs MurmurHash3
+ * <p>
+ * 运行：mvn test -Pbenchmark -pl easywing-platform-gateway -Dbenchmark.includes=GrayHashBenchmark
+ *
+ * @author EasyWing Team
+ * @since 1.0.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GrayHashBenchmark {
+
+    private final GrayHasher hasher = new GrayHasher(GrayHasher.DEFAULT_SEED);
+    private String userId;
+
+    @Setup
+    public void setUp() {
+        userId = "user-1234567890";
+    }
+
+    @Benchmark
+    public int md5() throws Exception {
+        MessageDigest md = MessageDigest.getInstance("MD5");
+        byte[] digest = md.digest(userId.getBytes(StandardCharsets.UTF_8));
+        return ((digest[0] & 0xFF) << 24)
+                | ((digest[1] & 0xFF) << 16)
+                | ((digest[2] & 0xFF) << 8)
+                | (digest[3] & 0xFF);
+    }
+
+    @Benchmark
+    public int murmur3() {
+        return hasher.bucket(userId, 100);
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright 2024-2026 EasyWing Platform Team.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.easywing.platform.gateway.benchmark;
+
+import com.easywing.platform.gateway.util.IdGenerator;
+import com.easywing.platform.gateway.util.RandomIdGenerator;
+import com.easywing.platform.gateway.util.TimeBasedIdGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 请求ID生成基准测试：UUID vs 线程本地随机数 vs 时间+节点+计数器
+ * <p>
+ * 以4线程并发运行，体现 SecureRandom 的锁竞争；可配合 {@code -prof gc} 观察分配量。
+ * 运行：mvn test -Pbenchmark -pl easywing-platform-gateway -Dbenchmark.includes=IdGeneratorBenchmark
+ *
+ * @author EasyWing Team
+ * @since 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(4)
+@Fork(1)
+public class IdGeneratorBenchmark {
+
+    private final IdGenerator random = new RandomIdGenerator();
+    private final IdGenerator timeBased = new TimeBasedIdGenerator(1);
+
+    @Benchmark
+    public String uuid() {
+        return UUID.randomUUID().toString().replace("-", "");
+    }
+
+    @Benchmark
+    public String threadLocalRandom() {
+        return random.nextRequestId();
+    }
+
+    @Benchmark
+    public String timeNodeCounter() {
+        return timeBased.nextRequestId();
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright 2024-2026 EasyWing Platform Team.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.easywing.platform.gateway.filter;
+
+import com.easywing.platform.core.constant.HttpHeaders;
+import com.easywing.platform.gateway.properties.GatewayProperties;
+import com.easywing.platform.gateway.util.RandomIdGenerator;
+import com.easywing.platform.gateway.util.TraceParent;
+import com.easywing.platform.gateway.util.TraceUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * 请求ID过滤器测试
+ *
+ * @author EasyWing Team
+ * @since 1.0.0
+ */
+@ExtendWith(MockitoExtension.class)
+class RequestIdFilterTest {
+
+    private static final String TRACE_ID = "4bf92f3577b34da6a3ce929d0e0e4736";
+    private static final String PARENT_ID = "00f067aa0ba902b7";
+
+    @Mock
+    private GatewayFilterChain chain;
+
+    private RequestIdFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        filter = new RequestIdFilter(new RandomIdGenerator(), new GatewayProperties());
+        when(chain.filter(any())).thenReturn(Mono.empty());
+    }
+
+    @Test
+    @DisplayName("Incoming traceparent - should keep trace id and flags with a new parent span")
+    void testPropagateTraceparent() {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/api/users")
+                .header(HttpHeaders.TRACE_PARENT, "00-" + TRACE_ID + "-" + PARENT_ID + "-00")
+                .header(HttpHeaders.TRACE_STATE, "vendor=abc")
+                .build());
+
+        ServerHttpRequest forwarded = filterAndCapture(exchange);
+
+        TraceParent downstream = TraceParent.parse(forwarded.getHeaders().getFirst(HttpHeaders.TRACE_PARENT));
+        assertNotNull(downstream);
+        assertEquals(TRACE_ID, downstream.traceId());
+        assertNotEquals(PARENT_ID, downstream.parentId());
+        assertEquals(forwarded.getHeaders().getFirst(HttpHeaders.X_SPAN_ID), downstream.parentId());
+        assertFalse(downstream.isSampled());
+        assertEquals(TRACE_ID, forwarded.getHeaders().getFirst(HttpHeaders.X_TRACE_ID));
+        assertEquals("vendor=abc", forwarded.getHeaders().getFirst(HttpHeaders.TRACE_STATE));
+        assertEquals(TRACE_ID, exchange.getResponse().getHeaders().getFirst(HttpHeaders.X_TRACE_ID));
+    }
+
+    @Test
+    @DisplayName("No trace context - should start a sampled trace independent of the request id")
+    void testStartNewTrace() {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/api/users")
+                .header(HttpHeaders.X_REQUEST_ID, "req-1")
+                .build());
+
+        ServerHttpRequest forwarded = filterAndCapture(exchange);
+
+        String traceId = forwarded.getHeaders().getFirst(HttpHeaders.X_TRACE_ID);
+        assertTrue(TraceUtil.isValidTraceId(traceId));
+        assertEquals("req-1", forwarded.getHeaders().getFirst(HttpHeaders.X_REQUEST_ID));
+        TraceParent downstream = TraceParent.parse(forwarded.getHeaders().getFirst(HttpHeaders.TRACE_PARENT));
+        assertNotNull(downstream);
+        assertEquals(traceId, downstream.traceId());
+        assertTrue(downstream.isSampled());
+        assertEquals("req-1", exchange.getResponse().getHeaders().getFirst(HttpHeaders.X_REQUEST_ID));
+    }
+
+    @Test
+    @DisplayName("Malformed traceparent - should fall back to X-Trace-Id")
+    void testMalformedTraceparentFallsBack() {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/api/users")
+                .header(HttpHeaders.TRACE_PARENT, "00-" + TRACE_ID.toUpperCase() + "-" + PARENT_ID + "-01")
+                .header(HttpHeaders.X_TRACE_ID, "0af7651916cd43dd8448eb211c80319c")
+                .build());
+
+        ServerHttpRequest forwarded = filterAndCapture(exchange);
+
+        assertEquals("0af7651916cd43dd8448eb211c80319c", forwarded.getHeaders().getFirst(HttpHeaders.X_TRACE_ID));
+        assertTrue(forwarded.getHeaders().getFirst(HttpHeaders.TRACE_PARENT)
+                .startsWith("00-0af7651916cd43dd8448eb211c80319c-"));
+    }
+
+    private ServerHttpRequest filterAndCapture(MockServerWebExchange exchange) {
+        StepVerifier.create(filter.filter(exchange, chain)).verifyComplete();
+        ArgumentCaptor<ServerWebExchange> captor = ArgumentCaptor.forClass(ServerWebExchange.class);
+        verify(chain).filter(captor.capture());
+        return captor.getValue().getRequest();
+    }
+}
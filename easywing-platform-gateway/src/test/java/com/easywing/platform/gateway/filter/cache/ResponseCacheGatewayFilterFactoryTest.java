@@ -0,0 +1,203 @@
+/*
+ * Copyright 2024-2026 EasyWing Platform Team.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.easywing.platform.gateway.filter.cache;
+
+import com.easywing.platform.gateway.properties.ResponseCacheProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * 网关响应缓存过滤器测试
+ *
+ * @author EasyWing Team
+ * @since 1.0.0
+ */
+@ExtendWith(MockitoExtension.class)
+class ResponseCacheGatewayFilterFactoryTest {
+
+    private static final String BODY = "{\"dictType\":\"sys_user_sex\"}";
+
+    @Mock
+    private GatewayFilterChain chain;
+
+    private ResponseCacheManager cacheManager;
+    private GatewayFilter filter;
+    private AtomicInteger upstreamCalls;
+    private String upstreamCacheControl;
+    private String upstreamVary;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager = new ResponseCacheManager(new ResponseCacheProperties());
+        filter = new ResponseCacheGatewayFilterFactory(cacheManager)
+                .apply(new ResponseCacheGatewayFilterFactory.Config());
+        upstreamCalls = new AtomicInteger();
+        upstreamCacheControl = "max-age=60";
+        when(chain.filter(any())).thenAnswer(invocation -> {
+            upstreamCalls.incrementAndGet();
+            ServerHttpResponse response = invocation.<ServerWebExchange>getArgument(0).getResponse();
+            response.setStatusCode(HttpStatus.OK);
+            response.getHeaders().setCacheControl(upstreamCacheControl);
+            if (upstreamVary != null) {
+                response.getHeaders().set(HttpHeaders.VARY, upstreamVary);
+            }
+            return response.writeWith(Mono.just(response.bufferFactory().wrap(BODY.getBytes(StandardCharsets.UTF_8))));
+        });
+    }
+
+    @Test
+    @DisplayName("Repeated GET - should be served from the gateway cache")
+    void testCacheHit() {
+        MockServerWebExchange first = exchange("tenant-a", null);
+        StepVerifier.create(filter.filter(first, chain)).verifyComplete();
+        assertEquals("MISS", first.getResponse().getHeaders().getFirst(ResponseCacheGatewayFilterFactory.CACHE_STATUS_HEADER));
+
+        MockServerWebExchange second = exchange("tenant-a", null);
+        StepVerifier.create(filter.filter(second, chain)).verifyComplete();
+
+        assertEquals(1, upstreamCalls.get());
+        assertEquals("HIT", second.getResponse().getHeaders().getFirst(ResponseCacheGatewayFilterFactory.CACHE_STATUS_HEADER));
+        assertEquals(BODY, second.getResponse().getBodyAsString().block());
+        assertNotNull(second.getResponse().getHeaders().getETag());
+    }
+
+    @Test
+    @DisplayName("Different tenant - should not share cached responses")
+    void testTenantIsolation() {
+        StepVerifier.create(filter.filter(exchange("tenant-a", null), chain)).verifyComplete();
+        StepVerifier.create(filter.filter(exchange("tenant-b", null), chain)).verifyComplete();
+
+        assertEquals(2, upstreamCalls.get());
+    }
+
+    @Test
+    @DisplayName("Cache-Control no-store or private - should not be cached")
+    void testUncacheableResponse() {
+        upstreamCacheControl = "private, max-age=60";
+        StepVerifier.create(filter.filter(exchange("tenant-a", null), chain)).verifyComplete();
+        StepVerifier.create(filter.filter(exchange("tenant-a", null), chain)).verifyComplete();
+
+        assertEquals(2, upstreamCalls.get());
+    }
+
+    @Test
+    @DisplayName("Matching If-None-Match - should return 304 without a body")
+    void testConditionalRequest() {
+        MockServerWebExchange first = exchange("tenant-a", null);
+        StepVerifier.create(filter.filter(first, chain)).verifyComplete();
+        String etag = cacheManager.getCache().asMap().values().iterator().next().getEtag();
+
+        MockServerWebExchange second = exchange("tenant-a", etag);
+        StepVerifier.create(filter.filter(second, chain)).verifyComplete();
+
+        assertEquals(HttpStatus.NOT_MODIFIED, second.getResponse().getStatusCode());
+        assertEquals(1, upstreamCalls.get());
+    }
+
+    @Test
+    @DisplayName("Invalidation message - should evict entries under the route path prefix")
+    void testInvalidation() {
+        StepVerifier.create(filter.filter(exchange("tenant-a", null), chain)).verifyComplete();
+
+        ResponseCacheInvalidationListener listener = new ResponseCacheInvalidationListener(
+                mock(ReactiveStringRedisTemplate.class), cacheManager);
+        listener.apply("order-service:/api/system/dict");
+        assertEquals(1, cacheManager.getCache().estimatedSize());
+
+        listener.apply("system-dict:/api/system/dict");
+        StepVerifier.create(filter.filter(exchange("tenant-a", null), chain)).verifyComplete();
+        assertEquals(2, upstreamCalls.get());
+    }
+
+    @Test
+    @DisplayName("Upstream Vary header - should key entries by the listed request headers")
+    void testResponseVary() {
+        upstreamVary = "X-Client-Version";
+        StepVerifier.create(filter.filter(exchange("tenant-a", null, "X-Client-Version", "1"), chain))
+                .verifyComplete();
+        StepVerifier.create(filter.filter(exchange("tenant-a", null, "X-Client-Version", "2"), chain))
+                .verifyComplete();
+        assertEquals(2, upstreamCalls.get());
+
+        MockServerWebExchange repeated = exchange("tenant-a", null, "X-Client-Version", "1");
+        StepVerifier.create(filter.filter(repeated, chain)).verifyComplete();
+
+        assertEquals(2, upstreamCalls.get());
+        assertEquals("HIT", repeated.getResponse().getHeaders()
+                .getFirst(ResponseCacheGatewayFilterFactory.CACHE_STATUS_HEADER));
+    }
+
+    @Test
+    @DisplayName("Authorized request - should only be cached when the response is public or has s-maxage")
+    void testAuthorizedRequest() {
+        StepVerifier.create(filter.filter(exchange("tenant-a", null, HttpHeaders.AUTHORIZATION, "Bearer t"), chain))
+                .verifyComplete();
+        assertEquals(0, cacheManager.getCache().estimatedSize());
+
+        upstreamCacheControl = "public, max-age=60";
+        StepVerifier.create(filter.filter(exchange("tenant-a", null, HttpHeaders.AUTHORIZATION, "Bearer t"), chain))
+                .verifyComplete();
+        assertEquals(1, cacheManager.getCache().estimatedSize());
+    }
+
+    private static MockServerWebExchange exchange(String tenantId, String ifNoneMatch) {
+        return exchange(tenantId, ifNoneMatch, null, null);
+    }
+
+    private static MockServerWebExchange exchange(String tenantId, String ifNoneMatch,
+                                                  String headerName, String headerValue) {
+        MockServerHttpRequest.BaseBuilder<?> builder = MockServerHttpRequest
+                .get("/api/system/dict/data/type/sys_user_sex")
+                .header("X-Tenant-Id", tenantId);
+        if (ifNoneMatch != null) {
+            builder.header(HttpHeaders.IF_NONE_MATCH, ifNoneMatch);
+        }
+        if (headerName != null) {
+            builder.header(headerName, headerValue);
+        }
+        MockServerWebExchange exchange = MockServerWebExchange.from(builder.build());
+        exchange.getAttributes().put(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR, Route.async()
+                .id("system-dict")
+                .uri("lb://system-service")
+                .predicate(e -> true)
+                .build());
+        return exchange;
+    }
+}
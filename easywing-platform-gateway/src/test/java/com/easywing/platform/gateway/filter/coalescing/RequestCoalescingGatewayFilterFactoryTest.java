@@ -0,0 +1,171 @@
+/*
+ * Copyright 2024-2026 EasyWing Platform Team.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.easywing.platform.gateway.filter.coalescing;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * 请求合并过滤器测试
+ *
+ * @author EasyWing Team
+ * @since 1.0.0
+ */
+@ExtendWith(MockitoExtension.class)
+class RequestCoalescingGatewayFilterFactoryTest {
+
+    private static final String BODY = "[{\"id\":1}]";
+
+    @Mock
+    private GatewayFilterChain chain;
+
+    private RequestCoalescingGatewayFilterFactory factory;
+    private AtomicInteger upstreamCalls;
+    private Duration upstreamLatency;
+
+    @BeforeEach
+    void setUp() {
+        factory = new RequestCoalescingGatewayFilterFactory();
+        upstreamCalls = new AtomicInteger();
+        upstreamLatency = Duration.ofMillis(200);
+        when(chain.filter(any())).thenAnswer(invocation -> {
+            ServerHttpResponse response = invocation.<ServerWebExchange>getArgument(0).getResponse();
+            return Mono.delay(upstreamLatency)
+                    .doOnNext(tick -> upstreamCalls.incrementAndGet())
+                    .then(Mono.defer(() -> {
+                        response.setStatusCode(HttpStatus.OK);
+                        return response.writeWith(Mono.just(
+                                response.bufferFactory().wrap(BODY.getBytes(StandardCharsets.UTF_8))));
+                    }));
+        });
+    }
+
+    @Test
+    @DisplayName("Concurrent identical GETs - should reach upstream once and share the response")
+    void testCoalesceIdenticalRequests() {
+        GatewayFilter filter = factory.apply(new RequestCoalescingGatewayFilterFactory.Config());
+        List<MockServerWebExchange> exchanges = exchanges(10, "user-1");
+
+        StepVerifier.create(Flux.fromIterable(exchanges).flatMap(exchange -> filter.filter(exchange, chain)))
+                .verifyComplete();
+
+        assertEquals(1, upstreamCalls.get());
+        assertEquals(0, factory.inFlightCount());
+        long coalesced = exchanges.stream()
+                .filter(e -> "true".equals(e.getResponse().getHeaders()
+                        .getFirst(RequestCoalescingGatewayFilterFactory.COALESCED_HEADER)))
+                .count();
+        assertEquals(9, coalesced);
+        for (MockServerWebExchange exchange : exchanges) {
+            assertEquals(HttpStatus.OK, exchange.getResponse().getStatusCode());
+            assertEquals(BODY, exchange.getResponse().getBodyAsString().block());
+        }
+    }
+
+    @Test
+    @DisplayName("Different users - should not share responses")
+    void testAuthScopeIsolation() {
+        GatewayFilter filter = factory.apply(new RequestCoalescingGatewayFilterFactory.Config());
+        List<MockServerWebExchange> exchanges = new ArrayList<>(exchanges(3, "user-1"));
+        exchanges.addAll(exchanges(3, "user-2"));
+
+        StepVerifier.create(Flux.fromIterable(exchanges).flatMap(exchange -> filter.filter(exchange, chain)))
+                .verifyComplete();
+
+        assertEquals(2, upstreamCalls.get());
+    }
+
+    @Test
+    @DisplayName("Different Accept-Encoding - should not replay a gzip body to an identity request")
+    void testEncodingIsolation() {
+        GatewayFilter filter = factory.apply(new RequestCoalescingGatewayFilterFactory.Config());
+        List<MockServerWebExchange> exchanges = new ArrayList<>(exchanges(3, "user-1", "gzip"));
+        exchanges.addAll(exchanges(3, "user-1", "identity"));
+
+        StepVerifier.create(Flux.fromIterable(exchanges).flatMap(exchange -> filter.filter(exchange, chain)))
+                .verifyComplete();
+
+        assertEquals(2, upstreamCalls.get());
+    }
+
+    @Test
+    @DisplayName("Leader slower than timeout - waiters should forward upstream themselves")
+    void testWaiterTimeout() {
+        RequestCoalescingGatewayFilterFactory.Config config = new RequestCoalescingGatewayFilterFactory.Config();
+        config.setTimeout(Duration.ofMillis(20));
+        GatewayFilter filter = factory.apply(config);
+
+        StepVerifier.create(Flux.fromIterable(exchanges(3, "user-1")).flatMap(exchange -> filter.filter(exchange, chain)))
+                .verifyComplete();
+
+        assertEquals(3, upstreamCalls.get());
+    }
+
+    @Test
+    @DisplayName("Response above size cap - waiters should forward upstream themselves")
+    void testOversizedResponseNotShared() {
+        RequestCoalescingGatewayFilterFactory.Config config = new RequestCoalescingGatewayFilterFactory.Config();
+        config.setMaxBodySize(4);
+        GatewayFilter filter = factory.apply(config);
+
+        StepVerifier.create(Flux.fromIterable(exchanges(3, "user-1")).flatMap(exchange -> filter.filter(exchange, chain)))
+                .verifyComplete();
+
+        assertEquals(3, upstreamCalls.get());
+    }
+
+    private static List<MockServerWebExchange> exchanges(int count, String userId) {
+        return exchanges(count, userId, null);
+    }
+
+    private static List<MockServerWebExchange> exchanges(int count, String userId, String acceptEncoding) {
+        List<MockServerWebExchange> exchanges = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            MockServerHttpRequest.BaseBuilder<?> request = MockServerHttpRequest
+                    .get("/api/users/profile")
+                    .header("X-User-Id", userId);
+            if (acceptEncoding != null) {
+                request.header("Accept-Encoding", acceptEncoding);
+            }
+            exchanges.add(MockServerWebExchange.from(request.build()));
+        }
+        return exchanges;
+    }
+}
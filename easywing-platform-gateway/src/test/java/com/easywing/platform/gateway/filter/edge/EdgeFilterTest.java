@@ -0,0 +1,214 @@
+/*
+ * Copyright 2024-2026 EasyWing Platform Team.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.easywing.platform.gateway.filter.edge;
+
+import com.easywing.platform.core.constant.HttpHeaders;
+import com.easywing.platform.gateway.filter.RequestIdFilter;
+import com.easywing.platform.gateway.filter.gray.GrayReleaseFilter;
+import com.easywing.platform.gateway.filter.ip.IpAccessFilter;
+import com.easywing.platform.gateway.filter.latency.LatencyRecordingFilter;
+import com.easywing.platform.gateway.filter.latency.RouteLatencyRecorder;
+import com.easywing.platform.gateway.filter.ratelimit.RateLimitFilter;
+import com.easywing.platform.gateway.filter.size.RequestSizeGuardFilter;
+import com.easywing.platform.gateway.properties.GatewayProperties;
+import com.easywing.platform.gateway.properties.LatencyProperties;
+import com.easywing.platform.gateway.util.RandomIdGenerator;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * 边缘融合过滤器测试
+ *
+ * @author EasyWing Team
+ * @since 1.0.0
+ */
+@ExtendWith(MockitoExtension.class)
+class EdgeFilterTest {
+
+    @Mock
+    private GatewayFilterChain chain;
+
+    private GatewayProperties properties;
+
+    @BeforeEach
+    void setUp() {
+        properties = new GatewayProperties();
+        properties.getEdge().setFused(true);
+        properties.getGray().setHeaderName("X-Gray-Version");
+    }
+
+    @Test
+    @DisplayName("Should apply headers from every stage with a single decoration")
+    void shouldApplyHeadersOnce() {
+        EdgeFilter filter = new EdgeFilter(List.of(
+                new IpAccessFilter(properties),
+                new HeaderStage(HttpHeaders.X_USER_ID, "1001"),
+                new RateLimitFilter(properties, null, null),
+                new GrayReleaseFilter(properties)));
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/api/users")
+                .header("X-Gray-Version", "v2")
+                .header(HttpHeaders.X_USER_ID, "spoofed"));
+
+        ServerHttpRequest forwarded = filterAndCapture(filter, exchange);
+
+        assertEquals(List.of("1001"), forwarded.getHeaders().get(HttpHeaders.X_USER_ID));
+        assertEquals("v2", forwarded.getHeaders().getFirst("X-Gray-Version"));
+        assertNotNull(exchange.getResponse().getHeaders().getFirst("X-RateLimit-Remaining"));
+        assertNotSame(exchange.getRequest(), forwarded);
+    }
+
+    @Test
+    @DisplayName("Should keep the standalone order relative to request ID, latency and size guard filters")
+    void shouldKeepStandaloneRelativeOrder() {
+        int edgeOrder = new EdgeFilter(List.of()).getOrder();
+
+        assertTrue(new RequestIdFilter(new RandomIdGenerator(), properties).getOrder() < edgeOrder);
+        assertTrue(new LatencyRecordingFilter(new RouteLatencyRecorder(new LatencyProperties())).getOrder()
+                < edgeOrder);
+        assertTrue(new RequestSizeGuardFilter(properties, new SimpleMeterRegistry()).getOrder() < edgeOrder);
+        assertTrue(edgeOrder < new IpAccessFilter(properties).getOrder());
+    }
+
+    @Test
+    @DisplayName("Later stages should see headers registered by earlier stages")
+    void shouldExposePendingHeadersToLaterStages() {
+        List<String> seen = new ArrayList<>();
+        EdgeFilter filter = new EdgeFilter(List.of(
+                new HeaderStage(HttpHeaders.X_USER_ID, "1001"),
+                new ReadingStage(HttpHeaders.X_USER_ID, seen)));
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/api/users"));
+        when(chain.filter(any())).thenReturn(Mono.empty());
+
+        StepVerifier.create(filter.filter(exchange, chain)).verifyComplete();
+
+        assertEquals(List.of("1001"), seen);
+    }
+
+    @Test
+    @DisplayName("A rejecting stage should stop the remaining stages and the chain")
+    void shouldStopOnRejection() {
+        List<String> seen = new ArrayList<>();
+        EdgeFilter filter = new EdgeFilter(List.of(
+                new RejectingStage(),
+                new ReadingStage(HttpHeaders.X_USER_ID, seen)));
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/api/users"));
+
+        StepVerifier.create(filter.filter(exchange, chain)).verifyComplete();
+
+        assertEquals(HttpStatus.FORBIDDEN, exchange.getResponse().getStatusCode());
+        assertTrue(seen.isEmpty());
+        verifyNoInteractions(chain);
+    }
+
+    @Test
+    @DisplayName("Standalone filters should pass through untouched in fused mode")
+    void shouldPassThroughStandaloneFiltersWhenFused() {
+        RateLimitFilter rateLimitFilter = new RateLimitFilter(properties, null, null);
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/api/users"));
+        when(chain.filter(any())).thenReturn(Mono.empty());
+
+        StepVerifier.create(rateLimitFilter.filter(exchange, chain)).verifyComplete();
+
+        verify(chain).filter(exchange);
+        assertNull(exchange.getResponse().getHeaders().getFirst("X-RateLimit-Remaining"));
+    }
+
+    @Test
+    @DisplayName("Should return the original exchange when no header was registered")
+    void shouldNotDecorateWithoutHeaders() {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/api/users"));
+        EdgeHeaders headers = new EdgeHeaders();
+
+        assertSame(exchange, headers.applyTo(exchange));
+
+        headers.set("x-user-id", "1");
+        headers.set(HttpHeaders.X_USER_ID, "2");
+        assertEquals(1, headers.size());
+        assertEquals("2", headers.get(exchange.getRequest(), "X-USER-ID"));
+    }
+
+    private ServerHttpRequest filterAndCapture(EdgeFilter filter, ServerWebExchange exchange) {
+        ArgumentCaptor<ServerWebExchange> captor = ArgumentCaptor.forClass(ServerWebExchange.class);
+        when(chain.filter(captor.capture())).thenReturn(Mono.empty());
+        StepVerifier.create(filter.filter(exchange, chain)).verifyComplete();
+        return captor.getValue().getRequest();
+    }
+
+    private record HeaderStage(String name, String value) implements EdgeStage {
+
+        @Override
+        public Mono<Void> apply(ServerWebExchange exchange, EdgeHeaders headers, Supplier<Mono<Void>> next) {
+            headers.set(name, value);
+            return next.get();
+        }
+
+        @Override
+        public int getOrder() {
+            return Ordered.HIGHEST_PRECEDENCE + 10;
+        }
+    }
+
+    private record ReadingStage(String name, List<String> seen) implements EdgeStage {
+
+        @Override
+        public Mono<Void> apply(ServerWebExchange exchange, EdgeHeaders headers, Supplier<Mono<Void>> next) {
+            seen.add(headers.get(exchange.getRequest(), name));
+            return next.get();
+        }
+
+        @Override
+        public int getOrder() {
+            return Ordered.HIGHEST_PRECEDENCE + 20;
+        }
+    }
+
+    private static final class RejectingStage implements EdgeStage {
+
+        @Override
+        public Mono<Void> apply(ServerWebExchange exchange, EdgeHeaders headers, Supplier<Mono<Void>> next) {
+            exchange.getResponse().setStatusCode(HttpStatus.FORBIDDEN);
+            return exchange.getResponse().setComplete();
+        }
+
+        @Override
+        public int getOrder() {
+            return Ordered.HIGHEST_PRECEDENCE + 5;
+        }
+    }
+}
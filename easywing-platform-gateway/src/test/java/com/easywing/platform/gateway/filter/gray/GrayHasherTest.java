@@ -0,0 +1,94 @@
+/*
+ * Copyright 2024-2026 EasyWing Platform Team.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.easywing.platform.gateway.filter.gray;
+
+import com.easywing.platform.gateway.properties.GrayProperties;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 灰度路由哈希器测试
+ *
+ * @author EasyWing Team
+ * @since 1.0.0
+ */
+class GrayHasherTest {
+
+    private final GrayHasher hasher = new GrayHasher(GrayHasher.DEFAULT_SEED);
+
+    @Test
+    @DisplayName("Same key and seed - should produce the same hash")
+    void testStableHash() {
+        GrayHasher another = new GrayHasher(GrayHasher.DEFAULT_SEED);
+
+        assertEquals(hasher.hash("user-10086"), another.hash("user-10086"));
+        assertNotEquals(hasher.hash("user-10086"), new GrayHasher(42).hash("user-10086"));
+    }
+
+    @Test
+    @DisplayName("Bucket - should always be within range")
+    void testBucketRange() {
+        for (int i = 0; i < 10_000; i++) {
+            int bucket = hasher.bucket("key-" + i, 7);
+            assertTrue(bucket >= 0 && bucket < 7);
+        }
+    }
+
+    @Test
+    @DisplayName("Sequential user ids - should distribute uniformly across 100 buckets")
+    void testUniformDistribution() {
+        int buckets = 100;
+        int samples = 200_000;
+        int[] counts = new int[buckets];
+        for (int i = 0; i < samples; i++) {
+            counts[hasher.bucket("user" + i, buckets)]++;
+        }
+
+        double expected = (double) samples / buckets;
+        double chiSquare = 0;
+        for (int count : counts) {
+            chiSquare += (count - expected) * (count - expected) / expected;
+        }
+
+        // 自由度99，显著性水平0.001的临界值约为148.2
+        assertTrue(chiSquare < 148.2, "chi-square too large: " + chiSquare);
+    }
+
+    @Test
+    @DisplayName("Weighted selector - should split traffic close to configured weights")
+    void testWeightedSelectorSplit() {
+        GrayProperties.VersionConfig v1 = new GrayProperties.VersionConfig();
+        v1.setVersion("v1");
+        v1.setWeight(90);
+        GrayProperties.VersionConfig v2 = new GrayProperties.VersionConfig();
+        v2.setVersion("v2");
+        v2.setWeight(10);
+
+        GrayDecisionTable.WeightedSelector selector = new GrayDecisionTable.WeightedSelector(List.of(v1, v2), hasher);
+        int v2Count = 0;
+        for (int i = 0; i < 100_000; i++) {
+            if ("v2".equals(selector.select("user" + i))) {
+                v2Count++;
+            }
+        }
+
+        assertEquals(10_000, v2Count, 600);
+    }
+}
@@ -226,4 +226,104 @@ class GrayReleaseFilterTest {
         String grayVersion = exchange.getAttribute("grayVersion");
         assertEquals("v2", grayVersion);
     }
+
+    @Test
+    @DisplayName("Anonymous request - should issue sticky cookie and keep the same version")
+    void testAnonymousStickiness() {
+        GrayProperties.ServiceConfig serviceConfig = new GrayProperties.ServiceConfig();
+        serviceConfig.setServiceId("user-service");
+        
+        GrayProperties.VersionConfig v1 = new GrayProperties.VersionConfig();
+        v1.setVersion("v1");
+        v1.setWeight(50);
+        
+        GrayProperties.VersionConfig v2 = new GrayProperties.VersionConfig();
+        v2.setVersion("v2");
+        v2.setWeight(50);
+        
+        serviceConfig.setVersions(List.of(v1, v2));
+        properties.getGray().setServices(List.of(serviceConfig));
+        filter.refreshSelectors();
+        
+        Route route = Route.async()
+                .id("user-service")
+                .uri(URI.create("lb://user-service"))
+                .predicate(ex -> true)
+                .build();
+        
+        when(chain.filter(any())).thenReturn(Mono.empty());
+        
+        MockServerWebExchange first = MockServerWebExchange.from(MockServerHttpRequest.get("/api/users").build());
+        first.getAttributes().put(
+                org.springframework.cloud.gateway.support.ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR,
+                route
+        );
+        StepVerifier.create(filter.filter(first, chain)).verifyComplete();
+        
+        var stickyCookie = first.getResponse().getCookies().getFirst("gray-sticky");
+        assertNotNull(stickyCookie);
+        String firstVersion = first.getAttribute("grayVersion");
+        
+        for (int i = 0; i < 10; i++) {
+            MockServerWebExchange next = MockServerWebExchange.from(MockServerHttpRequest.get("/api/users")
+                    .cookie(new org.springframework.http.HttpCookie("gray-sticky", stickyCookie.getValue()))
+                    .build());
+            next.getAttributes().put(
+                    org.springframework.cloud.gateway.support.ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR,
+                    route
+            );
+            StepVerifier.create(filter.filter(next, chain)).verifyComplete();
+            
+            assertEquals(firstVersion, next.getAttribute("grayVersion"));
+            assertNull(next.getResponse().getCookies().getFirst("gray-sticky"));
+        }
+    }
+
+    @Test
+    @DisplayName("Decision cache - should not leak one service's version into another")
+    void testDecisionIsolatedPerService() {
+        GrayProperties.VersionConfig v1 = new GrayProperties.VersionConfig();
+        v1.setVersion("v1");
+        v1.setWeight(100);
+        
+        GrayProperties.RuleConfig rule = new GrayProperties.RuleConfig();
+        rule.setType("user_ids");
+        rule.setMatchValue("alice, bob");
+        rule.setTargetVersion("v2");
+        
+        GrayProperties.ServiceConfig userService = new GrayProperties.ServiceConfig();
+        userService.setServiceId("user-service");
+        userService.setVersions(List.of(v1));
+        userService.setRules(List.of(rule));
+        
+        GrayProperties.ServiceConfig orderService = new GrayProperties.ServiceConfig();
+        orderService.setServiceId("order-service");
+        orderService.setVersions(List.of(v1));
+        
+        properties.getGray().setServices(List.of(userService, orderService));
+        filter.refreshSelectors();
+        
+        when(chain.filter(any())).thenReturn(Mono.empty());
+        
+        assertEquals("v2", routeAs("user-service", "bob"));
+        assertEquals("v1", routeAs("order-service", "bob"));
+        assertEquals("v2", routeAs("user-service", "bob"));
+    }
+
+    private String routeAs(String serviceId, String userId) {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/api/" + serviceId)
+                .header(HttpHeaders.X_USER_ID, userId)
+                .build());
+        Route route = Route.async()
+                .id(serviceId)
+                .uri(URI.create("lb://" + serviceId))
+                .predicate(ex -> true)
+                .build();
+        exchange.getAttributes().put(
+                org.springframework.cloud.gateway.support.ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR,
+                route
+        );
+        StepVerifier.create(filter.filter(exchange, chain)).verifyComplete();
+        return exchange.getAttribute("grayVersion");
+    }
 }
@@ -0,0 +1,138 @@
+/*
+ * Copyright 2024-2026 EasyWing Platform Team.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.easywing.platform.gateway.filter.ip;
+
+import com.easywing.platform.core.constant.HttpHeaders;
+import com.easywing.platform.gateway.properties.GatewayProperties;
+import com.easywing.platform.gateway.util.IpUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.net.InetSocketAddress;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * IP黑白名单过滤器测试
+ *
+ * @author EasyWing Team
+ * @since 1.0.0
+ */
+@ExtendWith(MockitoExtension.class)
+class IpAccessFilterTest {
+
+    @Mock
+    private GatewayFilterChain chain;
+
+    private GatewayProperties properties;
+
+    @BeforeEach
+    void setUp() {
+        properties = new GatewayProperties();
+    }
+
+    @Test
+    @DisplayName("Trusted proxy chain - should resolve the first untrusted hop from the right")
+    void testResolveThroughTrustedProxies() {
+        MockServerWebExchange exchange = exchange("172.20.0.5", "198.51.100.7, 203.0.113.9, 10.0.0.3");
+        when(chain.filter(any())).thenReturn(Mono.empty());
+
+        StepVerifier.create(new IpAccessFilter(properties).filter(exchange, chain))
+                .verifyComplete();
+
+        assertEquals("203.0.113.9", exchange.getAttribute(IpUtil.CLIENT_IP_ATTR));
+    }
+
+    @Test
+    @DisplayName("Untrusted peer - should ignore a spoofed X-Forwarded-For header")
+    void testSpoofedHeaderIgnored() {
+        MockServerWebExchange exchange = exchange("198.51.100.7", "10.0.0.1");
+        when(chain.filter(any())).thenReturn(Mono.empty());
+
+        StepVerifier.create(new IpAccessFilter(properties).filter(exchange, chain))
+                .verifyComplete();
+
+        assertEquals("198.51.100.7", exchange.getAttribute(IpUtil.CLIENT_IP_ATTR));
+    }
+
+    @Test
+    @DisplayName("Deny list - should reject matching IPv4 and IPv6 clients")
+    void testDenyList() {
+        properties.getClientIp().setDenyList(List.of("203.0.113.0/24", "2001:db8::/32"));
+        IpAccessFilter filter = new IpAccessFilter(properties);
+
+        MockServerWebExchange v4 = exchange("203.0.113.50", null);
+        StepVerifier.create(filter.filter(v4, chain)).verifyComplete();
+        assertEquals(HttpStatus.FORBIDDEN, v4.getResponse().getStatusCode());
+
+        MockServerWebExchange v6 = exchange("10.0.0.2", "2001:db8:1::42");
+        StepVerifier.create(filter.filter(v6, chain)).verifyComplete();
+        assertEquals(HttpStatus.FORBIDDEN, v6.getResponse().getStatusCode());
+
+        verify(chain, never()).filter(any());
+    }
+
+    @Test
+    @DisplayName("Allow list - should only admit listed networks")
+    void testAllowList() {
+        properties.getClientIp().setAllowList(List.of("198.51.100.0/24"));
+        IpAccessFilter filter = new IpAccessFilter(properties);
+        when(chain.filter(any())).thenReturn(Mono.empty());
+
+        MockServerWebExchange allowed = exchange("198.51.100.9", null);
+        StepVerifier.create(filter.filter(allowed, chain)).verifyComplete();
+        assertNull(allowed.getResponse().getStatusCode());
+
+        MockServerWebExchange rejected = exchange("192.0.2.1", null);
+        StepVerifier.create(filter.filter(rejected, chain)).verifyComplete();
+        assertEquals(HttpStatus.FORBIDDEN, rejected.getResponse().getStatusCode());
+
+        verify(chain, times(1)).filter(any());
+    }
+
+    @Test
+    @DisplayName("Internal IP - should cover the whole 172.16.0.0/12 range")
+    void testInternalIpRange() {
+        assertTrue(IpUtil.isInternalIp("172.16.0.1"));
+        assertTrue(IpUtil.isInternalIp("172.31.255.254"));
+        assertFalse(IpUtil.isInternalIp("172.32.0.1"));
+        assertTrue(IpUtil.isInternalIp("192.168.10.1"));
+        assertFalse(IpUtil.isInternalIp("8.8.8.8"));
+        assertFalse(IpUtil.isInternalIp("not-an-ip"));
+    }
+
+    private static MockServerWebExchange exchange(String remoteIp, String forwardedFor) {
+        MockServerHttpRequest.BaseBuilder<?> builder = MockServerHttpRequest.get("/api/users")
+                .remoteAddress(new InetSocketAddress(remoteIp, 40000));
+        if (forwardedFor != null) {
+            builder.header(HttpHeaders.X_FORWARDED_FOR, forwardedFor);
+        }
+        return MockServerWebExchange.from(builder.build());
+    }
+}
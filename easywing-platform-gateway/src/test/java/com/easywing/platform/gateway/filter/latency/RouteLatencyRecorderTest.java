@@ -0,0 +1,164 @@
+/*
+ * Copyright 2024-2026 EasyWing Platform Team.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.easywing.platform.gateway.filter.latency;
+
+import com.easywing.platform.gateway.properties.LatencyProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+/**
+ * 路由延迟直方图测试
+ *
+ * @author EasyWing Team
+ * @since 1.0.0
+ */
+@ExtendWith(MockitoExtension.class)
+class RouteLatencyRecorderTest {
+
+    @Mock
+    private GatewayFilterChain chain;
+
+    private RouteLatencyRecorder recorder;
+
+    @BeforeEach
+    void setUp() {
+        recorder = new RouteLatencyRecorder(new LatencyProperties());
+    }
+
+    @Test
+    @DisplayName("Should report percentiles per route and status class")
+    void shouldReportPercentiles() {
+        for (int i = 1; i <= 1000; i++) {
+            recorder.record("user-service", 200, TimeUnit.MILLISECONDS.toNanos(i));
+        }
+        recorder.record("user-service", 503, TimeUnit.MILLISECONDS.toNanos(30));
+
+        Map<String, RouteLatencyRecorder.LatencySnapshot> route = recorder.snapshot("user-service");
+
+        RouteLatencyRecorder.LatencySnapshot ok = route.get("2xx");
+        assertEquals(1000, ok.count());
+        assertEquals(500, ok.p50(), 5);
+        assertEquals(900, ok.p90(), 9);
+        assertEquals(990, ok.p99(), 10);
+        assertEquals(1000, ok.max(), 10);
+        assertEquals(1, route.get("5xx").count());
+        assertFalse(route.containsKey("4xx"));
+    }
+
+    @Test
+    @DisplayName("Should clamp latencies above the trackable range")
+    void shouldClampOutOfRange() {
+        recorder.record("slow", 200, TimeUnit.MINUTES.toNanos(10));
+
+        assertEquals(60_000, recorder.snapshot("slow").get("2xx").max(), 600);
+    }
+
+    @Test
+    @DisplayName("Should clear statistics on reset")
+    void shouldClearOnReset() {
+        recorder.record("user-service", 200, TimeUnit.MILLISECONDS.toNanos(5));
+        recorder.snapshot();
+
+        recorder.reset();
+
+        assertTrue(recorder.snapshot("user-service").isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should report the expired window before starting a new one")
+    void shouldRotateExpiredWindow() {
+        LatencyProperties properties = new LatencyProperties();
+        properties.setWindow(Duration.ZERO);
+        RouteLatencyRecorder rotating = new RouteLatencyRecorder(properties);
+        rotating.record("user-service", 200, TimeUnit.MILLISECONDS.toNanos(5));
+        rotating.record("order-service", 200, TimeUnit.MILLISECONDS.toNanos(5));
+
+        RouteLatencyRecorder.WindowSnapshot ended = rotating.snapshot();
+        RouteLatencyRecorder.WindowSnapshot next = rotating.snapshot();
+
+        assertEquals(1, ended.routes().get("user-service").get("2xx").count());
+        assertEquals(1, ended.routes().get("order-service").get("2xx").count());
+        assertTrue(next.routes().get("user-service").isEmpty());
+        assertEquals(ended.windowEnd(), next.windowStart());
+    }
+
+    @Test
+    @DisplayName("Should not rotate the window or drop other routes on a single-route read")
+    void shouldKeepWindowOnRouteRead() {
+        LatencyProperties properties = new LatencyProperties();
+        properties.setWindow(Duration.ZERO);
+        RouteLatencyRecorder rotating = new RouteLatencyRecorder(properties);
+        rotating.record("user-service", 200, TimeUnit.MILLISECONDS.toNanos(5));
+        rotating.record("order-service", 200, TimeUnit.MILLISECONDS.toNanos(5));
+        long windowStart = rotating.getWindowStart();
+
+        assertEquals(1, rotating.snapshot("user-service").get("2xx").count());
+        assertEquals(1, rotating.snapshot("user-service").get("2xx").count());
+
+        RouteLatencyRecorder.WindowSnapshot ended = rotating.snapshot();
+        assertEquals(windowStart, ended.windowStart());
+        assertEquals(1, ended.routes().get("order-service").get("2xx").count());
+    }
+
+    @Test
+    @DisplayName("Should record the matched route and response status from the filter")
+    void shouldRecordFromFilter() {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/api/users/1"));
+        Route route = Route.async().id("user-service").uri(URI.create("http://localhost"))
+                .predicate(e -> true).build();
+        exchange.getAttributes().put(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR, route);
+        when(chain.filter(any())).thenAnswer(invocation -> {
+            exchange.getResponse().setStatusCode(HttpStatus.NOT_FOUND);
+            return Mono.empty();
+        });
+
+        StepVerifier.create(new LatencyRecordingFilter(recorder).filter(exchange, chain)).verifyComplete();
+
+        assertEquals(1, recorder.snapshot("user-service").get("4xx").count());
+    }
+
+    @Test
+    @DisplayName("Should attribute requests without a route to the unmatched bucket")
+    void shouldRecordUnmatched() {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/nowhere"));
+        when(chain.filter(any())).thenReturn(Mono.empty());
+
+        StepVerifier.create(new LatencyRecordingFilter(recorder).filter(exchange, chain)).verifyComplete();
+
+        assertTrue(recorder.snapshot().routes().containsKey("unmatched"));
+    }
+}
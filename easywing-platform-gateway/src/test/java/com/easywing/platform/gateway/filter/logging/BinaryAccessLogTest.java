@@ -0,0 +1,139 @@
+/*
+ * Copyright 2024-2026 EasyWing Platform Team.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.easywing.platform.gateway.filter.logging;
+
+import com.easywing.platform.gateway.properties.LoggingProperties;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 二进制访问日志测试
+ *
+ * @author EasyWing Team
+ * @since 1.0.0
+ */
+class BinaryAccessLogTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("Write and read back - should preserve all encoded fields")
+    void testRoundTrip() throws Exception {
+        LoggingProperties.BinaryLogConfig config = createConfig(1024 * 1024, 4);
+
+        try (BinaryAccessLogWriter writer = new BinaryAccessLogWriter(config)) {
+            writer.append(createAccessLog("/api/users/1", 200, 12));
+            writer.append(createAccessLog("/api/users/1", 503, 480));
+        }
+
+        List<AccessLog> logs = readAll();
+        assertEquals(2, logs.size());
+
+        AccessLog first = logs.get(0);
+        assertEquals("GET", first.getMethod());
+        assertEquals("/api/users/1", first.getPath());
+        assertEquals(200, first.getStatus());
+        assertEquals(12, first.getDuration());
+        assertEquals("10.0.0.1", first.getClientIp());
+        assertEquals("Mozilla/5.0", first.getUserAgent());
+        assertEquals("user-service", first.getServiceId());
+        assertEquals("trace-1", first.getTraceId());
+        assertEquals(-1, first.getRequestSize());
+        assertNull(first.getTenantId());
+
+        assertEquals(503, logs.get(1).getStatus());
+        assertEquals(480, logs.get(1).getDuration());
+    }
+
+    @Test
+    @DisplayName("Segment full - should rotate and keep only max segments")
+    void testRotation() throws Exception {
+        LoggingProperties.BinaryLogConfig config = createConfig(512, 3);
+
+        try (BinaryAccessLogWriter writer = new BinaryAccessLogWriter(config)) {
+            for (int i = 0; i < 100; i++) {
+                writer.append(createAccessLog("/api/orders/" + i, 200, i));
+            }
+        }
+
+        assertEquals(3, BinaryAccessLogReader.listSegments(directory).size());
+        List<AccessLog> logs = readAll();
+        assertFalse(logs.isEmpty());
+        assertEquals("/api/orders/99", logs.get(logs.size() - 1).getPath());
+    }
+
+    @Test
+    @DisplayName("Append after close - should be dropped and counted")
+    void testAppendAfterClose() throws Exception {
+        BinaryAccessLogWriter writer = new BinaryAccessLogWriter(createConfig(1024 * 1024, 4));
+        writer.append(createAccessLog("/api/users/1", 200, 12));
+        writer.close();
+
+        writer.append(createAccessLog("/api/users/2", 200, 12));
+
+        assertEquals(1, writer.getDroppedCount());
+        assertEquals(1, readAll().size());
+    }
+
+    @Test
+    @DisplayName("Query filter - should match status class, route and latency")
+    void testQueryFilter() {
+        AccessLogQueryTool.Query query = AccessLogQueryTool.Query.parse(new String[]{
+                "--dir", directory.toString(), "--status", "5xx", "--route", "user-service", "--min-latency", "100"
+        });
+
+        assertTrue(query.matches(createAccessLog("/api/users", 503, 480)));
+        assertFalse(query.matches(createAccessLog("/api/users", 200, 480)));
+        assertFalse(query.matches(createAccessLog("/api/users", 503, 10)));
+    }
+
+    private List<AccessLog> readAll() throws Exception {
+        List<AccessLog> logs = new ArrayList<>();
+        new BinaryAccessLogReader().readAll(directory, logs::add);
+        return logs;
+    }
+
+    private LoggingProperties.BinaryLogConfig createConfig(long segmentSize, int maxSegments) {
+        LoggingProperties.BinaryLogConfig config = new LoggingProperties.BinaryLogConfig();
+        config.setEnabled(true);
+        config.setDirectory(directory.toString());
+        config.setSegmentSize(segmentSize);
+        config.setMaxSegments(maxSegments);
+        return config;
+    }
+
+    private AccessLog createAccessLog(String path, int status, long duration) {
+        AccessLog accessLog = new AccessLog();
+        accessLog.setMethod("GET");
+        accessLog.setPath(path);
+        accessLog.setStatus(status);
+        accessLog.setDuration(duration);
+        accessLog.setClientIp("10.0.0.1");
+        accessLog.setUserAgent("Mozilla/5.0");
+        accessLog.setServiceId("user-service");
+        accessLog.setTraceId("trace-1");
+        accessLog.setRequestSize(-1);
+        return accessLog;
+    }
+}
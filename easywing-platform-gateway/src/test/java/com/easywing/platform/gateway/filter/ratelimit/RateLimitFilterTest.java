@@ -110,6 +110,31 @@ class RateLimitFilterTest {
         }
     }
 
+    @Test
+    @DisplayName("Local bucket disabled - every request should run the Redis script")
+    void testLocalBucketDisabled() {
+        properties.getRateLimit().setLocalEnabled(false);
+        RateLimitFilter redisOnlyFilter = new RateLimitFilter(properties, redisTemplate, rateLimitScript);
+
+        when(redisTemplate.execute(any(), anyList(), any(Object[].class)))
+                .thenReturn(Flux.just(199L));
+        when(chain.filter(any())).thenReturn(Mono.empty());
+
+        MockServerHttpRequest request = MockServerHttpRequest
+                .get("/api/users")
+                .build();
+
+        for (int i = 0; i < 3; i++) {
+            MockServerWebExchange exchange = MockServerWebExchange.from(request);
+            StepVerifier.create(redisOnlyFilter.filter(exchange, chain))
+                    .verifyComplete();
+            assertNull(exchange.getResponse().getHeaders().getFirst("X-RateLimit-Remaining"));
+        }
+
+        verify(redisTemplate, times(3)).execute(any(), anyList(), any(Object[].class));
+        verify(chain, times(3)).filter(any());
+    }
+
     @Test
     @DisplayName("Rate limit exceeded - should return 429")
     void testRateLimitExceeded() {
@@ -0,0 +1,185 @@
+/*
+ * Copyright 2024-2026 EasyWing Platform Team.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.easywing.platform.gateway.filter.size;
+
+import com.easywing.platform.gateway.properties.GatewayProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * 请求体大小限制过滤器测试
+ *
+ * @author EasyWing Team
+ * @since 1.0.0
+ */
+@ExtendWith(MockitoExtension.class)
+class RequestSizeGuardFilterTest {
+
+    @Mock
+    private GatewayFilterChain chain;
+
+    private GatewayProperties properties;
+    private SimpleMeterRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        properties = new GatewayProperties();
+        properties.getRequestSize().setDefaultMaxSize(DataSize.ofBytes(1024));
+        registry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    @DisplayName("Declared Content-Length over limit - should reject with 413 before routing")
+    void testDeclaredLengthRejected() {
+        MockServerWebExchange exchange = exchange("user-service", MockServerHttpRequest.post("/api/users")
+                .contentLength(4096)
+                .body(Flux.empty()));
+
+        StepVerifier.create(filter().filter(exchange, chain)).verifyComplete();
+
+        assertEquals(HttpStatus.PAYLOAD_TOO_LARGE, exchange.getResponse().getStatusCode());
+        verify(chain, never()).filter(any());
+        assertEquals(1.0, rejected("user-service", RequestSizeGuardFilter.REASON_DECLARED).count());
+        assertEquals(4096.0, rejectedBytes("user-service", RequestSizeGuardFilter.REASON_DECLARED).count());
+    }
+
+    @Test
+    @DisplayName("Declared Content-Length within limit - should forward without wrapping the body")
+    void testDeclaredLengthAccepted() {
+        MockServerWebExchange exchange = exchange("user-service", MockServerHttpRequest.post("/api/users")
+                .contentLength(512)
+                .body(chunks(1, 512)));
+        when(chain.filter(any())).thenReturn(Mono.empty());
+
+        StepVerifier.create(filter().filter(exchange, chain)).verifyComplete();
+
+        verify(chain).filter(exchange);
+        assertNull(exchange.getResponse().getStatusCode());
+    }
+
+    @Test
+    @DisplayName("Chunked body over limit - should abort while streaming and answer 413")
+    void testStreamingBodyAborted() {
+        MockServerWebExchange exchange = exchange("user-service", MockServerHttpRequest.post("/api/users")
+                .body(chunks(4, 512)));
+        AtomicInteger forwardedChunks = new AtomicInteger();
+        when(chain.filter(any())).thenAnswer(invocation -> consume(invocation.getArgument(0), forwardedChunks));
+
+        StepVerifier.create(filter().filter(exchange, chain)).verifyComplete();
+
+        assertEquals(HttpStatus.PAYLOAD_TOO_LARGE, exchange.getResponse().getStatusCode());
+        assertEquals(2, forwardedChunks.get());
+        assertEquals(1.0, rejected("user-service", RequestSizeGuardFilter.REASON_STREAMED).count());
+        assertEquals(1536.0, rejectedBytes("user-service", RequestSizeGuardFilter.REASON_STREAMED).count());
+    }
+
+    @Test
+    @DisplayName("Chunked body within limit - should forward every chunk")
+    void testStreamingBodyAccepted() {
+        MockServerWebExchange exchange = exchange("user-service", MockServerHttpRequest.post("/api/users")
+                .body(chunks(2, 512)));
+        AtomicInteger forwardedChunks = new AtomicInteger();
+        when(chain.filter(any())).thenAnswer(invocation -> consume(invocation.getArgument(0), forwardedChunks));
+
+        StepVerifier.create(filter().filter(exchange, chain)).verifyComplete();
+
+        assertEquals(2, forwardedChunks.get());
+        assertNull(exchange.getResponse().getStatusCode());
+        assertNull(registry.find(RequestSizeGuardFilter.REJECTED_METER).counter());
+    }
+
+    @Test
+    @DisplayName("Route override - should apply the route limit and allow unlimited routes")
+    void testRouteOverride() {
+        properties.getRequestSize().getRoutes().put("upload-service", DataSize.ofMegabytes(100));
+        properties.getRequestSize().getRoutes().put("stream-service", DataSize.ofBytes(0));
+        when(chain.filter(any())).thenReturn(Mono.empty());
+        RequestSizeGuardFilter filter = filter();
+
+        MockServerWebExchange upload = exchange("upload-service", MockServerHttpRequest.post("/api/upload")
+                .contentLength(DataSize.ofMegabytes(50).toBytes())
+                .body(Flux.empty()));
+        StepVerifier.create(filter.filter(upload, chain)).verifyComplete();
+        assertNull(upload.getResponse().getStatusCode());
+
+        MockServerWebExchange stream = exchange("stream-service", MockServerHttpRequest.post("/api/stream")
+                .body(chunks(8, 512)));
+        StepVerifier.create(filter.filter(stream, chain)).verifyComplete();
+        verify(chain).filter(stream);
+    }
+
+    private RequestSizeGuardFilter filter() {
+        return new RequestSizeGuardFilter(properties, registry);
+    }
+
+    private Counter rejected(String routeId, String reason) {
+        return registry.get(RequestSizeGuardFilter.REJECTED_METER).tag("route", routeId).tag("reason", reason).counter();
+    }
+
+    private Counter rejectedBytes(String routeId, String reason) {
+        return registry.get(RequestSizeGuardFilter.REJECTED_BYTES_METER).tag("route", routeId).tag("reason", reason).counter();
+    }
+
+    private static Mono<Void> consume(ServerWebExchange exchange, AtomicInteger forwardedChunks) {
+        return exchange.getRequest().getBody()
+                .doOnNext(buffer -> {
+                    forwardedChunks.incrementAndGet();
+                    DataBufferUtils.release(buffer);
+                })
+                .then();
+    }
+
+    private static Flux<DataBuffer> chunks(int count, int size) {
+        return Flux.range(0, count)
+                .map(i -> DefaultDataBufferFactory.sharedInstance.wrap(new byte[size]));
+    }
+
+    private static MockServerWebExchange exchange(String routeId, MockServerHttpRequest request) {
+        MockServerWebExchange exchange = MockServerWebExchange.from(request);
+        exchange.getAttributes().put(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR, Route.async()
+                .id(routeId)
+                .uri("lb://" + routeId)
+                .predicate(e -> true)
+                .build());
+        return exchange;
+    }
+}
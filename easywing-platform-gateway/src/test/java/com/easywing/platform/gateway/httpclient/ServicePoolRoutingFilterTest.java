@@ -0,0 +1,134 @@
+/*
+ * Copyright 2024-2026 EasyWing Platform Team.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.easywing.platform.gateway.httpclient;
+
+import com.easywing.platform.gateway.properties.HttpClientPoolProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.netty.channel.ChannelOption;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cloud.gateway.config.HttpClientProperties;
+import org.springframework.cloud.gateway.filter.headers.HttpHeadersFilter;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.RouteMetadataUtils;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import reactor.netty.http.client.HttpClient;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeoutException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 按服务连接池路由过滤器测试
+ *
+ * @author EasyWing Team
+ * @since 1.0.0
+ */
+@ExtendWith(MockitoExtension.class)
+class ServicePoolRoutingFilterTest {
+
+    @Mock
+    private ObjectProvider<List<HttpHeadersFilter>> headersFilters;
+
+    private final HttpClient sharedClient = HttpClient.create();
+    private ServiceConnectionPools pools;
+    private ServicePoolRoutingFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        HttpClientPoolProperties properties = new HttpClientPoolProperties();
+        HttpClientPoolProperties.PoolConfig userPool = new HttpClientPoolProperties.PoolConfig();
+        userPool.setMaxConnections(16);
+        userPool.setPendingAcquireMaxCount(32);
+        properties.getServices().put("user-service", userPool);
+
+        HttpClientProperties httpClientProperties = new HttpClientProperties();
+        pools = new ServiceConnectionPools(properties, httpClientProperties, List.of());
+        filter = new ServicePoolRoutingFilter(sharedClient, headersFilters, httpClientProperties, pools,
+                new SimpleMeterRegistry());
+    }
+
+    @AfterEach
+    void tearDown() {
+        pools.destroy();
+    }
+
+    @Test
+    @DisplayName("Service id - should use the lb host and fall back to the route id")
+    void testServiceId() {
+        assertEquals("user-service", ServiceConnectionPools.serviceId(route("users", "lb://user-service", Map.of())));
+        assertEquals("legacy", ServiceConnectionPools.serviceId(route("legacy", "http://10.0.0.8:8080", Map.of())));
+    }
+
+    @Test
+    @DisplayName("Client selection - configured services get a dedicated pool, others share the default client")
+    void testClientSelection() {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/api/users").build());
+
+        HttpClient userClient = filter.getHttpClient(route("users", "lb://user-service", Map.of()), exchange);
+        HttpClient orderClient = filter.getHttpClient(route("orders", "lb://order-service", Map.of()), exchange);
+
+        assertSame(pools.clientFor("user-service"), userClient);
+        assertSame(sharedClient, orderClient);
+        assertEquals(1, pools.getServiceIds().size());
+    }
+
+    @Test
+    @DisplayName("Route connect-timeout metadata - should still be applied on a dedicated pool")
+    void testConnectTimeoutMetadata() {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/api/users").build());
+        Route route = route("users", "lb://user-service", Map.of(RouteMetadataUtils.CONNECT_TIMEOUT_ATTR, 250));
+
+        HttpClient client = filter.getHttpClient(route, exchange);
+
+        assertNotSame(pools.clientFor("user-service"), client);
+        assertEquals(250, client.configuration().options().get(ChannelOption.CONNECT_TIMEOUT_MILLIS));
+    }
+
+    @Test
+    @DisplayName("Exhaustion detection - should classify pending-limit and acquire-timeout failures")
+    void testExhaustionReason() {
+        assertEquals(ServicePoolRoutingFilter.REASON_PENDING_LIMIT,
+                ServicePoolRoutingFilter.exhaustionReason(new PoolAcquirePendingLimitException()));
+        assertEquals(ServicePoolRoutingFilter.REASON_ACQUIRE_TIMEOUT,
+                ServicePoolRoutingFilter.exhaustionReason(new IllegalStateException(new PoolAcquireTimeoutException())));
+        assertNull(ServicePoolRoutingFilter.exhaustionReason(new TimeoutException()));
+    }
+
+    private static Route route(String id, String uri, Map<String, Object> metadata) {
+        return Route.async()
+                .id(id)
+                .uri(uri)
+                .predicate(e -> true)
+                .metadata(metadata)
+                .build();
+    }
+
+    private static class PoolAcquirePendingLimitException extends RuntimeException {
+    }
+
+    private static class PoolAcquireTimeoutException extends RuntimeException {
+    }
+}
@@ -0,0 +1,192 @@
+/*
+ * Copyright 2024-2026 EasyWing Platform Team.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.easywing.platform.gateway.loadbalancer;
+
+import com.easywing.platform.gateway.properties.GrayProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cloud.client.DefaultServiceInstance;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.DefaultRequest;
+import org.springframework.cloud.client.loadbalancer.Request;
+import org.springframework.cloud.client.loadbalancer.RequestData;
+import org.springframework.cloud.client.loadbalancer.RequestDataContext;
+import org.springframework.cloud.client.loadbalancer.Response;
+import org.springframework.cloud.loadbalancer.core.ServiceInstanceListSupplier;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import reactor.core.publisher.Flux;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * 版本感知负载均衡器测试
+ *
+ * @author EasyWing Team
+ * @since 1.0.0
+ */
+class GrayVersionLoadBalancerTest {
+
+    private ServiceInstanceListSupplier supplier;
+    private VersionedInstanceIndex index;
+    private GrayVersionLoadBalancer loadBalancer;
+    private List<ServiceInstance> instances;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        instances = new ArrayList<>(List.of(
+                instance("a", "v1"), instance("b", "v1"), instance("c", "v2")));
+        supplier = mock(ServiceInstanceListSupplier.class);
+        when(supplier.get(any(Request.class))).thenAnswer(invocation -> Flux.just(List.copyOf(instances)));
+
+        ObjectProvider<ServiceInstanceListSupplier> provider = mock(ObjectProvider.class);
+        when(provider.getIfAvailable(any(Supplier.class))).thenReturn(supplier);
+
+        index = new VersionedInstanceIndex("user-service", "version");
+        loadBalancer = new GrayVersionLoadBalancer(provider, "user-service", new GrayProperties(), index);
+    }
+
+    @Test
+    @DisplayName("Gray version header - should only pick instances of that version")
+    void testChooseByVersion() {
+        for (int i = 0; i < 10; i++) {
+            assertEquals("c", choose("v2").getServer().getInstanceId());
+        }
+
+        Set<String> v1 = new HashSet<>();
+        for (int i = 0; i < 10; i++) {
+            v1.add(choose("v1").getServer().getInstanceId());
+        }
+        assertEquals(Set.of("a", "b"), v1);
+    }
+
+    @Test
+    @DisplayName("Unknown or missing version - should fall back to all instances")
+    void testFallbackToAllInstances() {
+        Set<String> chosen = new HashSet<>();
+        for (int i = 0; i < 6; i++) {
+            chosen.add(choose("v9").getServer().getInstanceId());
+        }
+        assertEquals(Set.of("a", "b", "c"), chosen);
+        assertNotNull(choose(null).getServer());
+    }
+
+    @Test
+    @DisplayName("Loaded index - should not query the supplier until a discovery event")
+    void testRefreshOnlyAfterDiscoveryEvent() {
+        choose("v1");
+        choose("v1");
+        choose("v2");
+        verify(supplier, times(1)).get(any(Request.class));
+
+        instances.add(instance("d", "v2"));
+        index.markStale();
+        choose("v2");
+        verify(supplier, times(2)).get(any(Request.class));
+
+        Set<String> v2 = new HashSet<>();
+        for (int i = 0; i < 10; i++) {
+            v2.add(choose("v2").getServer().getInstanceId());
+        }
+        assertEquals(Set.of("c", "d"), v2);
+        verify(supplier, times(2)).get(any(Request.class));
+    }
+
+    @Test
+    @DisplayName("Incremental update - should regroup instances whose version changed")
+    void testIncrementalUpdate() {
+        VersionedInstanceIndex versions = new VersionedInstanceIndex("order-service", "version");
+        versions.update(List.of(instance("a", "v1"), instance("b", "v2")));
+        assertEquals(Map.of("v1", 1, "v2", 1), versions.versionCounts());
+
+        versions.update(List.of(instance("a", "v2"), instance("b", "v2"), instance("c", null)));
+        assertEquals(Map.of("v2", 2), versions.versionCounts());
+        assertNotEquals("c", versions.choose("v2").getInstanceId());
+
+        versions.update(List.of());
+        assertTrue(versions.versionCounts().isEmpty());
+        assertNull(versions.choose("v2"));
+    }
+
+    @Test
+    @DisplayName("Same instance ID on a new address - should replace the stale endpoint")
+    void testEndpointChange() {
+        VersionedInstanceIndex versions = new VersionedInstanceIndex("order-service", "version");
+        versions.update(List.of(instance("a", "v1")));
+
+        DefaultServiceInstance moved = new DefaultServiceInstance("a", "user-service", "10.0.1.1", 9090, false);
+        moved.getMetadata().put("version", "v1");
+        versions.update(List.of(moved));
+
+        assertEquals("10.0.1.1", versions.choose("v1").getHost());
+        assertEquals(9090, versions.choose("v1").getPort());
+    }
+
+    @Test
+    @DisplayName("Empty refresh - should keep the current index and stay stale")
+    void testEmptyRefreshKeepsIndex() {
+        choose("v1");
+        instances.clear();
+        index.markStale();
+
+        assertEquals("c", choose("v2").getServer().getInstanceId());
+        assertTrue(index.claimRefresh());
+    }
+
+    @Test
+    @DisplayName("Index older than max age - should refresh without a discovery event")
+    void testMaxAgeRefresh() throws InterruptedException {
+        VersionedInstanceIndex expiring = new VersionedInstanceIndex("user-service", "version", Duration.ofMillis(20));
+        assertTrue(expiring.claimRefresh());
+        assertFalse(expiring.claimRefresh());
+
+        Thread.sleep(40);
+
+        assertTrue(expiring.claimRefresh());
+        assertFalse(expiring.claimRefresh());
+    }
+
+    private Response<ServiceInstance> choose(String version) {
+        MockServerHttpRequest.BaseBuilder<?> builder = MockServerHttpRequest.get("/api/users");
+        if (version != null) {
+            builder.header("X-Gray-Version", version);
+        }
+        Request<RequestDataContext> request = new DefaultRequest<>(
+                new RequestDataContext(new RequestData(builder.build())));
+        return loadBalancer.choose(request).block();
+    }
+
+    private static ServiceInstance instance(String id, String version) {
+        DefaultServiceInstance instance = new DefaultServiceInstance(
+                id, "user-service", "10.0.0." + id.charAt(0) % 250, 8080, false);
+        if (version != null) {
+            instance.getMetadata().put("version", version);
+        }
+        return instance;
+    }
+}
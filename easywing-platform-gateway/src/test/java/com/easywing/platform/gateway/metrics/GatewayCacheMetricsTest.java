@@ -0,0 +1,79 @@
+/*
+ * Copyright 2024-2026 EasyWing Platform Team.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.easywing.platform.gateway.metrics;
+
+import com.easywing.platform.gateway.filter.cache.ResponseCacheManager;
+import com.easywing.platform.gateway.filter.gray.GrayReleaseFilter;
+import com.easywing.platform.gateway.filter.ratelimit.RateLimitFilter;
+import com.easywing.platform.gateway.properties.GatewayProperties;
+import com.easywing.platform.gateway.properties.ResponseCacheProperties;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 网关缓存指标测试
+ *
+ * @author EasyWing Team
+ * @since 1.0.0
+ */
+class GatewayCacheMetricsTest {
+
+    @Test
+    @DisplayName("Should register every available cache under the gateway naming scheme")
+    void shouldRegisterAvailableCaches() {
+        GatewayProperties properties = new GatewayProperties();
+        GatewayCacheMetrics metrics = new GatewayCacheMetrics(null,
+                new RateLimitFilter(properties, null, null),
+                new GrayReleaseFilter(properties),
+                new ResponseCacheManager(new ResponseCacheProperties()));
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+        metrics.bindTo(registry);
+
+        assertEquals(4, metrics.getCaches().size());
+        for (String name : new String[]{"gateway.ratelimit.buckets", "gateway.gray.decisions", "gateway.response",
+                "gateway.response.vary"}) {
+            assertNotNull(registry.find("cache.size").tag("cache", name).gauge(), name);
+            assertNotNull(registry.find("cache.evictions").tag("cache", name).functionCounter(), name);
+            assertNotNull(registry.find(GatewayCacheMetrics.HIT_RATIO_METER).tag("cache", name).gauge(), name);
+        }
+        assertNull(registry.find("cache.size").tag("cache", "gateway.jwt.claims").gauge());
+    }
+
+    @Test
+    @DisplayName("Should expose misses and hit ratio recorded by the cache")
+    void shouldExposeHitRatio() {
+        ResponseCacheManager responseCacheManager = new ResponseCacheManager(new ResponseCacheProperties());
+        GatewayCacheMetrics metrics = new GatewayCacheMetrics(null, null, null, responseCacheManager);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        metrics.bindTo(registry);
+
+        responseCacheManager.getCache().getIfPresent("missing");
+        responseCacheManager.getCache().getIfPresent("missing");
+
+        FunctionCounter misses = registry.find("cache.gets").tags("cache", "gateway.response", "result", "miss")
+                .functionCounter();
+        Gauge hitRatio = registry.find(GatewayCacheMetrics.HIT_RATIO_METER).tag("cache", "gateway.response").gauge();
+        assertNotNull(misses);
+        assertEquals(2, misses.count());
+        assertEquals(0.0, hitRatio.value());
+    }
+}
@@ -75,6 +75,22 @@ public @interface MultiLevelCache {
      */
     boolean cacheNull() default false;
 
+    /**
+     * 提前刷新阈值（redisExpire 的比例）
+     * <p>
+     * 例如 0.8 表示条目写入超过 redisExpire 的80%后，命中时仍返回当前值并在后台异步重新加载；
+     * 开启后本地缓存条目的过期时间不超过刷新点，刷新检查不会被本地命中跳过。默认0不提前刷新
+     */
+    double refreshAfter() default 0;
+
+    /**
+     * 过期后允许返回旧值的时长（秒）
+     * <p>
+     * 条目超过 redisExpire 后的这段时间内，命中时返回旧值并在后台重新加载（同一key同时只有一个后台加载）；
+     * Redis中的实际TTL为 redisExpire + staleWhileRevalidate，默认0不返回旧值
+     */
+    int staleWhileRevalidate() default 0;
+
     /**
      * 缓存key的生成策略
      */
@@ -18,9 +18,16 @@ package com.easywing.platform.cache.aspect;
 import com.easywing.platform.cache.annotation.CacheEvict;
 import com.easywing.platform.cache.annotation.CachePut;
 import com.easywing.platform.cache.annotation.MultiLevelCache;
+import com.easywing.platform.cache.bus.CacheInvalidationBus;
+import com.easywing.platform.cache.codec.CacheCodec;
+import com.easywing.platform.cache.codec.CacheCodecException;
+import com.easywing.platform.cache.codec.TimestampedValue;
+import com.easywing.platform.cache.hotkey.HotKeyDetector;
+import com.easywing.platform.cache.local.MultiLevelCaffeineCacheManager;
+import com.easywing.platform.cache.loader.CacheRefresher;
+import com.easywing.platform.cache.loader.SingleFlightLoader;
+import com.easywing.platform.cache.namespace.CacheNamespace;
 import com.easywing.platform.cache.properties.CacheProperties;
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.aspectj.lang.ProceedingJoinPoint;
@@ -29,12 +36,13 @@ import org.aspectj.lang.annotation.Aspect;
 import org.aspectj.lang.reflect.MethodSignature;
 import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
+import org.springframework.cache.support.SimpleValueWrapper;
 import org.springframework.core.DefaultParameterNameDiscoverer;
 import org.springframework.expression.EvaluationContext;
 import org.springframework.expression.Expression;
 import org.springframework.expression.spel.standard.SpelExpressionParser;
 import org.springframework.expression.spel.support.StandardEvaluationContext;
-import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Component;
 
 import java.lang.reflect.Method;
@@ -45,7 +53,13 @@ import java.util.concurrent.TimeUnit;
 /**
  * 多级缓存切面
  * <p>
- * 处理 @MultiLevelCache, @CacheEvict, @CachePut 注解
+ * 处理 @MultiLevelCache, @CacheEvict, @CachePut 注解；
+ * 两级缓存均未命中时经 {@link SingleFlightLoader} 合并并发加载，避免热点key过期瞬间的回源风暴；
+ * Redis中的值由 {@link CacheCodec} 编解码，命中时返回原类型对象；
+ * 配置 refreshAfter / staleWhileRevalidate 后，Redis命中时按值中记录的写入时间（{@link TimestampedValue}）计算条目年龄，
+ * 接近或超过过期时间的条目照常返回，并由 {@link CacheRefresher} 在后台重新加载；
+ * 后台重新加载得到 null 时不覆盖已有的非空值；
+ * 启用热点探测时（hotKeyDetector 不为 null），本地缓存未命中后先查热点缓存，Redis命中计入热点频率
  *
  * @author EasyWing Team
  * @since 1.0.0
@@ -57,9 +71,14 @@ import java.util.concurrent.TimeUnit;
 public class MultiLevelCacheAspect {
 
     private final CacheManager localCacheManager;
-    private final StringRedisTemplate redisTemplate;
-    private final ObjectMapper objectMapper;
+    private final RedisTemplate<String, byte[]> redisTemplate;
+    private final CacheCodec cacheCodec;
     private final CacheProperties properties;
+    private final SingleFlightLoader singleFlightLoader;
+    private final CacheNamespace cacheNamespace;
+    private final CacheRefresher cacheRefresher;
+    private final CacheInvalidationBus invalidationBus;
+    private final HotKeyDetector hotKeyDetector;
     
     private final SpelExpressionParser parser = new SpelExpressionParser();
     private final DefaultParameterNameDiscoverer parameterNameDiscoverer = new DefaultParameterNameDiscoverer();
@@ -81,46 +100,201 @@ public class MultiLevelCacheAspect {
             return localValue.get();
         }
         
-        // 2. 再查Redis
-        String redisValue = redisTemplate.opsForValue().get(fullKey);
+        // 热点key在本地缓存过期或被挤出后仍由热点缓存承接
+        if (hotKeyDetector != null) {
+            Cache.ValueWrapper hotValue = hotKeyDetector.get(cacheName, cacheKey);
+            if (hotValue != null) {
+                log.debug("Hot key cache hit: {}", fullKey);
+                return hotValue.get();
+            }
+        }
+        
+        // 2. 再查Redis，命中时回填本地缓存；开启后台刷新时同时检查条目年龄
+        Cache.ValueWrapper redisValue = isRefreshEnabled(multiLevelCache)
+                ? lookupRedisAndRefresh(point, multiLevelCache, localCache, cacheKey, fullKey)
+                : lookupRedis(localCache, cacheKey, fullKey, multiLevelCache.localExpire());
         if (redisValue != null) {
             log.debug("Redis cache hit: {}", fullKey);
-            Object value = deserialize(redisValue);
-            // 回填本地缓存
-            if (localCache != null && value != null) {
-                localCache.put(cacheKey, value);
+            if (hotKeyDetector != null) {
+                hotKeyDetector.recordRedisHit(cacheName, cacheKey, redisValue.get());
             }
-            return value;
+            return redisValue.get();
         }
         
         log.debug("Cache miss: {}", fullKey);
         
-        // 3. 执行实际查询
+        // 3. 合并并发未命中，只有一个调用者执行实际查询并写入缓存
+        return singleFlightLoader.load(cacheName, fullKey,
+                () -> loadAndPut(point, multiLevelCache, localCache, cacheKey, fullKey),
+                () -> lookupRedis(localCache, cacheKey, fullKey, multiLevelCache.localExpire()));
+    }
+
+    /**
+     * 执行实际查询并写入缓存
+     */
+    private Object loadAndPut(ProceedingJoinPoint point, MultiLevelCache multiLevelCache, Cache localCache,
+                              String cacheKey, String fullKey) throws Throwable {
         Object result = point.proceed();
         
-        // 4. 写入缓存
         if (result != null || multiLevelCache.cacheNull()) {
-            int localExpire = multiLevelCache.localExpire();
-            int redisExpire = multiLevelCache.redisExpire();
-            
-            // 写入本地缓存
-            if (localCache != null) {
-                localCache.put(cacheKey, result);
-            }
-            
-            // 写入Redis
-            try {
-                String jsonValue = serialize(result);
-                redisTemplate.opsForValue().set(fullKey, jsonValue, redisExpire, TimeUnit.SECONDS);
-                log.debug("Cache put: {}, localExpire: {}s, redisExpire: {}s", fullKey, localExpire, redisExpire);
-            } catch (JsonProcessingException e) {
-                log.error("Failed to serialize cache value: {}", fullKey, e);
-            }
+            put(multiLevelCache, localCache, cacheKey, fullKey, result);
         }
         
         return result;
     }
 
+    /**
+     * 按注解配置写入两级缓存
+     */
+    private void put(MultiLevelCache multiLevelCache, Cache localCache, String cacheKey, String fullKey,
+                     Object result) {
+        boolean refreshEnabled = isRefreshEnabled(multiLevelCache);
+        int localExpire = refreshEnabled ? refreshBoundedLocalExpire(multiLevelCache, 0)
+                : multiLevelCache.localExpire();
+        int redisExpire = redisTtl(multiLevelCache);
+        
+        // 写入本地缓存，按注解的 localExpire 过期；开启后台刷新时不超过刷新点
+        if (localCache != null && (!refreshEnabled || localExpire > 0)) {
+            MultiLevelCaffeineCacheManager.put(localCache, cacheKey, result, localExpire);
+        }
+        
+        // 写入Redis，记录写入时间供后台刷新计算条目年龄
+        try {
+            redisTemplate.opsForValue().set(fullKey, TimestampedValue.encode(cacheCodec, result), redisExpire,
+                    TimeUnit.SECONDS);
+            log.debug("Cache put: {}, localExpire: {}s, redisExpire: {}s", fullKey, localExpire, redisExpire);
+        } catch (CacheCodecException e) {
+            log.error("Failed to serialize cache value: {}", fullKey, e);
+        }
+    }
+
+    /**
+     * 查询Redis，命中时回填本地缓存；无法解码的值按未命中处理
+     */
+    private Cache.ValueWrapper lookupRedis(Cache localCache, String cacheKey, String fullKey, int localExpire) {
+        long epoch = MultiLevelCaffeineCacheManager.invalidationEpoch(localCache, cacheKey);
+        byte[] redisValue = redisTemplate.opsForValue().get(fullKey);
+        if (redisValue == null) {
+            return null;
+        }
+        return decodeAndBackfill(localCache, cacheKey, fullKey, redisValue, localExpire, epoch);
+    }
+
+    /**
+     * 查询Redis，按写入时间计算条目年龄，进入提前刷新区间或已过期（处于旧值可用期）时提交后台刷新；
+     * 写入时间未知的旧格式条目不刷新，按TTL自然过期。
+     * 条目年龄只在本地缓存未命中时检查，因此回填的本地过期时间不超过条目到达刷新点的剩余时间，
+     * 已到达刷新点的条目不回填，避免本地命中掩盖刷新时机、Redis过期后直接硬未命中
+     */
+    private Cache.ValueWrapper lookupRedisAndRefresh(ProceedingJoinPoint point, MultiLevelCache multiLevelCache,
+                                                     Cache localCache, String cacheKey, String fullKey) {
+        long epoch = MultiLevelCaffeineCacheManager.invalidationEpoch(localCache, cacheKey);
+        byte[] redisValue = redisTemplate.opsForValue().get(fullKey);
+        if (redisValue == null) {
+            return null;
+        }
+        long writeTime = TimestampedValue.writeTime(redisValue);
+        boolean writeTimeKnown = writeTime != TimestampedValue.UNKNOWN_WRITE_TIME;
+        long ageMillis = writeTimeKnown ? System.currentTimeMillis() - writeTime : 0;
+        int localExpire = writeTimeKnown ? refreshBoundedLocalExpire(multiLevelCache, ageMillis)
+                : multiLevelCache.localExpire();
+        boolean backfill = !writeTimeKnown || localExpire > 0;
+        Cache.ValueWrapper wrapper = decodeAndBackfill(backfill ? localCache : null, cacheKey, fullKey,
+                redisValue, localExpire, epoch);
+        if (wrapper != null && writeTimeKnown) {
+            long freshMillis = multiLevelCache.redisExpire() * 1000L;
+            boolean stale = ageMillis >= freshMillis;
+            boolean refreshAhead = multiLevelCache.refreshAfter() > 0
+                    && ageMillis >= freshMillis * multiLevelCache.refreshAfter();
+            if (stale || refreshAhead) {
+                boolean keepOnNull = wrapper.get() != null;
+                boolean submitted = cacheRefresher.refresh(multiLevelCache.value(), fullKey,
+                        () -> reload(point, multiLevelCache, localCache, cacheKey, fullKey, keepOnNull));
+                log.debug("Cache {} refresh: {}, age: {}ms, submitted: {}",
+                        stale ? "stale" : "ahead", fullKey, ageMillis, submitted);
+            }
+        }
+        return wrapper;
+    }
+
+    /**
+     * 后台重新加载；当前值非空而重新加载得到 null 时保留当前值，避免异常加载结果覆盖有效缓存
+     */
+    private void reload(ProceedingJoinPoint point, MultiLevelCache multiLevelCache, Cache localCache,
+                        String cacheKey, String fullKey, boolean keepOnNull) throws Throwable {
+        if (!keepOnNull) {
+            loadAndPut(point, multiLevelCache, localCache, cacheKey, fullKey);
+            return;
+        }
+        Object result = point.proceed();
+        if (result == null) {
+            log.warn("Cache refresh returned null, keep current value: {}", fullKey);
+            return;
+        }
+        put(multiLevelCache, localCache, cacheKey, fullKey, result);
+    }
+
+    /**
+     * 解码Redis中的值并回填本地缓存；无法解码的值按未命中处理。
+     * 读取Redis之后该key已被失效（epoch 变化）时不回填，避免旧值覆盖先到达的失效
+     */
+    private Cache.ValueWrapper decodeAndBackfill(Cache localCache, String cacheKey, String fullKey, byte[] redisValue,
+                                                 int localExpire, long epoch) {
+        Object value;
+        try {
+            value = cacheCodec.decode(TimestampedValue.payload(redisValue));
+        } catch (CacheCodecException e) {
+            log.warn("Failed to deserialize cache value, treat as miss: {}", fullKey, e);
+            return null;
+        }
+        if (localCache != null && value != null
+                && !MultiLevelCaffeineCacheManager.backfill(localCache, cacheKey, value, localExpire, epoch)) {
+            log.debug("Skip local backfill, invalidated during Redis read: {}", fullKey);
+        }
+        return new SimpleValueWrapper(value);
+    }
+
+    /**
+     * 是否开启后台刷新
+     *
+     * @throws IllegalArgumentException refreshAfter 不为 0 且不在 (0, 1) 区间内
+     */
+    private boolean isRefreshEnabled(MultiLevelCache multiLevelCache) {
+        double refreshAfter = multiLevelCache.refreshAfter();
+        if (refreshAfter != 0 && !(refreshAfter > 0 && refreshAfter < 1)) {
+            throw new IllegalArgumentException("@MultiLevelCache(\"" + multiLevelCache.value()
+                    + "\") refreshAfter must be in (0, 1), got: " + refreshAfter);
+        }
+        return refreshAfter > 0 || multiLevelCache.staleWhileRevalidate() > 0;
+    }
+
+    /**
+     * 开启后台刷新时的本地过期时间（秒）：不超过 localExpire，也不超过条目到达刷新点
+     * （redisExpire * refreshAfter，未开启提前刷新时为 redisExpire）的剩余时间
+     *
+     * @param ageMillis 条目已写入的时长
+     * @return 本地过期时间，不大于0表示条目已到达刷新点，不应写入本地缓存
+     */
+    private int refreshBoundedLocalExpire(MultiLevelCache multiLevelCache, long ageMillis) {
+        long refreshAtMillis = multiLevelCache.redisExpire() * 1000L;
+        if (multiLevelCache.refreshAfter() > 0) {
+            refreshAtMillis = (long) (refreshAtMillis * multiLevelCache.refreshAfter());
+        }
+        long remainingSeconds = (refreshAtMillis - ageMillis) / 1000;
+        if (remainingSeconds <= 0) {
+            return 0;
+        }
+        int localExpire = multiLevelCache.localExpire();
+        return localExpire > 0 ? (int) Math.min(localExpire, remainingSeconds) : (int) remainingSeconds;
+    }
+
+    /**
+     * Redis实际TTL（秒）：有效期加上旧值可用期
+     */
+    private int redisTtl(MultiLevelCache multiLevelCache) {
+        return multiLevelCache.redisExpire() + Math.max(0, multiLevelCache.staleWhileRevalidate());
+    }
+
     /**
      * 处理 @CacheEvict 注解
      */
@@ -170,15 +344,16 @@ public class MultiLevelCacheAspect {
                 // 更新本地缓存
                 Cache localCache = localCacheManager.getCache(cacheName);
                 if (localCache != null) {
-                    localCache.put(cacheKey, result);
+                    MultiLevelCaffeineCacheManager.put(localCache, cacheKey, result, cachePut.localExpire());
                 }
                 
                 // 更新Redis
                 try {
-                    String jsonValue = serialize(result);
-                    redisTemplate.opsForValue().set(fullKey, jsonValue, cachePut.redisExpire(), TimeUnit.SECONDS);
+                    redisTemplate.opsForValue().set(fullKey, TimestampedValue.encode(cacheCodec, result),
+                            cachePut.redisExpire(),
+                            TimeUnit.SECONDS);
                     log.debug("Cache put (update): {}", fullKey);
-                } catch (JsonProcessingException e) {
+                } catch (CacheCodecException e) {
                     log.error("Failed to serialize cache value: {}", fullKey, e);
                 }
             }
@@ -199,13 +374,12 @@ public class MultiLevelCacheAspect {
                 log.debug("Local cache clear: {}", cacheName);
             }
             
-            // 清理Redis
-            String pattern = properties.getKeyPrefix() + cacheName + ":*";
-            var keys = redisTemplate.keys(pattern);
-            if (keys != null && !keys.isEmpty()) {
-                redisTemplate.delete(keys);
-                log.debug("Redis cache clear: {}, deleted {} keys", cacheName, keys.size());
-            }
+            // 清理Redis：递增命名空间版本，旧key按TTL过期
+            long generation = cacheNamespace.invalidate(cacheName);
+            log.debug("Redis cache clear: {}, generation: {}", cacheName, generation);
+            
+            // 通知其他节点清理本地缓存
+            invalidationBus.clear(cacheName);
         } else {
             // 清理指定key
             String cacheKey = generateKey(point, keyExpression);
@@ -221,6 +395,9 @@ public class MultiLevelCacheAspect {
             // 清理Redis
             redisTemplate.delete(fullKey);
             log.debug("Redis cache evict: {}", fullKey);
+            
+            // 通知其他节点清理本地缓存
+            invalidationBus.evict(cacheName, cacheKey);
         }
     }
 
@@ -258,26 +435,7 @@ public class MultiLevelCacheAspect {
      * 构建完整的缓存key
      */
     private String buildFullKey(String cacheName, String key) {
-        return properties.getKeyPrefix() + cacheName + ":" + key;
-    }
-
-    /**
-     * 序列化对象
-     */
-    private String serialize(Object value) throws JsonProcessingException {
-        return objectMapper.writeValueAsString(value);
-    }
-
-    /**
-     * 反序列化对象
-     */
-    private Object deserialize(String value) {
-        try {
-            return objectMapper.readValue(value, Object.class);
-        } catch (JsonProcessingException e) {
-            log.error("Failed to deserialize cache value", e);
-            return null;
-        }
+        return cacheNamespace.fullKey(cacheName, key);
     }
 
     /**
@@ -0,0 +1,174 @@
+/*
+ * Copyright 2024-2026 EasyWing Platform Team.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.easywing.platform.cache.bus;
+
+import com.easywing.platform.cache.properties.CacheProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RTopic;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.util.StringUtils;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 缓存失效总线
+ * <p>
+ * 将本节点的缓存失效操作广播给集群内其他节点：
+ * <ul>
+ *     <li>合并窗口内的失效操作合并为一条 {@link InvalidationMessage}，批量更新不再逐key发布</li>
+ *     <li>同一缓存的整体清空覆盖该缓存的逐key失效</li>
+ *     <li>待发送key数量达到上限时立即发送</li>
+ *     <li>消息带有节点ID与序号，发布失败同样消耗序号，使接收方发现缺口并清空本地缓存</li>
+ *     <li>消息带有本节点的启动时间戳，显式配置节点ID的节点重启后序号从1开始，接收方据此区分新旧序号</li>
+ * </ul>
+ *
+ * @author EasyWing Team
+ * @since 1.0.0
+ */
+@Slf4j
+public class CacheInvalidationBus implements DisposableBean {
+
+    private final RTopic topic;
+    private final String nodeId;
+    private final long epoch = System.currentTimeMillis();
+    private final long windowMillis;
+    private final int maxBatchSize;
+    private final AtomicLong sequence = new AtomicLong();
+    private final ScheduledExecutorService scheduler;
+
+    private final Object lock = new Object();
+    private Map<String, Set<String>> pendingEvicts = new LinkedHashMap<>();
+    private Set<String> pendingClears = new LinkedHashSet<>();
+    private int pendingKeys;
+    private boolean flushScheduled;
+
+    public CacheInvalidationBus(RTopic topic, CacheProperties properties) {
+        CacheProperties.BusConfig config = properties.getBus();
+        this.topic = topic;
+        this.nodeId = StringUtils.hasText(config.getNodeId())
+                ? config.getNodeId() : UUID.randomUUID().toString().substring(0, 8);
+        this.windowMillis = config.getWindow().toMillis();
+        this.maxBatchSize = Math.max(1, config.getMaxBatchSize());
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "cache-invalidation-bus");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 本节点ID
+     */
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    /**
+     * 广播单个key失效
+     */
+    public void evict(String cacheName, String cacheKey) {
+        boolean flushNow;
+        synchronized (lock) {
+            if (pendingClears.contains(cacheName)) {
+                return;
+            }
+            if (pendingEvicts.computeIfAbsent(cacheName, name -> new LinkedHashSet<>()).add(cacheKey)) {
+                pendingKeys++;
+            }
+            flushNow = schedule();
+        }
+        if (flushNow) {
+            flush();
+        }
+    }
+
+    /**
+     * 广播整个缓存区域清空
+     */
+    public void clear(String cacheName) {
+        boolean flushNow;
+        synchronized (lock) {
+            Set<String> keys = pendingEvicts.remove(cacheName);
+            if (keys != null) {
+                pendingKeys -= keys.size();
+            }
+            pendingClears.add(cacheName);
+            flushNow = schedule();
+        }
+        if (flushNow) {
+            flush();
+        }
+    }
+
+    /**
+     * 立即发送待发送的失效操作
+     */
+    public void flush() {
+        InvalidationMessage message;
+        synchronized (lock) {
+            flushScheduled = false;
+            if (pendingEvicts.isEmpty() && pendingClears.isEmpty()) {
+                return;
+            }
+            Map<String, List<String>> evicts = new LinkedHashMap<>();
+            pendingEvicts.forEach((name, keys) -> evicts.put(name, new ArrayList<>(keys)));
+            message = new InvalidationMessage(nodeId, epoch, sequence.incrementAndGet(),
+                    new ArrayList<>(pendingClears), evicts);
+            pendingEvicts = new LinkedHashMap<>();
+            pendingClears = new LinkedHashSet<>();
+            pendingKeys = 0;
+        }
+        try {
+            topic.publish(message.toJson());
+            log.debug("Published cache invalidation: seq={}, clear={}, evict={} caches",
+                    message.seq(), message.clear(), message.evict().size());
+        } catch (Exception e) {
+            log.error("Failed to publish cache invalidation, seq={}", message.seq(), e);
+        }
+    }
+
+    /**
+     * 安排发送，调用方需持有锁
+     *
+     * @return 是否需要立即发送
+     */
+    private boolean schedule() {
+        if (windowMillis <= 0 || pendingKeys >= maxBatchSize) {
+            return true;
+        }
+        if (!flushScheduled) {
+            flushScheduled = true;
+            scheduler.schedule(this::flush, windowMillis, TimeUnit.MILLISECONDS);
+        }
+        return false;
+    }
+
+    @Override
+    public void destroy() {
+        scheduler.shutdownNow();
+        flush();
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright 2024-2026 EasyWing Platform Team.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.easywing.platform.cache.bus;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 批量缓存失效消息
+ * <p>
+ * 一条消息携带一个合并窗口内的全部失效操作，以紧凑JSON发布：
+ * <pre>
+ * {"node":"a1b2c3","epoch":1735689600000,"seq":42,"clear":["sys_dict"],"evict":{"user":["1","2"]}}
+ * </pre>
+ *
+ * @param node  发送节点ID，接收方据此跳过自己发出的消息
+ * @param epoch 发送节点的启动时间戳，节点重启后序号从1重新开始，接收方据此重置跟踪的序号
+ * @param seq   发送节点本次启动内单调递增的序号，接收方据此发现丢失的消息
+ * @param clear 整体清空的缓存名称
+ * @param evict 按缓存名称分组的失效key
+ * @author EasyWing Team
+ * @since 1.0.0
+ */
+@JsonInclude(JsonInclude.Include.NON_EMPTY)
+public record InvalidationMessage(String node, long epoch, long seq, List<String> clear,
+                                  Map<String, List<String>> evict) {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper()
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+    public InvalidationMessage {
+        clear = clear != null ? clear : List.of();
+        evict = evict != null ? evict : Map.of();
+    }
+
+    /**
+     * 是否为批量消息（旧版本节点发布的是 cacheName:cacheKey 格式的纯文本）
+     */
+    public static boolean isBatch(String message) {
+        return message != null && message.startsWith("{");
+    }
+
+    public static InvalidationMessage parse(String message) {
+        try {
+            return MAPPER.readValue(message, InvalidationMessage.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Invalid cache invalidation message: " + message, e);
+        }
+    }
+
+    public String toJson() {
+        try {
+            return MAPPER.writeValueAsString(this);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize cache invalidation message", e);
+        }
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright 2024-2026 EasyWing Platform Team.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.easywing.platform.cache.codec;
+
+/**
+ * 缓存值编解码器SPI
+ * <p>
+ * 多级缓存的Redis层、缓存服务与缓存保护器共用同一个编解码器，实现需满足：
+ * <ul>
+ *     <li>保留类型：decode 返回与 encode 时相同类型的对象，而不是 Map 等中间结构</li>
+ *     <li>支持 null 值，用于缓存空结果</li>
+ *     <li>线程安全</li>
+ * </ul>
+ *
+ * @author EasyWing Team
+ * @since 1.0.0
+ */
+public interface CacheCodec {
+
+    /**
+     * 编解码器名称，对应配置 easywing.cache.codec.type
+     */
+    String name();
+
+    /**
+     * 编码
+     *
+     * @param value 缓存值，可以为 null
+     * @return 字节数组
+     * @throws CacheCodecException 编码失败
+     */
+    byte[] encode(Object value);
+
+    /**
+     * 解码
+     *
+     * @param bytes 字节数组
+     * @return 原类型的缓存值
+     * @throws CacheCodecException 解码失败（数据损坏、格式不兼容或类型不受信任）
+     */
+    Object decode(byte[] bytes);
+
+    /**
+     * 解码为指定类型
+     *
+     * @throws CacheCodecException 解码失败或类型不匹配
+     */
+    default <T> T decode(byte[] bytes, Class<T> type) {
+        Object value = decode(bytes);
+        if (value == null || type.isInstance(value)) {
+            return type.cast(value);
+        }
+        throw new CacheCodecException("Cached value of type " + value.getClass().getName()
+                + " is not assignable to " + type.getName());
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright 2024-2026 EasyWing Platform Team.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.easywing.platform.cache.codec;
+
+import org.apache.fury.Fury;
+import org.apache.fury.ThreadSafeFury;
+import org.apache.fury.config.Language;
+
+import java.util.Arrays;
+
+/**
+ * 基于Apache Fury的二进制编解码器
+ * <p>
+ * JIT生成序列化代码，编解码开销与体积通常优于Jackson系格式，但数据只能由Java读取：
+ * <ul>
+ *     <li>按类名写入类型，无需注册即可缓存任意VO</li>
+ *     <li>开启引用跟踪，支持共享引用与循环引用</li>
+ *     <li>仅用于受信任的Redis：未启用类注册时可反序列化任意类</li>
+ *     <li>编码结果以魔数和版本号开头；缺少头部（如切换编解码器前写入的JSON）或内容无法解析时抛出
+ *     {@link CacheCodecException}，由调用方按未命中处理，而不是当作缓存的空值</li>
+ * </ul>
+ * 需要引入 org.apache.fury:fury-core 依赖。
+ *
+ * @author EasyWing Team
+ * @since 1.0.0
+ */
+public class FuryCacheCodec implements CacheCodec {
+
+    private static final byte MAGIC = (byte) 0xF7;
+    private static final byte VERSION = 1;
+    private static final int HEADER_LENGTH = 2;
+
+    private final ThreadSafeFury fury = Fury.builder()
+            .withLanguage(Language.JAVA)
+            .requireClassRegistration(false)
+            .withRefTracking(true)
+            .buildThreadSafeFury();
+
+    /**
+     * null 值的编码内容（不含头部），用于区分真正的 null 与无法解析的数据
+     */
+    private final byte[] nullPayload = fury.serialize(null);
+
+    @Override
+    public String name() {
+        return "fury";
+    }
+
+    @Override
+    public byte[] encode(Object value) {
+        byte[] payload;
+        try {
+            payload = fury.serialize(value);
+        } catch (RuntimeException e) {
+            throw new CacheCodecException("Failed to encode cache value with fury", e);
+        }
+        byte[] bytes = new byte[HEADER_LENGTH + payload.length];
+        bytes[0] = MAGIC;
+        bytes[1] = VERSION;
+        System.arraycopy(payload, 0, bytes, HEADER_LENGTH, payload.length);
+        return bytes;
+    }
+
+    @Override
+    public Object decode(byte[] bytes) {
+        if (bytes == null || bytes.length <= HEADER_LENGTH || bytes[0] != MAGIC) {
+            throw new CacheCodecException("Not a fury encoded cache value");
+        }
+        if (bytes[1] != VERSION) {
+            throw new CacheCodecException("Unsupported fury cache value version: " + bytes[1]);
+        }
+        byte[] payload = Arrays.copyOfRange(bytes, HEADER_LENGTH, bytes.length);
+        Object value;
+        try {
+            value = fury.deserialize(payload);
+        } catch (RuntimeException e) {
+            throw new CacheCodecException("Failed to decode cache value with fury", e);
+        }
+        // 无法解析的数据可能被解析为 null，只有 null 标记才是真正缓存的空值
+        if (value == null && !Arrays.equals(payload, nullPayload)) {
+            throw new CacheCodecException("Failed to decode cache value with fury: unrecognized payload");
+        }
+        return value;
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright 2024-2026 EasyWing Platform Team.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.easywing.platform.cache.codec;
+
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.jsontype.BasicPolymorphicTypeValidator;
+import com.fasterxml.jackson.databind.jsontype.PolymorphicTypeValidator;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * 基于Jackson的保留类型编解码器
+ * <p>
+ * 同一套对象映射配置支持三种格式：
+ * <ul>
+ *     <li>json - 文本格式，便于在Redis中直接查看</li>
+ *     <li>smile - Jackson二进制JSON，体积更小、解析更快</li>
+ *     <li>cbor - RFC 8949 二进制格式，跨语言可读</li>
+ * </ul>
+ * 类型信息通过默认类型（NON_FINAL）写入，根值包装在信封对象中，
+ * 使 Long、集合元素等同样保留原类型；反序列化时只允许受信任包下的类型。
+ *
+ * @author EasyWing Team
+ * @since 1.0.0
+ */
+public class JacksonCacheCodec implements CacheCodec {
+
+    private static final List<String> BUILTIN_TRUSTED_PREFIXES = List.of(
+            "java.lang.", "java.util.", "java.time.", "java.math.", "com.easywing.");
+
+    private final String name;
+    private final ObjectMapper mapper;
+
+    JacksonCacheCodec(String name, ObjectMapper mapper, List<String> trustedPackages) {
+        this.name = name;
+        this.mapper = mapper;
+        this.mapper.configure(SerializationFeature.FAIL_ON_EMPTY_BEANS, false);
+        this.mapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+        this.mapper.activateDefaultTyping(typeValidator(trustedPackages),
+                ObjectMapper.DefaultTyping.NON_FINAL, JsonTypeInfo.As.PROPERTY);
+    }
+
+    public static JacksonCacheCodec json(ObjectMapper base, List<String> trustedPackages) {
+        return new JacksonCacheCodec("json", base.copy(), trustedPackages);
+    }
+
+    public static JacksonCacheCodec smile(ObjectMapper base, List<String> trustedPackages) {
+        return new JacksonCacheCodec("smile", base.copyWith(new SmileFactory()), trustedPackages);
+    }
+
+    public static JacksonCacheCodec cbor(ObjectMapper base, List<String> trustedPackages) {
+        return new JacksonCacheCodec("cbor", base.copyWith(new CBORFactory()), trustedPackages);
+    }
+
+    @Override
+    public String name() {
+        return name;
+    }
+
+    @Override
+    public byte[] encode(Object value) {
+        try {
+            return mapper.writeValueAsBytes(new Envelope(value));
+        } catch (IOException e) {
+            throw new CacheCodecException("Failed to encode cache value with " + name, e);
+        }
+    }
+
+    @Override
+    public Object decode(byte[] bytes) {
+        try {
+            return mapper.readValue(bytes, Envelope.class).value;
+        } catch (IOException e) {
+            throw new CacheCodecException("Failed to decode cache value with " + name, e);
+        }
+    }
+
+    private static PolymorphicTypeValidator typeValidator(List<String> trustedPackages) {
+        BasicPolymorphicTypeValidator.Builder builder = BasicPolymorphicTypeValidator.builder()
+                .allowIfSubTypeIsArray();
+        BUILTIN_TRUSTED_PREFIXES.forEach(builder::allowIfSubType);
+        if (trustedPackages != null) {
+            trustedPackages.forEach(builder::allowIfSubType);
+        }
+        return builder.build();
+    }
+
+    /**
+     * 根值信封：声明类型为 Object，使根值同样写入类型信息
+     */
+    static final class Envelope {
+        public Object value;
+
+        Envelope() {
+        }
+
+        Envelope(Object value) {
+            this.value = value;
+        }
+    }
+}
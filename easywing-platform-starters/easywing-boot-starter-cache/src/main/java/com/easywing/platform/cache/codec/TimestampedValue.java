@@ -0,0 +1,86 @@
+/*
+ * Copyright 2024-2026 EasyWing Platform Team.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.easywing.platform.cache.codec;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * 带写入时间的Redis缓存值格式
+ * <p>
+ * 多级缓存写入Redis的值为：2字节头部（0x00 'T'）+ 8字节写入时间（毫秒时间戳）+ {@link CacheCodec} 编码内容：
+ * <ul>
+ *     <li>后台刷新按写入时间计算条目年龄，与写入方使用的TTL无关（注解、@CachePut、MultiLevelCacheService）</li>
+ *     <li>没有头部的值（升级前写入）按原始编码内容读取，写入时间未知</li>
+ *     <li>各编解码器的编码结果都不以 0x00 开头，不会与头部混淆</li>
+ * </ul>
+ *
+ * @author EasyWing Team
+ * @since 1.0.0
+ */
+public final class TimestampedValue {
+
+    /**
+     * 写入时间未知
+     */
+    public static final long UNKNOWN_WRITE_TIME = -1L;
+
+    private static final byte MAGIC = 0x00;
+    private static final byte FORMAT = 'T';
+    private static final int HEADER_LENGTH = 2 + Long.BYTES;
+
+    private TimestampedValue() {
+    }
+
+    /**
+     * 编码缓存值并写入当前时间
+     */
+    public static byte[] encode(CacheCodec codec, Object value) {
+        return wrap(codec.encode(value), System.currentTimeMillis());
+    }
+
+    /**
+     * 为编码内容添加写入时间头部
+     */
+    public static byte[] wrap(byte[] payload, long writeTimeMillis) {
+        return ByteBuffer.allocate(HEADER_LENGTH + payload.length)
+                .put(MAGIC)
+                .put(FORMAT)
+                .putLong(writeTimeMillis)
+                .put(payload)
+                .array();
+    }
+
+    /**
+     * 读取写入时间
+     *
+     * @return 毫秒时间戳，没有头部时返回 {@link #UNKNOWN_WRITE_TIME}
+     */
+    public static long writeTime(byte[] stored) {
+        return hasHeader(stored) ? ByteBuffer.wrap(stored, 2, Long.BYTES).getLong() : UNKNOWN_WRITE_TIME;
+    }
+
+    /**
+     * 去掉头部，返回编解码器的编码内容
+     */
+    public static byte[] payload(byte[] stored) {
+        return hasHeader(stored) ? Arrays.copyOfRange(stored, HEADER_LENGTH, stored.length) : stored;
+    }
+
+    private static boolean hasHeader(byte[] stored) {
+        return stored.length >= HEADER_LENGTH && stored[0] == MAGIC && stored[1] == FORMAT;
+    }
+}
@@ -16,30 +16,52 @@
 package com.easywing.platform.cache.config;
 
 import com.easywing.platform.cache.aspect.MultiLevelCacheAspect;
+import com.easywing.platform.cache.bus.CacheInvalidationBus;
+import com.easywing.platform.cache.codec.CacheCodec;
+import com.easywing.platform.cache.codec.FuryCacheCodec;
+import com.easywing.platform.cache.codec.JacksonCacheCodec;
+import com.easywing.platform.cache.endpoint.HotKeyEndpoint;
+import com.easywing.platform.cache.hotkey.HotKeyDetector;
 import com.easywing.platform.cache.listener.CacheEvictListener;
+import com.easywing.platform.cache.loader.CacheRefresher;
+import com.easywing.platform.cache.loader.SingleFlightLoader;
+import com.easywing.platform.cache.local.MultiLevelCaffeineCacheManager;
+import com.easywing.platform.cache.namespace.CacheNamespace;
+import com.easywing.platform.cache.namespace.CacheNamespaceReaper;
 import com.easywing.platform.cache.properties.CacheProperties;
 import com.easywing.platform.cache.protector.CacheProtector;
 import com.easywing.platform.cache.service.CacheStatsService;
 import com.easywing.platform.cache.service.MultiLevelCacheService;
+import com.easywing.platform.cache.tracking.ClientSideTrackingInvalidator;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
 import lombok.extern.slf4j.Slf4j;
 import org.redisson.api.RedissonClient;
 import org.redisson.api.RTopic;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.autoconfigure.data.redis.RedisAutoConfiguration;
+import org.springframework.boot.autoconfigure.data.redis.RedisProperties;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.cache.caffeine.CaffeineCacheManager;
 import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskDecorator;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.springframework.util.ClassUtils;
 
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -68,25 +90,10 @@ public class CacheAutoConfiguration {
     @Bean("localCacheManager")
     @ConditionalOnMissingBean(name = "localCacheManager")
     @ConditionalOnProperty(prefix = "easywing.cache", name = "type", havingValue = "multi", matchIfMissing = true)
-    public CacheManager localCacheManager(CacheProperties properties) {
+    public CacheManager localCacheManager(CacheProperties properties, CacheCodec cacheCodec) {
         log.info("EasyWing Local Cache Manager (Caffeine) initialized");
-        
-        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
-        Caffeine<Object, Object> caffeine = Caffeine.newBuilder()
-                .initialCapacity(properties.getCaffeine().getInitialCapacity())
-                .maximumSize(properties.getCaffeine().getMaximumSize())
-                .expireAfterWrite(properties.getCaffeine().getExpireAfterWrite().toMillis(), TimeUnit.MILLISECONDS);
-        
-        if (properties.getCaffeine().getExpireAfterAccess() != null) {
-            caffeine.expireAfterAccess(properties.getCaffeine().getExpireAfterAccess().toMillis(), TimeUnit.MILLISECONDS);
-        }
-        
-        if (properties.getCaffeine().isRecordStats() && properties.isStatsEnabled()) {
-            caffeine.recordStats();
-        }
-        
-        cacheManager.setCaffeine(caffeine);
-        return cacheManager;
+        // 每个缓存按 easywing.cache.caches.<name> 独立构建Caffeine实例
+        return new MultiLevelCaffeineCacheManager(properties, cacheCodec);
     }
 
     /**
@@ -134,6 +141,55 @@ public class CacheAutoConfiguration {
         return mapper;
     }
 
+    /**
+     * 缓存值 RedisTemplate：key 为字符串，value 为编解码器输出的原始字节
+     */
+    @Bean("cacheRedisTemplate")
+    @ConditionalOnMissingBean(name = "cacheRedisTemplate")
+    public RedisTemplate<String, byte[]> cacheRedisTemplate(RedisConnectionFactory connectionFactory) {
+        RedisTemplate<String, byte[]> template = new RedisTemplate<>();
+        template.setConnectionFactory(connectionFactory);
+        template.setKeySerializer(new StringRedisSerializer());
+        template.setValueSerializer(RedisSerializer.byteArray());
+        template.setHashKeySerializer(new StringRedisSerializer());
+        template.setHashValueSerializer(RedisSerializer.byteArray());
+        template.afterPropertiesSet();
+        return template;
+    }
+
+    /**
+     * 缓存值编解码器，按 easywing.cache.codec.type 选择实现
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public CacheCodec cacheCodec(ObjectMapper cacheObjectMapper, CacheProperties properties) {
+        String type = properties.getCodec().getType();
+        List<String> trustedPackages = properties.getCodec().getTrustedPackages();
+        CacheCodec codec = switch (type) {
+            case "json" -> JacksonCacheCodec.json(cacheObjectMapper, trustedPackages);
+            case "smile" -> JacksonCacheCodec.smile(cacheObjectMapper, trustedPackages);
+            case "cbor" -> {
+                requireCodecClass(type, "com.fasterxml.jackson.dataformat.cbor.CBORFactory",
+                        "com.fasterxml.jackson.dataformat:jackson-dataformat-cbor");
+                yield JacksonCacheCodec.cbor(cacheObjectMapper, trustedPackages);
+            }
+            case "fury" -> {
+                requireCodecClass(type, "org.apache.fury.Fury", "org.apache.fury:fury-core");
+                yield new FuryCacheCodec();
+            }
+            default -> throw new IllegalStateException("Unsupported cache codec type: " + type);
+        };
+        log.info("EasyWing Cache Codec initialized: {}", codec.name());
+        return codec;
+    }
+
+    private void requireCodecClass(String type, String className, String artifact) {
+        if (!ClassUtils.isPresent(className, getClass().getClassLoader())) {
+            throw new IllegalStateException(
+                    "easywing.cache.codec.type=" + type + " requires " + artifact + " on the classpath");
+        }
+    }
+
     /**
      * 多级缓存服务
      */
@@ -142,12 +198,38 @@ public class CacheAutoConfiguration {
     @ConditionalOnProperty(prefix = "easywing.cache", name = "type", havingValue = "multi", matchIfMissing = true)
     public MultiLevelCacheService multiLevelCacheService(
             CacheManager localCacheManager,
+            RedisTemplate<String, byte[]> cacheRedisTemplate,
+            CacheInvalidationBus cacheInvalidationBus,
+            CacheCodec cacheCodec,
+            CacheProperties properties,
+            CacheNamespace cacheNamespace) {
+        log.info("EasyWing Multi-level Cache Service initialized");
+        return new MultiLevelCacheService(localCacheManager, cacheRedisTemplate, cacheInvalidationBus, cacheCodec,
+                properties, cacheNamespace);
+    }
+
+    /**
+     * 带版本号的缓存命名空间
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnProperty(prefix = "easywing.cache", name = "type", havingValue = "multi", matchIfMissing = true)
+    public CacheNamespace cacheNamespace(StringRedisTemplate redisTemplate, CacheProperties properties) {
+        return new CacheNamespace(redisTemplate, properties);
+    }
+
+    /**
+     * 旧版本缓存key后台清理器
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnProperty(prefix = "easywing.cache.namespace.reaper", name = "enabled", havingValue = "true")
+    public CacheNamespaceReaper cacheNamespaceReaper(
+            CacheNamespace cacheNamespace,
             StringRedisTemplate redisTemplate,
-            RedissonClient redissonClient,
-            ObjectMapper cacheObjectMapper,
             CacheProperties properties) {
-        log.info("EasyWing Multi-level Cache Service initialized");
-        return new MultiLevelCacheService(localCacheManager, redisTemplate, redissonClient, cacheObjectMapper, properties);
+        log.info("EasyWing Cache Namespace Reaper initialized");
+        return new CacheNamespaceReaper(cacheNamespace, redisTemplate, properties);
     }
 
     /**
@@ -173,11 +255,53 @@ public class CacheAutoConfiguration {
     @ConditionalOnProperty(prefix = "easywing.cache", name = "type", havingValue = "multi", matchIfMissing = true)
     public MultiLevelCacheAspect multiLevelCacheAspect(
             CacheManager localCacheManager,
-            StringRedisTemplate redisTemplate,
-            ObjectMapper cacheObjectMapper,
-            CacheProperties properties) {
+            RedisTemplate<String, byte[]> cacheRedisTemplate,
+            CacheCodec cacheCodec,
+            CacheProperties properties,
+            SingleFlightLoader singleFlightLoader,
+            CacheNamespace cacheNamespace,
+            CacheRefresher cacheRefresher,
+            CacheInvalidationBus cacheInvalidationBus,
+            ObjectProvider<HotKeyDetector> hotKeyDetector) {
         log.info("EasyWing Multi-level Cache Aspect initialized");
-        return new MultiLevelCacheAspect(localCacheManager, redisTemplate, cacheObjectMapper, properties);
+        return new MultiLevelCacheAspect(localCacheManager, cacheRedisTemplate, cacheCodec, properties,
+                singleFlightLoader, cacheNamespace, cacheRefresher, cacheInvalidationBus,
+                hotKeyDetector.getIfAvailable());
+    }
+
+    /**
+     * 缓存后台刷新器，按顺序应用容器中的 {@link TaskDecorator} 传递调用方上下文
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnProperty(prefix = "easywing.cache", name = "type", havingValue = "multi", matchIfMissing = true)
+    public CacheRefresher cacheRefresher(
+            CacheProperties properties,
+            ObjectProvider<MeterRegistry> meterRegistry,
+            ObjectProvider<TaskDecorator> taskDecorators) {
+        List<TaskDecorator> decorators = taskDecorators.orderedStream().toList();
+        TaskDecorator taskDecorator = decorators.isEmpty() ? null : runnable -> {
+            Runnable decorated = runnable;
+            for (TaskDecorator decorator : decorators) {
+                decorated = decorator.decorate(decorated);
+            }
+            return decorated;
+        };
+        return new CacheRefresher(properties, meterRegistry.getIfAvailable(() -> Metrics.globalRegistry),
+                taskDecorator);
+    }
+
+    /**
+     * 缓存合并加载器
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnProperty(prefix = "easywing.cache", name = "type", havingValue = "multi", matchIfMissing = true)
+    public SingleFlightLoader singleFlightLoader(
+            CacheProperties properties,
+            StringRedisTemplate redisTemplate,
+            ObjectProvider<MeterRegistry> meterRegistry) {
+        return new SingleFlightLoader(properties, redisTemplate, meterRegistry.getIfAvailable(() -> Metrics.globalRegistry));
     }
 
     /**
@@ -186,9 +310,22 @@ public class CacheAutoConfiguration {
     @Bean
     @ConditionalOnMissingBean
     @ConditionalOnProperty(prefix = "easywing.cache", name = "type", havingValue = "multi", matchIfMissing = true)
-    public CacheEvictListener cacheEvictListener(CacheManager localCacheManager) {
-        log.info("EasyWing Cache Evict Listener initialized");
-        return new CacheEvictListener(localCacheManager);
+    public CacheEvictListener cacheEvictListener(
+            CacheManager localCacheManager,
+            CacheNamespace cacheNamespace,
+            CacheInvalidationBus cacheInvalidationBus) {
+        log.info("EasyWing Cache Evict Listener initialized, node: {}", cacheInvalidationBus.getNodeId());
+        return new CacheEvictListener(localCacheManager, cacheNamespace, cacheInvalidationBus.getNodeId());
+    }
+
+    /**
+     * 缓存失效总线
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnProperty(prefix = "easywing.cache", name = "type", havingValue = "multi", matchIfMissing = true)
+    public CacheInvalidationBus cacheInvalidationBus(RedissonClient redissonClient, CacheProperties properties) {
+        return new CacheInvalidationBus(redissonClient.getTopic(properties.getRedis().getCacheTopic()), properties);
     }
 
     /**
@@ -215,9 +352,75 @@ public class CacheAutoConfiguration {
     @ConditionalOnProperty(prefix = "easywing.cache", name = "type", havingValue = "multi", matchIfMissing = true)
     public CacheProtector cacheProtector(
             RedissonClient redissonClient,
-            StringRedisTemplate redisTemplate) {
+            RedisTemplate<String, byte[]> cacheRedisTemplate,
+            CacheCodec cacheCodec,
+            CacheProperties properties) {
         log.info("EasyWing Cache Protector initialized");
-        return new CacheProtector(redissonClient, redisTemplate);
+        return new CacheProtector(redissonClient, cacheRedisTemplate, cacheCodec, properties);
+    }
+
+    /**
+     * 热点key探测器，注册为本地缓存失效监听器
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnProperty(prefix = "easywing.cache.hot-key", name = "enabled", havingValue = "true")
+    public HotKeyDetector hotKeyDetector(
+            CacheProperties properties,
+            CacheManager localCacheManager,
+            ObjectProvider<MeterRegistry> meterRegistry) {
+        HotKeyDetector detector = new HotKeyDetector(properties,
+                meterRegistry.getIfAvailable(() -> Metrics.globalRegistry));
+        if (localCacheManager instanceof MultiLevelCaffeineCacheManager multiLevelCacheManager) {
+            multiLevelCacheManager.addInvalidationListener(detector);
+        } else {
+            log.warn("LocalCacheManager is not MultiLevelCaffeineCacheManager, "
+                    + "hot keys are only invalidated by TTL");
+        }
+        log.info("EasyWing Hot Key Detector initialized, threshold: {}", properties.getHotKey().getThreshold());
+        return detector;
+    }
+
+    /**
+     * 热点key端点配置，需要Spring Web
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(name = "org.springframework.web.bind.annotation.RestController")
+    @ConditionalOnProperty(prefix = "easywing.cache.hot-key", name = "enabled", havingValue = "true")
+    static class HotKeyEndpointConfiguration {
+
+        /**
+         * 热点key端点
+         */
+        @Bean
+        @ConditionalOnMissingBean
+        public HotKeyEndpoint hotKeyEndpoint(HotKeyDetector hotKeyDetector) {
+            return new HotKeyEndpoint(hotKeyDetector);
+        }
+    }
+
+    /**
+     * Redis客户端缓存跟踪配置，需要Lettuce客户端
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(name = "io.lettuce.core.RedisClient")
+    @ConditionalOnProperty(prefix = "easywing.cache.tracking", name = "enabled", havingValue = "true")
+    static class ClientSideTrackingConfiguration {
+
+        /**
+         * 基于RESP3 CLIENT TRACKING的本地缓存失效器
+         */
+        @Bean
+        @ConditionalOnMissingBean
+        public ClientSideTrackingInvalidator clientSideTrackingInvalidator(
+                RedisProperties redisProperties,
+                CacheProperties properties,
+                CacheManager localCacheManager,
+                CacheNamespace cacheNamespace,
+                ObjectProvider<MeterRegistry> meterRegistry) {
+            return new ClientSideTrackingInvalidator(redisProperties, properties, localCacheManager, cacheNamespace,
+                    meterRegistry.getIfAvailable(() -> Metrics.globalRegistry));
+        }
     }
 
     public CacheAutoConfiguration() {
@@ -0,0 +1,53 @@
+/*
+ * Copyright 2024-2026 EasyWing Platform Team.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.easywing.platform.cache.endpoint;
+
+import com.easywing.platform.cache.hotkey.HotKeyDetector;
+import com.easywing.platform.cache.hotkey.HotKeyDetector.HotKey;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * 热点key端点
+ * <p>
+ * 提供本节点当前热点key的HTTP接口
+ *
+ * @author EasyWing Team
+ * @since 1.0.0
+ */
+@RestController
+@RequestMapping("/actuator/cache")
+@RequiredArgsConstructor
+@ConditionalOnBean(HotKeyDetector.class)
+public class HotKeyEndpoint {
+
+    private final HotKeyDetector hotKeyDetector;
+
+    /**
+     * 获取当前热点key，按估算频率降序
+     *
+     * @return 热点key列表
+     */
+    @GetMapping("/hot-keys")
+    public List<HotKey> getHotKeys() {
+        return hotKeyDetector.hotKeys();
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright 2024-2026 EasyWing Platform Team.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.easywing.platform.cache.hotkey;
+
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * 可衰减的频率草图（Count-Min Sketch）
+ * <p>
+ * 4行计数器，每行使用不同种子对key的哈希重新散列；估算值取各行最小值，只会高估不会低估。
+ * {@link #halve()} 将所有计数减半，使估算值反映近期访问频率。计数器为原子操作，可并发读写
+ *
+ * @author EasyWing Team
+ * @since 1.0.0
+ */
+final class FrequencySketch {
+
+    private static final long[] SEEDS = {
+            0x97CB3127L, 0xB8D4A5F3L, 0xC2B2AE3DL, 0x9E3779B9L
+    };
+
+    private final AtomicIntegerArray table;
+    private final int mask;
+
+    FrequencySketch(int width) {
+        int size = Integer.highestOneBit(Math.max(16, Math.min(width, 1 << 24)) - 1) << 1;
+        this.table = new AtomicIntegerArray(size * SEEDS.length);
+        this.mask = size - 1;
+    }
+
+    /**
+     * 计数加一并返回新的估算值
+     */
+    int increment(Object key) {
+        int hash = spread(key.hashCode());
+        int min = Integer.MAX_VALUE;
+        for (int row = 0; row < SEEDS.length; row++) {
+            int index = indexOf(hash, row);
+            int count = table.get(index);
+            while (count < Integer.MAX_VALUE && !table.compareAndSet(index, count, count + 1)) {
+                count = table.get(index);
+            }
+            min = Math.min(min, count == Integer.MAX_VALUE ? count : count + 1);
+        }
+        return min;
+    }
+
+    /**
+     * 估算访问次数
+     */
+    int estimate(Object key) {
+        int hash = spread(key.hashCode());
+        int min = Integer.MAX_VALUE;
+        for (int row = 0; row < SEEDS.length; row++) {
+            min = Math.min(min, table.get(indexOf(hash, row)));
+        }
+        return min;
+    }
+
+    /**
+     * 所有计数减半
+     */
+    void halve() {
+        for (int i = 0; i < table.length(); i++) {
+            int count = table.get(i);
+            while (count > 0 && !table.compareAndSet(i, count, count >>> 1)) {
+                count = table.get(i);
+            }
+        }
+    }
+
+    private int indexOf(int hash, int row) {
+        long h = (hash + SEEDS[row]) * SEEDS[row];
+        h += h >>> 32;
+        return row * (mask + 1) + ((int) h & mask);
+    }
+
+    private static int spread(int hash) {
+        hash = ((hash >>> 16) ^ hash) * 0x45d9f3b;
+        hash = ((hash >>> 16) ^ hash) * 0x45d9f3b;
+        return (hash >>> 16) ^ hash;
+    }
+}
@@ -0,0 +1,153 @@
+/*
+ * Copyright 2024-2026 EasyWing Platform Team.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.easywing.platform.cache.hotkey;
+
+import com.easywing.platform.cache.local.LocalInvalidationListener;
+import com.easywing.platform.cache.properties.CacheProperties;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.NullValue;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 热点key探测器
+ * <p>
+ * 统计本节点Redis层命中的访问频率，将热点key提升到专用的短TTL本地缓存，降低单key热点对Redis分片的压力：
+ * <ul>
+ *     <li>频率使用 {@link FrequencySketch} 估算，每个衰减周期计数减半，冷key很快回落</li>
+ *     <li>估算值达到阈值的key在下一次Redis命中时提升，热点缓存按 ttl 过期、按 maximumSize 限制容量</li>
+ *     <li>作为 {@link LocalInvalidationListener} 注册到本地缓存管理器，本地缓存的失效、覆盖和清空同步作用于热点缓存</li>
+ *     <li>热点缓存命中同样计数，{@link #hotKeys()} 报告的估算值保持最新</li>
+ * </ul>
+ * 指标 easywing.cache.hotkey.promotions 按缓存名称统计提升次数
+ *
+ * @author EasyWing Team
+ * @since 1.0.0
+ */
+@Slf4j
+public class HotKeyDetector implements LocalInvalidationListener {
+
+    public static final String PROMOTION_METER = "easywing.cache.hotkey.promotions";
+
+    private final FrequencySketch sketch;
+    private final com.github.benmanes.caffeine.cache.Cache<HotKeyId, HotEntry> hotCache;
+    private final int threshold;
+    private final long decayNanos;
+    private final AtomicLong lastDecay;
+    private final MeterRegistry meterRegistry;
+
+    public HotKeyDetector(CacheProperties properties, MeterRegistry meterRegistry) {
+        CacheProperties.HotKeyConfig config = properties.getHotKey();
+        this.sketch = new FrequencySketch(config.getSketchWidth());
+        this.hotCache = Caffeine.newBuilder()
+                .expireAfterWrite(config.getTtl())
+                .maximumSize(config.getMaximumSize())
+                .build();
+        this.threshold = Math.max(1, config.getThreshold());
+        this.decayNanos = config.getDecayInterval().toNanos();
+        this.lastDecay = new AtomicLong(System.nanoTime());
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * 查询热点缓存，命中时计数
+     *
+     * @return 命中时返回值包装（值可以为 null），未命中返回 null
+     */
+    public Cache.ValueWrapper get(String cacheName, String key) {
+        HotKeyId id = new HotKeyId(cacheName, key);
+        HotEntry entry = hotCache.getIfPresent(id);
+        if (entry == null) {
+            return null;
+        }
+        record(id);
+        return new SimpleValueWrapper(entry.value() instanceof NullValue ? null : entry.value());
+    }
+
+    /**
+     * 记录一次Redis层命中，估算值达到阈值时提升到热点缓存
+     */
+    public void recordRedisHit(String cacheName, String key, Object value) {
+        HotKeyId id = new HotKeyId(cacheName, key);
+        if (record(id) < threshold) {
+            return;
+        }
+        HotEntry previous = hotCache.asMap().put(id, new HotEntry(value != null ? value : NullValue.INSTANCE,
+                Instant.now()));
+        if (previous == null) {
+            Counter.builder(PROMOTION_METER)
+                    .tag("cache", cacheName)
+                    .register(meterRegistry)
+                    .increment();
+            log.debug("Hot key promoted: {}:{}", cacheName, key);
+        }
+    }
+
+    /**
+     * 当前热点key，按估算频率降序
+     */
+    public List<HotKey> hotKeys() {
+        return hotCache.asMap().entrySet().stream()
+                .map(e -> new HotKey(e.getKey().cacheName(), e.getKey().key(),
+                        sketch.estimate(e.getKey()), e.getValue().promotedAt()))
+                .sorted(Comparator.comparingInt(HotKey::estimatedFrequency).reversed())
+                .toList();
+    }
+
+    @Override
+    public void onEvict(String cacheName, Object key) {
+        hotCache.invalidate(new HotKeyId(cacheName, String.valueOf(key)));
+    }
+
+    @Override
+    public void onClear(String cacheName) {
+        hotCache.asMap().keySet().removeIf(id -> id.cacheName().equals(cacheName));
+    }
+
+    private int record(HotKeyId id) {
+        long now = System.nanoTime();
+        long last = lastDecay.get();
+        if (now - last >= decayNanos && lastDecay.compareAndSet(last, now)) {
+            sketch.halve();
+        }
+        return sketch.increment(id);
+    }
+
+    /**
+     * 热点key信息
+     *
+     * @param cacheName          缓存名称
+     * @param key                缓存key
+     * @param estimatedFrequency 估算的近期访问频率
+     * @param promotedAt         提升时间
+     */
+    public record HotKey(String cacheName, String key, int estimatedFrequency, Instant promotedAt) {
+    }
+
+    private record HotKeyId(String cacheName, String key) {
+    }
+
+    private record HotEntry(Object value, Instant promotedAt) {
+    }
+}
@@ -15,17 +15,29 @@
  */
 package com.easywing.platform.cache.listener;
 
+import com.easywing.platform.cache.bus.InvalidationMessage;
+import com.easywing.platform.cache.namespace.CacheNamespace;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.redisson.api.listener.MessageListener;
 import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
 
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 /**
  * 缓存清理监听器
  * <p>
  * 通过Redis Pub/Sub接收其他节点的缓存清理消息，清理本地缓存
- * 用于保证集群环境下缓存一致性
+ * 用于保证集群环境下缓存一致性：
+ * <ul>
+ *     <li>跳过本节点发出的消息</li>
+ *     <li>按发送节点跟踪消息序号，发现缺口（丢失消息）时清空全部本地缓存</li>
+ *     <li>发送节点重启（启动时间戳变化）时重置跟踪的序号并清空全部本地缓存，重启期间的消息无从得知</li>
+ *     <li>兼容旧版本节点发布的 cacheName:cacheKey 纯文本消息</li>
+ * </ul>
  *
  * @author EasyWing Team
  * @since 1.0.0
@@ -35,20 +47,96 @@ import org.springframework.cache.CacheManager;
 public class CacheEvictListener implements MessageListener<String> {
 
     private final CacheManager localCacheManager;
+    private final CacheNamespace cacheNamespace;
+    private final String nodeId;
+    private final Map<String, Position> lastPositions = new ConcurrentHashMap<>();
 
     @Override
     public void onMessage(CharSequence channel, String message) {
-        log.info("Received cache evict message: channel={}, message={}", channel, message);
+        log.debug("Received cache evict message: channel={}, message={}", channel, message);
         
         try {
-            processEvictMessage(message);
+            if (InvalidationMessage.isBatch(message)) {
+                processBatchMessage(InvalidationMessage.parse(message));
+            } else {
+                processEvictMessage(message);
+            }
         } catch (Exception e) {
             log.error("Failed to process cache evict message: {}", message, e);
         }
     }
 
     /**
-     * 处理缓存清理消息
+     * 处理批量失效消息
+     */
+    private void processBatchMessage(InvalidationMessage message) {
+        if (nodeId.equals(message.node())) {
+            return;
+        }
+        
+        Position last = lastPositions.get(message.node());
+        if (last != null && message.epoch() > last.epoch()) {
+            // 发送节点已重启，序号重新开始，重启前后的消息可能丢失，清空全部本地缓存
+            lastPositions.put(message.node(), new Position(message.epoch(), message.seq()));
+            log.warn("Cache invalidation node {} restarted (epoch {} -> {}), flushing local caches",
+                    message.node(), last.epoch(), message.epoch());
+            flushAll();
+            return;
+        }
+        if (last == null || (message.epoch() == last.epoch() && message.seq() > last.seq())) {
+            lastPositions.put(message.node(), new Position(message.epoch(), message.seq()));
+        }
+        if (last != null && message.epoch() == last.epoch() && message.seq() > last.seq() + 1) {
+            // 丢失了该节点的消息，无法得知哪些key失效，清空全部本地缓存
+            log.warn("Cache invalidation gap from node {}: expected seq {}, got {}, flushing local caches",
+                    message.node(), last.seq() + 1, message.seq());
+            flushAll();
+            return;
+        }
+        
+        for (String cacheName : message.clear()) {
+            clearCache(cacheName);
+        }
+        for (Map.Entry<String, List<String>> entry : message.evict().entrySet()) {
+            Cache cache = localCacheManager.getCache(entry.getKey());
+            if (cache != null) {
+                entry.getValue().forEach(cache::evict);
+            }
+        }
+        log.debug("Applied cache invalidation from node {}: seq={}", message.node(), message.seq());
+    }
+
+    /**
+     * 清空全部本地缓存并重新读取命名空间版本
+     */
+    private void flushAll() {
+        if (cacheNamespace != null) {
+            cacheNamespace.knownCacheNames().forEach(cacheNamespace::refresh);
+        }
+        for (String cacheName : localCacheManager.getCacheNames()) {
+            Cache cache = localCacheManager.getCache(cacheName);
+            if (cache != null) {
+                cache.clear();
+            }
+        }
+    }
+
+    /**
+     * 清空单个缓存区域，其他节点已递增命名空间版本，立即重新读取
+     */
+    private void clearCache(String cacheName) {
+        if (cacheNamespace != null) {
+            cacheNamespace.refresh(cacheName);
+        }
+        Cache cache = localCacheManager.getCache(cacheName);
+        if (cache != null) {
+            cache.clear();
+            log.debug("Cleared local cache: {}", cacheName);
+        }
+    }
+
+    /**
+     * 处理旧版本缓存清理消息
      * <p>
      * 消息格式：
      * <ul>
@@ -62,31 +150,38 @@ public class CacheEvictListener implements MessageListener<String> {
             return;
         }
         
-        // 解析消息：cacheName:cacheKey 或 cacheName:*
+        // 解析消息：cacheName:cacheKey 或 cacheName:*（缓存名本身可能包含冒号，如 user:username）
         int colonIndex = message.indexOf(':');
         String cacheName;
         String cacheKey = null;
         
-        if (colonIndex > 0) {
+        if (message.endsWith(":*")) {
+            cacheName = message.substring(0, message.length() - 2);
+            cacheKey = "*";
+        } else if (colonIndex > 0) {
             cacheName = message.substring(0, colonIndex);
             cacheKey = message.substring(colonIndex + 1);
         } else {
             cacheName = message;
         }
         
-        Cache cache = localCacheManager.getCache(cacheName);
-        if (cache == null) {
-            log.debug("Cache not found: {}", cacheName);
-            return;
-        }
-        
         // 清理本地缓存
         if (cacheKey == null || "*".equals(cacheKey) || cacheKey.isEmpty()) {
-            cache.clear();
-            log.debug("Cleared local cache: {}", cacheName);
+            clearCache(cacheName);
         } else {
+            Cache cache = localCacheManager.getCache(cacheName);
+            if (cache == null) {
+                log.debug("Cache not found: {}", cacheName);
+                return;
+            }
             cache.evict(cacheKey);
             log.debug("Evicted local cache: {}:{}", cacheName, cacheKey);
         }
     }
+
+    /**
+     * 发送节点最近一条消息的启动时间戳与序号
+     */
+    private record Position(long epoch, long seq) {
+    }
 }
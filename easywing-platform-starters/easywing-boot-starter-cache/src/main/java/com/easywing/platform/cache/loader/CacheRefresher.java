@@ -0,0 +1,144 @@
+/*
+ * Copyright 2024-2026 EasyWing Platform Team.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.easywing.platform.cache.loader;
+
+import com.easywing.platform.cache.properties.CacheProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.core.task.TaskDecorator;
+
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 缓存后台刷新器
+ * <p>
+ * 为 refresh-ahead 与 stale-while-revalidate 执行异步重新加载：
+ * <ul>
+ *     <li>有界线程池 + 有界队列，队列满时丢弃任务，调用方继续使用当前值</li>
+ *     <li>同一完整缓存key同时只有一个刷新任务，重复提交直接忽略</li>
+ *     <li>刷新在后台线程执行；提交时在调用线程上执行 {@link TaskDecorator}，由其捕获并在刷新线程上恢复
+ *     ThreadLocal上下文（如租户、数据权限、数据源），未配置时上下文不会传递</li>
+ * </ul>
+ * 指标 easywing.cache.refresh 按缓存名称与结果（success、failure、rejected）打标签。
+ *
+ * @author EasyWing Team
+ * @since 1.0.0
+ */
+@Slf4j
+public class CacheRefresher implements DisposableBean {
+
+    public static final String REFRESH_METER = "easywing.cache.refresh";
+
+    private final ThreadPoolExecutor executor;
+    private final MeterRegistry meterRegistry;
+    private final TaskDecorator taskDecorator;
+    private final Map<String, Boolean> inFlight = new ConcurrentHashMap<>();
+
+    public CacheRefresher(CacheProperties properties, MeterRegistry meterRegistry) {
+        this(properties, meterRegistry, null);
+    }
+
+    public CacheRefresher(CacheProperties properties, MeterRegistry meterRegistry, TaskDecorator taskDecorator) {
+        CacheProperties.RefreshConfig config = properties.getRefresh();
+        AtomicInteger threadIndex = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                config.getCorePoolSize(),
+                Math.max(config.getCorePoolSize(), config.getMaxPoolSize()),
+                60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, config.getQueueCapacity())),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "cache-refresh-" + threadIndex.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        this.executor.allowCoreThreadTimeOut(true);
+        this.meterRegistry = meterRegistry;
+        this.taskDecorator = taskDecorator;
+    }
+
+    /**
+     * 提交刷新任务
+     *
+     * @param cacheName 缓存名称（指标标签）
+     * @param fullKey   完整缓存key，用于去重
+     * @param reload    重新加载并写入缓存的任务
+     * @return 是否提交成功；同一key已有刷新任务或队列已满时返回 false
+     */
+    public boolean refresh(String cacheName, String fullKey, Reload reload) {
+        if (inFlight.putIfAbsent(fullKey, Boolean.TRUE) != null) {
+            return false;
+        }
+        Runnable task = () -> {
+            try {
+                reload.run();
+                count(cacheName, "success");
+                log.debug("Cache refreshed: {}", fullKey);
+            } catch (Throwable e) {
+                count(cacheName, "failure");
+                log.warn("Cache refresh failed, keep current value: {}", fullKey, e);
+            } finally {
+                inFlight.remove(fullKey);
+            }
+        };
+        try {
+            // 在调用线程上装饰，捕获调用方的上下文
+            executor.execute(taskDecorator != null ? taskDecorator.decorate(task) : task);
+            return true;
+        } catch (RejectedExecutionException e) {
+            inFlight.remove(fullKey);
+            count(cacheName, "rejected");
+            log.debug("Cache refresh rejected, queue full: {}", fullKey);
+            return false;
+        }
+    }
+
+    /**
+     * 正在执行或排队中的刷新任务数量
+     */
+    public int inFlightCount() {
+        return inFlight.size();
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+
+    private void count(String cacheName, String result) {
+        Counter.builder(REFRESH_METER)
+                .tag("cache", cacheName)
+                .tag("result", result)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    /**
+     * 重新加载任务
+     */
+    @FunctionalInterface
+    public interface Reload {
+        void run() throws Throwable;
+    }
+}
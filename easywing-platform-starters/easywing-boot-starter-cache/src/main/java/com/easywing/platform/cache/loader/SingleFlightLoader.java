@@ -0,0 +1,235 @@
+/*
+ * Copyright 2024-2026 EasyWing Platform Team.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.easywing.platform.cache.loader;
+
+import com.easywing.platform.cache.properties.CacheProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * 合并加载器（single-flight）
+ * <p>
+ * 缓存未命中时按完整缓存key合并并发加载：
+ * <ul>
+ *     <li>同一节点内，首个调用者执行加载，其余调用者等待同一个 Future 的结果</li>
+ *     <li>等待超时的调用者自行加载，加载异常会传递给所有等待者</li>
+ *     <li>开启Redis租约后，只有获得租约的节点回源，其余节点轮询缓存等待回填，超时后自行加载</li>
+ * </ul>
+ * 指标（按缓存名称打标签）：
+ * <ul>
+ *     <li>easywing.cache.singleflight.stampede —— 每次加载合并的调用者数量</li>
+ *     <li>easywing.cache.singleflight.wait —— 等待者的等待耗时</li>
+ *     <li>easywing.cache.singleflight.fallback —— 等待或租约超时后自行加载的次数</li>
+ * </ul>
+ *
+ * @author EasyWing Team
+ * @since 1.0.0
+ */
+@Slf4j
+public class SingleFlightLoader {
+
+    public static final String STAMPEDE_METER = "easywing.cache.singleflight.stampede";
+    public static final String WAIT_METER = "easywing.cache.singleflight.wait";
+    public static final String FALLBACK_METER = "easywing.cache.singleflight.fallback";
+
+    private static final String LEASE_PREFIX = "cache:lease:";
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+            Long.class);
+
+    private final CacheProperties.SingleFlightConfig config;
+    private final StringRedisTemplate redisTemplate;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Flight> flights = new ConcurrentHashMap<>();
+    private final Map<String, Meters> meters = new ConcurrentHashMap<>();
+
+    public SingleFlightLoader(CacheProperties properties, StringRedisTemplate redisTemplate, MeterRegistry meterRegistry) {
+        this.config = properties.getSingleFlight();
+        this.redisTemplate = redisTemplate;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * 合并加载
+     *
+     * @param cacheName 缓存名称（指标标签）
+     * @param key       完整缓存key
+     * @param loader    实际加载逻辑（回源并写入缓存）
+     * @param lookup    重新查询缓存，未命中返回null；用于租约等待期间检查其他节点是否已回填
+     * @return 加载结果
+     */
+    public Object load(String cacheName, String key, Loader loader, Supplier<Cache.ValueWrapper> lookup) throws Throwable {
+        if (!config.isEnabled()) {
+            return loader.load();
+        }
+        Flight flight = new Flight(Thread.currentThread());
+        Flight existing = flights.putIfAbsent(key, flight);
+        if (existing == null) {
+            return lead(cacheName, key, flight, loader, lookup);
+        }
+        if (existing.owner == Thread.currentThread()) {
+            // 加载逻辑内重入同一个key，直接加载避免自我等待
+            return loader.load();
+        }
+        return follow(cacheName, key, existing, loader);
+    }
+
+    /**
+     * 当前正在加载的key数量
+     */
+    public int inFlightCount() {
+        return flights.size();
+    }
+
+    private Object lead(String cacheName, String key, Flight flight, Loader loader,
+                        Supplier<Cache.ValueWrapper> lookup) throws Throwable {
+        try {
+            Object value = config.getLease().isEnabled() ? loadWithLease(cacheName, key, loader, lookup) : loader.load();
+            flight.future.complete(value);
+            return value;
+        } catch (Throwable t) {
+            flight.future.completeExceptionally(t);
+            throw t;
+        } finally {
+            flights.remove(key, flight);
+            meters(cacheName).stampede.record(flight.callers.get());
+        }
+    }
+
+    private Object follow(String cacheName, String key, Flight flight, Loader loader) throws Throwable {
+        flight.callers.incrementAndGet();
+        Meters m = meters(cacheName);
+        long start = System.nanoTime();
+        try {
+            return flight.future.get(config.getWaitTimeout().toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            m.waitTimeout.increment();
+            log.warn("Single-flight wait timed out, loading directly: {}", key);
+            return loader.load();
+        } catch (ExecutionException e) {
+            throw e.getCause();
+        } finally {
+            m.waitTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private Object loadWithLease(String cacheName, String key, Loader loader,
+                                 Supplier<Cache.ValueWrapper> lookup) throws Throwable {
+        CacheProperties.LeaseConfig lease = config.getLease();
+        String leaseKey = LEASE_PREFIX + key;
+        String token = UUID.randomUUID().toString();
+        Boolean acquired;
+        try {
+            acquired = redisTemplate.opsForValue().setIfAbsent(leaseKey, token, lease.getLeaseTime());
+        } catch (Exception e) {
+            log.warn("Failed to acquire cache lease, loading directly: {}", key, e);
+            return loader.load();
+        }
+
+        if (Boolean.TRUE.equals(acquired)) {
+            try {
+                // 双重检查：上一个租约持有者可能刚刚完成回填
+                Cache.ValueWrapper cached = lookup.get();
+                return cached != null ? cached.get() : loader.load();
+            } finally {
+                release(leaseKey, token);
+            }
+        }
+
+        // 其他节点持有租约，等待其回填缓存
+        long deadline = System.nanoTime() + lease.getWaitTime().toNanos();
+        long pollMillis = Math.max(1, lease.getPollInterval().toMillis());
+        while (System.nanoTime() < deadline) {
+            Thread.sleep(pollMillis);
+            Cache.ValueWrapper cached = lookup.get();
+            if (cached != null) {
+                return cached.get();
+            }
+        }
+        meters(cacheName).leaseTimeout.increment();
+        log.warn("Cache lease wait timed out, loading directly: {}", key);
+        return loader.load();
+    }
+
+    private void release(String leaseKey, String token) {
+        try {
+            redisTemplate.execute(RELEASE_SCRIPT, Collections.singletonList(leaseKey), token);
+        } catch (Exception e) {
+            log.warn("Failed to release cache lease: {}", leaseKey, e);
+        }
+    }
+
+    private Meters meters(String cacheName) {
+        return meters.computeIfAbsent(cacheName, name -> new Meters(
+                DistributionSummary.builder(STAMPEDE_METER)
+                        .description("Callers coalesced into a single cache load")
+                        .tag("cache", name)
+                        .register(meterRegistry),
+                Timer.builder(WAIT_METER)
+                        .description("Time callers waited for an in-flight cache load")
+                        .tag("cache", name)
+                        .register(meterRegistry),
+                Counter.builder(FALLBACK_METER)
+                        .description("Loads performed after a single-flight wait timed out")
+                        .tag("cache", name)
+                        .tag("reason", "wait-timeout")
+                        .register(meterRegistry),
+                Counter.builder(FALLBACK_METER)
+                        .description("Loads performed after a single-flight wait timed out")
+                        .tag("cache", name)
+                        .tag("reason", "lease-timeout")
+                        .register(meterRegistry)));
+    }
+
+    /**
+     * 加载逻辑
+     */
+    @FunctionalInterface
+    public interface Loader {
+        Object load() throws Throwable;
+    }
+
+    private static final class Flight {
+        private final Thread owner;
+        private final CompletableFuture<Object> future = new CompletableFuture<>();
+        private final AtomicInteger callers = new AtomicInteger(1);
+
+        private Flight(Thread owner) {
+            this.owner = owner;
+        }
+    }
+
+    private record Meters(DistributionSummary stampede, Timer waitTimer, Counter waitTimeout, Counter leaseTimeout) {
+    }
+}
@@ -0,0 +1,43 @@
+/*
+ * Copyright 2024-2026 EasyWing Platform Team.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.easywing.platform.cache.local;
+
+/**
+ * 本地缓存失效监听器
+ * <p>
+ * 由 {@link MultiLevelCaffeineCacheManager} 在本地缓存条目被失效、覆盖或整体清空时回调，
+ * 供依附于本地缓存的其他结构（如热点缓存）同步失效；回调在失效线程上同步执行，不应阻塞
+ *
+ * @author EasyWing Team
+ * @since 1.0.0
+ */
+public interface LocalInvalidationListener {
+
+    /**
+     * 条目被失效或覆盖
+     *
+     * @param cacheName 缓存名称
+     * @param key       缓存key
+     */
+    void onEvict(String cacheName, Object key);
+
+    /**
+     * 缓存被整体清空
+     *
+     * @param cacheName 缓存名称
+     */
+    void onClear(String cacheName);
+}
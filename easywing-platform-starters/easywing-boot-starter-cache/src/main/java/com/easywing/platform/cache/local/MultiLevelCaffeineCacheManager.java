@@ -0,0 +1,327 @@
+/*
+ * Copyright 2024-2026 EasyWing Platform Team.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.easywing.platform.cache.local;
+
+import com.easywing.platform.cache.codec.CacheCodec;
+import com.easywing.platform.cache.codec.CacheCodecException;
+import com.easywing.platform.cache.properties.CacheProperties;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.Policy;
+import org.springframework.cache.Cache;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.support.NullValue;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 按缓存名称独立配置的Caffeine本地缓存管理器
+ * <p>
+ * 每个缓存使用各自的Caffeine实例，避免小而热的缓存与大而冷的缓存争用同一份容量：
+ * <ul>
+ *     <li>过期时间：easywing.cache.caches.&lt;name&gt;.local-expire，未配置时使用 caffeine.expire-after-write</li>
+ *     <li>容量：local-maximum-weight / local-maximum-size，未配置时使用全局 caffeine 配置</li>
+ *     <li>按字节限制容量时，条目大小按 {@link CacheCodec} 编码后的字节数估算</li>
+ *     <li>使用可变过期策略，{@link #put(Cache, Object, Object, int)} 可按条目指定过期时间（如注解的 localExpire）</li>
+ *     <li>条目被失效、覆盖或缓存被清空时回调已注册的 {@link LocalInvalidationListener}</li>
+ *     <li>按key分段维护失效版本号，{@link #backfill} 据此丢弃读取Redis期间已被失效的回填</li>
+ * </ul>
+ *
+ * @author EasyWing Team
+ * @since 1.0.0
+ */
+public class MultiLevelCaffeineCacheManager extends CaffeineCacheManager {
+
+    /**
+     * 失效版本号分段数，必须是2的幂；不同key落在同一分段时只会多放弃回填，不影响正确性
+     */
+    private static final int EPOCH_STRIPES = 64;
+
+    private final CacheProperties properties;
+    private final CacheCodec cacheCodec;
+    private final List<LocalInvalidationListener> invalidationListeners = new CopyOnWriteArrayList<>();
+
+    public MultiLevelCaffeineCacheManager(CacheProperties properties, CacheCodec cacheCodec) {
+        this.properties = properties;
+        this.cacheCodec = cacheCodec;
+    }
+
+    /**
+     * 注册本地缓存失效监听器
+     */
+    public void addInvalidationListener(LocalInvalidationListener listener) {
+        invalidationListeners.add(listener);
+    }
+
+    @Override
+    protected com.github.benmanes.caffeine.cache.Cache<Object, Object> createNativeCaffeineCache(String name) {
+        return buildCaffeine(name).build();
+    }
+
+    @Override
+    protected Cache adaptCaffeineCache(String name, com.github.benmanes.caffeine.cache.Cache<Object, Object> cache) {
+        return new ListeningCaffeineCache(name, cache, isAllowNullValues());
+    }
+
+    /**
+     * 构建指定缓存的Caffeine配置
+     */
+    Caffeine<Object, Object> buildCaffeine(String name) {
+        CacheProperties.CaffeineConfig defaults = properties.getCaffeine();
+        CacheProperties.CacheTtlConfig cacheConfig = properties.getCaches().get(name);
+        Caffeine<Object, Object> caffeine = Caffeine.newBuilder()
+                .initialCapacity(defaults.getInitialCapacity());
+        
+        DataSize maximumWeight = cacheConfig != null && cacheConfig.getLocalMaximumWeight() != null
+                ? cacheConfig.getLocalMaximumWeight() : defaults.getMaximumWeight();
+        if (maximumWeight != null) {
+            caffeine.maximumWeight(maximumWeight.toBytes()).weigher(this::weigh);
+        } else {
+            long maximumSize = cacheConfig != null && cacheConfig.getLocalMaximumSize() != null
+                    ? cacheConfig.getLocalMaximumSize() : defaults.getMaximumSize();
+            caffeine.maximumSize(maximumSize);
+        }
+        
+        Duration expire = cacheConfig != null
+                ? Duration.ofSeconds(cacheConfig.getLocalExpire()) : defaults.getExpireAfterWrite();
+        if (defaults.getExpireAfterAccess() != null) {
+            caffeine.expireAfterWrite(expire).expireAfterAccess(defaults.getExpireAfterAccess());
+        } else {
+            caffeine.expireAfter(new WriteExpiry(expire));
+        }
+        
+        if (defaults.isRecordStats() && properties.isStatsEnabled()) {
+            caffeine.recordStats();
+        }
+        return caffeine;
+    }
+
+    /**
+     * 写入本地缓存并按条目指定过期时间
+     * <p>
+     * 缓存不支持可变过期（非Caffeine缓存或配置了 expireAfterAccess）或 expireSeconds 不大于0时，
+     * 退化为普通写入，使用缓存的默认过期时间
+     *
+     * @param cache         本地缓存
+     * @param key           缓存key
+     * @param value         缓存值，可以为 null
+     * @param expireSeconds 过期时间（秒）
+     */
+    public static void put(Cache cache, Object key, Object value, int expireSeconds) {
+        if (cache instanceof ListeningCaffeineCache listeningCache) {
+            listeningCache.advanceEpoch(key);
+        }
+        write(cache, key, value, expireSeconds);
+    }
+
+    /**
+     * 读取key当前的失效版本号，须在读取Redis之前调用，结果传给 {@link #backfill}
+     * <p>
+     * 非本管理器创建的缓存（或 null）始终返回 0
+     *
+     * @param cache 本地缓存
+     * @param key   缓存key
+     * @return 失效版本号
+     */
+    public static long invalidationEpoch(Cache cache, Object key) {
+        return cache instanceof ListeningCaffeineCache listeningCache ? listeningCache.epoch(key) : 0L;
+    }
+
+    /**
+     * 用从Redis读取的值回填本地缓存
+     * <p>
+     * 读取Redis与回填之间该key被失效、覆盖或缓存被清空（失效版本号变化）时放弃回填，
+     * 否则先到达的失效消息会被随后回填的旧值抵消，旧值在本地存活整个过期时间。
+     * 写入后再次检查版本号：失效恰好发生在检查与写入之间时撤回本次写入，仅当条目仍是本次写入的值
+     *
+     * @param cache         本地缓存
+     * @param key           缓存key
+     * @param value         从Redis读取的值，可以为 null
+     * @param expireSeconds 过期时间（秒）
+     * @param epoch         读取Redis之前通过 {@link #invalidationEpoch} 取得的版本号
+     * @return 是否已回填
+     */
+    public static boolean backfill(Cache cache, Object key, Object value, int expireSeconds, long epoch) {
+        if (!(cache instanceof ListeningCaffeineCache listeningCache)) {
+            put(cache, key, value, expireSeconds);
+            return true;
+        }
+        if (listeningCache.epoch(key) != epoch) {
+            return false;
+        }
+        write(listeningCache, key, value, expireSeconds);
+        if (listeningCache.epoch(key) != epoch) {
+            listeningCache.getNativeCache().asMap().remove(key, value != null ? value : NullValue.INSTANCE);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * 写入本地缓存，不推进失效版本号
+     */
+    private static void write(Cache cache, Object key, Object value, int expireSeconds) {
+        if (expireSeconds > 0 && cache instanceof CaffeineCache caffeineCache
+                && (value != null || caffeineCache.isAllowNullValues())) {
+            Optional<Policy.VarExpiration<Object, Object>> varExpiration =
+                    caffeineCache.getNativeCache().policy().expireVariably();
+            if (varExpiration.isPresent()) {
+                varExpiration.get().put(key, value != null ? value : NullValue.INSTANCE,
+                        Duration.ofSeconds(expireSeconds));
+                if (cache instanceof ListeningCaffeineCache listeningCache) {
+                    listeningCache.fireEvict(key);
+                }
+                return;
+            }
+        }
+        if (cache instanceof ListeningCaffeineCache listeningCache) {
+            listeningCache.store(key, value);
+        } else {
+            cache.put(key, value);
+        }
+    }
+
+    private int weigh(Object key, Object value) {
+        if (value instanceof NullValue) {
+            return 1;
+        }
+        try {
+            return Math.max(1, cacheCodec.encode(value).length);
+        } catch (CacheCodecException e) {
+            return 1;
+        }
+    }
+
+    /**
+     * 写入、失效和清空时推进失效版本号并通知监听器的Caffeine缓存
+     * <p>
+     * 版本号在移除条目之前推进：回填线程要么在检查时看到新版本号而放弃，要么先写入后被随后的移除清掉
+     */
+    final class ListeningCaffeineCache extends CaffeineCache {
+
+        private final AtomicLongArray epochs = new AtomicLongArray(EPOCH_STRIPES);
+
+        ListeningCaffeineCache(String name, com.github.benmanes.caffeine.cache.Cache<Object, Object> cache,
+                               boolean allowNullValues) {
+            super(name, cache, allowNullValues);
+        }
+
+        @Override
+        public void put(Object key, Object value) {
+            advanceEpoch(key);
+            store(key, value);
+        }
+
+        @Override
+        public void evict(Object key) {
+            advanceEpoch(key);
+            super.evict(key);
+            fireEvict(key);
+        }
+
+        @Override
+        public boolean evictIfPresent(Object key) {
+            advanceEpoch(key);
+            boolean evicted = super.evictIfPresent(key);
+            fireEvict(key);
+            return evicted;
+        }
+
+        @Override
+        public void clear() {
+            advanceAllEpochs();
+            super.clear();
+            fireClear();
+        }
+
+        @Override
+        public boolean invalidate() {
+            advanceAllEpochs();
+            boolean invalidated = super.invalidate();
+            fireClear();
+            return invalidated;
+        }
+
+        void store(Object key, Object value) {
+            super.put(key, value);
+            fireEvict(key);
+        }
+
+        long epoch(Object key) {
+            return epochs.get(stripe(key));
+        }
+
+        void advanceEpoch(Object key) {
+            epochs.incrementAndGet(stripe(key));
+        }
+
+        private void advanceAllEpochs() {
+            for (int i = 0; i < EPOCH_STRIPES; i++) {
+                epochs.incrementAndGet(i);
+            }
+        }
+
+        private int stripe(Object key) {
+            int hash = key.hashCode();
+            return (hash ^ (hash >>> 16)) & (EPOCH_STRIPES - 1);
+        }
+
+        void fireEvict(Object key) {
+            for (LocalInvalidationListener listener : invalidationListeners) {
+                listener.onEvict(getName(), key);
+            }
+        }
+
+        private void fireClear() {
+            for (LocalInvalidationListener listener : invalidationListeners) {
+                listener.onClear(getName());
+            }
+        }
+    }
+
+    /**
+     * 写入（创建或更新）后按默认时长过期，读取不延长过期时间
+     */
+    static final class WriteExpiry implements Expiry<Object, Object> {
+
+        private final long expireNanos;
+
+        WriteExpiry(Duration expire) {
+            this.expireNanos = expire.toNanos();
+        }
+
+        @Override
+        public long expireAfterCreate(Object key, Object value, long currentTime) {
+            return expireNanos;
+        }
+
+        @Override
+        public long expireAfterUpdate(Object key, Object value, long currentTime, long currentDuration) {
+            return expireNanos;
+        }
+
+        @Override
+        public long expireAfterRead(Object key, Object value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
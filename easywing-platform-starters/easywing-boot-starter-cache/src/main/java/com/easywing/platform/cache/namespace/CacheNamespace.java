@@ -0,0 +1,139 @@
+/*
+ * Copyright 2024-2026 EasyWing Platform Team.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.easywing.platform.cache.namespace;
+
+import com.easywing.platform.cache.properties.CacheProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 带版本号的缓存命名空间
+ * <p>
+ * 每个缓存名称在Redis中维护一个单调递增的版本号，版本号嵌入Redis缓存key：
+ * <ul>
+ *     <li>清空缓存只需 INCR 版本号，O(1) 完成，不再使用 KEYS 扫描</li>
+ *     <li>旧版本的key不再被访问，按各自TTL自然过期，也可由 {@link CacheNamespaceReaper} 后台清理</li>
+ *     <li>层级缓存名（如 user:username）的版本为各级版本号之和，清空 user 同时使 user:username 失效，
+ *     与原先按前缀删除的语义一致；版本号只增不减，和值同样单调递增</li>
+ *     <li>版本号在本地缓存一个检查周期，其他节点执行的清空最迟在一个周期后可见</li>
+ * </ul>
+ * 版本为0时key格式与未启用版本前相同：前缀 + 缓存名 + ":" + key；
+ * 否则为：前缀 + 缓存名 + "#" + 版本 + ":" + key。
+ *
+ * @author EasyWing Team
+ * @since 1.0.0
+ */
+@Slf4j
+public class CacheNamespace {
+
+    public static final char VERSION_SEPARATOR = '#';
+
+    private static final String GENERATION_KEY = "cache:gen:";
+
+    private final StringRedisTemplate redisTemplate;
+    private final CacheProperties properties;
+    private final Map<String, Generation> generations = new ConcurrentHashMap<>();
+
+    public CacheNamespace(StringRedisTemplate redisTemplate, CacheProperties properties) {
+        this.redisTemplate = redisTemplate;
+        this.properties = properties;
+    }
+
+    /**
+     * 构建带版本的完整Redis key
+     */
+    public String fullKey(String cacheName, String key) {
+        return keyPrefix(cacheName) + key;
+    }
+
+    /**
+     * 缓存当前版本的key前缀（包含结尾的冒号）
+     */
+    public String keyPrefix(String cacheName) {
+        long version = version(cacheName);
+        String base = properties.getKeyPrefix() + cacheName;
+        return version == 0 ? base + ":" : base + VERSION_SEPARATOR + version + ":";
+    }
+
+    /**
+     * 缓存的有效版本：自身及各级父缓存名版本号之和
+     */
+    public long version(String cacheName) {
+        long version = generation(cacheName);
+        for (int i = cacheName.lastIndexOf(':'); i > 0; i = cacheName.lastIndexOf(':', i - 1)) {
+            version += generation(cacheName.substring(0, i));
+        }
+        return version;
+    }
+
+    /**
+     * 使缓存区域整体失效：递增版本号
+     *
+     * @return 新版本号
+     */
+    public long invalidate(String cacheName) {
+        Long generation = redisTemplate.opsForValue().increment(generationKey(cacheName));
+        long value = generation != null ? generation : 0;
+        generations.put(cacheName, new Generation(value, System.nanoTime()));
+        log.debug("Cache namespace invalidated: {}, generation: {}", cacheName, value);
+        return value;
+    }
+
+    /**
+     * 丢弃本地缓存的版本号，下次访问时重新读取（收到其他节点的清空广播时调用）
+     */
+    public void refresh(String cacheName) {
+        generations.remove(cacheName);
+    }
+
+    /**
+     * 本节点访问过的缓存名称
+     */
+    public Set<String> knownCacheNames() {
+        return generations.keySet();
+    }
+
+    private long generation(String cacheName) {
+        long checkInterval = properties.getNamespace().getGenerationCheckInterval().toNanos();
+        long now = System.nanoTime();
+        Generation cached = generations.get(cacheName);
+        if (cached != null && now - cached.fetchedAt < checkInterval) {
+            return cached.value;
+        }
+        long value;
+        try {
+            String stored = redisTemplate.opsForValue().get(generationKey(cacheName));
+            value = stored != null ? Long.parseLong(stored) : 0;
+        } catch (Exception e) {
+            // Redis不可用时沿用上次读取的版本
+            log.warn("Failed to read cache generation: {}", cacheName, e);
+            value = cached != null ? cached.value : 0;
+        }
+        generations.put(cacheName, new Generation(value, now));
+        return value;
+    }
+
+    private String generationKey(String cacheName) {
+        return properties.getKeyPrefix() + GENERATION_KEY + cacheName;
+    }
+
+    private record Generation(long value, long fetchedAt) {
+    }
+}
@@ -0,0 +1,150 @@
+/*
+ * Copyright 2024-2026 EasyWing Platform Team.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.easywing.platform.cache.namespace;
+
+import com.easywing.platform.cache.properties.CacheProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 旧版本缓存key清理器
+ * <p>
+ * 可选的后台任务，定期用 SCAN 增量遍历本节点访问过的缓存区域，
+ * 批量 UNLINK 版本号低于当前版本的key，提前释放已失效数据占用的内存：
+ * <ul>
+ *     <li>只处理带版本标记（缓存名#版本）的key，版本为0的key依赖TTL过期</li>
+ *     <li>SCAN 不阻塞Redis，每批数量由 scan-count 控制</li>
+ *     <li>各节点独立运行，重复删除是幂等的</li>
+ * </ul>
+ *
+ * @author EasyWing Team
+ * @since 1.0.0
+ */
+@Slf4j
+public class CacheNamespaceReaper implements InitializingBean, DisposableBean {
+
+    private final CacheNamespace namespace;
+    private final StringRedisTemplate redisTemplate;
+    private final CacheProperties properties;
+    private ScheduledExecutorService scheduler;
+
+    public CacheNamespaceReaper(CacheNamespace namespace, StringRedisTemplate redisTemplate, CacheProperties properties) {
+        this.namespace = namespace;
+        this.redisTemplate = redisTemplate;
+        this.properties = properties;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        long interval = properties.getNamespace().getReaper().getInterval().toMillis();
+        scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "cache-namespace-reaper");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::reapAll, interval, interval, TimeUnit.MILLISECONDS);
+        log.info("Cache namespace reaper started, interval: {}ms", interval);
+    }
+
+    @Override
+    public void destroy() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+
+    /**
+     * 清理所有已知缓存区域
+     */
+    public void reapAll() {
+        for (String cacheName : List.copyOf(namespace.knownCacheNames())) {
+            try {
+                int deleted = reap(cacheName);
+                if (deleted > 0) {
+                    log.info("Reaped {} stale keys from cache namespace: {}", deleted, cacheName);
+                }
+            } catch (Exception e) {
+                log.warn("Failed to reap cache namespace: {}", cacheName, e);
+            }
+        }
+    }
+
+    /**
+     * 清理单个缓存区域中旧版本的key
+     *
+     * @return 删除的key数量
+     */
+    public int reap(String cacheName) {
+        long version = namespace.version(cacheName);
+        if (version == 0) {
+            return 0;
+        }
+        String base = properties.getKeyPrefix() + cacheName + CacheNamespace.VERSION_SEPARATOR;
+        int batchSize = properties.getNamespace().getReaper().getScanCount();
+        ScanOptions options = ScanOptions.scanOptions().match(base + "*").count(batchSize).build();
+
+        Integer deleted = redisTemplate.execute((RedisCallback<Integer>) connection -> {
+            int count = 0;
+            List<byte[]> batch = new ArrayList<>(batchSize);
+            try (Cursor<byte[]> cursor = connection.keyCommands().scan(options)) {
+                while (cursor.hasNext()) {
+                    byte[] raw = cursor.next();
+                    if (isStale(new String(raw, StandardCharsets.UTF_8), base.length(), version)) {
+                        batch.add(raw);
+                        if (batch.size() >= batchSize) {
+                            connection.keyCommands().unlink(batch.toArray(new byte[0][]));
+                            count += batch.size();
+                            batch.clear();
+                        }
+                    }
+                }
+            }
+            if (!batch.isEmpty()) {
+                connection.keyCommands().unlink(batch.toArray(new byte[0][]));
+                count += batch.size();
+            }
+            return count;
+        });
+        return deleted != null ? deleted : 0;
+    }
+
+    /**
+     * key格式为 base + 版本 + ":" + key，版本低于当前版本即为过期数据
+     */
+    static boolean isStale(String key, int versionStart, long currentVersion) {
+        int end = key.indexOf(':', versionStart);
+        if (end <= versionStart) {
+            return false;
+        }
+        try {
+            return Long.parseLong(key, versionStart, end, 10) < currentVersion;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+}
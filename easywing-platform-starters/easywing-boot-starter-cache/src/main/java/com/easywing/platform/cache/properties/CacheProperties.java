@@ -17,9 +17,12 @@ package com.easywing.platform.cache.properties;
 
 import lombok.Data;
 import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
 
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -77,6 +80,46 @@ public class CacheProperties {
      */
     private Map<String, CacheTtlConfig> caches = new HashMap<>();
 
+    /**
+     * 缓存未命中时的合并加载配置
+     */
+    private SingleFlightConfig singleFlight = new SingleFlightConfig();
+
+    /**
+     * 带版本号的缓存命名空间配置
+     */
+    private NamespaceConfig namespace = new NamespaceConfig();
+
+    /**
+     * 缓存值编解码配置
+     */
+    private CodecConfig codec = new CodecConfig();
+
+    /**
+     * 后台刷新（refresh-ahead / stale-while-revalidate）配置
+     */
+    private RefreshConfig refresh = new RefreshConfig();
+
+    /**
+     * 集群缓存失效总线配置
+     */
+    private BusConfig bus = new BusConfig();
+
+    /**
+     * Redis服务端辅助的客户端缓存（RESP3 CLIENT TRACKING）配置
+     */
+    private TrackingConfig tracking = new TrackingConfig();
+
+    /**
+     * 本地布隆过滤器配置
+     */
+    private BloomConfig bloom = new BloomConfig();
+
+    /**
+     * 热点key探测配置
+     */
+    private HotKeyConfig hotKey = new HotKeyConfig();
+
     @Data
     public static class CaffeineConfig {
         /**
@@ -89,6 +132,11 @@ public class CacheProperties {
          */
         private int maximumSize = 10000;
 
+        /**
+         * 按字节计算的最大容量，设置后替代 maximumSize，条目大小按编解码后的字节数估算
+         */
+        private DataSize maximumWeight;
+
         /**
          * 写入后过期时间
          */
@@ -96,6 +144,8 @@ public class CacheProperties {
 
         /**
          * 访问后过期时间
+         * <p>
+         * 设置后本地缓存使用固定的写入/访问过期策略，不再支持按条目的 localExpire
          */
         private Duration expireAfterAccess;
 
@@ -128,6 +178,233 @@ public class CacheProperties {
         private String cacheTopic = "cache:evict";
     }
 
+    /**
+     * 合并加载（single-flight）配置
+     * <p>
+     * 同一节点内相同key的并发未命中只执行一次加载，其余调用等待结果；
+     * 开启租约后，跨节点通过Redis租约限制同一key只有一个节点回源
+     */
+    @Data
+    public static class SingleFlightConfig {
+        /**
+         * 是否启用合并加载
+         */
+        private boolean enabled = true;
+
+        /**
+         * 等待者最长等待时间，超时后自行加载
+         */
+        private Duration waitTimeout = Duration.ofSeconds(3);
+
+        /**
+         * 跨节点Redis租约配置
+         */
+        private LeaseConfig lease = new LeaseConfig();
+    }
+
+    @Data
+    public static class LeaseConfig {
+        /**
+         * 是否启用Redis租约
+         */
+        private boolean enabled = false;
+
+        /**
+         * 租约有效期，持有节点异常退出时租约自动过期
+         */
+        private Duration leaseTime = Duration.ofSeconds(5);
+
+        /**
+         * 未获得租约的节点等待其他节点回填缓存的最长时间，超时后自行加载
+         */
+        private Duration waitTime = Duration.ofSeconds(2);
+
+        /**
+         * 等待期间轮询缓存的间隔
+         */
+        private Duration pollInterval = Duration.ofMillis(50);
+    }
+
+    /**
+     * 缓存命名空间配置
+     * <p>
+     * 清空缓存时递增命名空间版本号，旧版本key按TTL过期或由后台清理器删除
+     */
+    @Data
+    public static class NamespaceConfig {
+        /**
+         * 本地缓存版本号的时长，其他节点的清空最迟在该时长后可见
+         */
+        private Duration generationCheckInterval = Duration.ofSeconds(1);
+
+        /**
+         * 旧版本key后台清理配置
+         */
+        private ReaperConfig reaper = new ReaperConfig();
+    }
+
+    @Data
+    public static class ReaperConfig {
+        /**
+         * 是否启用后台清理
+         */
+        private boolean enabled = false;
+
+        /**
+         * 清理间隔
+         */
+        private Duration interval = Duration.ofMinutes(10);
+
+        /**
+         * 每次SCAN的数量及每批UNLINK的key数量
+         */
+        private int scanCount = 500;
+    }
+
+    /**
+     * 缓存值编解码配置
+     * <p>
+     * 切换编解码器后，旧格式的值解码失败时按未命中处理并被新值覆盖
+     */
+    @Data
+    public static class CodecConfig {
+        /**
+         * 编解码器类型: json, smile, cbor, fury
+         */
+        private String type = "smile";
+
+        /**
+         * Jackson系编解码器额外允许反序列化的包前缀（java.*、com.easywing.* 默认允许）
+         */
+        private List<String> trustedPackages = new ArrayList<>();
+    }
+
+    /**
+     * 后台刷新线程池配置
+     * <p>
+     * 队列满时丢弃刷新任务，调用方继续使用当前值，条目到期后按正常未命中加载
+     */
+    @Data
+    public static class RefreshConfig {
+        /**
+         * 核心线程数
+         */
+        private int corePoolSize = 2;
+
+        /**
+         * 最大线程数
+         */
+        private int maxPoolSize = 8;
+
+        /**
+         * 等待队列容量
+         */
+        private int queueCapacity = 1000;
+    }
+
+    /**
+     * 缓存失效总线配置
+     * <p>
+     * 合并窗口内的失效操作合并为一条消息发布到 redis.cache-topic
+     */
+    @Data
+    public static class BusConfig {
+        /**
+         * 合并窗口，0表示每次失效立即发布
+         */
+        private Duration window = Duration.ofMillis(20);
+
+        /**
+         * 单条消息最多携带的key数量，达到后立即发布
+         */
+        private int maxBatchSize = 500;
+
+        /**
+         * 节点ID，未设置时启动时随机生成
+         */
+        private String nodeId;
+    }
+
+    /**
+     * 客户端缓存失效跟踪配置
+     * <p>
+     * 开启后使用独立的RESP3连接以BCAST模式订阅key前缀，Redis在key被修改、删除或过期时推送失效通知，
+     * 本地缓存随之失效，不依赖Pub/Sub广播；仅支持单机Redis
+     */
+    @Data
+    public static class TrackingConfig {
+        /**
+         * 是否启用
+         */
+        private boolean enabled = false;
+
+        /**
+         * 跟踪的key前缀，未设置时使用 key-prefix
+         */
+        private List<String> prefixes = new ArrayList<>();
+    }
+
+    /**
+     * 本地布隆过滤器配置
+     * <p>
+     * 布隆过滤器保存在进程内，按分级扩容；各节点定期与Redis中的快照合并
+     */
+    @Data
+    public static class BloomConfig {
+        /**
+         * 首级预期元素数量，未显式初始化的缓存使用该值
+         */
+        private long expectedItems = 100_000;
+
+        /**
+         * 整体误判率上限
+         */
+        private double falseProbability = 0.01;
+
+        /**
+         * 与Redis快照合并的间隔，0表示不定期同步
+         */
+        private Duration snapshotInterval = Duration.ofSeconds(60);
+    }
+
+    /**
+     * 热点key探测配置
+     * <p>
+     * 按节点统计Redis层命中频率（定期减半衰减），估算值达到阈值的key提升到专用的短TTL本地缓存
+     */
+    @Data
+    public static class HotKeyConfig {
+        /**
+         * 是否启用
+         */
+        private boolean enabled = false;
+
+        /**
+         * 提升阈值；每个衰减周期计数减半，稳定后估算值约为每周期访问次数的2倍
+         */
+        private int threshold = 200;
+
+        /**
+         * 衰减周期
+         */
+        private Duration decayInterval = Duration.ofSeconds(1);
+
+        /**
+         * 热点缓存过期时间
+         */
+        private Duration ttl = Duration.ofSeconds(2);
+
+        /**
+         * 热点缓存最大条目数
+         */
+        private long maximumSize = 1000;
+
+        /**
+         * 频率草图每行的计数器数量，向上取整为2的幂
+         */
+        private int sketchWidth = 8192;
+    }
+
     /**
      * 单个缓存的TTL配置
      */
@@ -138,6 +415,16 @@ public class CacheProperties {
          */
         private int localExpire = 60;
 
+        /**
+         * 本地缓存最大条目数，未设置时使用全局 caffeine.maximum-size
+         */
+        private Long localMaximumSize;
+
+        /**
+         * 本地缓存按字节计算的最大容量，设置后替代条目数限制
+         */
+        private DataSize localMaximumWeight;
+
         /**
          * Redis缓存过期时间（秒）
          */
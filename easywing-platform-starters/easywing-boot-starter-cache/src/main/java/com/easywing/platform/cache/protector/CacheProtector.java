@@ -15,14 +15,28 @@
  */
 package com.easywing.platform.cache.protector;
 
+import com.easywing.platform.cache.codec.CacheCodec;
+import com.easywing.platform.cache.codec.CacheCodecException;
+import com.easywing.platform.cache.properties.CacheProperties;
 import lombok.extern.slf4j.Slf4j;
-import org.redisson.api.RBloomFilter;
+import org.redisson.api.RTopic;
 import org.redisson.api.RedissonClient;
-import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
 
-import java.time.Duration;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 /**
  * 缓存保护器
@@ -33,23 +47,68 @@ import java.util.function.Supplier;
  *     <li>缓存击穿：使用互斥锁 + 热点数据永不过期</li>
  *     <li>缓存雪崩：使用随机过期时间 + 多级缓存</li>
  * </ul>
+ * 缓存值与多级缓存共用同一个 {@link CacheCodec}，命中时返回原类型对象
+ * <p>
+ * 布隆过滤器为进程内的 {@link ScalableBloomFilter}，判断不产生网络调用：
+ * <ul>
+ *     <li>Bean初始化时先订阅Redis主题，之后 {@link #initBloomFilter} 才加载快照，订阅后的新增不会丢失</li>
+ *     <li>{@link #addToBloomFilter} 通过Redis主题通知所有节点，新数据在其他节点上立即可见</li>
+ *     <li>定期在 WATCH/MULTI 事务中把本地过滤器与快照合并并写回，快照被并发修改时重新合并，不会覆盖其他节点的写入</li>
+ *     <li>只有加载过快照或全量重建过的过滤器才会拒绝请求，避免空过滤器误拦截已有数据</li>
+ *     <li>快照配置与本地过滤器不一致时（例如其他节点以新参数全量重建），本地过滤器不再拒绝请求，也不写回快照</li>
+ * </ul>
+ * 订阅之前其他节点新增、且尚未同步进快照的数据，在本节点上可能被误拦截（假阴性），
+ * 窗口不超过一个快照同步周期（snapshot-interval），对新数据要求严格的缓存应在写入数据源后再读取。
+ * 合并只会增加元素，全量重建（{@link #rebuildBloomFilter}）用于冷启动或定期重建，
+ * 已删除的数据在其他节点上要等其重启或各自重建后才会移出
  *
  * @author EasyWing Team
  * @since 1.0.0
  */
 @Slf4j
-public class CacheProtector {
+public class CacheProtector implements InitializingBean, DisposableBean {
 
     private final RedissonClient redissonClient;
-    private final StringRedisTemplate redisTemplate;
+    private final RedisTemplate<String, byte[]> redisTemplate;
+    private final CacheCodec cacheCodec;
+    private final CacheProperties.BloomConfig bloomConfig;
+    private final RTopic bloomTopic;
+    private final Map<String, LocalBloom> bloomFilters = new ConcurrentHashMap<>();
+    private ScheduledExecutorService snapshotScheduler;
     
-    private static final String NULL_CACHE_VALUE = "NULL";
+    private static final byte[] NULL_CACHE_VALUE = "NULL".getBytes(StandardCharsets.UTF_8);
     private static final String LOCK_PREFIX = "cache:lock:";
     private static final String BLOOM_FILTER_PREFIX = "cache:bloom:";
+    private static final String BLOOM_SNAPSHOT_PREFIX = BLOOM_FILTER_PREFIX + "snapshot:";
+    private static final String BLOOM_TOPIC = BLOOM_FILTER_PREFIX + "add";
+    private static final char BLOOM_MESSAGE_SEPARATOR = '\n';
+    private static final int SNAPSHOT_WRITE_ATTEMPTS = 3;
 
-    public CacheProtector(RedissonClient redissonClient, StringRedisTemplate redisTemplate) {
+    public CacheProtector(RedissonClient redissonClient, RedisTemplate<String, byte[]> redisTemplate,
+                          CacheCodec cacheCodec, CacheProperties properties) {
         this.redissonClient = redissonClient;
         this.redisTemplate = redisTemplate;
+        this.cacheCodec = cacheCodec;
+        this.bloomConfig = properties.getBloom();
+        this.bloomTopic = redissonClient.getTopic(BLOOM_TOPIC);
+    }
+
+    /**
+     * 订阅布隆过滤器新增主题并启动快照同步，订阅完成后才会有过滤器加载快照
+     */
+    @Override
+    public void afterPropertiesSet() {
+        bloomTopic.addListener(String.class, (channel, message) -> onBloomAdd(message));
+        long interval = bloomConfig.getSnapshotInterval().toMillis();
+        if (interval > 0) {
+            snapshotScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "cache-bloom-snapshot");
+                thread.setDaemon(true);
+                return thread;
+            });
+            snapshotScheduler.scheduleWithFixedDelay(this::syncBloomFilters, interval, interval,
+                    TimeUnit.MILLISECONDS);
+        }
     }
 
     /**
@@ -66,23 +125,26 @@ public class CacheProtector {
     public <T> T getWithBloomFilter(String cacheName, String key, Supplier<T> loader,
                                     int redisExpire, int nullExpire) {
         String fullKey = "cache:" + cacheName + ":" + key;
-        RBloomFilter<String> bloomFilter = redissonClient.getBloomFilter(BLOOM_FILTER_PREFIX + cacheName);
+        LocalBloom bloom = bloomFilters.get(cacheName);
         
-        // 1. 布隆过滤器判断key是否存在
-        if (bloomFilter.isExists() && !bloomFilter.contains(key)) {
+        // 1. 本地布隆过滤器判断key是否存在
+        if (bloom != null && bloom.complete && !bloom.filter.mightContain(key)) {
             log.debug("Bloom filter rejected: {}", key);
             return null;
         }
         
         // 2. 查询Redis
-        String value = redisTemplate.opsForValue().get(fullKey);
+        byte[] value = redisTemplate.opsForValue().get(fullKey);
         if (value != null) {
-            if (NULL_CACHE_VALUE.equals(value)) {
+            if (isNullValue(value)) {
                 log.debug("Null cache hit: {}", key);
                 return null;
             }
             log.debug("Redis cache hit: {}", key);
-            return deserialize(value);
+            Decoded<T> decoded = decode(fullKey, value);
+            if (decoded != null) {
+                return decoded.value();
+            }
         }
         
         // 3. 加载数据
@@ -91,8 +153,10 @@ public class CacheProtector {
         // 4. 缓存结果（包括空值）
         if (result != null) {
             redisTemplate.opsForValue().set(fullKey, serialize(result), redisExpire, TimeUnit.SECONDS);
-            // 添加到布隆过滤器
-            bloomFilter.add(key);
+            // 添加到本地布隆过滤器
+            if (bloom != null) {
+                bloom.filter.put(key);
+            }
         } else {
             // 缓存空值防止穿透
             redisTemplate.opsForValue().set(fullKey, NULL_CACHE_VALUE, nullExpire, TimeUnit.SECONDS);
@@ -119,12 +183,15 @@ public class CacheProtector {
         String lockKey = LOCK_PREFIX + cacheName + ":" + key;
         
         // 1. 查询Redis
-        String value = redisTemplate.opsForValue().get(fullKey);
+        byte[] value = redisTemplate.opsForValue().get(fullKey);
         if (value != null) {
-            if (NULL_CACHE_VALUE.equals(value)) {
+            if (isNullValue(value)) {
                 return null;
             }
-            return deserialize(value);
+            Decoded<T> decoded = decode(fullKey, value);
+            if (decoded != null) {
+                return decoded.value();
+            }
         }
         
         // 2. 获取分布式锁
@@ -137,14 +204,20 @@ public class CacheProtector {
                     // 双重检查
                     value = redisTemplate.opsForValue().get(fullKey);
                     if (value != null) {
-                        return NULL_CACHE_VALUE.equals(value) ? null : deserialize(value);
+                        if (isNullValue(value)) {
+                            return null;
+                        }
+                        Decoded<T> decoded = decode(fullKey, value);
+                        if (decoded != null) {
+                            return decoded.value();
+                        }
                     }
                     
                     // 加载数据
                     T result = loader.get();
                     
                     // 缓存结果
-                    String cacheValue = result != null ? serialize(result) : NULL_CACHE_VALUE;
+                    byte[] cacheValue = result != null ? serialize(result) : NULL_CACHE_VALUE;
                     redisTemplate.opsForValue().set(fullKey, cacheValue, redisExpire, TimeUnit.SECONDS);
                     
                     return result;
@@ -176,53 +249,214 @@ public class CacheProtector {
     }
 
     /**
-     * 初始化布隆过滤器
+     * 初始化布隆过滤器，并加载Redis中的快照
      *
      * @param cacheName        缓存名称
-     * @param expectedItems    预期元素数量
+     * @param expectedItems    首级预期元素数量
      * @param falseProbability 误判率
      */
     public void initBloomFilter(String cacheName, long expectedItems, double falseProbability) {
-        RBloomFilter<String> bloomFilter = redissonClient.getBloomFilter(BLOOM_FILTER_PREFIX + cacheName);
-        if (!bloomFilter.isExists()) {
-            bloomFilter.tryInit(expectedItems, falseProbability);
+        LocalBloom bloom = bloomFilters.computeIfAbsent(cacheName,
+                name -> new LocalBloom(new ScalableBloomFilter(expectedItems, falseProbability)));
+        byte[] snapshot = redisTemplate.opsForValue().get(BLOOM_SNAPSHOT_PREFIX + cacheName);
+        if (loadSnapshot(cacheName, bloom, snapshot) == SnapshotState.LOADED) {
+            log.info("Bloom filter loaded from snapshot: {} with ~{} items in {} stages",
+                    cacheName, bloom.filter.approximateElementCount(), bloom.filter.stageCount());
+        } else {
             log.info("Bloom filter initialized: {} with {} expected items, {} false probability",
                     cacheName, expectedItems, falseProbability);
         }
     }
 
     /**
-     * 添加元素到布隆过滤器
+     * 使用全量key重建布隆过滤器，并覆盖Redis中的快照
+     *
+     * @param cacheName        缓存名称
+     * @param expectedItems    首级预期元素数量
+     * @param falseProbability 误判率
+     * @param keys             全部存在的缓存key
+     */
+    public void rebuildBloomFilter(String cacheName, long expectedItems, double falseProbability,
+                                   Stream<String> keys) {
+        ScalableBloomFilter filter = new ScalableBloomFilter(expectedItems, falseProbability);
+        keys.forEach(filter::put);
+        LocalBloom bloom = new LocalBloom(filter);
+        bloom.complete = true;
+        bloomFilters.put(cacheName, bloom);
+        redisTemplate.opsForValue().set(BLOOM_SNAPSHOT_PREFIX + cacheName, filter.toByteArray());
+        log.info("Bloom filter rebuilt: {} with ~{} items in {} stages",
+                cacheName, filter.approximateElementCount(), filter.stageCount());
+    }
+
+    /**
+     * 添加元素到布隆过滤器，并通知其他节点
      *
      * @param cacheName 缓存名称
      * @param key       缓存key
      * @return 是否添加成功
      */
     public boolean addToBloomFilter(String cacheName, String key) {
-        RBloomFilter<String> bloomFilter = redissonClient.getBloomFilter(BLOOM_FILTER_PREFIX + cacheName);
-        return bloomFilter.add(key);
+        boolean added = localBloom(cacheName).filter.put(key);
+        bloomTopic.publish(cacheName + BLOOM_MESSAGE_SEPARATOR + key);
+        return added;
     }
 
     /**
-     * 判断布隆过滤器是否可能包含元素
+     * 判断布隆过滤器是否可能包含元素，过滤器未加载快照或未重建时总是返回 true
      *
      * @param cacheName 缓存名称
      * @param key       缓存key
      * @return 是否可能包含
      */
     public boolean mightContain(String cacheName, String key) {
-        RBloomFilter<String> bloomFilter = redissonClient.getBloomFilter(BLOOM_FILTER_PREFIX + cacheName);
-        return bloomFilter.contains(key);
+        LocalBloom bloom = bloomFilters.get(cacheName);
+        return bloom == null || !bloom.complete || bloom.filter.mightContain(key);
     }
 
-    private String serialize(Object value) {
-        // 简化处理，实际应使用JSON序列化
-        return value.toString();
+    /**
+     * 将所有本地布隆过滤器与Redis快照合并，完整的过滤器写回Redis
+     */
+    public void syncBloomFilters() {
+        bloomFilters.forEach((cacheName, bloom) -> {
+            try {
+                syncBloomFilter(cacheName, bloom);
+            } catch (RuntimeException e) {
+                log.warn("Failed to sync bloom filter snapshot: {}", cacheName, e);
+            }
+        });
     }
 
+    @Override
+    public void destroy() {
+        if (snapshotScheduler != null) {
+            snapshotScheduler.shutdownNow();
+        }
+    }
+
+    /**
+     * 在 WATCH/MULTI 事务中读取快照、合并并写回，快照在读取后被修改时事务放弃，重新读取合并
+     */
+    private void syncBloomFilter(String cacheName, LocalBloom bloom) {
+        String snapshotKey = BLOOM_SNAPSHOT_PREFIX + cacheName;
+        for (int attempt = 0; attempt < SNAPSHOT_WRITE_ATTEMPTS; attempt++) {
+            Boolean written = redisTemplate.execute(new SessionCallback<>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public <K, V> Boolean execute(RedisOperations<K, V> operations) {
+                    RedisOperations<String, byte[]> ops = (RedisOperations<String, byte[]>) operations;
+                    ops.watch(snapshotKey);
+                    SnapshotState state = loadSnapshot(cacheName, bloom, ops.opsForValue().get(snapshotKey));
+                    // 不完整的过滤器写回会让其他节点误拦截已有数据；配置不一致时远端快照更新，不能覆盖
+                    if (state == SnapshotState.INCOMPATIBLE || !bloom.complete) {
+                        ops.unwatch();
+                        return true;
+                    }
+                    ops.multi();
+                    ops.opsForValue().set(snapshotKey, bloom.filter.toByteArray());
+                    List<Object> results = ops.exec();
+                    return results != null && !results.isEmpty();
+                }
+            });
+            if (Boolean.TRUE.equals(written)) {
+                return;
+            }
+        }
+        log.warn("Bloom filter snapshot kept changing, sync skipped: {}", cacheName);
+    }
+
+    /**
+     * 合并Redis快照到本地过滤器，快照存在时过滤器视为完整；
+     * 快照配置与本地不一致时本地过滤器不再视为完整
+     */
+    private SnapshotState loadSnapshot(String cacheName, LocalBloom bloom, byte[] snapshot) {
+        if (snapshot == null) {
+            return SnapshotState.MISSING;
+        }
+        try {
+            ScalableBloomFilter remote = ScalableBloomFilter.fromByteArray(snapshot);
+            if (!bloom.filter.isCompatible(remote)) {
+                if (bloom.complete) {
+                    log.warn("Bloom filter snapshot config differs from local, local filter no longer rejects: {}",
+                            cacheName);
+                } else {
+                    log.warn("Bloom filter snapshot config differs from local, ignored: {}", cacheName);
+                }
+                bloom.complete = false;
+                return SnapshotState.INCOMPATIBLE;
+            }
+            bloom.filter.merge(remote);
+            bloom.complete = true;
+            return SnapshotState.LOADED;
+        } catch (IllegalArgumentException e) {
+            log.warn("Invalid bloom filter snapshot, ignored: {}", cacheName, e);
+            return SnapshotState.MISSING;
+        }
+    }
+
+    private void onBloomAdd(String message) {
+        int separator = message.indexOf(BLOOM_MESSAGE_SEPARATOR);
+        if (separator > 0) {
+            localBloom(message.substring(0, separator)).filter.put(message.substring(separator + 1));
+        }
+    }
+
+    private LocalBloom localBloom(String cacheName) {
+        return bloomFilters.computeIfAbsent(cacheName, name -> new LocalBloom(
+                new ScalableBloomFilter(bloomConfig.getExpectedItems(), bloomConfig.getFalseProbability())));
+    }
+
+    private boolean isNullValue(byte[] value) {
+        return Arrays.equals(NULL_CACHE_VALUE, value);
+    }
+
+    private byte[] serialize(Object value) {
+        return cacheCodec.encode(value);
+    }
+
+    /**
+     * 解码缓存值，无法解码时返回 null，由调用方按未命中重新加载
+     */
     @SuppressWarnings("unchecked")
-    private <T> T deserialize(String value) {
-        // 简化处理，实际应使用JSON反序列化
-        return (T) value;
+    private <T> Decoded<T> decode(String fullKey, byte[] value) {
+        try {
+            return new Decoded<>((T) cacheCodec.decode(value));
+        } catch (CacheCodecException e) {
+            log.warn("Failed to deserialize cache value, treat as miss: {}", fullKey, e);
+            return null;
+        }
+    }
+
+    private record Decoded<T>(T value) {
+    }
+
+    /**
+     * 快照加载结果
+     */
+    private enum SnapshotState {
+        /**
+         * 快照不存在或无法解析
+         */
+        MISSING,
+        /**
+         * 快照已合并到本地过滤器
+         */
+        LOADED,
+        /**
+         * 快照配置与本地过滤器不一致
+         */
+        INCOMPATIBLE
+    }
+
+    /**
+     * 本地布隆过滤器及其是否完整（可用于拒绝请求）
+     */
+    private static final class LocalBloom {
+
+        private final ScalableBloomFilter filter;
+        private volatile boolean complete;
+
+        private LocalBloom(ScalableBloomFilter filter) {
+            this.filter = filter;
+        }
     }
 }
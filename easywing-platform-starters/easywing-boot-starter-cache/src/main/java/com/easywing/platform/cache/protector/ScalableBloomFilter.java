@@ -0,0 +1,201 @@
+/*
+ * Copyright 2024-2026 EasyWing Platform Team.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.easywing.platform.cache.protector;
+
+import com.google.common.hash.BloomFilter;
+import com.google.common.hash.Funnel;
+import com.google.common.hash.Funnels;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * 可扩容的布隆过滤器
+ * <p>
+ * 由多级 Guava {@link BloomFilter} 组成，当前级达到容量后追加新一级：
+ * <ul>
+ *     <li>第 i 级容量为 expectedItems * 2^i，误判率为 falseProbability * 0.5^(i+1)，整体误判率不超过 falseProbability</li>
+ *     <li>各级参数只由 expectedItems 和 falseProbability 决定，相同配置的过滤器可以逐级按位合并</li>
+ *     <li>读写无锁，仅在追加新一级时同步</li>
+ * </ul>
+ *
+ * @author EasyWing Team
+ * @since 1.0.0
+ */
+public class ScalableBloomFilter {
+
+    private static final int SNAPSHOT_VERSION = 1;
+    private static final Funnel<CharSequence> FUNNEL = Funnels.stringFunnel(StandardCharsets.UTF_8);
+
+    private final long expectedItems;
+    private final double falseProbability;
+    private final List<BloomFilter<CharSequence>> stages = new CopyOnWriteArrayList<>();
+
+    public ScalableBloomFilter(long expectedItems, double falseProbability) {
+        if (expectedItems <= 0) {
+            throw new IllegalArgumentException("expectedItems must be positive: " + expectedItems);
+        }
+        if (falseProbability <= 0 || falseProbability >= 1) {
+            throw new IllegalArgumentException("falseProbability must be in (0, 1): " + falseProbability);
+        }
+        this.expectedItems = expectedItems;
+        this.falseProbability = falseProbability;
+        this.stages.add(newStage(0));
+    }
+
+    /**
+     * 判断元素是否可能存在
+     */
+    public boolean mightContain(String key) {
+        for (BloomFilter<CharSequence> stage : stages) {
+            if (stage.mightContain(key)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 添加元素
+     *
+     * @return 元素此前一定不存在时返回 true
+     */
+    public boolean put(String key) {
+        if (mightContain(key)) {
+            return false;
+        }
+        return currentStage().put(key);
+    }
+
+    /**
+     * 将另一个相同配置的过滤器按位合并到当前过滤器
+     */
+    public void merge(ScalableBloomFilter other) {
+        if (!isCompatible(other)) {
+            throw new IllegalArgumentException("Incompatible bloom filter: expectedItems="
+                    + other.expectedItems + ", falseProbability=" + other.falseProbability);
+        }
+        synchronized (this) {
+            List<BloomFilter<CharSequence>> otherStages = other.stages;
+            for (int i = 0; i < otherStages.size(); i++) {
+                if (i < stages.size()) {
+                    stages.get(i).putAll(otherStages.get(i));
+                } else {
+                    stages.add(otherStages.get(i).copy());
+                }
+            }
+        }
+    }
+
+    /**
+     * 是否与另一个过滤器配置相同，可以合并
+     */
+    public boolean isCompatible(ScalableBloomFilter other) {
+        return expectedItems == other.expectedItems
+                && Double.compare(falseProbability, other.falseProbability) == 0;
+    }
+
+    /**
+     * 估算的元素数量
+     */
+    public long approximateElementCount() {
+        long count = 0;
+        for (BloomFilter<CharSequence> stage : stages) {
+            count += stage.approximateElementCount();
+        }
+        return count;
+    }
+
+    public int stageCount() {
+        return stages.size();
+    }
+
+    /**
+     * 序列化为快照
+     */
+    public byte[] toByteArray() {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeInt(SNAPSHOT_VERSION);
+            out.writeLong(expectedItems);
+            out.writeDouble(falseProbability);
+            List<BloomFilter<CharSequence>> snapshot = List.copyOf(stages);
+            out.writeInt(snapshot.size());
+            for (BloomFilter<CharSequence> stage : snapshot) {
+                stage.writeTo(out);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * 从快照恢复
+     *
+     * @throws IllegalArgumentException 快照格式不正确
+     */
+    public static ScalableBloomFilter fromByteArray(byte[] snapshot) {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(snapshot))) {
+            int version = in.readInt();
+            if (version != SNAPSHOT_VERSION) {
+                throw new IllegalArgumentException("Unsupported bloom filter snapshot version: " + version);
+            }
+            ScalableBloomFilter filter = new ScalableBloomFilter(in.readLong(), in.readDouble());
+            int stageCount = in.readInt();
+            filter.stages.clear();
+            for (int i = 0; i < stageCount; i++) {
+                filter.stages.add(BloomFilter.readFrom(in, FUNNEL));
+            }
+            if (filter.stages.isEmpty()) {
+                filter.stages.add(filter.newStage(0));
+            }
+            return filter;
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Corrupted bloom filter snapshot", e);
+        }
+    }
+
+    private BloomFilter<CharSequence> currentStage() {
+        BloomFilter<CharSequence> current = stages.get(stages.size() - 1);
+        if (current.approximateElementCount() < capacity(stages.size() - 1)) {
+            return current;
+        }
+        synchronized (this) {
+            current = stages.get(stages.size() - 1);
+            if (current.approximateElementCount() >= capacity(stages.size() - 1)) {
+                current = newStage(stages.size());
+                stages.add(current);
+            }
+            return current;
+        }
+    }
+
+    private long capacity(int stage) {
+        return expectedItems << Math.min(stage, 30);
+    }
+
+    private BloomFilter<CharSequence> newStage(int stage) {
+        return BloomFilter.create(FUNNEL, capacity(stage), falseProbability / (2L << Math.min(stage, 30)));
+    }
+}
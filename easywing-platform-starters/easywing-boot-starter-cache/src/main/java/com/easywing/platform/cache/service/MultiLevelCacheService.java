@@ -15,23 +15,38 @@
  */
 package com.easywing.platform.cache.service;
 
+import com.easywing.platform.cache.bus.CacheInvalidationBus;
+import com.easywing.platform.cache.codec.CacheCodec;
+import com.easywing.platform.cache.codec.CacheCodecException;
+import com.easywing.platform.cache.codec.TimestampedValue;
+import com.easywing.platform.cache.local.MultiLevelCaffeineCacheManager;
+import com.easywing.platform.cache.namespace.CacheNamespace;
 import com.easywing.platform.cache.properties.CacheProperties;
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.redisson.api.RTopic;
-import org.redisson.api.RedissonClient;
 import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
-import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.data.redis.serializer.RedisSerializer;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
 
 /**
  * 多级缓存服务
  * <p>
- * 提供本地缓存和Redis缓存的统一操作接口
+ * 提供本地缓存和Redis缓存的统一操作接口；批量接口按本地缓存、Redis MGET、批量加载器的顺序逐级补齐，
+ * Redis批量读写按 easywing.cache.redis.batch-size 分批，每批一次往返
  *
  * @author EasyWing Team
  * @since 1.0.0
@@ -41,10 +56,11 @@ import java.util.concurrent.TimeUnit;
 public class MultiLevelCacheService {
 
     private final CacheManager localCacheManager;
-    private final StringRedisTemplate redisTemplate;
-    private final RedissonClient redissonClient;
-    private final ObjectMapper objectMapper;
+    private final RedisTemplate<String, byte[]> redisTemplate;
+    private final CacheInvalidationBus invalidationBus;
+    private final CacheCodec cacheCodec;
     private final CacheProperties properties;
+    private final CacheNamespace cacheNamespace;
 
     /**
      * 从缓存获取数据
@@ -70,19 +86,20 @@ public class MultiLevelCacheService {
             }
         }
         
-        // 2. 再查Redis
-        String redisValue = redisTemplate.opsForValue().get(fullKey);
+        // 2. 再查Redis，读取前记录失效版本号，读取期间被失效时不回填
+        long epoch = MultiLevelCaffeineCacheManager.invalidationEpoch(localCache, key);
+        byte[] redisValue = redisTemplate.opsForValue().get(fullKey);
         if (redisValue != null) {
             log.debug("Redis cache hit: {}", fullKey);
             try {
-                T value = objectMapper.readValue(redisValue, type);
+                T value = cacheCodec.decode(TimestampedValue.payload(redisValue), type);
                 // 回填本地缓存
                 if (localCache != null && value != null) {
-                    localCache.put(key, value);
+                    MultiLevelCaffeineCacheManager.backfill(localCache, key, value, localExpire(cacheName), epoch);
                 }
                 return value;
-            } catch (JsonProcessingException e) {
-                log.error("Failed to deserialize cache value: {}", fullKey, e);
+            } catch (CacheCodecException e) {
+                log.warn("Failed to deserialize cache value, treat as miss: {}", fullKey, e);
             }
         }
         
@@ -90,6 +107,177 @@ public class MultiLevelCacheService {
         return null;
     }
 
+    /**
+     * 批量从缓存获取数据，不回源
+     *
+     * @param cacheName 缓存名称
+     * @param keys      缓存key集合
+     * @param type      返回类型
+     * @param <T>       泛型类型
+     * @return 命中的数据，按 keys 顺序排列，未命中或缓存值为null的key不出现在结果中
+     */
+    public <T> Map<String, T> getAll(String cacheName, Collection<String> keys, Class<T> type) {
+        return getAll(cacheName, keys, type, null);
+    }
+
+    /**
+     * 批量从缓存获取数据，两级缓存均未命中的key通过一次批量加载回源并回填两级缓存
+     *
+     * @param cacheName  缓存名称
+     * @param keys       缓存key集合
+     * @param type       返回类型
+     * @param bulkLoader 批量加载器，入参为未命中的key，返回key到数据的映射；为null时不回源
+     * @param <T>        泛型类型
+     * @return 数据，按 keys 顺序排列，不存在的key不出现在结果中
+     */
+    public <T> Map<String, T> getAll(String cacheName, Collection<String> keys, Class<T> type,
+                                     Function<Collection<String>, Map<String, T>> bulkLoader) {
+        Map<String, T> result = new LinkedHashMap<>();
+        if (keys == null || keys.isEmpty()) {
+            return result;
+        }
+        
+        // 1. 先查本地缓存
+        Cache localCache = localCacheManager.getCache(cacheName);
+        Set<String> misses = new LinkedHashSet<>();
+        for (String key : keys) {
+            Cache.ValueWrapper wrapper = localCache != null ? localCache.get(key) : null;
+            if (wrapper == null) {
+                misses.add(key);
+            } else if (wrapper.get() != null) {
+                @SuppressWarnings("unchecked")
+                T value = (T) wrapper.get();
+                result.put(key, value);
+            }
+        }
+        
+        // 2. 剩余key分批MGET，命中时回填本地缓存
+        if (!misses.isEmpty()) {
+            misses.removeAll(multiGetFromRedis(cacheName, localCache, misses, type, result));
+        }
+        
+        // 3. 仍未命中的key一次批量回源
+        if (!misses.isEmpty() && bulkLoader != null) {
+            Map<String, T> loaded = bulkLoader.apply(List.copyOf(misses));
+            Map<String, Object> toCache = new LinkedHashMap<>();
+            for (String key : misses) {
+                T value = loaded != null ? loaded.get(key) : null;
+                if (value != null) {
+                    result.put(key, value);
+                    toCache.put(key, value);
+                } else if (isCacheNull(cacheName)) {
+                    toCache.put(key, null);
+                }
+            }
+            putAll(cacheName, toCache, localExpire(cacheName), properties.getCacheConfig(cacheName).getRedisExpire());
+            log.debug("Bulk loaded {} of {} missed keys: {}", toCache.size(), misses.size(), cacheName);
+        }
+        
+        // 按入参顺序返回
+        Map<String, T> ordered = new LinkedHashMap<>();
+        for (String key : keys) {
+            T value = result.get(key);
+            if (value != null) {
+                ordered.put(key, value);
+            }
+        }
+        return ordered;
+    }
+
+    /**
+     * 分批MGET查询Redis
+     *
+     * @return Redis中存在的key（包括缓存的null值）
+     */
+    private <T> Set<String> multiGetFromRedis(String cacheName, Cache localCache, Set<String> keys, Class<T> type,
+                                              Map<String, T> result) {
+        Set<String> found = new LinkedHashSet<>();
+        for (List<String> batch : partition(keys)) {
+            List<String> fullKeys = new ArrayList<>(batch.size());
+            long[] epochs = new long[batch.size()];
+            for (int i = 0; i < batch.size(); i++) {
+                fullKeys.add(buildFullKey(cacheName, batch.get(i)));
+                epochs[i] = MultiLevelCaffeineCacheManager.invalidationEpoch(localCache, batch.get(i));
+            }
+            List<byte[]> values = redisTemplate.opsForValue().multiGet(fullKeys);
+            if (values == null) {
+                continue;
+            }
+            for (int i = 0; i < batch.size() && i < values.size(); i++) {
+                byte[] bytes = values.get(i);
+                if (bytes == null) {
+                    continue;
+                }
+                String key = batch.get(i);
+                try {
+                    T value = cacheCodec.decode(TimestampedValue.payload(bytes), type);
+                    found.add(key);
+                    if (value != null) {
+                        result.put(key, value);
+                        if (localCache != null) {
+                            MultiLevelCaffeineCacheManager.backfill(localCache, key, value, localExpire(cacheName),
+                                    epochs[i]);
+                        }
+                    }
+                } catch (CacheCodecException e) {
+                    log.warn("Failed to deserialize cache value, treat as miss: {}", fullKeys.get(i), e);
+                }
+            }
+        }
+        log.debug("Redis multi get: {}, requested: {}, hit: {}", cacheName, keys.size(), found.size());
+        return found;
+    }
+
+    /**
+     * 批量存入缓存，Redis写入以管道方式分批提交
+     *
+     * @param cacheName   缓存名称
+     * @param values      key到缓存值的映射
+     * @param localExpire 本地缓存过期时间（秒）
+     * @param redisExpire Redis缓存过期时间（秒）
+     */
+    public void putAll(String cacheName, Map<String, ?> values, int localExpire, int redisExpire) {
+        if (values == null || values.isEmpty()) {
+            return;
+        }
+        
+        Cache localCache = localCacheManager.getCache(cacheName);
+        List<Map.Entry<byte[], byte[]>> encoded = new ArrayList<>(values.size());
+        RedisSerializer<String> keySerializer = redisTemplate.getStringSerializer();
+        for (Map.Entry<String, ?> entry : values.entrySet()) {
+            Object value = entry.getValue();
+            if (value == null && !isCacheNull(cacheName)) {
+                continue;
+            }
+            
+            // 写入本地缓存
+            if (localCache != null) {
+                MultiLevelCaffeineCacheManager.put(localCache, entry.getKey(), value, localExpire);
+            }
+            
+            String fullKey = buildFullKey(cacheName, entry.getKey());
+            try {
+                encoded.add(Map.entry(keySerializer.serialize(fullKey),
+                        TimestampedValue.encode(cacheCodec, value)));
+            } catch (CacheCodecException e) {
+                log.error("Failed to serialize cache value: {}", fullKey, e);
+            }
+        }
+        
+        // 管道写入Redis
+        Expiration expiration = Expiration.seconds(redisExpire);
+        for (List<Map.Entry<byte[], byte[]>> batch : partition(encoded)) {
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                for (Map.Entry<byte[], byte[]> entry : batch) {
+                    connection.stringCommands().set(entry.getKey(), entry.getValue(), expiration,
+                            RedisStringCommands.SetOption.upsert());
+                }
+                return null;
+            });
+        }
+        log.debug("Redis cache put all: {}, size: {}, ttl: {}s", cacheName, encoded.size(), redisExpire);
+    }
+
     /**
      * 将数据存入缓存
      *
@@ -100,7 +288,7 @@ public class MultiLevelCacheService {
      * @param redisExpire Redis缓存过期时间（秒）
      */
     public void put(String cacheName, String key, Object value, int localExpire, int redisExpire) {
-        if (value == null && !properties.isCacheNullValues()) {
+        if (value == null && !isCacheNull(cacheName)) {
             return;
         }
         
@@ -109,16 +297,16 @@ public class MultiLevelCacheService {
         // 写入本地缓存
         Cache localCache = localCacheManager.getCache(cacheName);
         if (localCache != null) {
-            localCache.put(key, value);
-            log.debug("Local cache put: {}", fullKey);
+            MultiLevelCaffeineCacheManager.put(localCache, key, value, localExpire);
+            log.debug("Local cache put: {}, ttl: {}s", fullKey, localExpire);
         }
         
         // 写入Redis
         try {
-            String jsonValue = objectMapper.writeValueAsString(value);
-            redisTemplate.opsForValue().set(fullKey, jsonValue, redisExpire, TimeUnit.SECONDS);
+            redisTemplate.opsForValue().set(fullKey, TimestampedValue.encode(cacheCodec, value), redisExpire,
+                    TimeUnit.SECONDS);
             log.debug("Redis cache put: {}, ttl: {}s", fullKey, redisExpire);
-        } catch (JsonProcessingException e) {
+        } catch (CacheCodecException e) {
             log.error("Failed to serialize cache value: {}", fullKey, e);
         }
     }
@@ -171,13 +359,9 @@ public class MultiLevelCacheService {
             log.debug("Local cache clear: {}", cacheName);
         }
         
-        // 清除Redis（使用模式匹配删除）
-        String pattern = properties.getKeyPrefix() + cacheName + ":*";
-        var keys = redisTemplate.keys(pattern);
-        if (keys != null && !keys.isEmpty()) {
-            redisTemplate.delete(keys);
-            log.debug("Redis cache clear: {}, deleted {} keys", cacheName, keys.size());
-        }
+        // 清除Redis：递增命名空间版本，旧key按TTL过期
+        long generation = cacheNamespace.invalidate(cacheName);
+        log.debug("Redis cache clear: {}, generation: {}", cacheName, generation);
         
         // 广播通知其他节点
         if (broadcast) {
@@ -193,23 +377,48 @@ public class MultiLevelCacheService {
     }
 
     /**
-     * 广播缓存清理消息
+     * 广播缓存清理消息，由失效总线在合并窗口内批量发布
      */
     private void broadcastEvict(String cacheName, String cacheKey) {
-        try {
-            String message = cacheKey != null ? cacheName + ":" + cacheKey : cacheName + ":*";
-            RTopic topic = redissonClient.getTopic(properties.getRedis().getCacheTopic());
-            topic.publish(message);
-            log.debug("Broadcast cache evict: {}", message);
-        } catch (Exception e) {
-            log.error("Failed to broadcast cache evict message", e);
+        if (cacheKey != null) {
+            invalidationBus.evict(cacheName, cacheKey);
+        } else {
+            invalidationBus.clear(cacheName);
+        }
+    }
+
+    /**
+     * 是否缓存null值：全局开关或按缓存名称配置
+     */
+    private boolean isCacheNull(String cacheName) {
+        return properties.isCacheNullValues() || properties.getCacheConfig(cacheName).isCacheNull();
+    }
+
+    /**
+     * 本地缓存过期时间（秒）：配置了该缓存时使用 local-expire，否则返回0使用缓存默认过期时间
+     */
+    private int localExpire(String cacheName) {
+        CacheProperties.CacheTtlConfig cacheConfig = properties.getCaches().get(cacheName);
+        return cacheConfig != null ? cacheConfig.getLocalExpire() : 0;
+    }
+
+    /**
+     * 按 easywing.cache.redis.batch-size 分批
+     */
+    private <E> List<List<E>> partition(Collection<E> items) {
+        int batchSize = Math.max(1, properties.getRedis().getBatchSize());
+        List<E> list = new ArrayList<>(items);
+        List<List<E>> batches = new ArrayList<>();
+        for (int i = 0; i < list.size(); i += batchSize) {
+            batches.add(list.subList(i, Math.min(i + batchSize, list.size())));
         }
+        return batches;
     }
 
     /**
      * 构建完整的缓存key
      */
     private String buildFullKey(String cacheName, String key) {
-        return properties.getKeyPrefix() + cacheName + ":" + key;
+        return cacheNamespace.fullKey(cacheName, key);
     }
 }
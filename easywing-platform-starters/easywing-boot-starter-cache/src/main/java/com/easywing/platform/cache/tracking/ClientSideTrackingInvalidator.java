@@ -0,0 +1,321 @@
+/*
+ * Copyright 2024-2026 EasyWing Platform Team.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.easywing.platform.cache.tracking;
+
+import com.easywing.platform.cache.local.MultiLevelCaffeineCacheManager;
+import com.easywing.platform.cache.namespace.CacheNamespace;
+import com.easywing.platform.cache.properties.CacheProperties;
+import io.lettuce.core.ClientOptions;
+import io.lettuce.core.RedisChannelHandler;
+import io.lettuce.core.RedisClient;
+import io.lettuce.core.RedisConnectionStateListener;
+import io.lettuce.core.RedisURI;
+import io.lettuce.core.TrackingArgs;
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.api.push.PushMessage;
+import io.lettuce.core.codec.StringCodec;
+import io.lettuce.core.protocol.ProtocolVersion;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.boot.autoconfigure.data.redis.RedisProperties;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.util.StringUtils;
+
+import java.net.SocketAddress;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 基于Redis客户端缓存跟踪（RESP3 CLIENT TRACKING）的本地缓存失效器
+ * <p>
+ * 使用一条独立的RESP3连接，以BCAST模式跟踪缓存key前缀：
+ * <ul>
+ *     <li>缓存key被任意客户端修改、删除或过期时，失效对应的本地缓存条目</li>
+ *     <li>命名空间版本key变化（其他节点清空缓存）时，清空该缓存及其子缓存并重新读取版本</li>
+ *     <li>Redis执行FLUSHALL或跟踪连接断开、重连时，清空全部本地缓存，重连后重新开启跟踪</li>
+ * </ul>
+ * 本节点写入Redis同样会收到失效通知，刚写入的本地条目会被失效一次，下一次读取从Redis回填。
+ * 失效通知可能先于并发读取的回填到达，回填时比较读取Redis前后的本地失效版本号
+ * （见 {@link MultiLevelCaffeineCacheManager#backfill}），被失效过的读取结果不写入本地缓存。
+ * 读请求使用RedisTemplate连接池，无法在其连接上开启默认（非BCAST）跟踪模式，因此只支持BCAST。
+ * 指标 easywing.cache.tracking.invalidations 按类型（key、namespace、flush）计数。
+ *
+ * @author EasyWing Team
+ * @since 1.0.0
+ */
+@Slf4j
+public class ClientSideTrackingInvalidator implements InitializingBean, DisposableBean {
+
+    public static final String INVALIDATION_METER = "easywing.cache.tracking.invalidations";
+
+    private static final String GENERATION_KEY = "cache:gen:";
+
+    private final RedisProperties redisProperties;
+    private final CacheProperties properties;
+    private final CacheManager localCacheManager;
+    private final CacheNamespace cacheNamespace;
+    private final MeterRegistry meterRegistry;
+
+    private RedisClient client;
+    private volatile StatefulRedisConnection<String, String> connection;
+    private volatile boolean active;
+
+    public ClientSideTrackingInvalidator(RedisProperties redisProperties, CacheProperties properties,
+                                         CacheManager localCacheManager, CacheNamespace cacheNamespace,
+                                         MeterRegistry meterRegistry) {
+        this.redisProperties = redisProperties;
+        this.properties = properties;
+        this.localCacheManager = localCacheManager;
+        this.cacheNamespace = cacheNamespace;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        if (redisProperties.getCluster() != null || redisProperties.getSentinel() != null) {
+            throw new IllegalStateException(
+                    "easywing.cache.tracking.enabled=true only supports standalone Redis");
+        }
+        client = RedisClient.create(redisUri());
+        client.setOptions(ClientOptions.builder()
+                .protocolVersion(ProtocolVersion.RESP3)
+                .autoReconnect(true)
+                .build());
+        client.addListener(new ReconnectListener());
+        StatefulRedisConnection<String, String> conn = client.connect();
+        conn.addListener(this::onPushMessage);
+        conn.sync().clientTracking(trackingArgs());
+        connection = conn;
+        active = true;
+        log.info("Redis client-side tracking enabled, prefixes: {}", prefixes());
+    }
+
+    /**
+     * 跟踪连接是否可用；不可用期间本地缓存可能读到旧值，重连后整体清空
+     */
+    public boolean isActive() {
+        return active;
+    }
+
+    @Override
+    public void destroy() {
+        active = false;
+        if (connection != null) {
+            connection.close();
+        }
+        if (client != null) {
+            client.shutdown();
+        }
+    }
+
+    private void onPushMessage(PushMessage message) {
+        if (!"invalidate".equals(message.getType())) {
+            return;
+        }
+        List<Object> content = message.getContent(StringCodec.UTF8::decodeKey);
+        Object keys = content.size() > 1 ? content.get(1) : null;
+        if (!(keys instanceof List<?> keyList)) {
+            // null 表示 FLUSHALL/FLUSHDB
+            flushAll("flush");
+            return;
+        }
+        for (Object key : keyList) {
+            if (key != null) {
+                invalidate(key.toString());
+            }
+        }
+    }
+
+    /**
+     * 按Redis key失效本地缓存
+     */
+    void invalidate(String redisKey) {
+        String keyPrefix = properties.getKeyPrefix();
+        if (!redisKey.startsWith(keyPrefix)) {
+            return;
+        }
+        String rest = redisKey.substring(keyPrefix.length());
+
+        // 命名空间版本变化：清空该缓存及其子缓存
+        if (rest.startsWith(GENERATION_KEY)) {
+            String cacheName = rest.substring(GENERATION_KEY.length());
+            cacheNamespace.refresh(cacheName);
+            for (String name : localCacheManager.getCacheNames()) {
+                if (name.equals(cacheName)) {
+                    clear(name);
+                } else if (name.startsWith(cacheName + ":")) {
+                    cacheNamespace.refresh(name);
+                    clear(name);
+                }
+            }
+            count("namespace");
+            return;
+        }
+
+        KeyRef ref = resolve(rest, localCacheManager.getCacheNames());
+        if (ref == null) {
+            return;
+        }
+        Cache cache = localCacheManager.getCache(ref.cacheName());
+        if (cache != null) {
+            cache.evict(ref.cacheKey());
+            count("key");
+            log.trace("Tracking invalidated local cache: {}:{}", ref.cacheName(), ref.cacheKey());
+        }
+    }
+
+    /**
+     * 将去掉全局前缀的Redis key解析为缓存名称与缓存key
+     * <p>
+     * key格式为 缓存名[#版本]:缓存key；缓存名可能包含冒号，按已知缓存名称取最长匹配
+     */
+    static KeyRef resolve(String rest, Collection<String> cacheNames) {
+        KeyRef best = null;
+        for (String name : cacheNames) {
+            if (!rest.startsWith(name) || rest.length() <= name.length()) {
+                continue;
+            }
+            int keyStart;
+            char separator = rest.charAt(name.length());
+            if (separator == ':') {
+                keyStart = name.length() + 1;
+            } else if (separator == CacheNamespace.VERSION_SEPARATOR) {
+                int colon = rest.indexOf(':', name.length() + 1);
+                if (colon < 0 || !isDigits(rest, name.length() + 1, colon)) {
+                    continue;
+                }
+                keyStart = colon + 1;
+            } else {
+                continue;
+            }
+            if (best == null || name.length() > best.cacheName().length()) {
+                best = new KeyRef(name, rest.substring(keyStart));
+            }
+        }
+        return best;
+    }
+
+    private static boolean isDigits(String value, int from, int to) {
+        if (from >= to) {
+            return false;
+        }
+        for (int i = from; i < to; i++) {
+            if (!Character.isDigit(value.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void flushAll(String reason) {
+        cacheNamespace.knownCacheNames().forEach(cacheNamespace::refresh);
+        localCacheManager.getCacheNames().forEach(this::clear);
+        count(reason);
+    }
+
+    private void clear(String cacheName) {
+        Cache cache = localCacheManager.getCache(cacheName);
+        if (cache != null) {
+            cache.clear();
+        }
+    }
+
+    private void count(String type) {
+        Counter.builder(INVALIDATION_METER)
+                .tag("type", type)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    private TrackingArgs trackingArgs() {
+        return TrackingArgs.Builder.enabled().bcast().prefixes(prefixes().toArray(new String[0]));
+    }
+
+    private List<String> prefixes() {
+        List<String> prefixes = properties.getTracking().getPrefixes();
+        return prefixes == null || prefixes.isEmpty() ? List.of(properties.getKeyPrefix()) : prefixes;
+    }
+
+    private RedisURI redisUri() {
+        if (StringUtils.hasText(redisProperties.getUrl())) {
+            RedisURI uri = RedisURI.create(redisProperties.getUrl());
+            uri.setClientName("easywing-cache-tracking");
+            return uri;
+        }
+        RedisURI.Builder builder = RedisURI.builder()
+                .withHost(redisProperties.getHost())
+                .withPort(redisProperties.getPort())
+                .withDatabase(redisProperties.getDatabase())
+                .withSsl(redisProperties.getSsl().isEnabled())
+                .withClientName("easywing-cache-tracking");
+        if (StringUtils.hasText(redisProperties.getPassword())) {
+            if (StringUtils.hasText(redisProperties.getUsername())) {
+                builder.withAuthentication(redisProperties.getUsername(), redisProperties.getPassword());
+            } else {
+                builder.withPassword(redisProperties.getPassword().toCharArray());
+            }
+        }
+        if (redisProperties.getTimeout() != null) {
+            builder.withTimeout(redisProperties.getTimeout());
+        }
+        return builder.build();
+    }
+
+    /**
+     * 跟踪连接断开期间收不到失效通知：断开与重连时清空本地缓存，重连后重新开启跟踪
+     */
+    private class ReconnectListener implements RedisConnectionStateListener {
+
+        @Override
+        public void onRedisConnected(RedisChannelHandler<?, ?> channel, SocketAddress socketAddress) {
+            StatefulRedisConnection<String, String> conn = connection;
+            if (conn == null || channel != conn) {
+                return;
+            }
+            conn.async().clientTracking(trackingArgs()).whenComplete((result, error) -> {
+                if (error != null) {
+                    log.warn("Failed to re-enable Redis client-side tracking", error);
+                    return;
+                }
+                flushAll("flush");
+                active = true;
+                log.info("Redis client-side tracking re-enabled after reconnect");
+            });
+        }
+
+        @Override
+        public void onRedisDisconnected(RedisChannelHandler<?, ?> channel) {
+            if (channel != connection || !active) {
+                return;
+            }
+            active = false;
+            flushAll("flush");
+            log.warn("Redis client-side tracking connection lost, local caches flushed");
+        }
+
+        @Override
+        public void onRedisExceptionCaught(RedisChannelHandler<?, ?> channel, Throwable cause) {
+            // 由重连机制处理
+        }
+    }
+
+    record KeyRef(String cacheName, String cacheKey) {
+    }
+}
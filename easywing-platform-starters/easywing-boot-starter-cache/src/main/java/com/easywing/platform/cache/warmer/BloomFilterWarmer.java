@@ -0,0 +1,85 @@
+/*
+ * Copyright 2024-2026 EasyWing Platform Team.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.easywing.platform.cache.warmer;
+
+import com.easywing.platform.cache.protector.CacheProtector;
+
+import java.util.stream.Stream;
+
+/**
+ * 布隆过滤器预热器
+ * <p>
+ * 启动时用全量key重建本地布隆过滤器并覆盖Redis快照，子类只需提供全部存在的key，例如：
+ * <pre>
+ * &#64;Component
+ * public class UserBloomWarmer extends BloomFilterWarmer {
+ *     private final SysUserMapper mapper;
+ *
+ *     public UserBloomWarmer(CacheProtector protector, SysUserMapper mapper) {
+ *         super(protector, "user", 100_000, 0.01);
+ *         this.mapper = mapper;
+ *     }
+ *
+ *     &#64;Override
+ *     protected Stream&lt;String&gt; keys() {
+ *         return mapper.selectAllIds().stream().map(String::valueOf);
+ *     }
+ * }
+ * </pre>
+ *
+ * @author EasyWing Team
+ * @since 1.0.0
+ */
+public abstract class BloomFilterWarmer implements CacheWarmer {
+
+    private final CacheProtector cacheProtector;
+    private final String cacheName;
+    private final long expectedItems;
+    private final double falseProbability;
+
+    protected BloomFilterWarmer(CacheProtector cacheProtector, String cacheName,
+                                long expectedItems, double falseProbability) {
+        this.cacheProtector = cacheProtector;
+        this.cacheName = cacheName;
+        this.expectedItems = expectedItems;
+        this.falseProbability = falseProbability;
+    }
+
+    /**
+     * 全部存在的缓存key，流在重建完成后关闭
+     */
+    protected abstract Stream<String> keys();
+
+    @Override
+    public String getName() {
+        return "bloom:" + cacheName;
+    }
+
+    @Override
+    public void warmUp() {
+        try (Stream<String> keys = keys()) {
+            cacheProtector.rebuildBloomFilter(cacheName, expectedItems, falseProbability, keys);
+        }
+    }
+
+    /**
+     * 布隆过滤器应先于依赖它的数据预热执行
+     */
+    @Override
+    public int getOrder() {
+        return -100;
+    }
+}
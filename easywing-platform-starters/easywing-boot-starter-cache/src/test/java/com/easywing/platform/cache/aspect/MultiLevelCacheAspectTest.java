@@ -16,20 +16,35 @@
 package com.easywing.platform.cache.aspect;
 
 import com.easywing.platform.cache.annotation.MultiLevelCache;
+import com.easywing.platform.cache.bus.CacheInvalidationBus;
+import com.easywing.platform.cache.codec.CacheCodec;
+import com.easywing.platform.cache.codec.CacheCodecException;
+import com.easywing.platform.cache.codec.TimestampedValue;
+import com.easywing.platform.cache.loader.CacheRefresher;
+import com.easywing.platform.cache.loader.SingleFlightLoader;
+import com.easywing.platform.cache.local.MultiLevelCaffeineCacheManager;
+import com.easywing.platform.cache.namespace.CacheNamespace;
 import com.easywing.platform.cache.properties.CacheProperties;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.reflect.MethodSignature;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.data.redis.core.ValueOperations;
 
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
@@ -46,10 +61,19 @@ class MultiLevelCacheAspectTest {
     private CacheManager localCacheManager;
 
     @Mock
-    private StringRedisTemplate redisTemplate;
+    private RedisTemplate<String, byte[]> redisTemplate;
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Mock
+    private CacheCodec cacheCodec;
 
     @Mock
-    private ObjectMapper objectMapper;
+    private CacheRefresher cacheRefresher;
+
+    @Mock
+    private CacheInvalidationBus invalidationBus;
 
     @Mock
     private CacheProperties properties;
@@ -57,19 +81,37 @@ class MultiLevelCacheAspectTest {
     @Mock
     private ProceedingJoinPoint joinPoint;
 
+    @Mock
+    private MethodSignature signature;
+
     @Mock
     private Cache localCache;
 
     @Mock
-    private ValueOperations<String, String> valueOperations;
+    private ValueOperations<String, byte[]> valueOperations;
+
+    @Mock
+    private ValueOperations<String, String> stringValueOperations;
 
     private MultiLevelCacheAspect aspect;
 
     @BeforeEach
-    void setUp() {
-        aspect = new MultiLevelCacheAspect(localCacheManager, redisTemplate, objectMapper, properties);
+    void setUp() throws NoSuchMethodException {
+        SingleFlightLoader singleFlightLoader = new SingleFlightLoader(new CacheProperties(), stringRedisTemplate,
+                new SimpleMeterRegistry());
+        CacheNamespace cacheNamespace = new CacheNamespace(stringRedisTemplate, properties);
+        aspect = new MultiLevelCacheAspect(localCacheManager, redisTemplate, cacheCodec, properties,
+                singleFlightLoader, cacheNamespace, cacheRefresher, invalidationBus, null);
         when(properties.getKeyPrefix()).thenReturn("easywing:");
-        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(properties.getNamespace()).thenReturn(new CacheProperties.NamespaceConfig());
+        when(stringRedisTemplate.opsForValue()).thenReturn(stringValueOperations);
+        // 命名空间版本为0，key格式保持 easywing:user:123
+        when(stringValueOperations.get("easywing:cache:gen:user")).thenReturn(null);
+        // #userId 解析为 123
+        Method method = MultiLevelCacheAspectTest.class.getDeclaredMethod("findUser", Long.class);
+        when(joinPoint.getSignature()).thenReturn(signature);
+        when(signature.getMethod()).thenReturn(method);
+        when(joinPoint.getArgs()).thenReturn(new Object[]{123L});
     }
 
     @Test
@@ -97,13 +139,14 @@ class MultiLevelCacheAspectTest {
     void testRedisCacheHit() throws Throwable {
         // 准备测试数据
         MultiLevelCache annotation = createAnnotation("user", "#userId", 60, 300, false);
-        String jsonValue = "{\"id\":123,\"name\":\"test\"}";
+        byte[] encodedValue = {1, 2, 3};
         Object deserializedValue = new Object();
         
         when(localCacheManager.getCache("user")).thenReturn(localCache);
         when(localCache.get("123")).thenReturn(null);
-        when(valueOperations.get("easywing:user:123")).thenReturn(jsonValue);
-        when(objectMapper.readValue(jsonValue, Object.class)).thenReturn(deserializedValue);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.get("easywing:user:123")).thenReturn(encodedValue);
+        when(cacheCodec.decode(encodedValue)).thenReturn(deserializedValue);
 
         // 执行测试
         Object result = aspect.aroundCache(joinPoint, annotation);
@@ -114,6 +157,30 @@ class MultiLevelCacheAspectTest {
         verify(joinPoint, never()).proceed();
     }
 
+    @Test
+    @DisplayName("测试读取Redis期间收到失效时返回读取值但不回填本地缓存")
+    void testInvalidationDuringRedisReadSkipsBackfill() throws Throwable {
+        MultiLevelCache annotation = createAnnotation("user", "#userId", 60, 300, false);
+        byte[] encodedValue = {1, 2, 3};
+        Object staleValue = new Object();
+        Cache realCache = new MultiLevelCaffeineCacheManager(new CacheProperties(), cacheCodec).getCache("user");
+
+        when(localCacheManager.getCache("user")).thenReturn(realCache);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        // 旧值已从Redis读出，失效消息在回填之前到达
+        when(valueOperations.get("easywing:user:123")).thenAnswer(invocation -> {
+            realCache.evict("123");
+            return encodedValue;
+        });
+        when(cacheCodec.decode(encodedValue)).thenReturn(staleValue);
+
+        Object result = aspect.aroundCache(joinPoint, annotation);
+
+        assertSame(staleValue, result);
+        assertNull(realCache.get("123"));
+        verify(joinPoint, never()).proceed();
+    }
+
     @Test
     @DisplayName("测试缓存未命中并执行方法")
     void testCacheMiss() throws Throwable {
@@ -123,9 +190,10 @@ class MultiLevelCacheAspectTest {
         
         when(localCacheManager.getCache("user")).thenReturn(localCache);
         when(localCache.get("123")).thenReturn(null);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
         when(valueOperations.get("easywing:user:123")).thenReturn(null);
         when(joinPoint.proceed()).thenReturn(methodResult);
-        when(objectMapper.writeValueAsString(methodResult)).thenReturn("{\"id\":123}");
+        when(cacheCodec.encode(methodResult)).thenReturn(new byte[]{1});
 
         // 执行测试
         Object result = aspect.aroundCache(joinPoint, annotation);
@@ -134,7 +202,7 @@ class MultiLevelCacheAspectTest {
         assertEquals(methodResult, result);
         verify(joinPoint).proceed();
         verify(localCache).put("123", methodResult);
-        verify(valueOperations).set(eq("easywing:user:123"), anyString(), eq(300L), any());
+        verify(valueOperations).set(eq("easywing:user:123"), any(byte[].class), eq(300L), any());
     }
 
     @Test
@@ -145,6 +213,7 @@ class MultiLevelCacheAspectTest {
         
         when(localCacheManager.getCache("user")).thenReturn(localCache);
         when(localCache.get("123")).thenReturn(null);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
         when(valueOperations.get("easywing:user:123")).thenReturn(null);
         when(joinPoint.proceed()).thenReturn(null);
 
@@ -154,7 +223,7 @@ class MultiLevelCacheAspectTest {
         // 验证
         assertNull(result);
         verify(localCache, never()).put(any(), any());
-        verify(valueOperations, never()).set(anyString(), anyString(), anyLong(), any());
+        verify(valueOperations, never()).set(anyString(), any(byte[].class), anyLong(), any());
     }
 
     @Test
@@ -165,9 +234,10 @@ class MultiLevelCacheAspectTest {
         
         when(localCacheManager.getCache("user")).thenReturn(localCache);
         when(localCache.get("123")).thenReturn(null);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
         when(valueOperations.get("easywing:user:123")).thenReturn(null);
         when(joinPoint.proceed()).thenReturn(null);
-        when(objectMapper.writeValueAsString(null)).thenReturn("null");
+        when(cacheCodec.encode(null)).thenReturn(new byte[]{0});
 
         // 执行测试
         Object result = aspect.aroundCache(joinPoint, annotation);
@@ -175,10 +245,197 @@ class MultiLevelCacheAspectTest {
         // 验证
         assertNull(result);
         verify(localCache).put("123", null);
-        verify(valueOperations).set(eq("easywing:user:123"), anyString(), eq(300L), any());
+        verify(valueOperations).set(eq("easywing:user:123"), any(byte[].class), eq(300L), any());
+    }
+
+    @Test
+    @DisplayName("测试Redis值无法解码时按未命中重新加载")
+    void testUndecodableRedisValueTreatedAsMiss() throws Throwable {
+        // 准备测试数据
+        MultiLevelCache annotation = createAnnotation("user", "#userId", 60, 300, false);
+        byte[] legacyValue = "{\"id\":123}".getBytes();
+        Object methodResult = new Object();
+        
+        when(localCacheManager.getCache("user")).thenReturn(localCache);
+        when(localCache.get("123")).thenReturn(null);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.get("easywing:user:123")).thenReturn(legacyValue);
+        when(cacheCodec.decode(legacyValue)).thenThrow(new CacheCodecException("corrupt"));
+        when(joinPoint.proceed()).thenReturn(methodResult);
+        when(cacheCodec.encode(methodResult)).thenReturn(new byte[]{1});
+
+        // 执行测试
+        Object result = aspect.aroundCache(joinPoint, annotation);
+
+        // 验证
+        assertEquals(methodResult, result);
+        verify(joinPoint).proceed();
+        verify(valueOperations).set(eq("easywing:user:123"), any(byte[].class), eq(300L), any());
+    }
+
+    @Test
+    @DisplayName("测试条目进入提前刷新区间时返回当前值并提交后台刷新")
+    void testRefreshAheadReturnsCurrentValue() throws Throwable {
+        // 准备测试数据：redisExpire=300s，已写入250s，超过80%阈值
+        MultiLevelCache annotation = createAnnotation("user", "#userId", 60, 300, false, 0.8, 0);
+        byte[] encodedValue = {1, 2, 3};
+        Object cachedValue = new Object();
+        
+        when(localCacheManager.getCache("user")).thenReturn(localCache);
+        when(localCache.get("123")).thenReturn(null);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.get("easywing:user:123")).thenReturn(writtenAgo(encodedValue, 250_000L));
+        when(cacheCodec.decode(encodedValue)).thenReturn(cachedValue);
+        when(cacheRefresher.refresh(eq("user"), eq("easywing:user:123"), any())).thenReturn(true);
+
+        // 执行测试
+        Object result = aspect.aroundCache(joinPoint, annotation);
+
+        // 验证
+        assertSame(cachedValue, result);
+        verify(cacheRefresher).refresh(eq("user"), eq("easywing:user:123"), any());
+        verify(joinPoint, never()).proceed();
+    }
+
+    @Test
+    @DisplayName("测试本地过期时间大于刷新窗口时回填不超过刷新点，到达刷新点的条目不回填")
+    void testBackfillBoundedByRefreshPoint() throws Throwable {
+        // redisExpire=300s，refreshAfter=0.8，刷新点为240s；localExpire=100s大于剩余刷新窗口
+        MultiLevelCache annotation = createAnnotation("user", "#userId", 100, 300, false, 0.8, 0);
+        byte[] encodedValue = {1, 2, 3};
+        Object cachedValue = new Object();
+        Cache realCache = new MultiLevelCaffeineCacheManager(new CacheProperties(), cacheCodec).getCache("user");
+
+        when(localCacheManager.getCache("user")).thenReturn(realCache);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.get("easywing:user:123")).thenReturn(writtenAgo(encodedValue, 200_000L));
+        when(cacheCodec.decode(encodedValue)).thenReturn(cachedValue);
+
+        assertSame(cachedValue, aspect.aroundCache(joinPoint, annotation));
+        long expiresAfter = ((CaffeineCache) realCache).getNativeCache().policy().expireVariably().orElseThrow()
+                .getExpiresAfter("123", TimeUnit.SECONDS).orElseThrow();
+        assertTrue(expiresAfter <= 40 && expiresAfter >= 38, "expiresAfter=" + expiresAfter);
+        verifyNoInteractions(cacheRefresher);
+
+        // 本地条目过期后再次读取，条目已越过刷新点：提交刷新且不回填
+        realCache.evict("123");
+        when(valueOperations.get("easywing:user:123")).thenReturn(writtenAgo(encodedValue, 250_000L));
+        when(cacheRefresher.refresh(eq("user"), eq("easywing:user:123"), any())).thenReturn(true);
+
+        assertSame(cachedValue, aspect.aroundCache(joinPoint, annotation));
+        assertNull(realCache.get("123"));
+        verify(cacheRefresher).refresh(eq("user"), eq("easywing:user:123"), any());
+    }
+
+    @Test
+    @DisplayName("测试新鲜条目不触发后台刷新")
+    void testFreshEntryNotRefreshed() throws Throwable {
+        // 准备测试数据：redisExpire=300s，已写入60s
+        MultiLevelCache annotation = createAnnotation("user", "#userId", 60, 300, false, 0.8, 60);
+        byte[] encodedValue = {1, 2, 3};
+        Object cachedValue = new Object();
+        
+        when(localCacheManager.getCache("user")).thenReturn(localCache);
+        when(localCache.get("123")).thenReturn(null);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.get("easywing:user:123")).thenReturn(writtenAgo(encodedValue, 60_000L));
+        when(cacheCodec.decode(encodedValue)).thenReturn(cachedValue);
+
+        // 执行测试
+        Object result = aspect.aroundCache(joinPoint, annotation);
+
+        // 验证
+        assertSame(cachedValue, result);
+        verifyNoInteractions(cacheRefresher);
+    }
+
+    @Test
+    @DisplayName("测试开启旧值可用期时写入Redis的TTL包含旧值可用期")
+    void testStaleWhileRevalidateExtendsRedisTtl() throws Throwable {
+        // 准备测试数据
+        MultiLevelCache annotation = createAnnotation("user", "#userId", 60, 300, false, 0, 60);
+        Object methodResult = new Object();
+        
+        when(localCacheManager.getCache("user")).thenReturn(localCache);
+        when(localCache.get("123")).thenReturn(null);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(joinPoint.proceed()).thenReturn(methodResult);
+        when(cacheCodec.encode(methodResult)).thenReturn(new byte[]{1});
+
+        // 执行测试
+        Object result = aspect.aroundCache(joinPoint, annotation);
+
+        // 验证
+        assertEquals(methodResult, result);
+        verify(valueOperations).set(eq("easywing:user:123"), any(byte[].class), eq(360L), any());
+    }
+
+    @Test
+    @DisplayName("测试写入时间未知的旧格式条目不触发后台刷新")
+    void testLegacyEntryNotRefreshed() throws Throwable {
+        MultiLevelCache annotation = createAnnotation("user", "#userId", 60, 300, false, 0.8, 0);
+        byte[] encodedValue = {1, 2, 3};
+        Object cachedValue = new Object();
+        
+        when(localCacheManager.getCache("user")).thenReturn(localCache);
+        when(localCache.get("123")).thenReturn(null);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.get("easywing:user:123")).thenReturn(encodedValue);
+        when(cacheCodec.decode(encodedValue)).thenReturn(cachedValue);
+
+        assertSame(cachedValue, aspect.aroundCache(joinPoint, annotation));
+        verifyNoInteractions(cacheRefresher);
+    }
+
+    @Test
+    @DisplayName("测试后台刷新得到null时保留当前非空值")
+    void testRefreshKeepsValueOnNull() throws Throwable {
+        MultiLevelCache annotation = createAnnotation("user", "#userId", 60, 300, true, 0, 60);
+        byte[] encodedValue = {1, 2, 3};
+        Object cachedValue = new Object();
+        
+        when(localCacheManager.getCache("user")).thenReturn(localCache);
+        when(localCache.get("123")).thenReturn(null);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.get("easywing:user:123")).thenReturn(writtenAgo(encodedValue, 310_000L));
+        when(cacheCodec.decode(encodedValue)).thenReturn(cachedValue);
+        ArgumentCaptor<CacheRefresher.Reload> reload = ArgumentCaptor.forClass(CacheRefresher.Reload.class);
+        when(cacheRefresher.refresh(eq("user"), eq("easywing:user:123"), reload.capture())).thenReturn(true);
+        when(joinPoint.proceed()).thenReturn(null);
+
+        assertSame(cachedValue, aspect.aroundCache(joinPoint, annotation));
+        reload.getValue().run();
+
+        verify(joinPoint).proceed();
+        verify(valueOperations, never()).set(anyString(), any(byte[].class), anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("测试refreshAfter不在(0, 1)区间时拒绝")
+    void testRejectInvalidRefreshAfter() {
+        MultiLevelCache annotation = createAnnotation("user", "#userId", 60, 300, false, 1.5, 0);
+        
+        when(localCacheManager.getCache("user")).thenReturn(localCache);
+        when(localCache.get("123")).thenReturn(null);
+
+        assertThrows(IllegalArgumentException.class, () -> aspect.aroundCache(joinPoint, annotation));
+    }
+
+    private static byte[] writtenAgo(byte[] payload, long ageMillis) {
+        return TimestampedValue.wrap(payload, System.currentTimeMillis() - ageMillis);
+    }
+
+    @SuppressWarnings("unused")
+    private Object findUser(Long userId) {
+        return null;
     }
 
     private MultiLevelCache createAnnotation(String value, String key, int localExpire, int redisExpire, boolean cacheNull) {
+        return createAnnotation(value, key, localExpire, redisExpire, cacheNull, 0, 0);
+    }
+
+    private MultiLevelCache createAnnotation(String value, String key, int localExpire, int redisExpire, boolean cacheNull,
+                                             double refreshAfter, int staleWhileRevalidate) {
         return new MultiLevelCache() {
             @Override
             public String value() {
@@ -205,6 +462,16 @@ class MultiLevelCacheAspectTest {
                 return cacheNull;
             }
 
+            @Override
+            public double refreshAfter() {
+                return refreshAfter;
+            }
+
+            @Override
+            public int staleWhileRevalidate() {
+                return staleWhileRevalidate;
+            }
+
             @Override
             public KeyGenerator keyGenerator() {
                 return KeyGenerator.DEFAULT;
@@ -0,0 +1,147 @@
+/*
+ * Copyright 2024-2026 EasyWing Platform Team.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.easywing.platform.cache.bus;
+
+import com.easywing.platform.cache.properties.CacheProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.redisson.api.RTopic;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * 缓存失效总线测试
+ *
+ * @author EasyWing Team
+ * @since 1.0.0
+ */
+@ExtendWith(MockitoExtension.class)
+class CacheInvalidationBusTest {
+
+    @Mock
+    private RTopic topic;
+
+    private CacheProperties properties;
+    private CacheInvalidationBus bus;
+
+    @BeforeEach
+    void setUp() {
+        properties = new CacheProperties();
+        properties.getBus().setNodeId("node-a");
+        // 使用较长的窗口，由测试显式 flush
+        properties.getBus().setWindow(Duration.ofMinutes(1));
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (bus != null) {
+            bus.destroy();
+        }
+    }
+
+    @Test
+    @DisplayName("测试窗口内的失效合并为一条消息")
+    void testCoalesceWithinWindow() {
+        bus = new CacheInvalidationBus(topic, properties);
+
+        bus.evict("user", "1");
+        bus.evict("user", "2");
+        bus.evict("user", "1");
+        bus.evict("role", "9");
+        verifyNoInteractions(topic);
+        bus.flush();
+
+        InvalidationMessage message = published(1).get(0);
+        assertEquals("node-a", message.node());
+        assertEquals(1L, message.seq());
+        assertEquals(Map.of("user", List.of("1", "2"), "role", List.of("9")), message.evict());
+        assertTrue(message.clear().isEmpty());
+    }
+
+    @Test
+    @DisplayName("测试整体清空覆盖同一缓存的逐key失效")
+    void testClearSupersedesKeys() {
+        bus = new CacheInvalidationBus(topic, properties);
+
+        bus.evict("user", "1");
+        bus.clear("user");
+        bus.evict("user", "2");
+        bus.flush();
+
+        InvalidationMessage message = published(1).get(0);
+        assertEquals(List.of("user"), message.clear());
+        assertTrue(message.evict().isEmpty());
+    }
+
+    @Test
+    @DisplayName("测试达到批量上限时立即发送且序号递增")
+    void testFlushWhenBatchFull() {
+        properties.getBus().setMaxBatchSize(2);
+        bus = new CacheInvalidationBus(topic, properties);
+
+        bus.evict("user", "1");
+        bus.evict("user", "2");
+        bus.evict("user", "3");
+        bus.evict("user", "4");
+
+        List<InvalidationMessage> messages = published(2);
+        assertEquals(List.of(1L, 2L), messages.stream().map(InvalidationMessage::seq).toList());
+        // 同一次启动内的消息带相同的启动时间戳
+        assertTrue(messages.get(0).epoch() > 0);
+        assertEquals(messages.get(0).epoch(), messages.get(1).epoch());
+        assertEquals(List.of("3", "4"), messages.get(1).evict().get("user"));
+    }
+
+    @Test
+    @DisplayName("测试窗口为0时每次失效立即发送")
+    void testZeroWindowPublishesImmediately() {
+        properties.getBus().setWindow(Duration.ZERO);
+        bus = new CacheInvalidationBus(topic, properties);
+
+        bus.evict("user", "1");
+
+        assertEquals(Map.of("user", List.of("1")), published(1).get(0).evict());
+    }
+
+    @Test
+    @DisplayName("测试窗口到期后自动发送")
+    void testScheduledFlush() {
+        properties.getBus().setWindow(Duration.ofMillis(10));
+        bus = new CacheInvalidationBus(topic, properties);
+
+        bus.clear("sys_dict");
+
+        verify(topic, timeout(2000)).publish(anyString());
+    }
+
+    private List<InvalidationMessage> published(int times) {
+        ArgumentCaptor<String> captor = ArgumentCaptor.forClass(String.class);
+        verify(topic, times(times)).publish(captor.capture());
+        return captor.getAllValues().stream().map(InvalidationMessage::parse).toList();
+    }
+}
@@ -0,0 +1,265 @@
+/*
+ * Copyright 2024-2026 EasyWing Platform Team.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.easywing.platform.cache.codec;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.math.BigDecimal;
+import java.net.URI;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 缓存编解码器测试
+ *
+ * @author EasyWing Team
+ * @since 1.0.0
+ */
+class CacheCodecTest {
+
+    static Stream<CacheCodec> codecs() {
+        ObjectMapper base = new ObjectMapper().findAndRegisterModules();
+        return Stream.of(
+                JacksonCacheCodec.json(base, List.of()),
+                JacksonCacheCodec.smile(base, List.of()),
+                JacksonCacheCodec.cbor(base, List.of()),
+                new FuryCacheCodec());
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("codecs")
+    @DisplayName("测试对象编解码后保留原类型")
+    void testRoundTripKeepsType(CacheCodec codec) {
+        User user = sampleUser();
+
+        Object decoded = codec.decode(codec.encode(user));
+
+        User result = assertInstanceOf(User.class, decoded);
+        assertEquals(user, result);
+        assertInstanceOf(Role.class, result.getRoles().get(0));
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("codecs")
+    @DisplayName("测试根值为Long时不退化为Integer")
+    void testRoundTripLong(CacheCodec codec) {
+        assertEquals(123L, codec.decode(codec.encode(123L)));
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("codecs")
+    @DisplayName("测试null值编解码")
+    void testRoundTripNull(CacheCodec codec) {
+        assertNull(codec.decode(codec.encode(null)));
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("codecs")
+    @DisplayName("测试集合元素保留原类型")
+    void testRoundTripList(CacheCodec codec) {
+        List<User> users = new ArrayList<>(List.of(sampleUser(), sampleUser()));
+
+        Object decoded = codec.decode(codec.encode(users));
+
+        List<?> result = assertInstanceOf(List.class, decoded);
+        assertEquals(2, result.size());
+        assertInstanceOf(User.class, result.get(0));
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("codecs")
+    @DisplayName("测试按指定类型解码")
+    void testDecodeWithType(CacheCodec codec) {
+        byte[] bytes = codec.encode(sampleUser());
+
+        assertEquals(sampleUser(), codec.decode(bytes, User.class));
+        assertThrows(CacheCodecException.class, () -> codec.decode(bytes, Role.class));
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("codecs")
+    @DisplayName("测试损坏数据解码抛出CacheCodecException")
+    void testDecodeCorruptData(CacheCodec codec) {
+        assertThrows(CacheCodecException.class, () -> codec.decode(new byte[]{(byte) 0xFF, 0x01, 0x02}));
+    }
+
+    @Test
+    @DisplayName("测试Jackson编解码器拒绝不受信任的类型")
+    void testRejectUntrustedType() {
+        ObjectMapper base = new ObjectMapper();
+        CacheCodec codec = JacksonCacheCodec.smile(base, List.of());
+        byte[] bytes = codec.encode(URI.create("https://example.com"));
+
+        assertThrows(CacheCodecException.class, () -> codec.decode(bytes));
+        assertEquals(URI.create("https://example.com"),
+                JacksonCacheCodec.smile(base, List.of("java.net.")).decode(bytes));
+    }
+
+    @Test
+    @DisplayName("测试Fury编解码器拒绝其他编解码器写入的数据和损坏的内容")
+    void testFuryRejectsForeignPayload() {
+        ObjectMapper base = new ObjectMapper().findAndRegisterModules();
+        FuryCacheCodec fury = new FuryCacheCodec();
+        byte[] json = JacksonCacheCodec.json(base, List.of()).encode(sampleUser());
+        byte[] truncated = Arrays.copyOf(fury.encode(sampleUser()), 4);
+        byte[] corruptBody = {(byte) 0xF7, 1, (byte) 0xFF, 0x01, 0x02};
+
+        assertThrows(CacheCodecException.class, () -> fury.decode(json));
+        assertThrows(CacheCodecException.class, () -> fury.decode(truncated));
+        assertThrows(CacheCodecException.class, () -> fury.decode(corruptBody));
+    }
+
+    @Test
+    @DisplayName("测试二进制格式体积小于JSON")
+    void testBinaryPayloadSmallerThanJson() {
+        ObjectMapper base = new ObjectMapper().findAndRegisterModules();
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            users.add(sampleUser());
+        }
+
+        int json = JacksonCacheCodec.json(base, List.of()).encode(users).length;
+        int smile = JacksonCacheCodec.smile(base, List.of()).encode(users).length;
+
+        assertTrue(smile < json, "smile=" + smile + ", json=" + json);
+    }
+
+    private static User sampleUser() {
+        User user = new User();
+        user.setId(123L);
+        user.setUsername("admin");
+        user.setBalance(new BigDecimal("99.50"));
+        user.setCreateTime(LocalDateTime.of(2024, 1, 1, 12, 0));
+        user.setRoles(new ArrayList<>(List.of(new Role("ADMIN"), new Role("USER"))));
+        Map<String, Object> attributes = new LinkedHashMap<>();
+        attributes.put("deptId", 10L);
+        user.setAttributes(attributes);
+        return user;
+    }
+
+    public static class User {
+        private Long id;
+        private String username;
+        private BigDecimal balance;
+        private LocalDateTime createTime;
+        private List<Role> roles;
+        private Map<String, Object> attributes;
+
+        public Long getId() {
+            return id;
+        }
+
+        public void setId(Long id) {
+            this.id = id;
+        }
+
+        public String getUsername() {
+            return username;
+        }
+
+        public void setUsername(String username) {
+            this.username = username;
+        }
+
+        public BigDecimal getBalance() {
+            return balance;
+        }
+
+        public void setBalance(BigDecimal balance) {
+            this.balance = balance;
+        }
+
+        public LocalDateTime getCreateTime() {
+            return createTime;
+        }
+
+        public void setCreateTime(LocalDateTime createTime) {
+            this.createTime = createTime;
+        }
+
+        public List<Role> getRoles() {
+            return roles;
+        }
+
+        public void setRoles(List<Role> roles) {
+            this.roles = roles;
+        }
+
+        public Map<String, Object> getAttributes() {
+            return attributes;
+        }
+
+        public void setAttributes(Map<String, Object> attributes) {
+            this.attributes = attributes;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof User other)) {
+                return false;
+            }
+            return Objects.equals(id, other.id) && Objects.equals(username, other.username)
+                    && Objects.equals(balance, other.balance) && Objects.equals(createTime, other.createTime)
+                    && Objects.equals(roles, other.roles) && Objects.equals(attributes, other.attributes);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(id, username);
+        }
+    }
+
+    public static class Role {
+        private String code;
+
+        public Role() {
+        }
+
+        Role(String code) {
+            this.code = code;
+        }
+
+        public String getCode() {
+            return code;
+        }
+
+        public void setCode(String code) {
+            this.code = code;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Role other && Objects.equals(code, other.code);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hashCode(code);
+        }
+    }
+}
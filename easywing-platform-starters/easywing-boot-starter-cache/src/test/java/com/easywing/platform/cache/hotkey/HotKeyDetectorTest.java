@@ -0,0 +1,118 @@
+/*
+ * Copyright 2024-2026 EasyWing Platform Team.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.easywing.platform.cache.hotkey;
+
+import com.easywing.platform.cache.properties.CacheProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 热点key探测器测试
+ *
+ * @author EasyWing Team
+ * @since 1.0.0
+ */
+class HotKeyDetectorTest {
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private HotKeyDetector detector;
+
+    @BeforeEach
+    void setUp() {
+        CacheProperties properties = new CacheProperties();
+        properties.getHotKey().setThreshold(3);
+        properties.getHotKey().setDecayInterval(Duration.ofHours(1));
+        meterRegistry = new SimpleMeterRegistry();
+        detector = new HotKeyDetector(properties, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("测试达到阈值后提升为热点")
+    void testPromote() {
+        detector.recordRedisHit("user", "1", "a");
+        detector.recordRedisHit("user", "1", "a");
+        assertNull(detector.get("user", "1"));
+
+        detector.recordRedisHit("user", "1", "a");
+        detector.recordRedisHit("user", "2", "b");
+
+        Cache.ValueWrapper hot = detector.get("user", "1");
+        assertNotNull(hot);
+        assertEquals("a", hot.get());
+        assertNull(detector.get("user", "2"));
+        assertEquals(1.0, meterRegistry.counter(HotKeyDetector.PROMOTION_METER, "cache", "user").count());
+
+        List<HotKeyDetector.HotKey> hotKeys = detector.hotKeys();
+        assertEquals(1, hotKeys.size());
+        assertEquals("user", hotKeys.get(0).cacheName());
+        assertEquals("1", hotKeys.get(0).key());
+        assertTrue(hotKeys.get(0).estimatedFrequency() >= 4);
+    }
+
+    @Test
+    @DisplayName("测试热点缓存空值")
+    void testPromoteNull() {
+        for (int i = 0; i < 3; i++) {
+            detector.recordRedisHit("user", "404", null);
+        }
+
+        Cache.ValueWrapper hot = detector.get("user", "404");
+        assertNotNull(hot);
+        assertNull(hot.get());
+    }
+
+    @Test
+    @DisplayName("测试本地缓存失效和清空同步作用于热点缓存")
+    void testInvalidation() {
+        for (int i = 0; i < 3; i++) {
+            detector.recordRedisHit("user", "1", "a");
+            detector.recordRedisHit("user", "2", "b");
+            detector.recordRedisHit("dict", "1", "c");
+        }
+
+        detector.onEvict("user", "1");
+        assertNull(detector.get("user", "1"));
+        assertNotNull(detector.get("user", "2"));
+
+        detector.onClear("user");
+        assertNull(detector.get("user", "2"));
+        assertNotNull(detector.get("dict", "1"));
+    }
+
+    @Test
+    @DisplayName("测试频率草图衰减")
+    void testSketchHalve() {
+        FrequencySketch sketch = new FrequencySketch(64);
+        for (int i = 0; i < 10; i++) {
+            sketch.increment("hot");
+        }
+        sketch.increment("cold");
+
+        assertTrue(sketch.estimate("hot") >= 10);
+        sketch.halve();
+        assertTrue(sketch.estimate("hot") >= 5 && sketch.estimate("hot") < 10);
+        assertTrue(sketch.estimate("cold") <= sketch.estimate("hot"));
+    }
+}
@@ -0,0 +1,157 @@
+/*
+ * Copyright 2024-2026 EasyWing Platform Team.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.easywing.platform.cache.listener;
+
+import com.easywing.platform.cache.bus.InvalidationMessage;
+import com.easywing.platform.cache.namespace.CacheNamespace;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.mockito.Mockito.*;
+
+/**
+ * 缓存清理监听器测试
+ *
+ * @author EasyWing Team
+ * @since 1.0.0
+ */
+@ExtendWith(MockitoExtension.class)
+class CacheEvictListenerTest {
+
+    @Mock
+    private CacheManager localCacheManager;
+
+    @Mock
+    private CacheNamespace cacheNamespace;
+
+    @Mock
+    private Cache userCache;
+
+    @Mock
+    private Cache dictCache;
+
+    private CacheEvictListener listener;
+
+    @BeforeEach
+    void setUp() {
+        listener = new CacheEvictListener(localCacheManager, cacheNamespace, "node-a");
+    }
+
+    @Test
+    @DisplayName("测试跳过本节点发出的消息")
+    void testSkipOwnMessage() {
+        listener.onMessage("cache:evict", message("node-a", 1, List.of(), Map.of("user", List.of("1"))));
+
+        verifyNoInteractions(localCacheManager, cacheNamespace);
+    }
+
+    @Test
+    @DisplayName("测试应用批量失效消息")
+    void testApplyBatch() {
+        when(localCacheManager.getCache("user")).thenReturn(userCache);
+        when(localCacheManager.getCache("sys_dict")).thenReturn(dictCache);
+
+        listener.onMessage("cache:evict",
+                message("node-b", 1, List.of("sys_dict"), Map.of("user", List.of("1", "2"))));
+
+        verify(userCache).evict("1");
+        verify(userCache).evict("2");
+        verify(dictCache).clear();
+        verify(cacheNamespace).refresh("sys_dict");
+    }
+
+    @Test
+    @DisplayName("测试序号出现缺口时清空全部本地缓存")
+    void testFlushOnSequenceGap() {
+        when(localCacheManager.getCache("user")).thenReturn(userCache);
+        when(localCacheManager.getCache("sys_dict")).thenReturn(dictCache);
+        when(localCacheManager.getCacheNames()).thenReturn(Set.of("user", "sys_dict"));
+        when(cacheNamespace.knownCacheNames()).thenReturn(Set.of("user"));
+
+        listener.onMessage("cache:evict", message("node-b", 1, List.of(), Map.of("user", List.of("1"))));
+        listener.onMessage("cache:evict", message("node-b", 3, List.of(), Map.of("user", List.of("2"))));
+
+        verify(userCache).evict("1");
+        verify(userCache, never()).evict("2");
+        verify(userCache).clear();
+        verify(dictCache).clear();
+        verify(cacheNamespace).refresh("user");
+    }
+
+    @Test
+    @DisplayName("测试连续序号不触发清空")
+    void testConsecutiveSequence() {
+        when(localCacheManager.getCache("user")).thenReturn(userCache);
+
+        listener.onMessage("cache:evict", message("node-b", 1, List.of(), Map.of("user", List.of("1"))));
+        listener.onMessage("cache:evict", message("node-b", 2, List.of(), Map.of("user", List.of("2"))));
+
+        verify(userCache).evict("1");
+        verify(userCache).evict("2");
+        verify(userCache, never()).clear();
+    }
+
+    @Test
+    @DisplayName("测试发送节点重启后重置序号并清空全部本地缓存")
+    void testFlushOnNodeRestart() {
+        when(localCacheManager.getCache("user")).thenReturn(userCache);
+        when(localCacheManager.getCacheNames()).thenReturn(Set.of("user"));
+        when(cacheNamespace.knownCacheNames()).thenReturn(Set.of("user"));
+
+        listener.onMessage("cache:evict", message("node-b", 1000L, 5, List.of(), Map.of("user", List.of("1"))));
+        // 重启后序号从1开始，且重启期间的消息可能已丢失
+        listener.onMessage("cache:evict", message("node-b", 2000L, 1, List.of(), Map.of("user", List.of("2"))));
+        listener.onMessage("cache:evict", message("node-b", 2000L, 2, List.of(), Map.of("user", List.of("3"))));
+
+        verify(userCache).evict("1");
+        verify(userCache, never()).evict("2");
+        verify(userCache).evict("3");
+        verify(userCache, times(1)).clear();
+        verify(cacheNamespace).refresh("user");
+    }
+
+    @Test
+    @DisplayName("测试兼容旧版本纯文本消息")
+    void testLegacyMessage() {
+        when(localCacheManager.getCache("user")).thenReturn(userCache);
+
+        listener.onMessage("cache:evict", "user:1");
+        listener.onMessage("cache:evict", "user:*");
+
+        verify(userCache).evict("1");
+        verify(userCache).clear();
+        verify(cacheNamespace).refresh("user");
+    }
+
+    private String message(String node, long seq, List<String> clear, Map<String, List<String>> evict) {
+        return message(node, 1000L, seq, clear, evict);
+    }
+
+    private String message(String node, long epoch, long seq, List<String> clear,
+                           Map<String, List<String>> evict) {
+        return new InvalidationMessage(node, epoch, seq, clear, evict).toJson();
+    }
+}
@@ -0,0 +1,150 @@
+/*
+ * Copyright 2024-2026 EasyWing Platform Team.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.easywing.platform.cache.loader;
+
+import com.easywing.platform.cache.properties.CacheProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 缓存后台刷新器测试
+ *
+ * @author EasyWing Team
+ * @since 1.0.0
+ */
+class CacheRefresherTest {
+
+    private CacheProperties properties;
+    private SimpleMeterRegistry registry;
+    private CacheRefresher refresher;
+
+    @BeforeEach
+    void setUp() {
+        properties = new CacheProperties();
+        registry = new SimpleMeterRegistry();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (refresher != null) {
+            refresher.destroy();
+        }
+    }
+
+    @Test
+    @DisplayName("测试同一key同时只有一个刷新任务")
+    void testDeduplicateSameKey() throws Exception {
+        refresher = new CacheRefresher(properties, registry);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(1);
+        AtomicInteger reloads = new AtomicInteger();
+
+        assertTrue(refresher.refresh("user", "easywing:user:1", () -> {
+            reloads.incrementAndGet();
+            release.await();
+            done.countDown();
+        }));
+        assertFalse(refresher.refresh("user", "easywing:user:1", reloads::incrementAndGet));
+        assertEquals(1, refresher.inFlightCount());
+
+        release.countDown();
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        awaitIdle();
+        assertEquals(1, reloads.get());
+        assertEquals(1.0, registry.get(CacheRefresher.REFRESH_METER).tag("result", "success").counter().count());
+    }
+
+    @Test
+    @DisplayName("测试刷新失败后释放key并记录指标")
+    void testFailureReleasesKey() throws Exception {
+        refresher = new CacheRefresher(properties, registry);
+
+        assertTrue(refresher.refresh("user", "easywing:user:1", () -> {
+            throw new IllegalStateException("db down");
+        }));
+        awaitIdle();
+
+        assertEquals(1.0, registry.get(CacheRefresher.REFRESH_METER).tag("result", "failure").counter().count());
+        assertTrue(refresher.refresh("user", "easywing:user:1", () -> { }));
+    }
+
+    @Test
+    @DisplayName("测试队列已满时拒绝刷新任务")
+    void testRejectWhenQueueFull() throws Exception {
+        properties.getRefresh().setCorePoolSize(1);
+        properties.getRefresh().setMaxPoolSize(1);
+        properties.getRefresh().setQueueCapacity(1);
+        refresher = new CacheRefresher(properties, registry);
+        CountDownLatch release = new CountDownLatch(1);
+
+        assertTrue(refresher.refresh("user", "easywing:user:1", release::await));
+        assertTrue(refresher.refresh("user", "easywing:user:2", release::await));
+        assertFalse(refresher.refresh("user", "easywing:user:3", release::await));
+
+        assertEquals(1.0, registry.get(CacheRefresher.REFRESH_METER).tag("result", "rejected").counter().count());
+        assertEquals(2, refresher.inFlightCount());
+        release.countDown();
+    }
+
+    @Test
+    @DisplayName("测试在提交线程上捕获上下文并在刷新线程上恢复")
+    void testTaskDecoratorPropagatesContext() throws Exception {
+        ThreadLocal<String> tenant = new ThreadLocal<>();
+        refresher = new CacheRefresher(properties, registry, task -> {
+            String captured = tenant.get();
+            return () -> {
+                tenant.set(captured);
+                try {
+                    task.run();
+                } finally {
+                    tenant.remove();
+                }
+            };
+        });
+        AtomicReference<String> seen = new AtomicReference<>();
+        CountDownLatch done = new CountDownLatch(1);
+
+        tenant.set("t1");
+        try {
+            assertTrue(refresher.refresh("user", "easywing:user:1", () -> {
+                seen.set(tenant.get());
+                done.countDown();
+            }));
+        } finally {
+            tenant.remove();
+        }
+
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        assertEquals("t1", seen.get());
+    }
+
+    private void awaitIdle() throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (refresher.inFlightCount() > 0 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+}
@@ -0,0 +1,210 @@
+/*
+ * Copyright 2024-2026 EasyWing Platform Team.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.easywing.platform.cache.loader;
+
+import com.easywing.platform.cache.properties.CacheProperties;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.support.SimpleValueWrapper;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * 合并加载器测试
+ *
+ * @author EasyWing Team
+ * @since 1.0.0
+ */
+@ExtendWith(MockitoExtension.class)
+class SingleFlightLoaderTest {
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    private CacheProperties properties;
+    private SimpleMeterRegistry registry;
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        properties = new CacheProperties();
+        registry = new SimpleMeterRegistry();
+        executor = Executors.newFixedThreadPool(8);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("测试并发未命中只加载一次")
+    void testConcurrentMissesLoadOnce() throws Exception {
+        SingleFlightLoader loader = new SingleFlightLoader(properties, redisTemplate, registry);
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        SingleFlightLoader.Loader slowLoad = () -> {
+            loads.incrementAndGet();
+            release.await(5, TimeUnit.SECONDS);
+            return "user-123";
+        };
+
+        List<Future<Object>> results = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            results.add(executor.submit(() -> {
+                try {
+                    return loader.load("user", "easywing:user:123", slowLoad, () -> null);
+                } catch (Throwable t) {
+                    throw new IllegalStateException(t);
+                }
+            }));
+        }
+        // 等待所有调用者进入合并等待
+        while (loads.get() == 0) {
+            Thread.sleep(5);
+        }
+        Thread.sleep(100);
+        release.countDown();
+
+        for (Future<Object> result : results) {
+            assertEquals("user-123", result.get(5, TimeUnit.SECONDS));
+        }
+        assertEquals(1, loads.get());
+        assertEquals(0, loader.inFlightCount());
+        DistributionSummary stampede = registry.get(SingleFlightLoader.STAMPEDE_METER).tag("cache", "user").summary();
+        assertEquals(1, stampede.count());
+        assertEquals(8.0, stampede.totalAmount());
+    }
+
+    @Test
+    @DisplayName("测试加载异常传递给等待者")
+    void testFailurePropagatesToFollowers() throws Exception {
+        SingleFlightLoader loader = new SingleFlightLoader(properties, redisTemplate, registry);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        Future<Object> leader = executor.submit(() -> {
+            try {
+                return loader.load("user", "easywing:user:1", () -> {
+                    started.countDown();
+                    release.await(5, TimeUnit.SECONDS);
+                    throw new IllegalStateException("db down");
+                }, () -> null);
+            } catch (Throwable t) {
+                return t;
+            }
+        });
+        started.await(5, TimeUnit.SECONDS);
+        Future<Object> follower = executor.submit(() -> {
+            try {
+                return loader.load("user", "easywing:user:1", () -> "unexpected", () -> null);
+            } catch (Throwable t) {
+                return t;
+            }
+        });
+        Thread.sleep(100);
+        release.countDown();
+
+        assertInstanceOf(IllegalStateException.class, leader.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(IllegalStateException.class, follower.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    @DisplayName("测试等待超时后自行加载")
+    void testWaitTimeoutFallsBack() throws Throwable {
+        properties.getSingleFlight().setWaitTimeout(Duration.ofMillis(50));
+        SingleFlightLoader loader = new SingleFlightLoader(properties, redisTemplate, registry);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        executor.submit(() -> {
+            try {
+                return loader.load("user", "easywing:user:2", () -> {
+                    started.countDown();
+                    release.await(5, TimeUnit.SECONDS);
+                    return "slow";
+                }, () -> null);
+            } catch (Throwable t) {
+                return t;
+            }
+        });
+        started.await(5, TimeUnit.SECONDS);
+
+        assertEquals("fast", loader.load("user", "easywing:user:2", () -> "fast", () -> null));
+        release.countDown();
+        assertEquals(1.0, registry.get(SingleFlightLoader.FALLBACK_METER)
+                .tag("cache", "user").tag("reason", "wait-timeout").counter().count());
+    }
+
+    @Test
+    @DisplayName("测试租约被其他节点持有时等待回填")
+    void testLeaseHeldElsewhereWaitsForBackfill() throws Throwable {
+        properties.getSingleFlight().getLease().setEnabled(true);
+        properties.getSingleFlight().getLease().setPollInterval(Duration.ofMillis(5));
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.setIfAbsent(eq("cache:lease:easywing:user:3"), anyString(), any(Duration.class)))
+                .thenReturn(false);
+        SingleFlightLoader loader = new SingleFlightLoader(properties, redisTemplate, registry);
+        AtomicInteger polls = new AtomicInteger();
+
+        Object value = loader.load("user", "easywing:user:3", () -> fail("should not load"),
+                () -> polls.incrementAndGet() < 3 ? null : new SimpleValueWrapper("from-other-node"));
+
+        assertEquals("from-other-node", value);
+        assertEquals(3, polls.get());
+    }
+
+    @Test
+    @DisplayName("测试租约等待超时后自行加载")
+    void testLeaseTimeoutFallsBack() throws Throwable {
+        properties.getSingleFlight().getLease().setEnabled(true);
+        properties.getSingleFlight().getLease().setWaitTime(Duration.ofMillis(30));
+        properties.getSingleFlight().getLease().setPollInterval(Duration.ofMillis(5));
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class))).thenReturn(false);
+        SingleFlightLoader loader = new SingleFlightLoader(properties, redisTemplate, registry);
+
+        assertEquals("loaded", loader.load("user", "easywing:user:4", () -> "loaded", () -> null));
+        assertEquals(1.0, registry.get(SingleFlightLoader.FALLBACK_METER)
+                .tag("cache", "user").tag("reason", "lease-timeout").counter().count());
+    }
+}
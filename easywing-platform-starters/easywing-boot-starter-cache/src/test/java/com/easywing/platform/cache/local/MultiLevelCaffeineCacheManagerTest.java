@@ -0,0 +1,235 @@
+/*
+ * Copyright 2024-2026 EasyWing Platform Team.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.easywing.platform.cache.local;
+
+import com.easywing.platform.cache.codec.JacksonCacheCodec;
+import com.easywing.platform.cache.properties.CacheProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Policy;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * 按缓存名称独立配置的本地缓存管理器测试
+ *
+ * @author EasyWing Team
+ * @since 1.0.0
+ */
+class MultiLevelCaffeineCacheManagerTest {
+
+    private CacheProperties properties;
+    private MultiLevelCaffeineCacheManager cacheManager;
+
+    @BeforeEach
+    void setUp() {
+        properties = new CacheProperties();
+        cacheManager = new MultiLevelCaffeineCacheManager(properties,
+                JacksonCacheCodec.json(new ObjectMapper(), List.of()));
+    }
+
+    @Test
+    @DisplayName("测试各缓存使用独立的容量与过期时间")
+    void testPerCacheSpec() {
+        CacheProperties.CacheTtlConfig userConfig = new CacheProperties.CacheTtlConfig();
+        userConfig.setLocalExpire(30);
+        userConfig.setLocalMaximumSize(500L);
+        properties.getCaches().put("user", userConfig);
+
+        com.github.benmanes.caffeine.cache.Cache<Object, Object> user = nativeCache("user");
+        com.github.benmanes.caffeine.cache.Cache<Object, Object> dict = nativeCache("sys_dict");
+
+        assertEquals(500L, user.policy().eviction().orElseThrow().getMaximum());
+        assertEquals(10000L, dict.policy().eviction().orElseThrow().getMaximum());
+        user.put("1", "a");
+        dict.put("1", "a");
+        assertEquals(Duration.ofSeconds(30), expiresAfter(user, "1"));
+        assertEquals(Duration.ofMinutes(1), expiresAfter(dict, "1"));
+    }
+
+    @Test
+    @DisplayName("测试按条目指定过期时间")
+    void testPutWithEntryTtl() {
+        Cache cache = cacheManager.getCache("user");
+
+        MultiLevelCaffeineCacheManager.put(cache, "1", "a", 5);
+        MultiLevelCaffeineCacheManager.put(cache, "2", "b", 0);
+
+        com.github.benmanes.caffeine.cache.Cache<Object, Object> nativeCache = nativeCache("user");
+        assertEquals(Duration.ofSeconds(5), expiresAfter(nativeCache, "1"));
+        assertEquals(Duration.ofMinutes(1), expiresAfter(nativeCache, "2"));
+        assertEquals("a", cache.get("1").get());
+    }
+
+    @Test
+    @DisplayName("测试按条目过期时支持null值")
+    void testPutNullWithEntryTtl() {
+        Cache cache = cacheManager.getCache("user");
+
+        MultiLevelCaffeineCacheManager.put(cache, "1", null, 5);
+
+        Cache.ValueWrapper wrapper = cache.get("1");
+        assertNotNull(wrapper);
+        assertNull(wrapper.get());
+    }
+
+    @Test
+    @DisplayName("测试按字节限制容量")
+    void testMaximumWeight() {
+        CacheProperties.CacheTtlConfig dictConfig = new CacheProperties.CacheTtlConfig();
+        dictConfig.setLocalMaximumWeight(DataSize.ofKilobytes(64));
+        properties.getCaches().put("sys_dict", dictConfig);
+
+        com.github.benmanes.caffeine.cache.Cache<Object, Object> dict = nativeCache("sys_dict");
+        dict.put("1", "x".repeat(100));
+
+        Policy.Eviction<Object, Object> eviction = dict.policy().eviction().orElseThrow();
+        assertTrue(eviction.isWeighted());
+        assertEquals(64 * 1024L, eviction.getMaximum());
+        assertTrue(eviction.weightOf("1").orElseThrow() > 100);
+    }
+
+    @Test
+    @DisplayName("测试配置访问后过期时退化为固定过期策略")
+    void testExpireAfterAccessDisablesVariableExpiry() {
+        properties.getCaffeine().setExpireAfterAccess(Duration.ofSeconds(10));
+        Cache cache = cacheManager.getCache("user");
+
+        MultiLevelCaffeineCacheManager.put(cache, "1", "a", 5);
+
+        com.github.benmanes.caffeine.cache.Cache<Object, Object> nativeCache = nativeCache("user");
+        assertTrue(nativeCache.policy().expireVariably().isEmpty());
+        assertTrue(nativeCache.policy().expireAfterAccess().isPresent());
+        assertEquals("a", cache.get("1").get());
+    }
+
+    @Test
+    @DisplayName("测试非Caffeine缓存退化为普通写入")
+    void testPutFallsBackForOtherCaches() {
+        Cache cache = mock(Cache.class);
+
+        MultiLevelCaffeineCacheManager.put(cache, "1", "a", 5);
+
+        verify(cache).put("1", "a");
+    }
+
+    @Test
+    @DisplayName("测试失效、覆盖和清空时通知监听器")
+    void testInvalidationListener() {
+        LocalInvalidationListener listener = mock(LocalInvalidationListener.class);
+        cacheManager.addInvalidationListener(listener);
+        Cache cache = cacheManager.getCache("user");
+
+        MultiLevelCaffeineCacheManager.put(cache, "1", "a", 5);
+        cache.evict("2");
+        cache.clear();
+
+        verify(listener).onEvict("user", "1");
+        verify(listener).onEvict("user", "2");
+        verify(listener).onClear("user");
+    }
+
+    @Test
+    @DisplayName("测试读取Redis期间未发生失效时正常回填")
+    void testBackfillWithoutInvalidation() {
+        Cache cache = cacheManager.getCache("user");
+
+        long epoch = MultiLevelCaffeineCacheManager.invalidationEpoch(cache, "1");
+        cache.evict("2");
+
+        assertTrue(MultiLevelCaffeineCacheManager.backfill(cache, "1", "a", 5, epoch));
+        assertEquals("a", cache.get("1").get());
+        assertEquals(Duration.ofSeconds(5), expiresAfter(nativeCache("user"), "1"));
+    }
+
+    @Test
+    @DisplayName("测试读取Redis期间条目被失效、覆盖或缓存被清空时放弃回填")
+    void testBackfillAfterInvalidation() {
+        Cache cache = cacheManager.getCache("user");
+
+        long epoch = MultiLevelCaffeineCacheManager.invalidationEpoch(cache, "1");
+        cache.evict("1");
+        assertFalse(MultiLevelCaffeineCacheManager.backfill(cache, "1", "old", 5, epoch));
+        assertNull(cache.get("1"));
+
+        epoch = MultiLevelCaffeineCacheManager.invalidationEpoch(cache, "1");
+        MultiLevelCaffeineCacheManager.put(cache, "1", "new", 5);
+        assertFalse(MultiLevelCaffeineCacheManager.backfill(cache, "1", "old", 5, epoch));
+        assertEquals("new", cache.get("1").get());
+
+        epoch = MultiLevelCaffeineCacheManager.invalidationEpoch(cache, "1");
+        cache.clear();
+        assertFalse(MultiLevelCaffeineCacheManager.backfill(cache, "1", "old", 5, epoch));
+        assertNull(cache.get("1"));
+    }
+
+    @Test
+    @DisplayName("测试失效发生在回填检查与写入之间时撤回回填，不影响期间写入的新值")
+    void testInvalidationBetweenCheckAndWrite() {
+        MultiLevelCaffeineCacheManager.ListeningCaffeineCache cache =
+                (MultiLevelCaffeineCacheManager.ListeningCaffeineCache) cacheManager.getCache("user");
+        // 回填写入后同步回调监听器，在此模拟失效方已推进版本号但尚未移除条目
+        AtomicReference<Runnable> onWrite = new AtomicReference<>();
+        cacheManager.addInvalidationListener(new LocalInvalidationListener() {
+            @Override
+            public void onEvict(String cacheName, Object key) {
+                Runnable action = onWrite.getAndSet(null);
+                if (action != null) {
+                    action.run();
+                }
+            }
+
+            @Override
+            public void onClear(String cacheName) {
+            }
+        });
+
+        onWrite.set(() -> cache.advanceEpoch("1"));
+        long epoch = MultiLevelCaffeineCacheManager.invalidationEpoch(cache, "1");
+        assertFalse(MultiLevelCaffeineCacheManager.backfill(cache, "1", "old", 5, epoch));
+        assertNull(cache.get("1"));
+
+        onWrite.set(() -> {
+            cache.advanceEpoch("1");
+            cache.getNativeCache().put("1", "new");
+        });
+        epoch = MultiLevelCaffeineCacheManager.invalidationEpoch(cache, "1");
+        assertFalse(MultiLevelCaffeineCacheManager.backfill(cache, "1", "old", 5, epoch));
+        assertEquals("new", cache.get("1").get());
+    }
+
+    private com.github.benmanes.caffeine.cache.Cache<Object, Object> nativeCache(String name) {
+        return ((CaffeineCache) cacheManager.getCache(name)).getNativeCache();
+    }
+
+    private Duration expiresAfter(com.github.benmanes.caffeine.cache.Cache<Object, Object> cache, Object key) {
+        long nanos = cache.policy().expireVariably().orElseThrow().getExpiresAfter(key, TimeUnit.NANOSECONDS)
+                .orElseThrow();
+        // 写入后已经过的时间可忽略，向上取整到秒
+        return Duration.ofSeconds((nanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1));
+    }
+}
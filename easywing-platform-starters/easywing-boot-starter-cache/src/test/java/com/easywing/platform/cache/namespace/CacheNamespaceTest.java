@@ -0,0 +1,115 @@
+/*
+ * Copyright 2024-2026 EasyWing Platform Team.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.easywing.platform.cache.namespace;
+
+import com.easywing.platform.cache.properties.CacheProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * 带版本号的缓存命名空间测试
+ *
+ * @author EasyWing Team
+ * @since 1.0.0
+ */
+@ExtendWith(MockitoExtension.class)
+class CacheNamespaceTest {
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    private CacheProperties properties;
+    private CacheNamespace namespace;
+
+    @BeforeEach
+    void setUp() {
+        properties = new CacheProperties();
+        properties.getNamespace().setGenerationCheckInterval(Duration.ofMinutes(1));
+        namespace = new CacheNamespace(redisTemplate, properties);
+    }
+
+    @Test
+    @DisplayName("测试版本为0时保持原有key格式")
+    void testGenerationZeroKeepsLegacyFormat() {
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.get("easywing:cache:gen:user")).thenReturn(null);
+
+        assertEquals("easywing:user:123", namespace.fullKey("user", "123"));
+    }
+
+    @Test
+    @DisplayName("测试清空缓存只递增版本号且本地立即生效")
+    void testInvalidateIncrementsGeneration() {
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.get("easywing:cache:gen:user")).thenReturn("2");
+        when(valueOperations.increment("easywing:cache:gen:user")).thenReturn(3L);
+
+        assertEquals("easywing:user#2:123", namespace.fullKey("user", "123"));
+        assertEquals(3L, namespace.invalidate("user"));
+        assertEquals("easywing:user#3:123", namespace.fullKey("user", "123"));
+        verify(redisTemplate, never()).keys(anyString());
+        verify(valueOperations, times(1)).get("easywing:cache:gen:user");
+    }
+
+    @Test
+    @DisplayName("测试清空父缓存使子缓存同时失效")
+    void testParentInvalidationCascades() {
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.get("easywing:cache:gen:user:username")).thenReturn(null);
+        when(valueOperations.get("easywing:cache:gen:user")).thenReturn(null);
+        when(valueOperations.increment("easywing:cache:gen:user")).thenReturn(1L);
+
+        assertEquals("easywing:user:username:admin", namespace.fullKey("user:username", "admin"));
+        namespace.invalidate("user");
+        assertEquals("easywing:user:username#1:admin", namespace.fullKey("user:username", "admin"));
+    }
+
+    @Test
+    @DisplayName("测试收到广播后重新读取版本号")
+    void testRefreshRereadsGeneration() {
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.get("easywing:cache:gen:dict")).thenReturn("1", "4");
+
+        assertEquals(1L, namespace.version("dict"));
+        assertEquals(1L, namespace.version("dict"));
+        namespace.refresh("dict");
+        assertEquals(4L, namespace.version("dict"));
+    }
+
+    @Test
+    @DisplayName("测试清理器只判定旧版本key为过期")
+    void testReaperStaleDetection() {
+        String base = "easywing:user#";
+        assertTrue(CacheNamespaceReaper.isStale("easywing:user#2:123", base.length(), 3));
+        assertFalse(CacheNamespaceReaper.isStale("easywing:user#3:123", base.length(), 3));
+        assertFalse(CacheNamespaceReaper.isStale("easywing:user#x:123", base.length(), 3));
+        assertFalse(CacheNamespaceReaper.isStale("easywing:user#", base.length(), 3));
+    }
+}
@@ -0,0 +1,166 @@
+/*
+ * Copyright 2024-2026 EasyWing Platform Team.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.easywing.platform.cache.protector;
+
+import com.easywing.platform.cache.codec.CacheCodec;
+import com.easywing.platform.cache.properties.CacheProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.redisson.api.RTopic;
+import org.redisson.api.RedissonClient;
+import org.redisson.api.listener.MessageListener;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * 缓存保护器布隆过滤器快照测试
+ *
+ * @author EasyWing Team
+ * @since 1.0.0
+ */
+@ExtendWith(MockitoExtension.class)
+class CacheProtectorTest {
+
+    private static final String SNAPSHOT_KEY = "cache:bloom:snapshot:user";
+
+    @Mock
+    private RedissonClient redissonClient;
+
+    @Mock
+    private RTopic bloomTopic;
+
+    @Mock
+    private RedisTemplate<String, byte[]> redisTemplate;
+
+    @Mock
+    private RedisOperations<String, byte[]> operations;
+
+    @Mock
+    private ValueOperations<String, byte[]> valueOperations;
+
+    @Mock
+    private ValueOperations<String, byte[]> rebuildOperations;
+
+    @Mock
+    private CacheCodec cacheCodec;
+
+    private CacheProtector protector;
+
+    @BeforeEach
+    void setUp() {
+        CacheProperties properties = new CacheProperties();
+        // 不启动定时同步，由测试直接调用
+        properties.getBloom().setSnapshotInterval(Duration.ZERO);
+        when(redissonClient.getTopic("cache:bloom:add")).thenReturn(bloomTopic);
+        protector = new CacheProtector(redissonClient, redisTemplate, cacheCodec, properties);
+    }
+
+    @Test
+    @DisplayName("测试构造时不订阅主题，初始化后订阅并接收其他节点的新增")
+    @SuppressWarnings("unchecked")
+    void testSubscribeOnInitialization() {
+        verifyNoInteractions(bloomTopic);
+
+        protector.afterPropertiesSet();
+
+        ArgumentCaptor<MessageListener<String>> listener = ArgumentCaptor.forClass(MessageListener.class);
+        verify(bloomTopic).addListener(eq(String.class), listener.capture());
+        rebuild();
+        assertFalse(protector.mightContain("user", "2"));
+        listener.getValue().onMessage("cache:bloom:add", "user\n2");
+        assertTrue(protector.mightContain("user", "2"));
+    }
+
+    @Test
+    @DisplayName("测试快照在读取后被其他节点修改时重新合并再写回")
+    void testSyncRetriesOnConcurrentWrite() {
+        ScalableBloomFilter remote = new ScalableBloomFilter(1000, 0.01);
+        remote.put("2");
+        stubSession();
+        when(valueOperations.get(SNAPSHOT_KEY)).thenReturn(null, remote.toByteArray());
+        // 第一次事务因WATCH的快照被修改而放弃
+        when(operations.exec()).thenReturn(List.of(), List.of(true));
+        rebuild();
+
+        protector.syncBloomFilters();
+
+        verify(operations, times(2)).watch(SNAPSHOT_KEY);
+        ArgumentCaptor<byte[]> written = ArgumentCaptor.forClass(byte[].class);
+        verify(valueOperations, times(2)).set(eq(SNAPSHOT_KEY), written.capture());
+        ScalableBloomFilter merged = ScalableBloomFilter.fromByteArray(written.getValue());
+        assertTrue(merged.mightContain("1"));
+        assertTrue(merged.mightContain("2"));
+    }
+
+    @Test
+    @DisplayName("测试快照配置与本地不一致时不覆盖快照，本地过滤器不再拒绝")
+    void testSyncSkipsIncompatibleSnapshot() {
+        ScalableBloomFilter rebuilt = new ScalableBloomFilter(5000, 0.001);
+        rebuilt.put("2");
+        stubSession();
+        when(valueOperations.get(SNAPSHOT_KEY)).thenReturn(rebuilt.toByteArray());
+        rebuild();
+        assertFalse(protector.mightContain("user", "absent"));
+
+        protector.syncBloomFilters();
+
+        verify(operations).unwatch();
+        verify(operations, never()).multi();
+        verify(valueOperations, never()).set(any(), any());
+        assertTrue(protector.mightContain("user", "absent"));
+    }
+
+    @Test
+    @DisplayName("测试未加载快照的过滤器不写回")
+    void testSyncSkipsIncompleteFilter() {
+        stubSession();
+        protector.addToBloomFilter("user", "1");
+
+        protector.syncBloomFilters();
+
+        verify(operations).unwatch();
+        verify(valueOperations, never()).set(any(), any());
+    }
+
+    private void rebuild() {
+        // 重建直接覆盖快照，使用单独的操作对象与同步写回区分开
+        when(redisTemplate.opsForValue()).thenReturn(rebuildOperations);
+        protector.rebuildBloomFilter("user", 1000, 0.01, Stream.of("1"));
+    }
+
+    @SuppressWarnings("unchecked")
+    private void stubSession() {
+        when(redisTemplate.execute(any(SessionCallback.class)))
+                .thenAnswer(invocation -> ((SessionCallback<Object>) invocation.getArgument(0)).execute(operations));
+        when(operations.opsForValue()).thenReturn(valueOperations);
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright 2024-2026 EasyWing Platform Team.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.easywing.platform.cache.protector;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 可扩容布隆过滤器测试
+ *
+ * @author EasyWing Team
+ * @since 1.0.0
+ */
+class ScalableBloomFilterTest {
+
+    @Test
+    @DisplayName("测试添加与判断")
+    void testPutAndMightContain() {
+        ScalableBloomFilter filter = new ScalableBloomFilter(1000, 0.01);
+
+        assertTrue(filter.put("user:1"));
+        assertFalse(filter.put("user:1"));
+        assertTrue(filter.mightContain("user:1"));
+        assertFalse(filter.mightContain("user:2"));
+    }
+
+    @Test
+    @DisplayName("测试超出容量后分级扩容且误判率受控")
+    void testGrowth() {
+        ScalableBloomFilter filter = new ScalableBloomFilter(1000, 0.01);
+
+        IntStream.range(0, 10_000).forEach(i -> filter.put("key:" + i));
+
+        assertTrue(filter.stageCount() > 1);
+        assertTrue(IntStream.range(0, 10_000).allMatch(i -> filter.mightContain("key:" + i)));
+        long falsePositives = IntStream.range(0, 10_000)
+                .filter(i -> filter.mightContain("absent:" + i))
+                .count();
+        assertTrue(falsePositives < 200, "false positives: " + falsePositives);
+    }
+
+    @Test
+    @DisplayName("测试快照序列化与合并")
+    void testSnapshotAndMerge() {
+        ScalableBloomFilter nodeA = new ScalableBloomFilter(100, 0.01);
+        ScalableBloomFilter nodeB = new ScalableBloomFilter(100, 0.01);
+        IntStream.range(0, 300).forEach(i -> nodeA.put("a:" + i));
+        nodeB.put("b:1");
+
+        ScalableBloomFilter restored = ScalableBloomFilter.fromByteArray(nodeA.toByteArray());
+        assertEquals(nodeA.stageCount(), restored.stageCount());
+        assertTrue(restored.mightContain("a:299"));
+
+        nodeB.merge(restored);
+        assertEquals(nodeA.stageCount(), nodeB.stageCount());
+        assertTrue(nodeB.mightContain("a:0"));
+        assertTrue(nodeB.mightContain("a:299"));
+        assertTrue(nodeB.mightContain("b:1"));
+    }
+
+    @Test
+    @DisplayName("测试拒绝合并不同配置的过滤器和损坏的快照")
+    void testIncompatible() {
+        ScalableBloomFilter filter = new ScalableBloomFilter(100, 0.01);
+
+        assertThrows(IllegalArgumentException.class, () -> filter.merge(new ScalableBloomFilter(200, 0.01)));
+        assertThrows(IllegalArgumentException.class, () -> ScalableBloomFilter.fromByteArray(new byte[]{1, 2}));
+    }
+}
@@ -0,0 +1,213 @@
+/*
+ * Copyright 2024-2026 EasyWing Platform Team.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.easywing.platform.cache.service;
+
+import com.easywing.platform.cache.bus.CacheInvalidationBus;
+import com.easywing.platform.cache.codec.CacheCodec;
+import com.easywing.platform.cache.codec.TimestampedValue;
+import com.easywing.platform.cache.namespace.CacheNamespace;
+import com.easywing.platform.cache.properties.CacheProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.AdditionalMatchers.aryEq;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * 多级缓存服务批量接口测试
+ *
+ * @author EasyWing Team
+ * @since 1.0.0
+ */
+@ExtendWith(MockitoExtension.class)
+class MultiLevelCacheServiceTest {
+
+    @Mock
+    private CacheManager localCacheManager;
+
+    @Mock
+    private RedisTemplate<String, byte[]> redisTemplate;
+
+    @Mock
+    private CacheInvalidationBus invalidationBus;
+
+    @Mock
+    private CacheCodec cacheCodec;
+
+    @Mock
+    private CacheNamespace cacheNamespace;
+
+    @Mock
+    private Cache localCache;
+
+    @Mock
+    private ValueOperations<String, byte[]> valueOperations;
+
+    @Mock
+    private RedisConnection connection;
+
+    @Mock
+    private RedisStringCommands stringCommands;
+
+    private CacheProperties properties;
+
+    private MultiLevelCacheService service;
+
+    @BeforeEach
+    void setUp() {
+        properties = new CacheProperties();
+        service = new MultiLevelCacheService(localCacheManager, redisTemplate, invalidationBus, cacheCodec, properties,
+                cacheNamespace);
+        when(localCacheManager.getCache("user")).thenReturn(localCache);
+        lenient().when(cacheNamespace.fullKey(eq("user"), anyString()))
+                .thenAnswer(invocation -> "easywing:user:" + invocation.getArgument(1));
+    }
+
+    @Test
+    @DisplayName("测试批量获取：本地命中、Redis MGET命中与批量回源")
+    void testGetAllAcrossTiers() {
+        byte[] encoded2 = {2};
+        when(localCache.get("1")).thenReturn(() -> "user-1");
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.multiGet(List.of("easywing:user:2", "easywing:user:3")))
+                .thenReturn(Arrays.asList(encoded2, null));
+        when(cacheCodec.decode(encoded2, String.class)).thenReturn("user-2");
+        when(cacheCodec.encode("user-3")).thenReturn(new byte[]{3});
+        when(redisTemplate.getStringSerializer()).thenReturn(RedisSerializer.string());
+        List<Collection<String>> loaderCalls = new ArrayList<>();
+
+        Map<String, String> result = service.getAll("user", List.of("1", "2", "3"), String.class, missed -> {
+            loaderCalls.add(missed);
+            return Map.of("3", "user-3");
+        });
+
+        assertEquals(List.of("1", "2", "3"), new ArrayList<>(result.keySet()));
+        assertEquals("user-3", result.get("3"));
+        assertEquals(List.of(List.of("3")), loaderCalls);
+        verify(localCache).put("2", "user-2");
+        verify(localCache).put("3", "user-3");
+        verify(redisTemplate, times(1)).executePipelined(any(RedisCallback.class));
+    }
+
+    @Test
+    @DisplayName("测试批量获取：全部本地命中时不访问Redis")
+    void testGetAllLocalHitOnly() {
+        when(localCache.get("1")).thenReturn(() -> "user-1");
+
+        Map<String, String> result = service.getAll("user", List.of("1"), String.class, missed -> {
+            throw new AssertionError("loader should not be called");
+        });
+
+        assertEquals(Map.of("1", "user-1"), result);
+        verifyNoInteractions(redisTemplate);
+    }
+
+    @Test
+    @DisplayName("测试批量获取：按batchSize分批MGET")
+    void testGetAllPartitionsMultiGet() {
+        properties.getRedis().setBatchSize(2);
+        when(localCache.get(anyString())).thenReturn(null);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.multiGet(anyList()))
+                .thenAnswer(invocation -> Arrays.asList(new byte[((List<?>) invocation.getArgument(0)).size()][]));
+
+        Map<String, String> result = service.getAll("user", List.of("1", "2", "3"), String.class);
+
+        assertTrue(result.isEmpty());
+        verify(valueOperations).multiGet(List.of("easywing:user:1", "easywing:user:2"));
+        verify(valueOperations).multiGet(List.of("easywing:user:3"));
+    }
+
+    @Test
+    @DisplayName("测试批量写入：本地缓存逐个写入，Redis管道写入并设置过期时间")
+    @SuppressWarnings("unchecked")
+    void testPutAllPipelined() {
+        when(cacheCodec.encode("user-1")).thenReturn(new byte[]{1});
+        when(cacheCodec.encode("user-2")).thenReturn(new byte[]{2});
+        when(redisTemplate.getStringSerializer()).thenReturn(RedisSerializer.string());
+        when(connection.stringCommands()).thenReturn(stringCommands);
+
+        service.putAll("user", Map.of("1", "user-1", "2", "user-2"), 60, 300);
+
+        ArgumentCaptor<RedisCallback<Object>> captor = ArgumentCaptor.forClass(RedisCallback.class);
+        verify(redisTemplate).executePipelined(captor.capture());
+        captor.getValue().doInRedis(connection);
+        verify(localCache).put("1", "user-1");
+        verify(localCache).put("2", "user-2");
+        verify(stringCommands).set(aryEq("easywing:user:1".getBytes(StandardCharsets.UTF_8)), timestamped(new byte[]{1}),
+                eq(Expiration.seconds(300)), eq(RedisStringCommands.SetOption.upsert()));
+        verify(stringCommands).set(aryEq("easywing:user:2".getBytes(StandardCharsets.UTF_8)), timestamped(new byte[]{2}),
+                eq(Expiration.seconds(300)), eq(RedisStringCommands.SetOption.upsert()));
+    }
+
+    @Test
+    @DisplayName("测试批量写入：未开启空值缓存时跳过null值")
+    void testPutAllSkipsNull() {
+        when(redisTemplate.getStringSerializer()).thenReturn(RedisSerializer.string());
+        Map<String, Object> values = new HashMap<>();
+        values.put("1", null);
+
+        service.putAll("user", values, 60, 300);
+
+        verify(localCache, never()).put(any(), any());
+        verifyNoInteractions(cacheCodec);
+    }
+
+    @Test
+    @DisplayName("测试单个写入：与批量写入一致，遵循单个缓存的空值缓存配置")
+    void testPutHonorsPerCacheNullConfig() {
+        CacheProperties.CacheTtlConfig config = new CacheProperties.CacheTtlConfig();
+        config.setCacheNull(true);
+        properties.getCaches().put("user", config);
+        when(cacheCodec.encode(null)).thenReturn(new byte[]{0});
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+
+        service.put("user", "1", null, 60, 300);
+
+        verify(localCache).put("1", null);
+        verify(valueOperations).set(eq("easywing:user:1"), timestamped(new byte[]{0}), eq(300L), eq(TimeUnit.SECONDS));
+    }
+
+    private static byte[] timestamped(byte[] payload) {
+        return argThat(value -> TimestampedValue.writeTime(value) != TimestampedValue.UNKNOWN_WRITE_TIME
+                && Arrays.equals(payload, TimestampedValue.payload(value)));
+    }
+}
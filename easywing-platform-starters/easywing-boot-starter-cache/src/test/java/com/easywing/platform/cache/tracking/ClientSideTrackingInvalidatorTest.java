@@ -0,0 +1,121 @@
+/*
+ * Copyright 2024-2026 EasyWing Platform Team.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.easywing.platform.cache.tracking;
+
+import com.easywing.platform.cache.namespace.CacheNamespace;
+import com.easywing.platform.cache.properties.CacheProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.autoconfigure.data.redis.RedisProperties;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * 客户端缓存跟踪失效器测试
+ *
+ * @author EasyWing Team
+ * @since 1.0.0
+ */
+@ExtendWith(MockitoExtension.class)
+class ClientSideTrackingInvalidatorTest {
+
+    @Mock
+    private CacheManager localCacheManager;
+
+    @Mock
+    private CacheNamespace cacheNamespace;
+
+    @Mock
+    private Cache userCache;
+
+    @Mock
+    private Cache roleCache;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private ClientSideTrackingInvalidator invalidator;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        invalidator = new ClientSideTrackingInvalidator(new RedisProperties(), new CacheProperties(),
+                localCacheManager, cacheNamespace, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("测试解析缓存key")
+    void testResolve() {
+        List<String> names = List.of("user", "user:role");
+
+        assertEquals(new ClientSideTrackingInvalidator.KeyRef("user", "123"),
+                ClientSideTrackingInvalidator.resolve("user:123", names));
+        assertEquals(new ClientSideTrackingInvalidator.KeyRef("user:role", "1:2"),
+                ClientSideTrackingInvalidator.resolve("user:role:1:2", names));
+        assertEquals(new ClientSideTrackingInvalidator.KeyRef("user", "123"),
+                ClientSideTrackingInvalidator.resolve("user#5:123", names));
+        assertNull(ClientSideTrackingInvalidator.resolve("user#x:123", names));
+        assertNull(ClientSideTrackingInvalidator.resolve("users:123", names));
+        assertNull(ClientSideTrackingInvalidator.resolve("dict:1", names));
+    }
+
+    @Test
+    @DisplayName("测试失效本地缓存条目")
+    void testInvalidateKey() {
+        when(localCacheManager.getCacheNames()).thenReturn(List.of("user", "user:role"));
+        when(localCacheManager.getCache("user:role")).thenReturn(roleCache);
+
+        invalidator.invalidate("easywing:user:role#2:1:2");
+
+        verify(roleCache).evict("1:2");
+        verifyNoInteractions(userCache);
+        assertEquals(1.0, meterRegistry.counter(ClientSideTrackingInvalidator.INVALIDATION_METER,
+                "type", "key").count());
+    }
+
+    @Test
+    @DisplayName("测试命名空间版本变化时清空缓存及子缓存")
+    void testInvalidateNamespace() {
+        when(localCacheManager.getCacheNames()).thenReturn(List.of("user", "user:role", "dict"));
+        when(localCacheManager.getCache("user")).thenReturn(userCache);
+        when(localCacheManager.getCache("user:role")).thenReturn(roleCache);
+
+        invalidator.invalidate("easywing:cache:gen:user");
+
+        verify(userCache).clear();
+        verify(roleCache).clear();
+        verify(cacheNamespace).refresh("user");
+        verify(cacheNamespace).refresh("user:role");
+        verify(cacheNamespace, never()).refresh("dict");
+    }
+
+    @Test
+    @DisplayName("测试忽略其他前缀的key")
+    void testIgnoreForeignKey() {
+        invalidator.invalidate("other:user:1");
+
+        verifyNoInteractions(localCacheManager, cacheNamespace);
+    }
+}
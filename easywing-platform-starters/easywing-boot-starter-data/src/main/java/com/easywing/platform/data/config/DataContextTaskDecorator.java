@@ -0,0 +1,73 @@
+/*
+ * Copyright 2024-2026 EasyWing Platform Team.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.easywing.platform.data.config;
+
+import com.easywing.platform.data.datascope.DataScopeContext;
+import com.easywing.platform.data.tenant.TenantContext;
+import org.springframework.core.task.TaskDecorator;
+
+/**
+ * 数据访问上下文传递装饰器
+ * <p>
+ * 在提交任务的线程上捕获以下ThreadLocal上下文，在执行任务的线程上恢复，执行完成后还原执行线程原有的值：
+ * <ul>
+ *     <li>{@link TenantContext} 租户ID，避免多租户插件在异步线程上按默认租户查询</li>
+ *     <li>{@link DataScopeContext} 是否忽略数据权限</li>
+ *     <li>{@link DynamicDataSourceContextHolder} 数据源key</li>
+ * </ul>
+ * 作为 {@link TaskDecorator} Bean注册，供缓存后台刷新等异步执行器使用
+ *
+ * @author EasyWing Team
+ * @since 1.0.0
+ */
+public class DataContextTaskDecorator implements TaskDecorator {
+
+    @Override
+    public Runnable decorate(Runnable runnable) {
+        Long tenantId = TenantContext.getTenantId();
+        boolean ignoreDataScope = DataScopeContext.isIgnoreDataScope();
+        String dataSourceKey = DynamicDataSourceContextHolder.getDataSourceKey();
+        return () -> {
+            Long previousTenantId = TenantContext.getTenantId();
+            boolean previousIgnoreDataScope = DataScopeContext.isIgnoreDataScope();
+            String previousDataSourceKey = DynamicDataSourceContextHolder.getDataSourceKey();
+            apply(tenantId, ignoreDataScope, dataSourceKey);
+            try {
+                runnable.run();
+            } finally {
+                apply(previousTenantId, previousIgnoreDataScope, previousDataSourceKey);
+            }
+        };
+    }
+
+    private static void apply(Long tenantId, boolean ignoreDataScope, String dataSourceKey) {
+        if (tenantId != null) {
+            TenantContext.setTenantId(tenantId);
+        } else {
+            TenantContext.clear();
+        }
+        if (ignoreDataScope) {
+            DataScopeContext.setIgnoreDataScope(true);
+        } else {
+            DataScopeContext.clear();
+        }
+        if (dataSourceKey != null) {
+            DynamicDataSourceContextHolder.setDataSourceKey(dataSourceKey);
+        } else {
+            DynamicDataSourceContextHolder.clear();
+        }
+    }
+}
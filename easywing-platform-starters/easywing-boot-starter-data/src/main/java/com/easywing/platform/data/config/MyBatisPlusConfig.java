@@ -27,10 +27,12 @@ import lombok.extern.slf4j.Slf4j;
 import org.mybatis.spring.annotation.MapperScan;
 import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskDecorator;
 
 /**
  * MyBatis-Plus 配置类
@@ -116,4 +118,13 @@ public class MyBatisPlusConfig {
     public MetaObjectHandler auditMetaObjectHandler(DataProperties properties) {
         return new com.easywing.platform.data.handler.AuditMetaObjectHandler(properties);
     }
+
+    /**
+     * 租户、数据权限、数据源上下文传递装饰器，供异步执行器（如缓存后台刷新）使用
+     */
+    @Bean
+    @ConditionalOnMissingBean(name = "dataContextTaskDecorator")
+    public TaskDecorator dataContextTaskDecorator() {
+        return new DataContextTaskDecorator();
+    }
 }
@@ -0,0 +1,91 @@
+/*
+ * Copyright 2024-2026 EasyWing Platform Team.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.easywing.platform.data.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.easywing.platform.data.datascope.DataScopeContext;
+import com.easywing.platform.data.tenant.TenantContext;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * DataContextTaskDecorator 单元测试
+ *
+ * @author EasyWing Team
+ * @since 1.0.0
+ */
+class DataContextTaskDecoratorTest {
+
+    private final DataContextTaskDecorator decorator = new DataContextTaskDecorator();
+
+    @AfterEach
+    void tearDown() {
+        TenantContext.clear();
+        DataScopeContext.clear();
+        DynamicDataSourceContextHolder.clear();
+    }
+
+    @Test
+    @DisplayName("在执行线程上恢复提交线程的上下文")
+    void decorate_PropagatesContext() throws InterruptedException {
+        TenantContext.setTenantId(42L);
+        DataScopeContext.setIgnoreDataScope(true);
+        DynamicDataSourceContextHolder.useSlave();
+        AtomicReference<Object[]> captured = new AtomicReference<>();
+
+        Runnable task = decorator.decorate(() -> captured.set(new Object[]{
+                TenantContext.getTenantId(),
+                DataScopeContext.isIgnoreDataScope(),
+                DynamicDataSourceContextHolder.getDataSourceKey()}));
+        Thread thread = new Thread(task);
+        thread.start();
+        thread.join();
+
+        assertThat(captured.get()).containsExactly(42L, true, DynamicDataSourceContextHolder.SLAVE);
+    }
+
+    @Test
+    @DisplayName("执行完成后还原执行线程原有的上下文")
+    void decorate_RestoresExecutorContext() {
+        TenantContext.setTenantId(1L);
+        Runnable task = decorator.decorate(() -> assertThat(TenantContext.getTenantId()).isEqualTo(1L));
+
+        TenantContext.setTenantId(2L);
+        DynamicDataSourceContextHolder.useMaster();
+        task.run();
+
+        assertThat(TenantContext.getTenantId()).isEqualTo(2L);
+        assertThat(DataScopeContext.isIgnoreDataScope()).isFalse();
+        assertThat(DynamicDataSourceContextHolder.getDataSourceKey()).isEqualTo(DynamicDataSourceContextHolder.MASTER);
+    }
+
+    @Test
+    @DisplayName("提交线程没有上下文时执行线程上也没有")
+    void decorate_NoContext() {
+        Runnable task = decorator.decorate(() -> {
+            assertThat(TenantContext.getTenantId()).isNull();
+            assertThat(DynamicDataSourceContextHolder.getDataSourceKey()).isNull();
+        });
+
+        TenantContext.setTenantId(7L);
+        task.run();
+
+        assertThat(TenantContext.getTenantId()).isEqualTo(7L);
+    }
+}
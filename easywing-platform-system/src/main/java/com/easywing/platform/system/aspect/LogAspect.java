@@ -2,6 +2,8 @@ package com.easywing.platform.system.aspect;
 
 import cn.hutool.core.util.StrUtil;
 import cn.hutool.json.JSONUtil;
+import com.easywing.platform.core.constant.HttpHeaders;
+import com.easywing.platform.core.util.ClientIpResolver;
 import com.easywing.platform.system.annotation.Log;
 import com.easywing.platform.system.domain.entity.SysOperLog;
 import com.easywing.platform.system.service.SysOperLogService;
@@ -98,14 +100,9 @@ public class LogAspect {
     }
 
     private String getClientIp(HttpServletRequest request) {
-        String ip = request.getHeader("X-Forwarded-For");
-        if (StrUtil.isEmpty(ip) || "unknown".equalsIgnoreCase(ip)) {
-            ip = request.getHeader("X-Real-IP");
-        }
-        if (StrUtil.isEmpty(ip) || "unknown".equalsIgnoreCase(ip)) {
-            ip = request.getRemoteAddr();
-        }
-        if (ip != null && ip.contains(",")) ip = ip.split(",")[0].trim();
-        return ip;
+        return ClientIpResolver.defaults().resolve(
+                request.getHeader(HttpHeaders.X_FORWARDED_FOR),
+                request.getHeader(HttpHeaders.X_REAL_IP),
+                request.getRemoteAddr());
     }
 }
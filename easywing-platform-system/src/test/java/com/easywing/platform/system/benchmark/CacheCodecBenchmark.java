@@ -0,0 +1,91 @@
+/*
+ * Copyright 2024-2026 EasyWing Platform Team.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.easywing.platform.system.benchmark;
+
+import com.easywing.platform.cache.codec.CacheCodec;
+import com.easywing.platform.cache.codec.FuryCacheCodec;
+import com.easywing.platform.cache.codec.JacksonCacheCodec;
+import com.easywing.platform.system.common.TestDataFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 缓存编解码器基准测试：json vs smile vs cbor vs fury
+ * <p>
+ * 以 SysUserVO 单对象与列表（对应按ID缓存与分页缓存）为负载，比较编码、解码耗时；
+ * 各编解码器的载荷字节数在每轮 Trial 开始时输出。
+ * 运行：mvn test -Pbenchmark -pl easywing-platform-system -Dbenchmark.includes=CacheCodecBenchmark
+ *
+ * @author EasyWing Team
+ * @since 1.0.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CacheCodecBenchmark {
+
+    @Param({"json", "smile", "cbor", "fury"})
+    private String codecType;
+
+    @Param({"1", "100"})
+    private int size;
+
+    private CacheCodec codec;
+    private Object value;
+    private byte[] encoded;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        ObjectMapper base = new ObjectMapper().findAndRegisterModules();
+        codec = switch (codecType) {
+            case "json" -> JacksonCacheCodec.json(base, List.of());
+            case "smile" -> JacksonCacheCodec.smile(base, List.of());
+            case "cbor" -> JacksonCacheCodec.cbor(base, List.of());
+            case "fury" -> new FuryCacheCodec();
+            default -> throw new IllegalArgumentException(codecType);
+        };
+        value = size == 1 ? TestDataFactory.createUserVO() : TestDataFactory.createUserVOList(size);
+        encoded = codec.encode(value);
+        System.out.printf("%n[payload] codec=%s, size=%d, bytes=%d%n", codecType, size, encoded.length);
+    }
+
+    @Benchmark
+    public byte[] encode() {
+        return codec.encode(value);
+    }
+
+    @Benchmark
+    public Object decode() {
+        return codec.decode(encoded);
+    }
+}
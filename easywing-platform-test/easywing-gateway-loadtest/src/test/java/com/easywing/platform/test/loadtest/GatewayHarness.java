@@ -0,0 +1,84 @@
+/*
+ * Copyright 2024-2026 EasyWing Platform Team.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.easywing.platform.test.loadtest;
+
+import com.easywing.platform.gateway.EasyWingGatewayApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 进程内网关启动器
+ * <p>
+ * 以命令行参数覆盖 application.yaml（优先级最高），将唯一路由指向桩上游，
+ * Redis指向内嵌桩，关闭Nacos，其余过滤器保持生产配置。
+ *
+ * @author EasyWing Team
+ * @since 1.0.0
+ */
+public class GatewayHarness implements AutoCloseable {
+
+    public static final String ROUTE_PREFIX = "/loadtest";
+
+    private final ConfigurableApplicationContext context;
+
+    public GatewayHarness(LoadScenario scenario, int redisPort, String upstreamBaseUrl, String jwtIssuer) {
+        Map<String, Object> properties = new LinkedHashMap<>();
+        properties.put("server.port", 0);
+        properties.put("spring.main.banner-mode", "off");
+        properties.put("spring.main.lazy-initialization", false);
+        properties.put("spring.cloud.nacos.discovery.enabled", false);
+        properties.put("spring.cloud.nacos.config.enabled", false);
+        properties.put("spring.cloud.nacos.config.import-check.enabled", false);
+        properties.put("spring.data.redis.host", "127.0.0.1");
+        properties.put("spring.data.redis.port", redisPort);
+        properties.put("spring.data.redis.password", "");
+        properties.put("spring.cloud.gateway.routes[0].id", "loadtest");
+        properties.put("spring.cloud.gateway.routes[0].uri", upstreamBaseUrl);
+        properties.put("spring.cloud.gateway.routes[0].predicates[0]", "Path=" + ROUTE_PREFIX + "/**");
+        properties.put("spring.cloud.gateway.routes[0].filters[0]", "StripPrefix=1");
+        properties.put("easywing.gateway.jwt.issuer", jwtIssuer);
+        properties.put("easywing.gateway.jwt.jwk-set-uri", upstreamBaseUrl + StubUpstreamServer.JWKS_PATH);
+        properties.put("logging.level.com.easywing", "INFO");
+        properties.put("management.endpoints.web.exposure.include", "health,gatewaylatency");
+        properties.putAll(scenario.gatewayProperties());
+
+        List<String> args = new ArrayList<>(properties.size());
+        properties.forEach((key, value) -> args.add("--" + key + "=" + value));
+
+        this.context = new SpringApplicationBuilder(EasyWingGatewayApplication.class)
+                .web(WebApplicationType.REACTIVE)
+                .run(args.toArray(String[]::new));
+    }
+
+    public int getPort() {
+        return context.getEnvironment().getRequiredProperty("local.server.port", Integer.class);
+    }
+
+    public String url(String path) {
+        return "http://127.0.0.1:" + getPort() + ROUTE_PREFIX + path;
+    }
+
+    @Override
+    public void close() {
+        context.close();
+    }
+}
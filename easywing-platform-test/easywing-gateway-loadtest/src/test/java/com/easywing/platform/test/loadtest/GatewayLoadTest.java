@@ -0,0 +1,153 @@
+/*
+ * Copyright 2024-2026 EasyWing Platform Team.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.easywing.platform.test.loadtest;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.convert.DurationStyle;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 网关端到端压测
+ * <p>
+ * 默认跳过，通过 {@code -Ploadtest} 启用。每个场景独立启动一次网关，
+ * 预热后以固定到达速率压测，结果汇总到 {@code target/loadtest-report.txt}：
+ * <ul>
+ *     <li>吞吐、p50/p90/p99/p999延迟（从计划发送时刻起算）</li>
+ *     <li>每请求分配字节数：扣除直连桩上游时负载生成器自身的基线</li>
+ * </ul>
+ * 可调参数：loadtest.rate、loadtest.duration、loadtest.warmup、loadtest.upstream-latency、
+ * loadtest.users、loadtest.connections、loadtest.payload-size。
+ *
+ * @author EasyWing Team
+ * @since 1.0.0
+ */
+@EnabledIfSystemProperty(named = "loadtest.enabled", matches = "true")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class GatewayLoadTest {
+
+    private static final Logger log = LoggerFactory.getLogger(GatewayLoadTest.class);
+    private static final String PATH = "/api/items/1";
+
+    private final int rate = Integer.getInteger("loadtest.rate", 2000);
+    private final Duration duration = duration("loadtest.duration", "30s");
+    private final Duration warmup = duration("loadtest.warmup", "10s");
+    private final Duration upstreamLatency = duration("loadtest.upstream-latency", "5ms");
+    private final int users = Integer.getInteger("loadtest.users", 1000);
+    private final int connections = Integer.getInteger("loadtest.connections", 1000);
+    private final int payloadSize = Integer.getInteger("loadtest.payload-size", 512);
+
+    private final List<LoadTestResult> results = new ArrayList<>();
+
+    private RespStubServer redis;
+    private StubUpstreamServer upstream;
+    private LoadTestTokens tokens;
+    private OpenLoopLoadGenerator generator;
+    private List<Map<String, String>> headerSets;
+    private long baselineAllocatedPerRequest;
+
+    @BeforeAll
+    void startStubs() throws InterruptedException {
+        redis = new RespStubServer();
+        tokens = new LoadTestTokens();
+        upstream = new StubUpstreamServer(upstreamLatency, payloadSize, tokens.jwksJson());
+        generator = new OpenLoopLoadGenerator(connections, Duration.ofSeconds(10));
+        headerSets = IntStream.range(0, users)
+                .mapToObj(i -> Map.of("Authorization", "Bearer " + tokens.issue("user-" + i, Duration.ofHours(2))))
+                .toList();
+
+        // 直连桩上游，得到负载生成器与桩服务自身的分配基线
+        String direct = upstream.getBaseUrl() + PATH;
+        generator.run(direct, headerSets, rate, warmup);
+        OpenLoopLoadGenerator.Measurement baseline = generator.run(direct, headerSets, rate, duration);
+        baselineAllocatedPerRequest = Math.max(baseline.allocatedPerRequest(), 0);
+        results.add(toResult("baseline(direct)", baseline, 0));
+    }
+
+    @AfterAll
+    void report() throws IOException {
+        String table = LoadTestResult.table(results);
+        log.info("Gateway load test report:{}{}", System.lineSeparator(), table);
+        Path report = Path.of("target", "loadtest-report.txt");
+        Files.createDirectories(report.getParent());
+        Files.writeString(report, String.format("rate=%d/s duration=%s warmup=%s upstreamLatency=%s users=%d%n%n%s",
+                rate, duration, warmup, upstreamLatency, users, table));
+
+        if (generator != null) {
+            generator.close();
+        }
+        if (upstream != null) {
+            upstream.close();
+        }
+        if (redis != null) {
+            redis.close();
+        }
+    }
+
+    static List<LoadScenario> scenarios() {
+        return LoadScenario.standardMatrix();
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("scenarios")
+    @DisplayName("Gateway load scenario")
+    void runScenario(LoadScenario scenario) {
+        try (GatewayHarness gateway = new GatewayHarness(scenario, redis.getPort(), upstream.getBaseUrl(), tokens.issuer())) {
+            String url = gateway.url(PATH);
+            generator.run(url, headerSets, rate, warmup);
+            long evalsBefore = redis.getEvalCount();
+            OpenLoopLoadGenerator.Measurement measurement = generator.run(url, headerSets, rate, duration);
+            long evals = redis.getEvalCount() - evalsBefore;
+            LoadTestResult result = toResult(scenario.name(), measurement, baselineAllocatedPerRequest);
+            results.add(result);
+
+            assertTrue(measurement.completed() > 0, "no request completed");
+            assertEquals(0, measurement.non2xx(), "gateway rejected requests, check scenario configuration");
+            if (scenario.rateLimitEnabled()) {
+                assertTrue(evals > 0, "rate limit did not reach the Redis script");
+            } else {
+                assertEquals(0, evals, "rate limit disabled but the Redis script was executed");
+            }
+        }
+    }
+
+    private LoadTestResult toResult(String name, OpenLoopLoadGenerator.Measurement measurement, long baseline) {
+        long perRequest = measurement.allocatedPerRequest();
+        return new LoadTestResult(name, rate, duration, measurement.completed(), measurement.non2xx(),
+                measurement.errors(), measurement.latency(), perRequest >= 0 ? Math.max(perRequest - baseline, 0) : -1);
+    }
+
+    private static Duration duration(String property, String defaultValue) {
+        return DurationStyle.detectAndParse(System.getProperty(property, defaultValue));
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright 2024-2026 EasyWing Platform Team.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.easywing.platform.test.loadtest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 压测场景
+ * <p>
+ * 一个场景对应一组网关开关，标准矩阵为 JWT × 限流 × 日志采样率 的全组合。
+ *
+ * @param jwtEnabled        是否启用JWT校验
+ * @param rateLimitEnabled  是否启用限流（关闭本地令牌桶，每个请求都执行Redis脚本；阈值足够高，只测开销不触发拒绝）
+ * @param loggingSampleRate 日志采样率，0表示关闭日志过滤器
+ * @author EasyWing Team
+ * @since 1.0.0
+ */
+public record LoadScenario(boolean jwtEnabled, boolean rateLimitEnabled, double loggingSampleRate) {
+
+    private static final double[] SAMPLE_RATES = {0.0, 0.1, 1.0};
+
+    public static List<LoadScenario> standardMatrix() {
+        List<LoadScenario> scenarios = new ArrayList<>();
+        for (boolean jwt : new boolean[]{false, true}) {
+            for (boolean rateLimit : new boolean[]{false, true}) {
+                for (double sampleRate : SAMPLE_RATES) {
+                    scenarios.add(new LoadScenario(jwt, rateLimit, sampleRate));
+                }
+            }
+        }
+        return scenarios;
+    }
+
+    public String name() {
+        return "jwt=" + (jwtEnabled ? "on" : "off")
+                + ",rateLimit=" + (rateLimitEnabled ? "on" : "off")
+                + ",logging=" + (loggingSampleRate > 0 ? loggingSampleRate : "off");
+    }
+
+    /**
+     * 场景对应的网关配置覆盖项
+     */
+    public Map<String, Object> gatewayProperties() {
+        Map<String, Object> properties = new TreeMap<>();
+        properties.put("easywing.gateway.jwt.enabled", jwtEnabled);
+        properties.put("easywing.gateway.rate-limit.enabled", rateLimitEnabled);
+        properties.put("easywing.gateway.rate-limit.default-rate", 1_000_000);
+        properties.put("easywing.gateway.rate-limit.default-capacity", 1_000_000);
+        properties.put("easywing.gateway.rate-limit.local-enabled", false);
+        // 覆盖整个规则列表：默认规则的通配模式不是正则，压测路径只匹配此前缀规则
+        properties.put("easywing.gateway.rate-limit.rules[0].id", "loadtest");
+        properties.put("easywing.gateway.rate-limit.rules[0].key-type", "user");
+        properties.put("easywing.gateway.rate-limit.rules[0].pattern", GatewayHarness.ROUTE_PREFIX + "/");
+        properties.put("easywing.gateway.rate-limit.rules[0].rate", 1_000_000);
+        properties.put("easywing.gateway.rate-limit.rules[0].capacity", 1_000_000);
+        properties.put("easywing.gateway.logging.enabled", loggingSampleRate > 0);
+        properties.put("easywing.gateway.logging.sample-rate", loggingSampleRate);
+        return properties;
+    }
+
+    @Override
+    public String toString() {
+        return name();
+    }
+}
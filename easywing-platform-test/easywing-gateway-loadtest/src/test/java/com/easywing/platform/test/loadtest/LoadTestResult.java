@@ -0,0 +1,67 @@
+/*
+ * Copyright 2024-2026 EasyWing Platform Team.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.easywing.platform.test.loadtest;
+
+import org.HdrHistogram.Histogram;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 单个场景的压测结果
+ *
+ * @param scenario          场景名称
+ * @param offeredRate       目标到达速率（请求/秒）
+ * @param duration          计量时长
+ * @param completed         完成请求数（含非2xx）
+ * @param non2xx            非2xx响应数
+ * @param errors            连接错误/超时数
+ * @param latency           延迟直方图（微秒，从计划发送时刻起算）
+ * @param allocatedPerRequest 每请求分配字节数（已扣除负载生成器基线）
+ * @author EasyWing Team
+ * @since 1.0.0
+ */
+public record LoadTestResult(String scenario, int offeredRate, Duration duration, long completed,
+                             long non2xx, long errors, Histogram latency, long allocatedPerRequest) {
+
+    public double throughput() {
+        return completed * 1000.0 / duration.toMillis();
+    }
+
+    public double percentileMillis(double percentile) {
+        return latency.getValueAtPercentile(percentile) / 1000.0;
+    }
+
+    public static String header() {
+        return String.format("%-44s %8s %10s %8s %8s %8s %8s %8s %8s %7s %12s",
+                "scenario", "offered", "achieved", "p50ms", "p90ms", "p99ms", "p999ms", "maxms",
+                "non2xx", "errors", "alloc/req");
+    }
+
+    public String row() {
+        return String.format("%-44s %8d %10.1f %8.2f %8.2f %8.2f %8.2f %8.2f %8d %7d %12s",
+                scenario, offeredRate, throughput(),
+                percentileMillis(50.0), percentileMillis(90.0), percentileMillis(99.0), percentileMillis(99.9),
+                latency.getMaxValue() / 1000.0, non2xx, errors,
+                allocatedPerRequest >= 0 ? allocatedPerRequest + "B" : "n/a");
+    }
+
+    public static String table(List<LoadTestResult> results) {
+        StringBuilder sb = new StringBuilder(header()).append('\n');
+        results.forEach(result -> sb.append(result.row()).append('\n'));
+        return sb.toString();
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright 2024-2026 EasyWing Platform Team.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.easywing.platform.test.loadtest;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.crypto.RSASSASigner;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.KeyUse;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.jwk.gen.RSAKeyGenerator;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * 压测用JWT签发器
+ * <p>
+ * 启动时生成RS256密钥对，公钥以JWK Set形式由桩上游发布，私钥签发压测令牌。
+ *
+ * @author EasyWing Team
+ * @since 1.0.0
+ */
+public class LoadTestTokens {
+
+    private static final String ISSUER = "easywing-loadtest";
+
+    private final RSAKey key;
+
+    public LoadTestTokens() {
+        try {
+            this.key = new RSAKeyGenerator(2048).keyID("loadtest").keyUse(KeyUse.SIGNATURE).generate();
+        } catch (JOSEException e) {
+            throw new IllegalStateException("Failed to generate RSA key", e);
+        }
+    }
+
+    public String jwksJson() {
+        return new JWKSet(key.toPublicJWK()).toString();
+    }
+
+    public String issuer() {
+        return ISSUER;
+    }
+
+    /**
+     * 签发指定用户的令牌，有效期覆盖整个压测过程
+     */
+    public String issue(String userId, Duration ttl) {
+        Instant now = Instant.now();
+        JWTClaimsSet claims = new JWTClaimsSet.Builder()
+                .issuer(ISSUER)
+                .subject(userId)
+                .claim("preferred_username", "loadtest-" + userId)
+                .claim("roles", List.of("user"))
+                .claim("tenant_id", "loadtest")
+                .issueTime(Date.from(now))
+                .expirationTime(Date.from(now.plus(ttl)))
+                .build();
+        try {
+            SignedJWT jwt = new SignedJWT(new JWSHeader.Builder(JWSAlgorithm.RS256).keyID(key.getKeyID()).build(), claims);
+            jwt.sign(new RSASSASigner(key));
+            return jwt.serialize();
+        } catch (JOSEException e) {
+            throw new IllegalStateException("Failed to sign token", e);
+        }
+    }
+}
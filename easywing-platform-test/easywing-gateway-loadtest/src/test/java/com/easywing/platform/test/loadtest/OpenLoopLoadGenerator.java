@@ -0,0 +1,162 @@
+/*
+ * Copyright 2024-2026 EasyWing Platform Team.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.easywing.platform.test.loadtest;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 开环负载生成器
+ * <p>
+ * 以固定到达速率发送请求，与响应快慢无关：
+ * <ul>
+ *     <li>第 i 个请求的计划发送时刻为 start + i × 间隔，落后时立即补发</li>
+ *     <li>延迟从计划发送时刻起算，避免协调遗漏（coordinated omission）</li>
+ *     <li>请求头按轮询方式取自预构建的客户端，发送路径上不做额外配置</li>
+ *     <li>通过 ThreadMXBean 统计进程内总分配字节数</li>
+ * </ul>
+ *
+ * @author EasyWing Team
+ * @since 1.0.0
+ */
+public class OpenLoopLoadGenerator implements AutoCloseable {
+
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(1);
+    private static final Duration DRAIN_TIMEOUT = Duration.ofSeconds(30);
+
+    private final ConnectionProvider connectionProvider;
+    private final HttpClient client;
+
+    public OpenLoopLoadGenerator(int maxConnections, Duration responseTimeout) {
+        this.connectionProvider = ConnectionProvider.builder("easywing-loadtest")
+                .maxConnections(maxConnections)
+                .pendingAcquireMaxCount(-1)
+                .pendingAcquireTimeout(DRAIN_TIMEOUT)
+                .build();
+        this.client = HttpClient.create(connectionProvider).responseTimeout(responseTimeout);
+    }
+
+    /**
+     * 按固定速率压测指定URL
+     *
+     * @param url        目标地址
+     * @param headerSets 轮询使用的请求头组合，至少一个
+     * @param rate       到达速率（请求/秒）
+     * @param duration   发送时长
+     */
+    public Measurement run(String url, List<Map<String, String>> headerSets, int rate, Duration duration) {
+        List<HttpClient.ResponseReceiver<?>> receivers = headerSets.stream()
+                .<HttpClient.ResponseReceiver<?>>map(headers -> client
+                        .headers(h -> headers.forEach(h::set))
+                        .get()
+                        .uri(url))
+                .toList();
+
+        Recorder recorder = new Recorder(HIGHEST_TRACKABLE_MICROS, 3);
+        LongAdder completed = new LongAdder();
+        LongAdder non2xx = new LongAdder();
+        LongAdder errors = new LongAdder();
+        AtomicLong inFlight = new AtomicLong();
+
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) / rate;
+        long allocatedBefore = totalAllocatedBytes();
+        long start = System.nanoTime();
+        long end = start + duration.toNanos();
+
+        for (long i = 0; ; i++) {
+            long intended = start + i * intervalNanos;
+            if (intended >= end) {
+                break;
+            }
+            long wait = intended - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            inFlight.incrementAndGet();
+            receivers.get((int) (i % receivers.size()))
+                    .responseSingle((response, body) -> body.then(Mono.fromSupplier(() -> response.status().code())))
+                    .subscribe(
+                            status -> {
+                                recorder.recordValue(Math.min(
+                                        TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - intended),
+                                        HIGHEST_TRACKABLE_MICROS));
+                                completed.increment();
+                                if (status / 100 != 2) {
+                                    non2xx.increment();
+                                }
+                                inFlight.decrementAndGet();
+                            },
+                            error -> {
+                                errors.increment();
+                                inFlight.decrementAndGet();
+                            });
+        }
+
+        long drainDeadline = System.nanoTime() + DRAIN_TIMEOUT.toNanos();
+        while (inFlight.get() > 0 && System.nanoTime() < drainDeadline) {
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(10));
+        }
+        long allocatedAfter = totalAllocatedBytes();
+
+        return new Measurement(completed.sum(), non2xx.sum(), errors.sum() + inFlight.get(),
+                recorder.getIntervalHistogram(),
+                allocatedBefore >= 0 ? allocatedAfter - allocatedBefore : -1);
+    }
+
+    @Override
+    public void close() {
+        connectionProvider.disposeLater().block(DRAIN_TIMEOUT);
+    }
+
+    private static long totalAllocatedBytes() {
+        ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        if (bean instanceof com.sun.management.ThreadMXBean threadBean
+                && threadBean.isThreadAllocatedMemorySupported()
+                && threadBean.isThreadAllocatedMemoryEnabled()) {
+            return threadBean.getTotalThreadAllocatedBytes();
+        }
+        return -1;
+    }
+
+    /**
+     * 一次压测的原始计量
+     *
+     * @param completed      完成请求数
+     * @param non2xx         非2xx响应数
+     * @param errors         错误数（含超时未完成）
+     * @param latency        延迟直方图（微秒）
+     * @param allocatedBytes 期间进程内总分配字节数，不支持时为-1
+     */
+    public record Measurement(long completed, long non2xx, long errors, Histogram latency, long allocatedBytes) {
+
+        public long allocatedPerRequest() {
+            return allocatedBytes >= 0 && completed > 0 ? allocatedBytes / completed : -1;
+        }
+    }
+}
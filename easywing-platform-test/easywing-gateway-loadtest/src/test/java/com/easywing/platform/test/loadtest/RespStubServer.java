@@ -0,0 +1,284 @@
+/*
+ * Copyright 2024-2026 EasyWing Platform Team.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.easywing.platform.test.loadtest;
+
+import io.netty.bootstrap.ServerBootstrap;
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInitializer;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.SimpleChannelInboundHandler;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.socket.SocketChannel;
+import io.netty.channel.socket.nio.NioServerSocketChannel;
+import io.netty.handler.codec.ByteToMessageDecoder;
+
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 内嵌Redis桩服务
+ * <p>
+ * 基于Netty实现RESP2协议的最小子集，仅覆盖网关运行所需的命令：
+ * <ul>
+ *     <li>连接握手：HELLO（拒绝，客户端回退RESP2）、PING、AUTH、CLIENT、SELECT</li>
+ *     <li>键值：GET、SET、DEL、EXISTS、PEXPIRE</li>
+ *     <li>脚本：EVAL/EVALSHA/SCRIPT LOAD，按网关令牌桶脚本语义在本地执行</li>
+ *     <li>发布订阅：PUBLISH、SUBSCRIBE（仅确认，不投递）</li>
+ * </ul>
+ * 目的是让压测结果只反映网关本身，而不是外部Redis的网络与负载。
+ *
+ * @author EasyWing Team
+ * @since 1.0.0
+ */
+public class RespStubServer implements AutoCloseable {
+
+    private static final byte[] CRLF = {'\r', '\n'};
+
+    private final Map<String, String> values = new ConcurrentHashMap<>();
+    private final Map<String, String> scripts = new ConcurrentHashMap<>();
+    private final Map<String, long[]> buckets = new ConcurrentHashMap<>();
+    private final AtomicLong evalCount = new AtomicLong();
+    private final EventLoopGroup group = new NioEventLoopGroup(1);
+    private final Channel channel;
+
+    public RespStubServer() throws InterruptedException {
+        this.channel = new ServerBootstrap()
+                .group(group)
+                .channel(NioServerSocketChannel.class)
+                .childHandler(new ChannelInitializer<SocketChannel>() {
+                    @Override
+                    protected void initChannel(SocketChannel ch) {
+                        ch.pipeline().addLast(new RespDecoder(), new CommandHandler());
+                    }
+                })
+                .bind("127.0.0.1", 0)
+                .sync()
+                .channel();
+    }
+
+    public int getPort() {
+        return ((InetSocketAddress) channel.localAddress()).getPort();
+    }
+
+    /**
+     * 已执行的令牌桶脚本次数（EVAL与EVALSHA）
+     */
+    public long getEvalCount() {
+        return evalCount.get();
+    }
+
+    @Override
+    public void close() {
+        channel.close().syncUninterruptibly();
+        group.shutdownGracefully().syncUninterruptibly();
+    }
+
+    private void execute(List<String> command, ByteBuf out) {
+        String name = command.get(0).toUpperCase(Locale.ROOT);
+        switch (name) {
+            case "PING" -> simple(out, "PONG");
+            case "AUTH", "CLIENT", "SELECT", "READONLY", "QUIT" -> simple(out, "OK");
+            case "HELLO" -> error(out, "ERR unknown command 'HELLO'");
+            case "INFO" -> bulk(out, "# Server\r\nredis_version:7.2.0\r\nredis_mode:standalone\r\n");
+            case "COMMAND" -> out.writeBytes("*0\r\n".getBytes(StandardCharsets.US_ASCII));
+            case "GET" -> bulk(out, values.get(command.get(1)));
+            case "SET" -> {
+                values.put(command.get(1), command.get(2));
+                simple(out, "OK");
+            }
+            case "DEL", "UNLINK" -> integer(out, command.subList(1, command.size()).stream()
+                    .filter(key -> values.remove(key) != null | buckets.remove(key) != null).count());
+            case "EXISTS" -> integer(out, command.subList(1, command.size()).stream()
+                    .filter(key -> values.containsKey(key) || buckets.containsKey(key)).count());
+            case "PEXPIRE", "EXPIRE" -> integer(out, 1);
+            case "PUBLISH" -> integer(out, 0);
+            case "SUBSCRIBE", "PSUBSCRIBE" -> subscribe(command, out, name.toLowerCase(Locale.ROOT));
+            case "SCRIPT" -> bulk(out, load(command.get(2)));
+            case "EVAL" -> {
+                load(command.get(1));
+                evalTokenBucket(command, out);
+            }
+            case "EVALSHA" -> {
+                if (scripts.containsKey(command.get(1))) {
+                    evalTokenBucket(command, out);
+                } else {
+                    error(out, "NOSCRIPT No matching script. Please use EVAL.");
+                }
+            }
+            default -> error(out, "ERR unknown command '" + command.get(0) + "'");
+        }
+    }
+
+    private String load(String script) {
+        String sha = sha1(script);
+        scripts.put(sha, script);
+        return sha;
+    }
+
+    /**
+     * 与 RedisRateLimiter 脚本一致：KEYS[1]，ARGV = rate, capacity, now, requested
+     */
+    private void evalTokenBucket(List<String> command, ByteBuf out) {
+        evalCount.incrementAndGet();
+        int numKeys = Integer.parseInt(command.get(2));
+        if (numKeys != 1 || command.size() < 8) {
+            out.writeBytes("$-1\r\n".getBytes(StandardCharsets.US_ASCII));
+            return;
+        }
+        String key = command.get(3);
+        long rate = Long.parseLong(command.get(4));
+        long capacity = Long.parseLong(command.get(5));
+        long now = Long.parseLong(command.get(6));
+        long requested = Long.parseLong(command.get(7));
+
+        long[] bucket = buckets.computeIfAbsent(key, k -> new long[]{capacity, now});
+        long newTokens = Math.max(0, now - bucket[1]) * rate / 1000;
+        if (newTokens > 0) {
+            bucket[0] = Math.min(capacity, bucket[0] + newTokens);
+            bucket[1] = now;
+        }
+        if (bucket[0] >= requested) {
+            bucket[0] -= requested;
+            integer(out, bucket[0]);
+        } else {
+            integer(out, -1);
+        }
+    }
+
+    private void subscribe(List<String> command, ByteBuf out, String kind) {
+        for (int i = 1; i < command.size(); i++) {
+            out.writeBytes("*3\r\n".getBytes(StandardCharsets.US_ASCII));
+            bulk(out, kind);
+            bulk(out, command.get(i));
+            integer(out, i);
+        }
+    }
+
+    private static void simple(ByteBuf out, String value) {
+        out.writeByte('+').writeBytes(value.getBytes(StandardCharsets.UTF_8)).writeBytes(CRLF);
+    }
+
+    private static void error(ByteBuf out, String message) {
+        out.writeByte('-').writeBytes(message.getBytes(StandardCharsets.UTF_8)).writeBytes(CRLF);
+    }
+
+    private static void integer(ByteBuf out, long value) {
+        out.writeByte(':').writeBytes(Long.toString(value).getBytes(StandardCharsets.US_ASCII)).writeBytes(CRLF);
+    }
+
+    private static void bulk(ByteBuf out, String value) {
+        if (value == null) {
+            out.writeBytes("$-1\r\n".getBytes(StandardCharsets.US_ASCII));
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeByte('$').writeBytes(Integer.toString(bytes.length).getBytes(StandardCharsets.US_ASCII))
+                .writeBytes(CRLF).writeBytes(bytes).writeBytes(CRLF);
+    }
+
+    private static String sha1(String script) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-1")
+                    .digest(script.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * RESP请求解码：客户端命令总是多条批量字符串组成的数组，半包时等待更多数据
+     */
+    private static final class RespDecoder extends ByteToMessageDecoder {
+
+        @Override
+        protected void decode(ChannelHandlerContext ctx, ByteBuf in, List<Object> out) {
+            while (in.isReadable()) {
+                in.markReaderIndex();
+                List<String> command = readCommand(in);
+                if (command == null) {
+                    in.resetReaderIndex();
+                    return;
+                }
+                out.add(command);
+            }
+        }
+
+        private static List<String> readCommand(ByteBuf in) {
+            String header = readLine(in);
+            if (header == null) {
+                return null;
+            }
+            if (header.charAt(0) != '*') {
+                // 内联命令（如 telnet 手工输入）
+                return List.of(header.trim().split("\\s+"));
+            }
+            int count = Integer.parseInt(header.substring(1));
+            List<String> command = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                String lengthLine = readLine(in);
+                if (lengthLine == null) {
+                    return null;
+                }
+                int length = Integer.parseInt(lengthLine.substring(1));
+                if (in.readableBytes() < length + 2) {
+                    return null;
+                }
+                command.add(in.readCharSequence(length, StandardCharsets.UTF_8).toString());
+                in.skipBytes(2);
+            }
+            return command;
+        }
+
+        private static String readLine(ByteBuf in) {
+            int end = in.indexOf(in.readerIndex(), in.writerIndex(), (byte) '\n');
+            if (end < 0) {
+                return null;
+            }
+            String line = in.readCharSequence(end - in.readerIndex() - 1, StandardCharsets.US_ASCII).toString();
+            in.skipBytes(2);
+            return line;
+        }
+    }
+
+    private final class CommandHandler extends SimpleChannelInboundHandler<List<String>> {
+
+        @Override
+        protected void channelRead0(ChannelHandlerContext ctx, List<String> command) {
+            if (command.isEmpty()) {
+                return;
+            }
+            ByteBuf out = ctx.alloc().buffer();
+            execute(command, out);
+            ctx.write(out);
+        }
+
+        @Override
+        public void channelReadComplete(ChannelHandlerContext ctx) {
+            ctx.flush();
+        }
+    }
+}
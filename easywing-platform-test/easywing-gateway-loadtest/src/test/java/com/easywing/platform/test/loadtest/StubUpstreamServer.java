@@ -0,0 +1,94 @@
+/*
+ * Copyright 2024-2026 EasyWing Platform Team.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.easywing.platform.test.loadtest;
+
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpHeaderValues;
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+import reactor.netty.resources.LoopResources;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+
+/**
+ * Netty桩上游服务
+ * <p>
+ * 所有请求在固定延迟后返回固定大小的JSON响应，另提供 {@code /jwks.json}
+ * 供网关加载JWT公钥。延迟通过事件循环定时器实现，不占用线程。
+ * <p>
+ * 使用独立的事件循环，网关上下文关闭时释放全局Reactor Netty资源不会影响桩服务，
+ * 同一桩服务可以依次服务多个场景。
+ *
+ * @author EasyWing Team
+ * @since 1.0.0
+ */
+public class StubUpstreamServer implements AutoCloseable {
+
+    public static final String JWKS_PATH = "/jwks.json";
+
+    private final LoopResources loops = LoopResources.create("stub-upstream", 2, true);
+    private final DisposableServer server;
+
+    public StubUpstreamServer(Duration latency, int payloadSize, String jwksJson) {
+        byte[] payload = payload(payloadSize);
+        byte[] jwks = jwksJson.getBytes(StandardCharsets.UTF_8);
+        this.server = HttpServer.create()
+                .host("127.0.0.1")
+                .port(0)
+                .runOn(loops)
+                .route(routes -> routes
+                        .get(JWKS_PATH, (request, response) -> response
+                                .header(HttpHeaderNames.CONTENT_TYPE, HttpHeaderValues.APPLICATION_JSON)
+                                .sendByteArray(Mono.just(jwks)))
+                        .route(request -> true, (request, response) -> {
+                            Mono<byte[]> body = Mono.just(payload);
+                            if (!latency.isZero()) {
+                                body = body.delayElement(latency);
+                            }
+                            return response
+                                    .header(HttpHeaderNames.CONTENT_TYPE, HttpHeaderValues.APPLICATION_JSON)
+                                    .sendByteArray(request.receive().then(body));
+                        }))
+                .bindNow();
+    }
+
+    public int getPort() {
+        return server.port();
+    }
+
+    public String getBaseUrl() {
+        return "http://127.0.0.1:" + server.port();
+    }
+
+    @Override
+    public void close() {
+        server.disposeNow();
+        loops.disposeLater().block();
+    }
+
+    private static byte[] payload(int size) {
+        byte[] payload = new byte[Math.max(size, 12)];
+        Arrays.fill(payload, (byte) 'x');
+        byte[] prefix = "{\"data\":\"".getBytes(StandardCharsets.US_ASCII);
+        System.arraycopy(prefix, 0, payload, 0, prefix.length);
+        payload[payload.length - 2] = '"';
+        payload[payload.length - 1] = '}';
+        return payload;
+    }
+}
@@ -0,0 +1,107 @@
+#!/usr/bin/env bash
+#
+# Copyright 2024-2026 EasyWing Platform Team.
+#
+# Licensed under the Apache License, Version 2.0 (the "License");
+# you may not use this file except in compliance with the License.
+# You may obtain a copy of the License at
+#
+#      https://www.apache.org/licenses/LICENSE-2.0
+#
+# Unless required by applicable law or agreed to in writing, software
+# distributed under the License is distributed on an "AS IS" BASIS,
+# WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+# See the License for the specific language governing permissions and
+# limitations under the License.
+#
+# 启动耗时报告：对比默认启动与 AppCDS（+ Spring AOT）启动
+#
+# 用法: startup-report.sh <jar> <cds-archive> <health-url> <runs> <report-file> <aot:true|false> [jvm-args...]
+#
+# <aot> 为 false 时只对比CDS（如依赖RefreshScope的网关，AOT不支持RefreshScope）。
+#
+# 每种模式启动 <runs> 次，记录：
+#   startup  Spring Boot 日志 "Started ... in X seconds" 中的启动耗时
+#   ttfr     从进程启动到 <health-url> 返回任意HTTP状态码的耗时（首个请求可被处理）
+# 依赖服务不可用时健康检查可能返回503，仍计为已能处理请求。
+set -euo pipefail
+
+if [[ $# -lt 6 ]]; then
+    echo "usage: $0 <jar> <cds-archive> <health-url> <runs> <report-file> <aot:true|false> [jvm-args...]" >&2
+    exit 1
+fi
+
+JAR=$1
+ARCHIVE=$2
+HEALTH_URL=$3
+RUNS=$4
+REPORT=$5
+AOT=$6
+shift 6
+JVM_ARGS=("$@")
+TIMEOUT_SECONDS=${STARTUP_TIMEOUT_SECONDS:-120}
+LOG=$(mktemp)
+trap 'rm -f "$LOG"' EXIT
+
+now_ms() {
+    date +%s%3N
+}
+
+# 输出 "<startup_ms> <ttfr_ms>"，失败时对应项为 -
+measure() {
+    local start pid code ttfr startup
+    start=$(now_ms)
+    java "${JVM_ARGS[@]}" "$@" -jar "$JAR" >"$LOG" 2>&1 &
+    pid=$!
+    ttfr=-
+    while (( $(now_ms) - start < TIMEOUT_SECONDS * 1000 )); do
+        if ! kill -0 "$pid" 2>/dev/null; then
+            break
+        fi
+        code=$(curl -s -o /dev/null -w '%{http_code}' --max-time 1 "$HEALTH_URL" || true)
+        if [[ "$code" != "000" ]]; then
+            ttfr=$(( $(now_ms) - start ))
+            break
+        fi
+        sleep 0.05
+    done
+    kill "$pid" 2>/dev/null || true
+    wait "$pid" 2>/dev/null || true
+
+    startup=$(grep -oE 'Started .* in [0-9.]+ seconds' "$LOG" | grep -oE '[0-9.]+ seconds' | awk '{printf "%d", $1 * 1000}' || true)
+    echo "${startup:--} $ttfr"
+}
+
+average() {
+    awk '{ if ($1 != "-") { sum += $1; n++ } } END { if (n > 0) printf "%d", sum / n; else printf "-" }'
+}
+
+run_mode() {
+    local name=$1
+    shift
+    local startups=() ttfrs=() result
+    for ((i = 1; i <= RUNS; i++)); do
+        result=$(measure "$@")
+        startups+=("${result% *}")
+        ttfrs+=("${result#* }")
+    done
+    printf '%-12s %12s %12s   startup=[%s] ttfr=[%s]\n' "$name" \
+        "$(printf '%s\n' "${startups[@]}" | average)" \
+        "$(printf '%s\n' "${ttfrs[@]}" | average)" \
+        "${startups[*]}" "${ttfrs[*]}"
+}
+
+{
+    echo "jar:     $JAR"
+    echo "archive: $ARCHIVE"
+    echo "aot:     $AOT"
+    echo "runs:    $RUNS"
+    echo
+    printf '%-12s %12s %12s\n' "mode" "startup(ms)" "ttfr(ms)"
+    run_mode "default"
+    if [[ "$AOT" == "true" ]]; then
+        run_mode "cds+aot" "-XX:SharedArchiveFile=$ARCHIVE" "-Dspring.aot.enabled=true"
+    else
+        run_mode "cds" "-XX:SharedArchiveFile=$ARCHIVE"
+    fi
+} | tee "$REPORT"